@@ -0,0 +1,57 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 基准测试入口
+ * <p>
+ * 运行全部（或匹配指定正则的）基准测试，并以 JSON 格式输出结果，便于在版本之间比较回归：
+ * <pre>{@code
+ * mvn -pl framework-benchmarks -am package
+ * java -jar framework-benchmarks/target/benchmarks.jar [include正则] [结果文件]
+ * }</pre>
+ * 结果文件默认为 {@code target/jmh-result.json}，可直接导入 JMH Visualizer 等工具对比。
+ * 也可以直接使用 JMH 命令行参数运行 {@code org.openjdk.jmh.Main}。
+ * </p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+public final class BenchmarkRunner {
+	private static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		String include = args.length > 0 ? args[0] : ".*";
+		String resultFile = args.length > 1 ? args[1] : DEFAULT_RESULT_FILE;
+
+		Options options = new OptionsBuilder()
+			.include(include)
+			.resultFormat(ResultFormatType.JSON)
+			.result(resultFile)
+			.build();
+		new Runner(options).run();
+	}
+}
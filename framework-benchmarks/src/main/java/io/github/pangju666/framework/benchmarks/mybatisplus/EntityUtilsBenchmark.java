@@ -0,0 +1,113 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.benchmarks.mybatisplus;
+
+import io.github.pangju666.framework.data.mybatisplus.uitls.EntityUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EntityUtils} 映射、分组与聚合基准测试
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityUtilsBenchmark {
+	@Param({"1000", "100000"})
+	private int size;
+
+	private List<Item> items;
+
+	@Setup
+	public void setup() {
+		items = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			items.add(new Item((long) i, "category-" + (i % 64), i % 1000, BigDecimal.valueOf(i, 2)));
+		}
+	}
+
+	@Benchmark
+	public List<Long> getFieldValueList() {
+		return EntityUtils.getFieldValueList(items, Item::getId);
+	}
+
+	@Benchmark
+	public Map<Long, Item> mapByField() {
+		return EntityUtils.mapByField(items, Item::getId);
+	}
+
+	@Benchmark
+	public Map<String, List<Item>> groupByField() {
+		return EntityUtils.groupByField(items, Item::getCategory);
+	}
+
+	@Benchmark
+	public double sumIntFieldValue() {
+		return EntityUtils.sumFieldValue(items, Item::getQuantity);
+	}
+
+	@Benchmark
+	public double sumBigDecimalFieldValue() {
+		return EntityUtils.sumFieldValue(items, Item::getPrice);
+	}
+
+	@Benchmark
+	public double averageFieldValue() {
+		return EntityUtils.averageFieldValue(items, Item::getQuantity);
+	}
+
+	public static class Item {
+		private final Long id;
+		private final String category;
+		private final Integer quantity;
+		private final BigDecimal price;
+
+		public Item(Long id, String category, Integer quantity, BigDecimal price) {
+			this.id = id;
+			this.category = category;
+			this.quantity = quantity;
+			this.price = price;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getCategory() {
+			return category;
+		}
+
+		public Integer getQuantity() {
+			return quantity;
+		}
+
+		public BigDecimal getPrice() {
+			return price;
+		}
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.benchmarks.mybatisplus;
+
+import io.github.pangju666.framework.benchmarks.support.JdbcStubs;
+import io.github.pangju666.framework.data.mybatisplus.type.handler.list.LongListTypeHandler;
+import io.github.pangju666.framework.data.mybatisplus.type.handler.list.StringListTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * {@link io.github.pangju666.framework.data.mybatisplus.type.handler.GenericsListTypeHandler GenericsListTypeHandler}
+ * 解析与格式化基准测试
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenericsListTypeHandlerBenchmark {
+	@Param({"16", "256"})
+	private int size;
+
+	private final LongListTypeHandler longHandler = new LongListTypeHandler();
+	private final StringListTypeHandler stringHandler = new StringListTypeHandler();
+	private final JdbcStubs.Capture capture = new JdbcStubs.Capture();
+
+	private List<Long> longs;
+	private List<String> strings;
+	private ResultSet longResultSet;
+	private ResultSet stringResultSet;
+	private PreparedStatement preparedStatement;
+
+	@Setup
+	public void setup() {
+		longs = LongStream.range(0, size).map(i -> i * 7919).boxed().toList();
+		strings = longs.stream().map(value -> "item-" + value).toList();
+		longResultSet = JdbcStubs.resultSet(longs.stream().map(String::valueOf).collect(Collectors.joining(",")));
+		stringResultSet = JdbcStubs.resultSet(String.join(",", strings));
+		preparedStatement = JdbcStubs.preparedStatement(capture);
+	}
+
+	@Benchmark
+	public List<Long> parseLongList() throws SQLException {
+		return longHandler.getResult(longResultSet, 1);
+	}
+
+	@Benchmark
+	public List<String> parseStringList() throws SQLException {
+		return stringHandler.getResult(stringResultSet, 1);
+	}
+
+	@Benchmark
+	public Object formatLongList() throws SQLException {
+		longHandler.setParameter(preparedStatement, 1, longs, JdbcType.VARCHAR);
+		return capture.value;
+	}
+
+	@Benchmark
+	public Object formatStringList() throws SQLException {
+		stringHandler.setParameter(preparedStatement, 1, strings, JdbcType.VARCHAR);
+		return capture.value;
+	}
+}
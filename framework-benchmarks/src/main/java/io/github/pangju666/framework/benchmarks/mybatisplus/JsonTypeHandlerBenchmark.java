@@ -0,0 +1,117 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.benchmarks.mybatisplus;
+
+import io.github.pangju666.framework.benchmarks.support.JdbcStubs;
+import io.github.pangju666.framework.data.mybatisplus.type.codec.CompressingJsonCodec;
+import io.github.pangju666.framework.data.mybatisplus.type.codec.GsonJsonCodec;
+import io.github.pangju666.framework.data.mybatisplus.type.codec.JsonCodec;
+import io.github.pangju666.framework.data.mybatisplus.type.handler.JsonTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JsonTypeHandler} 往返基准测试
+ * <p>
+ * {@code decode}/{@code encode} 使用 JDBC 替身只测量编解码开销；{@code h2RoundTrip} 在 H2 内存数据库中写入并读回一行，
+ * 作为包含驱动开销的参照。
+ * </p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonTypeHandlerBenchmark {
+	@Param({"8", "512"})
+	private int fields;
+
+	@Param({"gson", "deflate"})
+	private String codec;
+
+	private final JdbcStubs.Capture capture = new JdbcStubs.Capture();
+
+	private JsonTypeHandler handler;
+	private Map<String, Object> value;
+	private ResultSet resultSet;
+	private PreparedStatement stubStatement;
+
+	private Connection connection;
+	private PreparedStatement insertStatement;
+	private PreparedStatement selectStatement;
+
+	@Setup
+	public void setup() throws Exception {
+		JsonCodec jsonCodec = "deflate".equals(codec) ? new CompressingJsonCodec(GsonJsonCodec.DEFAULT) : GsonJsonCodec.DEFAULT;
+		handler = new JsonTypeHandler(Map.class, jsonCodec);
+		value = new LinkedHashMap<>(fields * 2);
+		for (int i = 0; i < fields; i++) {
+			value.put("field" + i, i % 2 == 0 ? "value-" + i : i);
+		}
+		resultSet = JdbcStubs.resultSet(jsonCodec.isBinary() ? jsonCodec.encode(value) : jsonCodec.encodeToString(value));
+		stubStatement = JdbcStubs.preparedStatement(capture);
+
+		connection = DriverManager.getConnection("jdbc:h2:mem:json_" + System.nanoTime());
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE doc (id BIGINT AUTO_INCREMENT PRIMARY KEY, meta " +
+				(jsonCodec.isBinary() ? "VARBINARY(1048576)" : "CLOB") + ")");
+		}
+		insertStatement = connection.prepareStatement("INSERT INTO doc (meta) VALUES (?)", Statement.RETURN_GENERATED_KEYS);
+		selectStatement = connection.prepareStatement("SELECT meta FROM doc WHERE id = ?");
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		connection.close();
+	}
+
+	@Benchmark
+	public Object decode() throws SQLException {
+		return handler.getResult(resultSet, 1);
+	}
+
+	@Benchmark
+	public Object encode() throws SQLException {
+		handler.setParameter(stubStatement, 1, value, JdbcType.VARCHAR);
+		return capture.value;
+	}
+
+	@Benchmark
+	public Object h2RoundTrip() throws SQLException {
+		handler.setParameter(insertStatement, 1, value, JdbcType.VARCHAR);
+		insertStatement.executeUpdate();
+		long id;
+		try (ResultSet keys = insertStatement.getGeneratedKeys()) {
+			keys.next();
+			id = keys.getLong(1);
+		}
+		selectStatement.setLong(1, id);
+		try (ResultSet rows = selectStatement.executeQuery()) {
+			rows.next();
+			return handler.getResult(rows, 1);
+		}
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.benchmarks.redis;
+
+import io.github.pangju666.framework.data.redis.utils.RedisUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RedisUtils#computeKey(Object...)} 基准测试
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisUtilsBenchmark {
+	private Object[] shortKey;
+	private Object[] longKey;
+
+	@Setup
+	public void setup() {
+		shortKey = new Object[]{"user", 42L};
+		longKey = new Object[]{"tenant", 7, "order", 123456789L, " detail ", "items", 3};
+	}
+
+	@Benchmark
+	public String computeShortKey() {
+		return RedisUtils.computeKey(shortKey);
+	}
+
+	@Benchmark
+	public String computeLongKey() {
+		return RedisUtils.computeKey(longKey);
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.benchmarks.support;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * JDBC 替身
+ * <p>
+ * 基于动态代理的 {@link ResultSet}/{@link PreparedStatement} 最小实现，只支持类型处理器用到的读写方法，
+ * 用于在没有数据库的情况下测量类型处理器自身的解析与格式化开销。
+ * </p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+public final class JdbcStubs {
+	private JdbcStubs() {
+	}
+
+	/**
+	 * 创建任意列都返回固定值的结果集
+	 *
+	 * @param value 列值，字符串或字节数组
+	 * @return 结果集
+	 * @since 2.2.0
+	 */
+	public static ResultSet resultSet(Object value) {
+		return (ResultSet) Proxy.newProxyInstance(JdbcStubs.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+			(proxy, method, args) -> switch (method.getName()) {
+				case "getString" -> value instanceof String ? value : null;
+				case "getBytes" -> value instanceof byte[] ? value : null;
+				case "getObject" -> value;
+				case "wasNull" -> value == null;
+				default -> throw new UnsupportedOperationException(method.getName());
+			});
+	}
+
+	/**
+	 * 创建把参数值保存到 {@link Capture} 的预处理语句
+	 *
+	 * @param capture 参数值保存位置
+	 * @return 预处理语句
+	 * @since 2.2.0
+	 */
+	public static PreparedStatement preparedStatement(Capture capture) {
+		return (PreparedStatement) Proxy.newProxyInstance(JdbcStubs.class.getClassLoader(),
+			new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+				if (method.getName().startsWith("set") && args != null && args.length >= 2) {
+					capture.value = args[1];
+					return null;
+				}
+				throw new UnsupportedOperationException(method.getName());
+			});
+	}
+
+	/**
+	 * 预处理语句最近一次设置的参数值
+	 *
+	 * @since 2.2.0
+	 */
+	public static final class Capture {
+		public Object value;
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.benchmarks.web;
+
+import io.github.pangju666.framework.web.servlet.utils.HttpRequestUtils;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HttpRequestUtils#getIpAddress(jakarta.servlet.http.HttpServletRequest)} 基准测试
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpRequestUtilsBenchmark {
+	private MockHttpServletRequest forwardedRequest;
+	private MockHttpServletRequest realIpRequest;
+	private MockHttpServletRequest directRequest;
+
+	@Setup
+	public void setup() {
+		forwardedRequest = new MockHttpServletRequest();
+		forwardedRequest.addHeader("x-forwarded-for", "203.0.113.7, 10.0.0.2, 10.0.0.1");
+
+		realIpRequest = new MockHttpServletRequest();
+		realIpRequest.addHeader("X-Real-IP", "198.51.100.23");
+
+		directRequest = new MockHttpServletRequest();
+		directRequest.setRemoteAddr("127.0.0.1");
+	}
+
+	@Benchmark
+	public String forwardedFor() {
+		return HttpRequestUtils.getIpAddress(forwardedRequest);
+	}
+
+	@Benchmark
+	public String realIp() {
+		return HttpRequestUtils.getIpAddress(realIpRequest);
+	}
+
+	@Benchmark
+	public String remoteAddress() {
+		return HttpRequestUtils.getIpAddress(directRequest);
+	}
+}
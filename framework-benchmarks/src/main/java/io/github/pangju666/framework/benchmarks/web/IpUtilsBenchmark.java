@@ -0,0 +1,59 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.benchmarks.web;
+
+import io.github.pangju666.framework.web.utils.IpUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link IpUtils} 地址校验基准测试
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IpUtilsBenchmark {
+	@Param({"192.168.1.20", "8.8.8.8", "2001:db8::1", "unknown"})
+	private String ipAddress;
+
+	@Benchmark
+	public boolean isIpv4() {
+		return IpUtils.isIpv4(ipAddress);
+	}
+
+	@Benchmark
+	public boolean isIpv6() {
+		return IpUtils.isIpv6(ipAddress);
+	}
+
+	@Benchmark
+	public boolean isInternalIpv4() {
+		return IpUtils.isInternalIpv4(ipAddress);
+	}
+
+	@Benchmark
+	public boolean isIpInNetwork() {
+		return IpUtils.isIpInNetwork("192.168.0.0/16", ipAddress);
+	}
+}
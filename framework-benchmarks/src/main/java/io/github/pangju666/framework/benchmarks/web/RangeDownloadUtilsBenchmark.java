@@ -0,0 +1,48 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.benchmarks.web;
+
+import io.github.pangju666.framework.web.model.Range;
+import io.github.pangju666.framework.web.servlet.utils.RangeDownloadUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RangeDownloadUtils#getRanges(long, String)} 基准测试
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RangeDownloadUtilsBenchmark {
+	private static final long TOTAL_LENGTH = 1L << 30;
+
+	@Param({"bytes=0-1023", "bytes=0-1023, 4096-8191, 65536-", "bytes=abc"})
+	private String range;
+
+	@Benchmark
+	public List<Range> getRanges() {
+		return RangeDownloadUtils.getRanges(TOTAL_LENGTH, range);
+	}
+}
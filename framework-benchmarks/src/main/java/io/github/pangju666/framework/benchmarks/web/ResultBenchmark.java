@@ -0,0 +1,60 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.benchmarks.web;
+
+import io.github.pangju666.framework.web.model.Result;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * {@link Result#toString()} 序列化基准测试
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultBenchmark {
+	private Result<Void> empty;
+	private Result<List<Map<String, Object>>> page;
+
+	@Setup
+	public void setup() {
+		empty = Result.ok();
+		page = Result.ok(IntStream.range(0, 20)
+			.mapToObj(i -> Map.<String, Object>of("id", i, "name", "user-" + i, "active", i % 2 == 0))
+			.toList());
+	}
+
+	@Benchmark
+	public String emptyToString() {
+		return empty.toString();
+	}
+
+	@Benchmark
+	public String pageToString() {
+		return page.toString();
+	}
+}
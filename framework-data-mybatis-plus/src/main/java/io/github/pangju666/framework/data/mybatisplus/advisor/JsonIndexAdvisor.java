@@ -0,0 +1,312 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.advisor;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * JSON 列索引顾问
+ * <p>
+ * 记录 {@link io.github.pangju666.framework.data.mybatisplus.repository.BaseRepository BaseRepository}
+ * 的 JSON 查询方法实际执行的表、列、JSON 路径与查询类型，据此生成可支持这些查询的 DDL：
+ * </p>
+ * <ul>
+ *   <li>键查询：虚拟生成列 {@code column->>'$.path'} 与其二级索引。</li>
+ *   <li>数组查询：多值索引 {@code CAST(column->'$' AS ... ARRAY)}（MySQL 8.0.17+）。</li>
+ * </ul>
+ * <p>
+ * DDL 执行后，通过 {@link #registerGeneratedColumn(String, String, String, String)} 与
+ * {@link #registerMultiValuedIndex(String, String)} 登记，并开启 {@link #setRewriteEnabled(boolean)}，
+ * 仓储会将对应查询改写为使用生成列（{@code generated = ?}、{@code generated IS NOT NULL}）或多值索引可识别的表达式
+ * （{@code JSON_CONTAINS(column->'$', ?)}）。
+ * </p>
+ * <p>
+ * 顾问线程安全，可在多个仓储间共享（按表名区分）。
+ * </p>
+ *
+ * @author pangju666
+ * @see JsonIndexSuggestion
+ * @since 2.2.0
+ */
+public class JsonIndexAdvisor {
+	/**
+	 * 生成列的默认类型
+	 *
+	 * @since 2.2.0
+	 */
+	public static final String DEFAULT_GENERATED_COLUMN_TYPE = "VARCHAR(255)";
+	/**
+	 * 多值索引字符串元素的默认类型
+	 *
+	 * @since 2.2.0
+	 */
+	public static final String DEFAULT_ARRAY_CHAR_TYPE = "CHAR(255)";
+
+	/**
+	 * MySQL 标识符的最大长度
+	 *
+	 * @since 2.2.0
+	 */
+	private static final int MAX_IDENTIFIER_LENGTH = 64;
+	private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("^`?[\\p{L}\\p{N}_$]+`?$");
+	private static final Pattern NON_IDENTIFIER_CHARS = Pattern.compile("[^\\p{L}\\p{N}_]+");
+
+	private final ConcurrentMap<UsageKey, Usage> usages = new ConcurrentHashMap<>();
+	private final ConcurrentMap<UsageKey, String> generatedColumns = new ConcurrentHashMap<>();
+	private final Set<UsageKey> multiValuedIndexes = ConcurrentHashMap.newKeySet();
+	private volatile boolean recordEnabled = true;
+	private volatile boolean rewriteEnabled = false;
+	private volatile String generatedColumnType = DEFAULT_GENERATED_COLUMN_TYPE;
+
+	/**
+	 * 记录一次 JSON 查询
+	 *
+	 * @param table  表名
+	 * @param column JSON 列名
+	 * @param path   JSON 路径（不含 {@code $.} 前缀），数组查询传入 {@code null}
+	 * @param type   查询类型
+	 * @param sample 查询值样本，用于推断多值索引的元素类型，可为 {@code null}
+	 * @since 2.2.0
+	 */
+	public void record(String table, String column, @Nullable String path, JsonQueryType type, @Nullable Object sample) {
+		if (!recordEnabled) {
+			return;
+		}
+		UsageKey key = new UsageKey(table, column, type.isArrayQuery() ? null : path);
+		Usage usage = usages.computeIfAbsent(key, k -> new Usage());
+		usage.count.increment();
+		usage.types.add(type);
+		if (type.isArrayQuery() && !isIntegral(sample)) {
+			usage.textual = true;
+		}
+	}
+
+	/**
+	 * 查找已登记的生成列（仅在开启改写时返回）
+	 *
+	 * @param table  表名
+	 * @param column JSON 列名
+	 * @param path   JSON 路径
+	 * @return 生成列名，未登记或未开启改写时返回 {@code null}
+	 * @since 2.2.0
+	 */
+	public @Nullable String findGeneratedColumn(String table, String column, String path) {
+		if (!rewriteEnabled || generatedColumns.isEmpty()) {
+			return null;
+		}
+		return generatedColumns.get(new UsageKey(table, column, path));
+	}
+
+	/**
+	 * 判断 JSON 列是否已登记多值索引（仅在开启改写时返回 {@code true}）
+	 *
+	 * @param table  表名
+	 * @param column JSON 列名
+	 * @return 已登记且开启改写时返回 {@code true}
+	 * @since 2.2.0
+	 */
+	public boolean hasMultiValuedIndex(String table, String column) {
+		return rewriteEnabled && multiValuedIndexes.contains(new UsageKey(table, column, null));
+	}
+
+	/**
+	 * 登记已创建的生成列，生成列的值必须为 {@code column->>'$.path'}
+	 *
+	 * @param table           表名
+	 * @param column          JSON 列名
+	 * @param path            JSON 路径（不含 {@code $.} 前缀）
+	 * @param generatedColumn 生成列名
+	 * @throws IllegalArgumentException 当参数为空白或生成列名不是合法的标识符
+	 * @since 2.2.0
+	 */
+	public void registerGeneratedColumn(String table, String column, String path, String generatedColumn) {
+		Assert.hasText(table, "table 不可为空");
+		Assert.hasText(column, "column 不可为空");
+		Assert.hasText(path, "path 不可为空");
+		Assert.isTrue(Objects.nonNull(generatedColumn) && IDENTIFIER_PATTERN.matcher(generatedColumn).matches(),
+			"generatedColumn 不是合法的列名");
+
+		generatedColumns.put(new UsageKey(table, column, path), generatedColumn);
+	}
+
+	/**
+	 * 登记已在 {@code column->'$'} 上创建的多值索引
+	 *
+	 * @param table  表名
+	 * @param column JSON 列名
+	 * @throws IllegalArgumentException 当参数为空白
+	 * @since 2.2.0
+	 */
+	public void registerMultiValuedIndex(String table, String column) {
+		Assert.hasText(table, "table 不可为空");
+		Assert.hasText(column, "column 不可为空");
+
+		multiValuedIndexes.add(new UsageKey(table, column, null));
+	}
+
+	/**
+	 * 获取全部索引建议，按查询次数降序排列
+	 *
+	 * @return 索引建议列表
+	 * @since 2.2.0
+	 */
+	public List<JsonIndexSuggestion> getSuggestions() {
+		return getSuggestions(1);
+	}
+
+	/**
+	 * 获取查询次数不少于 {@code minCount} 的索引建议，按查询次数降序排列
+	 *
+	 * @param minCount 最小查询次数
+	 * @return 索引建议列表
+	 * @since 2.2.0
+	 */
+	public List<JsonIndexSuggestion> getSuggestions(long minCount) {
+		List<JsonIndexSuggestion> suggestions = new ArrayList<>(usages.size());
+		usages.forEach((key, usage) -> {
+			long count = usage.count.sum();
+			if (count >= minCount) {
+				suggestions.add(toSuggestion(key, usage, count));
+			}
+		});
+		suggestions.sort(Comparator.comparingLong(JsonIndexSuggestion::count).reversed());
+		return suggestions;
+	}
+
+	/**
+	 * 生成尚未登记的索引建议的 DDL 脚本
+	 *
+	 * @param minCount 最小查询次数
+	 * @return DDL 脚本，每条语句一行；没有建议时返回空字符串
+	 * @since 2.2.0
+	 */
+	public String generateDdl(long minCount) {
+		return getSuggestions(minCount).stream()
+			.filter(suggestion -> !suggestion.applied())
+			.map(JsonIndexSuggestion::ddl)
+			.collect(Collectors.joining(System.lineSeparator()));
+	}
+
+	/**
+	 * 清空已记录的查询
+	 *
+	 * @since 2.2.0
+	 */
+	public void reset() {
+		usages.clear();
+	}
+
+	/**
+	 * 设置是否记录查询（默认开启）
+	 *
+	 * @param recordEnabled 是否记录
+	 * @since 2.2.0
+	 */
+	public void setRecordEnabled(boolean recordEnabled) {
+		this.recordEnabled = recordEnabled;
+	}
+
+	/**
+	 * 设置是否将查询改写为使用已登记的生成列/多值索引（默认关闭）
+	 *
+	 * @param rewriteEnabled 是否改写
+	 * @since 2.2.0
+	 */
+	public void setRewriteEnabled(boolean rewriteEnabled) {
+		this.rewriteEnabled = rewriteEnabled;
+	}
+
+	/**
+	 * 设置建议的生成列类型（默认 {@code VARCHAR(255)}）
+	 *
+	 * @param generatedColumnType 生成列类型
+	 * @throws IllegalArgumentException 当 {@code generatedColumnType} 为空白
+	 * @since 2.2.0
+	 */
+	public void setGeneratedColumnType(String generatedColumnType) {
+		Assert.hasText(generatedColumnType, "generatedColumnType 不可为空");
+		this.generatedColumnType = generatedColumnType;
+	}
+
+	/**
+	 * 计算建议的生成列名：{@code 列名_路径}，非标识符字符替换为下划线，超长时截断
+	 *
+	 * @param column JSON 列名
+	 * @param path   JSON 路径
+	 * @return 生成列名
+	 * @since 2.2.0
+	 */
+	protected String computeGeneratedColumnName(String column, String path) {
+		return truncate(NON_IDENTIFIER_CHARS.matcher(unquote(column) + "_" + path).replaceAll("_")
+			.replaceAll("_+$", ""));
+	}
+
+	private JsonIndexSuggestion toSuggestion(UsageKey key, Usage usage, long count) {
+		Set<JsonQueryType> types = Collections.unmodifiableSet(EnumSet.copyOf(usage.types));
+		String table = key.table();
+		String column = key.column();
+		if (Objects.isNull(key.path())) {
+			String indexName = truncate("idx_" + unquote(column) + "_mv");
+			String arrayType = usage.textual ? DEFAULT_ARRAY_CHAR_TYPE : "SIGNED";
+			String ddl = "ALTER TABLE " + table + " ADD INDEX " + indexName + " ((CAST(" + column + "->'$' AS " +
+				arrayType + " ARRAY)));";
+			return new JsonIndexSuggestion(table, column, null, types, count, indexName,
+				multiValuedIndexes.contains(key), ddl);
+		}
+
+		String registered = generatedColumns.get(key);
+		String generatedColumn = Objects.nonNull(registered) ? registered :
+			computeGeneratedColumnName(column, key.path());
+		String ddl = "ALTER TABLE " + table + " ADD COLUMN " + generatedColumn + " " + generatedColumnType +
+			" GENERATED ALWAYS AS (" + column + "->>'$." + key.path() + "') VIRTUAL, ADD INDEX " +
+			truncate("idx_" + unquote(generatedColumn)) + " (" + generatedColumn + ");";
+		return new JsonIndexSuggestion(table, column, key.path(), types, count, generatedColumn,
+			Objects.nonNull(registered), ddl);
+	}
+
+	private static boolean isIntegral(@Nullable Object sample) {
+		if (sample instanceof Collection<?> collection) {
+			return !collection.isEmpty() && collection.stream().allMatch(JsonIndexAdvisor::isIntegral);
+		}
+		return sample instanceof Long || sample instanceof Integer || sample instanceof Short || sample instanceof Byte;
+	}
+
+	private static String unquote(String identifier) {
+		return identifier.replace("`", "");
+	}
+
+	private static String truncate(String identifier) {
+		return identifier.length() > MAX_IDENTIFIER_LENGTH ? identifier.substring(0, MAX_IDENTIFIER_LENGTH) : identifier;
+	}
+
+	private record UsageKey(String table, String column, @Nullable String path) {
+	}
+
+	private static final class Usage {
+		private final LongAdder count = new LongAdder();
+		private final Set<JsonQueryType> types = ConcurrentHashMap.newKeySet();
+		private volatile boolean textual = false;
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.advisor;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Set;
+
+/**
+ * JSON 列索引建议
+ * <p>
+ * 键查询（{@link JsonQueryType#KEY_EXISTS}、{@link JsonQueryType#KEY_VALUE}）建议为 {@code column->>'$.path'}
+ * 创建虚拟生成列及其二级索引；数组查询（{@link JsonQueryType#ARRAY_CONTAINS}、{@link JsonQueryType#ARRAY_OVERLAPS}）
+ * 建议创建多值索引（MySQL 8.0.17+）。
+ * </p>
+ *
+ * @param table      表名
+ * @param column     JSON 列名
+ * @param path       JSON 路径（不含 {@code $.} 前缀），多值索引建议为 {@code null}
+ * @param queryTypes 该建议可支持的已记录查询类型
+ * @param count      已记录的查询次数
+ * @param target     建议创建的生成列名（键查询）或索引名（数组查询）
+ * @param applied    是否已登记对应的生成列/多值索引（已登记时查询会被改写）
+ * @param ddl        建议执行的 DDL 语句
+ * @author pangju666
+ * @since 2.2.0
+ */
+public record JsonIndexSuggestion(String table, String column, @Nullable String path, Set<JsonQueryType> queryTypes,
+								  long count, String target, boolean applied, String ddl) {
+}
@@ -0,0 +1,60 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.advisor;
+
+/**
+ * JSON 列查询类型
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+public enum JsonQueryType {
+	/**
+	 * 键（路径）存在：{@code JSON_CONTAINS_PATH(column, 'one', '$.key')}
+	 *
+	 * @since 2.2.0
+	 */
+	KEY_EXISTS,
+	/**
+	 * 键值比较：{@code column->>'$.key' = ?} 或 {@code IN (...)}
+	 *
+	 * @since 2.2.0
+	 */
+	KEY_VALUE,
+	/**
+	 * 数组包含：{@code JSON_CONTAINS(column, ?)}
+	 *
+	 * @since 2.2.0
+	 */
+	ARRAY_CONTAINS,
+	/**
+	 * 数组交集：{@code JSON_OVERLAPS(column, ?)}
+	 *
+	 * @since 2.2.0
+	 */
+	ARRAY_OVERLAPS;
+
+	/**
+	 * 是否为数组查询（可由多值索引支持）
+	 *
+	 * @return 数组查询返回 {@code true}
+	 * @since 2.2.0
+	 */
+	public boolean isArrayQuery() {
+		return this == ARRAY_CONTAINS || this == ARRAY_OVERLAPS;
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.pangju666.framework.data.mybatisplus.batch;
+
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+
+/**
+ * 自适应批大小调节器
+ * <p>
+ * 以加性增、乘性减（AIMD）的方式调节分批 in 查询的批大小：以当前批大小执行的批次耗时不超过目标耗时时，批大小增加一个步长；
+ * 任一批次耗时超过目标耗时时，批大小乘以缩减系数。批大小始终限制在 {@code [minBatchSize, maxBatchSize]} 之间，
+ * 从而在单条语句耗时可控的前提下尽量减少往返次数。
+ * </p>
+ * <p>
+ * 以大于当前批大小执行的批次（缩减前已发出的并行批次）不参与调节，避免一次慢查询被并行批次重复缩减；
+ * 小于当前批大小的批次在超时时同样缩减批大小，但按时完成时不增加批大小。
+ * 每个仓储应使用独立的实例，不同表、不同键类型的最佳批大小通常不同。本类线程安全。
+ * </p>
+ *
+ * @author pangju666
+ * @see io.github.pangju666.framework.data.mybatisplus.repository.BaseRepository#setAdaptiveBatchSizer(AdaptiveBatchSizer)
+ * @since 2.2.0
+ */
+public class AdaptiveBatchSizer {
+	/**
+	 * 默认最小批大小
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int DEFAULT_MIN_BATCH_SIZE = 100;
+	/**
+	 * 默认最大批大小
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int DEFAULT_MAX_BATCH_SIZE = 5000;
+	/**
+	 * 默认初始批大小，与 {@code IService.DEFAULT_BATCH_SIZE} 一致
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int DEFAULT_INITIAL_BATCH_SIZE = 1000;
+	/**
+	 * 默认目标耗时
+	 *
+	 * @since 2.2.0
+	 */
+	public static final Duration DEFAULT_TARGET_LATENCY = Duration.ofMillis(50);
+	/**
+	 * 默认加性增步长
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int DEFAULT_INCREASE_STEP = 100;
+	/**
+	 * 默认乘性减系数
+	 *
+	 * @since 2.2.0
+	 */
+	public static final double DEFAULT_DECREASE_FACTOR = 0.5;
+	/**
+	 * 平均耗时与平均行数的指数加权系数
+	 *
+	 * @since 2.2.0
+	 */
+	private static final double EWMA_ALPHA = 0.2;
+
+	private final int minBatchSize;
+	private final int maxBatchSize;
+	private final long targetLatencyNanos;
+	private final int increaseStep;
+	private final double decreaseFactor;
+
+	private int batchSize;
+	private long samples = 0;
+	private double averageLatencyNanos = 0;
+	private double averageRows = 0;
+
+	/**
+	 * 使用默认参数创建调节器
+	 *
+	 * @since 2.2.0
+	 */
+	public AdaptiveBatchSizer() {
+		this(DEFAULT_MIN_BATCH_SIZE, DEFAULT_MAX_BATCH_SIZE, DEFAULT_INITIAL_BATCH_SIZE, DEFAULT_TARGET_LATENCY);
+	}
+
+	/**
+	 * 使用默认步长与缩减系数创建调节器
+	 *
+	 * @param minBatchSize     最小批大小
+	 * @param maxBatchSize     最大批大小
+	 * @param initialBatchSize 初始批大小
+	 * @param targetLatency    单批目标耗时
+	 * @throws IllegalArgumentException 参数不合法时抛出
+	 * @since 2.2.0
+	 */
+	public AdaptiveBatchSizer(int minBatchSize, int maxBatchSize, int initialBatchSize, Duration targetLatency) {
+		this(minBatchSize, maxBatchSize, initialBatchSize, targetLatency, DEFAULT_INCREASE_STEP, DEFAULT_DECREASE_FACTOR);
+	}
+
+	/**
+	 * 创建调节器
+	 *
+	 * @param minBatchSize     最小批大小，必须大于 0
+	 * @param maxBatchSize     最大批大小，必须不小于 {@code minBatchSize}
+	 * @param initialBatchSize 初始批大小，必须在 {@code [minBatchSize, maxBatchSize]} 之间
+	 * @param targetLatency    单批目标耗时，必须大于 0
+	 * @param increaseStep     加性增步长，必须大于 0
+	 * @param decreaseFactor   乘性减系数，必须在 {@code (0, 1)} 之间
+	 * @throws IllegalArgumentException 参数不合法时抛出
+	 * @since 2.2.0
+	 */
+	public AdaptiveBatchSizer(int minBatchSize, int maxBatchSize, int initialBatchSize, Duration targetLatency,
+							  int increaseStep, double decreaseFactor) {
+		Assert.isTrue(minBatchSize > 0, "minBatchSize 必须大于0");
+		Assert.isTrue(maxBatchSize >= minBatchSize, "maxBatchSize 必须大于等于minBatchSize");
+		Assert.isTrue(initialBatchSize >= minBatchSize && initialBatchSize <= maxBatchSize,
+			"initialBatchSize 必须在minBatchSize与maxBatchSize之间");
+		Assert.notNull(targetLatency, "targetLatency 不可为null");
+		Assert.isTrue(targetLatency.compareTo(Duration.ZERO) > 0, "targetLatency 必须大于0");
+		Assert.isTrue(increaseStep > 0, "increaseStep 必须大于0");
+		Assert.isTrue(decreaseFactor > 0 && decreaseFactor < 1, "decreaseFactor 必须在0与1之间");
+
+		this.minBatchSize = minBatchSize;
+		this.maxBatchSize = maxBatchSize;
+		this.batchSize = initialBatchSize;
+		this.targetLatencyNanos = targetLatency.toNanos();
+		this.increaseStep = increaseStep;
+		this.decreaseFactor = decreaseFactor;
+	}
+
+	/**
+	 * 获取当前批大小
+	 *
+	 * @return 当前批大小
+	 * @since 2.2.0
+	 */
+	public synchronized int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * 记录一个批次的执行结果并调节批大小
+	 *
+	 * <ul>
+	 *   <li>耗时超过目标耗时：批大小乘以缩减系数（包括小于当前批大小的批次，如值个数不足一批的单批查询）。</li>
+	 *   <li>耗时不超过目标耗时：只有以当前批大小执行的批次使批大小增加；小于当前批大小的批次计入统计，但不增加批大小。</li>
+	 *   <li>大于当前批大小的批次（缩减前已发出的并行批次）：计入统计，不调节批大小。</li>
+	 * </ul>
+	 *
+	 * @param executedBatchSize 该批次的大小（in 列表的值个数）
+	 * @param rows              该批次返回的行数
+	 * @param durationNanos     该批次的耗时（纳秒）
+	 * @return 调节后的批大小
+	 * @since 2.2.0
+	 */
+	public synchronized int record(int executedBatchSize, int rows, long durationNanos) {
+		samples++;
+		averageLatencyNanos = samples == 1 ? durationNanos :
+			averageLatencyNanos + EWMA_ALPHA * (durationNanos - averageLatencyNanos);
+		averageRows = samples == 1 ? rows : averageRows + EWMA_ALPHA * (rows - averageRows);
+
+		if (executedBatchSize > batchSize) {
+			return batchSize;
+		}
+		if (durationNanos > targetLatencyNanos) {
+			batchSize = Math.max(minBatchSize, (int) (batchSize * decreaseFactor));
+		} else if (executedBatchSize == batchSize) {
+			batchSize = Math.min(maxBatchSize, batchSize + increaseStep);
+		}
+		return batchSize;
+	}
+
+	/**
+	 * 获取批次耗时的指数加权平均值
+	 *
+	 * @return 平均耗时，尚无记录时返回 {@link Duration#ZERO}
+	 * @since 2.2.0
+	 */
+	public synchronized Duration getAverageLatency() {
+		return Duration.ofNanos((long) averageLatencyNanos);
+	}
+
+	/**
+	 * 获取批次返回行数的指数加权平均值
+	 *
+	 * @return 平均行数，尚无记录时返回 0
+	 * @since 2.2.0
+	 */
+	public synchronized double getAverageRows() {
+		return averageRows;
+	}
+
+	/**
+	 * 获取已记录的批次数
+	 *
+	 * @return 批次数
+	 * @since 2.2.0
+	 */
+	public synchronized long getSamples() {
+		return samples;
+	}
+}
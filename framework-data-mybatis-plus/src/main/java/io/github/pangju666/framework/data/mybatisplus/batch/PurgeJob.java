@@ -0,0 +1,305 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.batch;
+
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 分块清理任务
+ * <p>
+ * 反复执行分块操作（如按主键范围删除或归档已逻辑删除的记录），直到分块操作报告没有更多数据。
+ * 每个分块之间可设置节流间隔，降低对主库与复制延迟的影响；支持在分块边界暂停、恢复与取消。
+ * </p>
+ * <p>
+ * 可通过 {@link #start()} 在执行器上后台执行，或通过 {@link #run()} 在当前线程执行；每个任务只能执行一次。本类线程安全。
+ * </p>
+ *
+ * @author pangju666
+ * @see io.github.pangju666.framework.data.mybatisplus.repository.BaseRepository#purgeDeletedJob(Duration, int)
+ * @since 2.2.0
+ */
+public class PurgeJob {
+	/**
+	 * 任务状态
+	 *
+	 * @since 2.2.0
+	 */
+	public enum State {
+		/**
+		 * 已创建，尚未执行
+		 */
+		CREATED,
+		/**
+		 * 执行中
+		 */
+		RUNNING,
+		/**
+		 * 已在分块边界暂停
+		 */
+		PAUSED,
+		/**
+		 * 已处理完全部数据
+		 */
+		COMPLETED,
+		/**
+		 * 已取消
+		 */
+		CANCELLED,
+		/**
+		 * 分块操作抛出异常
+		 */
+		FAILED
+	}
+
+	/**
+	 * 分块操作
+	 *
+	 * @since 2.2.0
+	 */
+	@FunctionalInterface
+	public interface Chunk {
+		/**
+		 * 处理下一个分块。
+		 *
+		 * @return 本分块处理的行数，没有更多数据时返回负数
+		 * @since 2.2.0
+		 */
+		long process();
+	}
+
+	private final Chunk chunk;
+	private final Executor executor;
+	private final CompletableFuture<Long> future = new CompletableFuture<>();
+	private final AtomicLong processedRows = new AtomicLong();
+	private final AtomicLong processedChunks = new AtomicLong();
+
+	private Duration throttle = Duration.ZERO;
+	private State state = State.CREATED;
+	private boolean pauseRequested = false;
+	private boolean cancelRequested = false;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param chunk    分块操作
+	 * @param executor {@link #start()} 使用的执行器
+	 * @throws IllegalArgumentException 当参数为null时
+	 * @since 2.2.0
+	 */
+	public PurgeJob(Chunk chunk, Executor executor) {
+		Assert.notNull(chunk, "chunk 不可为null");
+		Assert.notNull(executor, "executor 不可为null");
+		this.chunk = chunk;
+		this.executor = executor;
+	}
+
+	/**
+	 * 设置分块之间的节流间隔，执行中设置时从下一个分块开始生效。
+	 *
+	 * @param throttle 节流间隔，为 {@code null} 或 0 时不等待
+	 * @return 当前任务
+	 * @throws IllegalArgumentException 当 {@code throttle} 为负数时
+	 * @since 2.2.0
+	 */
+	public synchronized PurgeJob setThrottle(Duration throttle) {
+		Assert.isTrue(Objects.isNull(throttle) || !throttle.isNegative(), "throttle 不可为负数");
+		this.throttle = Objects.requireNonNullElse(throttle, Duration.ZERO);
+		return this;
+	}
+
+	/**
+	 * 在执行器上后台执行任务。
+	 *
+	 * @return 任务结果，完成时为处理的总行数；取消时为取消前处理的行数；失败时以分块操作抛出的异常完成
+	 * @throws IllegalStateException 当任务已执行或已取消时
+	 * @since 2.2.0
+	 */
+	public CompletableFuture<Long> start() {
+		begin();
+		try {
+			executor.execute(this::execute);
+		} catch (RejectedExecutionException e) {
+			fail(e);
+			throw e;
+		}
+		return future;
+	}
+
+	/**
+	 * 在当前线程执行任务，直到处理完全部数据或被取消。
+	 *
+	 * @return 处理的总行数
+	 * @throws IllegalStateException 当任务已执行或已取消时
+	 * @since 2.2.0
+	 */
+	public long run() {
+		begin();
+		execute();
+		return future.join();
+	}
+
+	/**
+	 * 请求暂停，当前分块处理完成后生效。
+	 *
+	 * @since 2.2.0
+	 */
+	public synchronized void pause() {
+		pauseRequested = true;
+	}
+
+	/**
+	 * 恢复已暂停的任务。
+	 *
+	 * @since 2.2.0
+	 */
+	public synchronized void resume() {
+		pauseRequested = false;
+		notifyAll();
+	}
+
+	/**
+	 * 请求取消，当前分块处理完成后生效；尚未执行的任务立即取消。
+	 *
+	 * @since 2.2.0
+	 */
+	public synchronized void cancel() {
+		cancelRequested = true;
+		if (state == State.CREATED) {
+			state = State.CANCELLED;
+			future.complete(0L);
+		}
+		notifyAll();
+	}
+
+	/**
+	 * 获取任务状态
+	 *
+	 * @return 任务状态
+	 * @since 2.2.0
+	 */
+	public synchronized State getState() {
+		return state;
+	}
+
+	/**
+	 * 获取已处理的行数
+	 *
+	 * @return 已处理的行数
+	 * @since 2.2.0
+	 */
+	public long getProcessedRows() {
+		return processedRows.get();
+	}
+
+	/**
+	 * 获取已处理的分块数
+	 *
+	 * @return 已处理的分块数
+	 * @since 2.2.0
+	 */
+	public long getProcessedChunks() {
+		return processedChunks.get();
+	}
+
+	/**
+	 * 获取任务结果
+	 *
+	 * @return 任务结果，语义同 {@link #start()}
+	 * @since 2.2.0
+	 */
+	public CompletableFuture<Long> getFuture() {
+		return future;
+	}
+
+	private synchronized void begin() {
+		Assert.state(state == State.CREATED, "任务已执行或已取消");
+		state = State.RUNNING;
+	}
+
+	private void execute() {
+		try {
+			while (true) {
+				// 启动后立即取消时不再执行首个分块
+				if (isCancelRequested()) {
+					finish(State.CANCELLED);
+					return;
+				}
+				long rows = chunk.process();
+				if (rows < 0) {
+					finish(State.COMPLETED);
+					return;
+				}
+				processedRows.addAndGet(rows);
+				processedChunks.incrementAndGet();
+				if (!awaitNextChunk()) {
+					finish(State.CANCELLED);
+					return;
+				}
+			}
+		} catch (RuntimeException | Error e) {
+			fail(e);
+			throw e;
+		}
+	}
+
+	private synchronized boolean isCancelRequested() {
+		return cancelRequested;
+	}
+
+	/**
+	 * 等待节流间隔并在暂停时阻塞，返回是否继续执行。
+	 */
+	private synchronized boolean awaitNextChunk() {
+		try {
+			long deadline = System.nanoTime() + throttle.toNanos();
+			long remaining;
+			while (!cancelRequested && (remaining = deadline - System.nanoTime()) > 0) {
+				TimeUnit.NANOSECONDS.timedWait(this, remaining);
+			}
+			while (!cancelRequested && pauseRequested) {
+				state = State.PAUSED;
+				wait();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		if (cancelRequested) {
+			return false;
+		}
+		state = State.RUNNING;
+		return true;
+	}
+
+	private synchronized void finish(State finalState) {
+		state = finalState;
+		future.complete(processedRows.get());
+	}
+
+	private synchronized void fail(Throwable error) {
+		state = State.FAILED;
+		future.completeExceptionally(error);
+	}
+}
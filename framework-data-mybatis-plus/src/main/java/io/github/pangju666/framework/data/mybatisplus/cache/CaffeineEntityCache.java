@@ -0,0 +1,172 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 基于 Caffeine 的进程内实体缓存
+ * <p>
+ * Caffeine 采用 W-TinyLFU 淘汰策略，在容量受限时能保留高频访问的热点实体。
+ * 需要引入 {@code com.github.ben-manes.caffeine:caffeine} 依赖。
+ * </p>
+ * <p>
+ * 缓存键为 {@code 代数:主键}。{@link #clear()} 仅递增代数，复杂度为 O(1)，旧代数下的实体不再被访问，
+ * 由公共 {@link ForkJoinPool} 在后台移除（多次清空合并为一次移除），避免其占用容量影响新实体的准入。
+ * </p>
+ *
+ * @param <T> 实体类型
+ * @author pangju666
+ * @since 2.2.0
+ */
+public class CaffeineEntityCache<T> implements EntityCache<T> {
+	private final Cache<String, T> cache;
+	private final EntityCacheCounter counter = new EntityCacheCounter();
+	private final AtomicLong generation = new AtomicLong();
+	private final AtomicBoolean purging = new AtomicBoolean();
+	private volatile String generationPrefix = "0:";
+
+	/**
+	 * 构造函数
+	 *
+	 * @param maximumSize 最大缓存实体数，必须大于 0
+	 * @param ttl         写入后过期时间，必须为正数
+	 * @throws IllegalArgumentException 当 {@code maximumSize} 小于等于 0 或 {@code ttl} 不为正数
+	 * @since 2.2.0
+	 */
+	public CaffeineEntityCache(long maximumSize, Duration ttl) {
+		Assert.isTrue(maximumSize > 0, "maximumSize 必须大于0");
+		Assert.isTrue(Objects.nonNull(ttl) && !ttl.isNegative() && !ttl.isZero(), "ttl 必须为正数");
+
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(ttl)
+			.build();
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param cache 已配置的 Caffeine 缓存，键格式为 {@code 代数:主键}，不应与其它用途共用
+	 * @throws IllegalArgumentException 当 {@code cache} 为 null
+	 * @since 2.2.0
+	 */
+	public CaffeineEntityCache(Cache<String, T> cache) {
+		Assert.notNull(cache, "cache 不可为null");
+		this.cache = cache;
+	}
+
+	@Override
+	public @Nullable T get(String key) {
+		T entity = cache.getIfPresent(generationPrefix + key);
+		if (Objects.isNull(entity)) {
+			counter.recordMisses(1);
+		} else {
+			counter.recordHits(1);
+		}
+		return entity;
+	}
+
+	@Override
+	public Map<String, T> getAll(Collection<String> keys) {
+		String prefix = generationPrefix;
+		Map<String, T> present = cache.getAllPresent(computeKeys(prefix, keys));
+		Map<String, T> entities = new HashMap<>(present.size());
+		present.forEach((key, entity) -> entities.put(key.substring(prefix.length()), entity));
+		counter.recordHits(entities.size());
+		counter.recordMisses(keys.size() - entities.size());
+		return entities;
+	}
+
+	@Override
+	public void put(String key, T entity) {
+		cache.put(generationPrefix + key, entity);
+		counter.recordPuts(1);
+	}
+
+	@Override
+	public void putAll(Map<String, T> entities) {
+		String prefix = generationPrefix;
+		Map<String, T> prefixed = new HashMap<>(entities.size());
+		entities.forEach((key, entity) -> prefixed.put(prefix + key, entity));
+		cache.putAll(prefixed);
+		counter.recordPuts(entities.size());
+	}
+
+	@Override
+	public void evictAll(Collection<String> keys) {
+		cache.invalidateAll(computeKeys(generationPrefix, keys));
+		counter.recordEvictions(keys.size());
+	}
+
+	/**
+	 * 清空缓存
+	 * <p>
+	 * 递增代数使现有实体全部失效，旧代数下的实体在后台移除。
+	 * </p>
+	 *
+	 * @since 2.2.0
+	 */
+	@Override
+	public void clear() {
+		generationPrefix = generation.incrementAndGet() + ":";
+		counter.recordEvictions(1);
+		purgeStaleEntries();
+	}
+
+	@Override
+	public EntityCacheStats getStats() {
+		return counter.snapshot();
+	}
+
+	private static List<String> computeKeys(String prefix, Collection<String> keys) {
+		List<String> result = new ArrayList<>(keys.size());
+		for (String key : keys) {
+			result.add(prefix + key);
+		}
+		return result;
+	}
+
+	/**
+	 * 在后台移除旧代数下的实体，移除期间再次清空时结束后重新移除。
+	 */
+	private void purgeStaleEntries() {
+		if (!purging.compareAndSet(false, true)) {
+			return;
+		}
+		ForkJoinPool.commonPool().execute(() -> {
+			String prefix = generationPrefix;
+			try {
+				cache.asMap().keySet().removeIf(key -> !key.startsWith(prefix));
+			} finally {
+				purging.set(false);
+			}
+			if (!prefix.equals(generationPrefix)) {
+				purgeStaleEntries();
+			}
+		});
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.cache;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 实体缓存（仓储二级缓存）
+ * <p>
+ * 以实体主键的字符串形式（{@link String#valueOf(Object)}）作为缓存键，由
+ * {@link io.github.pangju666.framework.data.mybatisplus.repository.BaseRepository BaseRepository}
+ * 在按主键查询时读取、在写操作后失效。
+ * </p>
+ *
+ * <p>实现约定：</p>
+ * <ul>
+ *   <li>实现必须线程安全。</li>
+ *   <li>不缓存 {@code null}，未命中时返回 {@code null} 或在批量结果中缺省该键。</li>
+ *   <li>读写异常不应影响业务查询，实现可自行吞掉并按未命中处理。</li>
+ * </ul>
+ *
+ * @param <T> 实体类型
+ * @author pangju666
+ * @see CaffeineEntityCache
+ * @see RedisEntityCache
+ * @see TieredEntityCache
+ * @since 2.2.0
+ */
+public interface EntityCache<T> {
+	/**
+	 * 获取缓存的实体
+	 *
+	 * @param key 主键字符串
+	 * @return 缓存的实体，未命中时返回 {@code null}
+	 * @since 2.2.0
+	 */
+	@Nullable
+	T get(String key);
+
+	/**
+	 * 批量获取缓存的实体
+	 *
+	 * @param keys 主键字符串集合
+	 * @return 命中的实体映射，未命中的键不包含在结果中
+	 * @since 2.2.0
+	 */
+	Map<String, T> getAll(Collection<String> keys);
+
+	/**
+	 * 缓存实体
+	 *
+	 * @param key    主键字符串
+	 * @param entity 实体，不可为 {@code null}
+	 * @since 2.2.0
+	 */
+	void put(String key, T entity);
+
+	/**
+	 * 批量缓存实体
+	 *
+	 * @param entities 主键字符串到实体的映射
+	 * @since 2.2.0
+	 */
+	void putAll(Map<String, T> entities);
+
+	/**
+	 * 批量失效缓存
+	 *
+	 * @param keys 主键字符串集合
+	 * @since 2.2.0
+	 */
+	void evictAll(Collection<String> keys);
+
+	/**
+	 * 清空缓存
+	 * <p>
+	 * 按条件的写操作每次都会调用（事务中还会在提交后再调用一次），实现应避免与缓存规模成正比的开销。
+	 * </p>
+	 *
+	 * @since 2.2.0
+	 */
+	void clear();
+
+	/**
+	 * 获取缓存统计信息快照
+	 *
+	 * @return 统计信息
+	 * @since 2.2.0
+	 */
+	EntityCacheStats getStats();
+}
@@ -0,0 +1,52 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 实体缓存统计计数器
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+final class EntityCacheCounter {
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder putCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	void recordHits(int count) {
+		hitCount.add(count);
+	}
+
+	void recordMisses(int count) {
+		missCount.add(count);
+	}
+
+	void recordPuts(int count) {
+		putCount.add(count);
+	}
+
+	void recordEvictions(int count) {
+		evictionCount.add(count);
+	}
+
+	EntityCacheStats snapshot() {
+		return new EntityCacheStats(hitCount.sum(), missCount.sum(), putCount.sum(), evictionCount.sum());
+	}
+}
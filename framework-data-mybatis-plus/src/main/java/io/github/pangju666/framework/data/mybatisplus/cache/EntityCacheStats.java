@@ -0,0 +1,40 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.cache;
+
+/**
+ * 实体缓存统计信息快照
+ *
+ * @param hitCount      命中次数（按键计）
+ * @param missCount     未命中次数（按键计）
+ * @param putCount      写入次数（按键计）
+ * @param evictionCount 主动失效次数（按键计，清空计为一次）
+ * @author pangju666
+ * @since 2.2.0
+ */
+public record EntityCacheStats(long hitCount, long missCount, long putCount, long evictionCount) {
+	/**
+	 * 获取命中率
+	 *
+	 * @return 命中率，尚无请求时返回 {@code 0}
+	 * @since 2.2.0
+	 */
+	public double hitRate() {
+		long requestCount = hitCount + missCount;
+		return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+	}
+}
@@ -0,0 +1,309 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.cache;
+
+import io.github.pangju666.framework.data.redis.core.ScanRedisTemplate;
+import io.github.pangju666.framework.data.redis.utils.RedisUtils;
+import org.jspecify.annotations.Nullable;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 基于 Redis（{@link ScanRedisTemplate}）的共享实体缓存
+ * <p>
+ * 缓存键为 {@code keyPrefix:代数:主键}，值使用模板配置的值序列化器存储；批量读取使用 {@code MGET}，
+ * 批量写入使用管道执行 {@code SET ... EX}。Redis 读写异常按未命中处理，不影响数据库查询。
+ * 需要引入 {@code framework-data-redis} 模块。
+ * </p>
+ * <p>
+ * 代数保存在 {@code keyPrefix:gen} 中。{@link #clear()} 仅对代数执行 {@code INCR}，复杂度为 O(1)，
+ * 旧代数下的键不再被访问，由过期时间自然回收，因此清空后 Redis 内存占用会在一个 {@code ttl} 周期内回落，而不是立即释放。
+ * </p>
+ * <p>
+ * 读取与回填使用本地缓存的代数，每隔 {@code generationRefreshInterval} 重新读取一次，避免每次读写多一次往返；
+ * 本实例的 {@link #clear()} 立即生效，其它实例执行 {@link #clear()} 后，本实例最多在一个刷新间隔内仍可能读到清空前的实体。
+ * 失效（{@link #evictAll(Collection)}）总是先读取最新代数，保证删除的是当前代数下的键。
+ * </p>
+ *
+ * @param <T> 实体类型
+ * @author pangju666
+ * @since 2.2.0
+ */
+public class RedisEntityCache<T> implements EntityCache<T> {
+	/**
+	 * 默认的代数刷新间隔
+	 *
+	 * @since 2.2.0
+	 */
+	public static final Duration DEFAULT_GENERATION_REFRESH_INTERVAL = Duration.ofSeconds(1);
+
+	private final ScanRedisTemplate<Object> redisTemplate;
+	private final String keyPrefix;
+	private final Class<T> entityClass;
+	private final Duration ttl;
+	private final EntityCacheCounter counter = new EntityCacheCounter();
+	private final byte[] rawGenerationKey;
+	private final long generationRefreshNanos;
+	private volatile @Nullable CachedGeneration cachedGeneration;
+
+	/**
+	 * 构造函数，代数刷新间隔为 {@link #DEFAULT_GENERATION_REFRESH_INTERVAL}
+	 *
+	 * @param redisTemplate 扫描模板，值序列化器需能序列化实体
+	 * @param keyPrefix     缓存键前缀，例如 {@code cache:user}
+	 * @param entityClass   实体类型，用于校验反序列化结果
+	 * @param ttl           过期时间，必须为正数
+	 * @throws IllegalArgumentException 当参数为 null、{@code keyPrefix} 为空白或 {@code ttl} 不为正数
+	 * @since 2.2.0
+	 */
+	public RedisEntityCache(ScanRedisTemplate<Object> redisTemplate, String keyPrefix, Class<T> entityClass,
+							Duration ttl) {
+		this(redisTemplate, keyPrefix, entityClass, ttl, DEFAULT_GENERATION_REFRESH_INTERVAL);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param redisTemplate             扫描模板，值序列化器需能序列化实体
+	 * @param keyPrefix                 缓存键前缀，例如 {@code cache:user}
+	 * @param entityClass               实体类型，用于校验反序列化结果
+	 * @param ttl                       过期时间，必须为正数
+	 * @param generationRefreshInterval 本地缓存代数的刷新间隔，为 {@link Duration#ZERO} 时每次读写都读取代数
+	 * @throws IllegalArgumentException 当参数为 null、{@code keyPrefix} 为空白、{@code ttl} 不为正数或
+	 *                                  {@code generationRefreshInterval} 为负数
+	 * @since 2.2.0
+	 */
+	public RedisEntityCache(ScanRedisTemplate<Object> redisTemplate, String keyPrefix, Class<T> entityClass,
+							Duration ttl, Duration generationRefreshInterval) {
+		Assert.notNull(redisTemplate, "redisTemplate 不可为null");
+		Assert.hasText(keyPrefix, "keyPrefix 不可为空");
+		Assert.notNull(entityClass, "entityClass 不可为null");
+		Assert.isTrue(Objects.nonNull(ttl) && !ttl.isNegative() && !ttl.isZero(), "ttl 必须为正数");
+		Assert.isTrue(Objects.nonNull(generationRefreshInterval) && !generationRefreshInterval.isNegative(),
+			"generationRefreshInterval 不可为负数");
+
+		this.redisTemplate = redisTemplate;
+		this.keyPrefix = keyPrefix;
+		this.entityClass = entityClass;
+		this.ttl = ttl;
+		this.rawGenerationKey = RedisSerializer.string().serialize(RedisUtils.computeKey(keyPrefix, "gen"));
+		this.generationRefreshNanos = generationRefreshInterval.toNanos();
+	}
+
+	@Override
+	public @Nullable T get(String key) {
+		Object value;
+		try {
+			value = redisTemplate.opsForValue().get(computeKey(currentGeneration(), key));
+		} catch (DataAccessException e) {
+			value = null;
+		}
+		if (entityClass.isInstance(value)) {
+			counter.recordHits(1);
+			return entityClass.cast(value);
+		}
+		counter.recordMisses(1);
+		return null;
+	}
+
+	@Override
+	public Map<String, T> getAll(Collection<String> keys) {
+		if (keys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		List<String> keyList = List.copyOf(keys);
+		List<Object> values;
+		try {
+			String generation = currentGeneration();
+			values = redisTemplate.opsForValue().multiGet(keyList.stream()
+				.map(key -> computeKey(generation, key))
+				.toList());
+		} catch (DataAccessException e) {
+			values = null;
+		}
+		if (Objects.isNull(values)) {
+			counter.recordMisses(keyList.size());
+			return Collections.emptyMap();
+		}
+
+		Map<String, T> entities = new HashMap<>();
+		for (int i = 0; i < keyList.size() && i < values.size(); i++) {
+			Object value = values.get(i);
+			if (entityClass.isInstance(value)) {
+				entities.put(keyList.get(i), entityClass.cast(value));
+			}
+		}
+		counter.recordHits(entities.size());
+		counter.recordMisses(keyList.size() - entities.size());
+		return entities;
+	}
+
+	@Override
+	public void put(String key, T entity) {
+		try {
+			redisTemplate.opsForValue().set(computeKey(currentGeneration(), key), entity, ttl);
+			counter.recordPuts(1);
+		} catch (DataAccessException ignored) {
+		}
+	}
+
+	@Override
+	public void putAll(Map<String, T> entities) {
+		if (entities.isEmpty()) {
+			return;
+		}
+		try {
+			String generation = currentGeneration();
+			redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+					entities.forEach((key, entity) -> operations.opsForValue()
+						.set((K) computeKey(generation, key), (V) entity, ttl));
+					return null;
+				}
+			});
+			counter.recordPuts(entities.size());
+		} catch (DataAccessException ignored) {
+		}
+	}
+
+	/**
+	 * 批量失效缓存
+	 * <p>
+	 * 删除失败时（重试后仍有键未删除或读取代数失败）改为执行 {@link #clear()}，避免残留的旧实体被继续读取；
+	 * {@link #clear()} 也失败时抛出其异常。
+	 * </p>
+	 *
+	 * @param keys 主键字符串集合
+	 * @since 2.2.0
+	 */
+	@Override
+	public void evictAll(Collection<String> keys) {
+		if (keys.isEmpty()) {
+			return;
+		}
+		try {
+			String generation = refreshGeneration();
+			RedisUtils.deleteKeys(redisTemplate, keys.stream().map(key -> computeKey(generation, key)).toList());
+			counter.recordEvictions(keys.size());
+		} catch (DataAccessException | IllegalStateException e) {
+			clear();
+		}
+	}
+
+	/**
+	 * 清空缓存
+	 * <p>
+	 * 递增代数使现有缓存键全部失效，不扫描、不删除键，旧键由过期时间回收。
+	 * </p>
+	 *
+	 * @since 2.2.0
+	 */
+	@Override
+	public void clear() {
+		Long generation = redisTemplate.execute((RedisCallback<Long>) connection ->
+			connection.stringCommands().incr(rawGenerationKey));
+		if (Objects.nonNull(generation)) {
+			cacheGeneration(generation.toString());
+		} else {
+			cachedGeneration = null;
+		}
+		counter.recordEvictions(1);
+	}
+
+	@Override
+	public EntityCacheStats getStats() {
+		return counter.snapshot();
+	}
+
+	/**
+	 * 计算缓存键
+	 *
+	 * @param generation 缓存代数
+	 * @param key        主键字符串
+	 * @return Redis 键
+	 * @since 2.2.0
+	 */
+	protected String computeKey(String generation, String key) {
+		return RedisUtils.computeKey(keyPrefix, generation, key);
+	}
+
+	/**
+	 * 获取当前缓存代数，本地缓存的代数超过刷新间隔时重新读取
+	 *
+	 * @return 当前缓存代数
+	 * @since 2.2.0
+	 */
+	protected String currentGeneration() {
+		CachedGeneration cached = this.cachedGeneration;
+		if (Objects.nonNull(cached) && System.nanoTime() - cached.expiresAt() < 0) {
+			return cached.value();
+		}
+		return refreshGeneration();
+	}
+
+	/**
+	 * 从 Redis 读取当前缓存代数并更新本地缓存，代数键不存在时为 {@code 0}
+	 *
+	 * @return 当前缓存代数
+	 * @since 2.2.0
+	 */
+	protected String refreshGeneration() {
+		byte[] rawGeneration = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+			connection.stringCommands().get(rawGenerationKey));
+		String generation = Objects.isNull(rawGeneration) ? "0" : new String(rawGeneration, StandardCharsets.UTF_8);
+		cacheGeneration(generation);
+		return generation;
+	}
+
+	private synchronized void cacheGeneration(String generation) {
+		if (generationRefreshNanos <= 0) {
+			return;
+		}
+		long now = System.nanoTime();
+		CachedGeneration cached = this.cachedGeneration;
+		// 并发读取与 clear() 交错时，不以较早读到的旧代数覆盖较新的代数
+		if (Objects.nonNull(cached) && now - cached.expiresAt() < 0 && compareGeneration(cached.value(), generation) > 0) {
+			return;
+		}
+		this.cachedGeneration = new CachedGeneration(generation, now + generationRefreshNanos);
+	}
+
+	private static int compareGeneration(String left, String right) {
+		return left.length() != right.length() ? Integer.compare(left.length(), right.length()) : left.compareTo(right);
+	}
+
+	/**
+	 * 本地缓存的代数
+	 *
+	 * @param value     代数
+	 * @param expiresAt 过期时刻（{@link System#nanoTime()}）
+	 * @since 2.2.0
+	 */
+	private record CachedGeneration(String value, long expiresAt) {
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.cache;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 两级实体缓存
+ * <p>
+ * 先查询本地缓存（一级，通常为 {@link CaffeineEntityCache}），未命中的键再查询共享缓存（二级，通常为 {@link RedisEntityCache}），
+ * 二级命中的实体会回填到一级。写入与失效同时作用于两级。
+ * </p>
+ * <p>
+ * 多实例部署时，其它实例的一级缓存只能依靠过期时间失效，一级缓存的过期时间应短于可接受的不一致窗口。
+ * </p>
+ *
+ * @param <T> 实体类型
+ * @author pangju666
+ * @since 2.2.0
+ */
+public class TieredEntityCache<T> implements EntityCache<T> {
+	private final EntityCache<T> localCache;
+	private final EntityCache<T> remoteCache;
+	private final EntityCacheCounter counter = new EntityCacheCounter();
+
+	/**
+	 * 构造函数
+	 *
+	 * @param localCache  一级（本地）缓存
+	 * @param remoteCache 二级（共享）缓存
+	 * @throws IllegalArgumentException 当参数为 null
+	 * @since 2.2.0
+	 */
+	public TieredEntityCache(EntityCache<T> localCache, EntityCache<T> remoteCache) {
+		Assert.notNull(localCache, "localCache 不可为null");
+		Assert.notNull(remoteCache, "remoteCache 不可为null");
+
+		this.localCache = localCache;
+		this.remoteCache = remoteCache;
+	}
+
+	@Override
+	public @Nullable T get(String key) {
+		T entity = localCache.get(key);
+		if (Objects.isNull(entity)) {
+			entity = remoteCache.get(key);
+			if (Objects.nonNull(entity)) {
+				localCache.put(key, entity);
+			}
+		}
+		if (Objects.isNull(entity)) {
+			counter.recordMisses(1);
+		} else {
+			counter.recordHits(1);
+		}
+		return entity;
+	}
+
+	@Override
+	public Map<String, T> getAll(Collection<String> keys) {
+		Map<String, T> entities = new HashMap<>(localCache.getAll(keys));
+		if (entities.size() < keys.size()) {
+			List<String> missingKeys = keys.stream()
+				.filter(key -> !entities.containsKey(key))
+				.toList();
+			Map<String, T> remoteEntities = remoteCache.getAll(missingKeys);
+			if (!remoteEntities.isEmpty()) {
+				localCache.putAll(remoteEntities);
+				entities.putAll(remoteEntities);
+			}
+		}
+		counter.recordHits(entities.size());
+		counter.recordMisses(keys.size() - entities.size());
+		return entities;
+	}
+
+	@Override
+	public void put(String key, T entity) {
+		remoteCache.put(key, entity);
+		localCache.put(key, entity);
+		counter.recordPuts(1);
+	}
+
+	@Override
+	public void putAll(Map<String, T> entities) {
+		remoteCache.putAll(entities);
+		localCache.putAll(entities);
+		counter.recordPuts(entities.size());
+	}
+
+	@Override
+	public void evictAll(Collection<String> keys) {
+		remoteCache.evictAll(keys);
+		localCache.evictAll(keys);
+		counter.recordEvictions(keys.size());
+	}
+
+	@Override
+	public void clear() {
+		remoteCache.clear();
+		localCache.clear();
+		counter.recordEvictions(1);
+	}
+
+	@Override
+	public EntityCacheStats getStats() {
+		return counter.snapshot();
+	}
+
+	/**
+	 * 获取一级（本地）缓存
+	 *
+	 * @return 一级缓存
+	 * @since 2.2.0
+	 */
+	public EntityCache<T> getLocalCache() {
+		return localCache;
+	}
+
+	/**
+	 * 获取二级（共享）缓存
+	 *
+	 * @return 二级缓存
+	 * @since 2.2.0
+	 */
+	public EntityCache<T> getRemoteCache() {
+		return remoteCache;
+	}
+}
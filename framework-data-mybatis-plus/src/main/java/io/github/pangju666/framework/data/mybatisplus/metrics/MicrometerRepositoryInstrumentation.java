@@ -0,0 +1,187 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.util.Assert;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 基于 Micrometer 的仓储观测实现
+ * <p>导出以下指标（需要引入 {@code micrometer-core}）：</p>
+ * <ul>
+ *   <li>{@value #INVOCATION_TIMER}：仓储方法耗时，标签 {@code entity}、{@code method}、{@code outcome}（{@code success}/{@code error}）。</li>
+ *   <li>{@value #ROWS_SUMMARY}：仓储方法返回行数分布，标签 {@code entity}、{@code method}；行数未知的调用不记录。</li>
+ *   <li>{@value #BATCH_SIZE_GAUGE}：自适应分批查询当前使用的批大小，标签 {@code entity}。</li>
+ *   <li>{@value #SLOW_STATEMENT_COUNTER}：慢 SQL 次数，标签 {@code entity}、{@code method}（非仓储方法发起时为 {@code none}）。</li>
+ * </ul>
+ * <p>最近的慢 SQL（含 {@code EXPLAIN} 输出）保留在内存中，可通过 {@link #getRecentSlowStatements()} 查看。</p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+public class MicrometerRepositoryInstrumentation implements RepositoryInstrumentation {
+	/**
+	 * 仓储方法耗时指标名
+	 *
+	 * @since 2.2.0
+	 */
+	public static final String INVOCATION_TIMER = "repository.invocations";
+	/**
+	 * 仓储方法返回行数指标名
+	 *
+	 * @since 2.2.0
+	 */
+	public static final String ROWS_SUMMARY = "repository.rows";
+	/**
+	 * 慢 SQL 次数指标名
+	 *
+	 * @since 2.2.0
+	 */
+	public static final String SLOW_STATEMENT_COUNTER = "repository.slow.statements";
+	/**
+	 * 自适应分批查询批大小指标名
+	 *
+	 * @since 2.2.0
+	 */
+	public static final String BATCH_SIZE_GAUGE = "repository.batch.size";
+	/**
+	 * 默认保留的慢 SQL 数量
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int DEFAULT_SLOW_STATEMENT_CAPACITY = 100;
+
+	private static final String NONE = "none";
+
+	private final MeterRegistry registry;
+	private final int slowStatementCapacity;
+	private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+	private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+	private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+	private final Map<String, AtomicInteger> batchSizes = new ConcurrentHashMap<>();
+	private final Deque<SlowStatement> slowStatements = new ArrayDeque<>();
+
+	/**
+	 * 构造函数，保留最近 {@value #DEFAULT_SLOW_STATEMENT_CAPACITY} 条慢 SQL
+	 *
+	 * @param registry 指标注册表
+	 * @since 2.2.0
+	 */
+	public MicrometerRepositoryInstrumentation(MeterRegistry registry) {
+		this(registry, DEFAULT_SLOW_STATEMENT_CAPACITY);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param registry              指标注册表
+	 * @param slowStatementCapacity 保留的慢 SQL 数量，为 0 时不保留
+	 * @throws IllegalArgumentException 当参数不合法时
+	 * @since 2.2.0
+	 */
+	public MicrometerRepositoryInstrumentation(MeterRegistry registry, int slowStatementCapacity) {
+		Assert.notNull(registry, "registry 不可为null");
+		Assert.isTrue(slowStatementCapacity >= 0, "slowStatementCapacity 必须大于等于0");
+		this.registry = registry;
+		this.slowStatementCapacity = slowStatementCapacity;
+	}
+
+	@Override
+	public void recordInvocation(RepositoryInvocation invocation) {
+		String outcome = invocation.isSuccess() ? "success" : "error";
+		timers.computeIfAbsent(invocation.entity() + '#' + invocation.method() + '#' + outcome, key ->
+				Timer.builder(INVOCATION_TIMER)
+					.description("仓储方法耗时")
+					.tag("entity", invocation.entity())
+					.tag("method", invocation.method())
+					.tag("outcome", outcome)
+					.register(registry))
+			.record(invocation.durationNanos(), TimeUnit.NANOSECONDS);
+
+		if (invocation.rows() >= 0) {
+			summaries.computeIfAbsent(invocation.entity() + '#' + invocation.method(), key ->
+					DistributionSummary.builder(ROWS_SUMMARY)
+						.description("仓储方法返回行数")
+						.baseUnit("rows")
+						.tag("entity", invocation.entity())
+						.tag("method", invocation.method())
+						.register(registry))
+				.record(invocation.rows());
+		}
+	}
+
+	@Override
+	public void recordSlowStatement(SlowStatement statement) {
+		String entity = Objects.requireNonNullElse(statement.entity(), NONE);
+		String method = Objects.requireNonNullElse(statement.method(), NONE);
+		counters.computeIfAbsent(entity + '#' + method, key ->
+				Counter.builder(SLOW_STATEMENT_COUNTER)
+					.description("慢SQL次数")
+					.tag("entity", entity)
+					.tag("method", method)
+					.register(registry))
+			.increment();
+
+		if (slowStatementCapacity > 0) {
+			synchronized (slowStatements) {
+				if (slowStatements.size() >= slowStatementCapacity) {
+					slowStatements.pollFirst();
+				}
+				slowStatements.addLast(statement);
+			}
+		}
+	}
+
+	@Override
+	public void recordBatchSize(String entity, int batchSize) {
+		batchSizes.computeIfAbsent(entity, key -> {
+				AtomicInteger value = new AtomicInteger();
+				Gauge.builder(BATCH_SIZE_GAUGE, value, AtomicInteger::get)
+					.description("自适应分批查询批大小")
+					.tag("entity", entity)
+					.register(registry);
+				return value;
+			})
+			.set(batchSize);
+	}
+
+	/**
+	 * 获取最近的慢 SQL
+	 *
+	 * @return 慢 SQL 列表，按发生时间从早到晚排序
+	 * @since 2.2.0
+	 */
+	public List<SlowStatement> getRecentSlowStatements() {
+		synchronized (slowStatements) {
+			return new ArrayList<>(slowStatements);
+		}
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.metrics;
+
+/**
+ * 仓储调用观测接口
+ * <p>
+ * 设置到 {@link io.github.pangju666.framework.data.mybatisplus.repository.BaseRepository#setInstrumentation(RepositoryInstrumentation)
+ * BaseRepository} 后，仓储的便捷查询/写入方法（如 {@code listByColumnValues}、{@code removeByColumnLike}、JSON 查询等）
+ * 每次调用结束时回调 {@link #recordInvocation(RepositoryInvocation)}；注册 {@link SlowStatementInterceptor} 后，
+ * 超过阈值的 SQL 语句回调 {@link #recordSlowStatement(SlowStatement)}；开启自适应分批后，批大小调整时回调
+ * {@link #recordBatchSize(String, int)}。
+ * </p>
+ * <p>回调在业务线程中同步执行，实现必须线程安全且不应执行耗时操作。</p>
+ *
+ * @author pangju666
+ * @see MicrometerRepositoryInstrumentation
+ * @since 2.2.0
+ */
+public interface RepositoryInstrumentation {
+	/**
+	 * 记录一次仓储方法调用
+	 *
+	 * @param invocation 调用信息
+	 * @since 2.2.0
+	 */
+	void recordInvocation(RepositoryInvocation invocation);
+
+	/**
+	 * 记录一条慢 SQL
+	 *
+	 * @param statement 慢 SQL 信息
+	 * @since 2.2.0
+	 */
+	default void recordSlowStatement(SlowStatement statement) {
+	}
+
+	/**
+	 * 记录自适应分批查询当前使用的批大小
+	 *
+	 * @param entity    实体类名（简单类名）
+	 * @param batchSize 批大小
+	 * @since 2.2.0
+	 */
+	default void recordBatchSize(String entity, int batchSize) {
+	}
+}
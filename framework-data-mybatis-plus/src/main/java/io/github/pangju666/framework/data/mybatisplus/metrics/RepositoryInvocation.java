@@ -0,0 +1,43 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.metrics;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 仓储方法调用信息
+ *
+ * @param entity        实体类名（简单类名）
+ * @param method        仓储方法名，重载方法共用同一名称
+ * @param durationNanos 调用耗时（纳秒），包含分批查询的全部批次
+ * @param rows          返回的行数（列表大小、分页记录数、批量写入行数等），无法确定时（如更新/删除返回布尔值）为 -1
+ * @param error         调用抛出的异常，成功时为 {@code null}
+ * @author pangju666
+ * @since 2.2.0
+ */
+public record RepositoryInvocation(String entity, String method, long durationNanos, long rows,
+								   @Nullable Throwable error) {
+	/**
+	 * 调用是否成功
+	 *
+	 * @return 未抛出异常返回 {@code true}
+	 * @since 2.2.0
+	 */
+	public boolean isSuccess() {
+		return error == null;
+	}
+}
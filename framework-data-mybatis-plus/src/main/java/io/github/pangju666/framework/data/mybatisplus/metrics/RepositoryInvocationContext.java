@@ -0,0 +1,89 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.metrics;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * 当前线程正在执行的仓储方法
+ * <p>
+ * 由仓储在开启观测时绑定到当前线程，{@link SlowStatementInterceptor} 据此为慢 SQL 标记实体与方法名。
+ * 嵌套调用（如重载方法互相委托）只保留最外层的方法；分批查询的并行批次会在执行线程上恢复调用方的上下文。
+ * </p>
+ *
+ * @param entity 实体类名（简单类名）
+ * @param method 仓储方法名
+ * @author pangju666
+ * @since 2.2.0
+ */
+public record RepositoryInvocationContext(String entity, String method) {
+	private static final ThreadLocal<RepositoryInvocationContext> CURRENT = new ThreadLocal<>();
+
+	/**
+	 * 获取当前线程绑定的上下文
+	 *
+	 * @return 上下文，未绑定时返回 {@code null}
+	 * @since 2.2.0
+	 */
+	public static @Nullable RepositoryInvocationContext current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * 在绑定上下文的情况下执行操作，执行结束后恢复之前的上下文
+	 *
+	 * @param context 上下文，为 {@code null} 时直接执行
+	 * @param action  操作
+	 * @param <R>     结果类型
+	 * @return 操作结果
+	 * @since 2.2.0
+	 */
+	public static <R> R callWith(@Nullable RepositoryInvocationContext context, Supplier<R> action) {
+		if (context == null) {
+			return action.get();
+		}
+		RepositoryInvocationContext previous = CURRENT.get();
+		CURRENT.set(context);
+		try {
+			return action.get();
+		} finally {
+			if (previous == null) {
+				CURRENT.remove();
+			} else {
+				CURRENT.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * 包装操作，使其在执行线程上绑定当前线程的上下文
+	 *
+	 * @param action 操作
+	 * @param <R>    结果类型
+	 * @return 包装后的操作，当前线程未绑定上下文时返回原操作
+	 * @since 2.2.0
+	 */
+	public static <R> Supplier<R> propagate(Supplier<R> action) {
+		RepositoryInvocationContext context = CURRENT.get();
+		if (context == null) {
+			return action;
+		}
+		return () -> callWith(context, action);
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.metrics;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 慢 SQL 信息
+ *
+ * @param entity        发起语句的仓储实体类名，不是由仓储方法发起时为 {@code null}
+ * @param method        发起语句的仓储方法名，不是由仓储方法发起时为 {@code null}
+ * @param statementId   MyBatis 语句 ID
+ * @param sql           SQL 文本（参数以 {@code ?} 占位）
+ * @param durationNanos 语句执行耗时（纳秒）
+ * @param plan          {@code EXPLAIN} 输出，每行按列名保存；未开启或获取失败时为空列表
+ * @author pangju666
+ * @since 2.2.0
+ */
+public record SlowStatement(@Nullable String entity, @Nullable String method, String statementId, String sql,
+							long durationNanos, List<Map<String, Object>> plan) {
+}
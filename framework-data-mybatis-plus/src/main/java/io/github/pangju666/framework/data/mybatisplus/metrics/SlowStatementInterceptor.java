@@ -0,0 +1,139 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.metrics;
+
+import com.baomidou.mybatisplus.core.toolkit.PluginUtils;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.springframework.util.Assert;
+
+import java.sql.*;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 慢 SQL 拦截器
+ * <p>
+ * 统计每条 SQL 的执行耗时（游标查询统计到返回游标为止，不含后续逐行读取），超过阈值时回调 {@link RepositoryInstrumentation#recordSlowStatement(SlowStatement)}，
+ * 并使用发起仓储方法的实体与方法名（见 {@link RepositoryInvocationContext}）标记该语句。
+ * 开启 {@link #setExplainEnabled(boolean) EXPLAIN 采集}（默认关闭）后，在同一连接上以相同参数执行 {@code EXPLAIN}（仅查询、更新、删除语句）
+ * 并附带执行计划，用于判断需要加索引、缓存或分批的仓储方法。
+ * </p>
+ * <p>以 MyBatis 插件形式注册，例如在 Spring Boot 中声明为 {@code Interceptor} 类型的 Bean。</p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+@Intercepts({
+	@Signature(type = StatementHandler.class, method = "query", args = {Statement.class, ResultHandler.class}),
+	@Signature(type = StatementHandler.class, method = "queryCursor", args = {Statement.class}),
+	@Signature(type = StatementHandler.class, method = "update", args = {Statement.class})
+})
+public class SlowStatementInterceptor implements Interceptor {
+	private final RepositoryInstrumentation instrumentation;
+	private final long thresholdNanos;
+	private volatile boolean explainEnabled = false;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param instrumentation 观测实现
+	 * @param threshold       慢 SQL 阈值
+	 * @throws IllegalArgumentException 当参数为 null 或阈值为负数时
+	 * @since 2.2.0
+	 */
+	public SlowStatementInterceptor(RepositoryInstrumentation instrumentation, Duration threshold) {
+		Assert.notNull(instrumentation, "instrumentation 不可为null");
+		Assert.notNull(threshold, "threshold 不可为null");
+		Assert.isTrue(!threshold.isNegative(), "threshold 不可为负数");
+		this.instrumentation = instrumentation;
+		this.thresholdNanos = threshold.toNanos();
+	}
+
+	/**
+	 * 设置是否为慢 SQL 采集 {@code EXPLAIN} 输出（默认关闭）
+	 * <p>开启后每条慢 SQL 都会在业务连接上额外执行一次 {@code EXPLAIN}，数据库已处于高负载时会进一步增加压力，建议仅在排查期间开启。</p>
+	 *
+	 * @param explainEnabled 是否开启
+	 * @since 2.2.0
+	 */
+	public void setExplainEnabled(boolean explainEnabled) {
+		this.explainEnabled = explainEnabled;
+	}
+
+	@Override
+	public Object intercept(Invocation invocation) throws Throwable {
+		long start = System.nanoTime();
+		Object result = invocation.proceed();
+		long elapsed = System.nanoTime() - start;
+		if (elapsed >= thresholdNanos) {
+			StatementHandler handler = PluginUtils.realTarget(invocation.getTarget());
+			Statement statement = (Statement) invocation.getArgs()[0];
+			report(handler, statement, elapsed);
+		}
+		return result;
+	}
+
+	private void report(StatementHandler handler, Statement statement, long elapsed) {
+		BoundSql boundSql = handler.getBoundSql();
+		MappedStatement mappedStatement = PluginUtils.mpStatementHandler(handler).mappedStatement();
+		String statementId = Objects.nonNull(mappedStatement) ? mappedStatement.getId() : "unknown";
+		List<Map<String, Object>> plan = Collections.emptyList();
+		if (explainEnabled && Objects.nonNull(mappedStatement) && isExplainable(mappedStatement.getSqlCommandType()) &&
+			statement instanceof PreparedStatement && !(statement instanceof CallableStatement)) {
+			plan = explain(handler, statement, boundSql.getSql());
+		}
+		RepositoryInvocationContext context = RepositoryInvocationContext.current();
+		instrumentation.recordSlowStatement(new SlowStatement(
+			Objects.nonNull(context) ? context.entity() : null,
+			Objects.nonNull(context) ? context.method() : null,
+			statementId, boundSql.getSql(), elapsed, plan));
+	}
+
+	private List<Map<String, Object>> explain(StatementHandler handler, Statement statement, String sql) {
+		try (PreparedStatement explainStatement = statement.getConnection().prepareStatement("EXPLAIN " + sql)) {
+			handler.getParameterHandler().setParameters(explainStatement);
+			try (ResultSet resultSet = explainStatement.executeQuery()) {
+				ResultSetMetaData metaData = resultSet.getMetaData();
+				List<Map<String, Object>> rows = new ArrayList<>();
+				while (resultSet.next()) {
+					Map<String, Object> row = new LinkedHashMap<>(metaData.getColumnCount() * 2);
+					for (int i = 1; i <= metaData.getColumnCount(); i++) {
+						row.put(metaData.getColumnLabel(i), resultSet.getObject(i));
+					}
+					rows.add(row);
+				}
+				return rows;
+			}
+		} catch (SQLException | RuntimeException e) {
+			// 执行计划仅用于诊断，获取失败不影响业务语句
+			return Collections.emptyList();
+		}
+	}
+
+	private static boolean isExplainable(SqlCommandType commandType) {
+		return commandType == SqlCommandType.SELECT || commandType == SqlCommandType.UPDATE ||
+			commandType == SqlCommandType.DELETE;
+	}
+}
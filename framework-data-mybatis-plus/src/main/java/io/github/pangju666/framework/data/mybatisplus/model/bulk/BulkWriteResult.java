@@ -0,0 +1,61 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.model.bulk;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 批量写入结果
+ * <p>
+ * 汇总一次批量插入/插入或更新的影响行数，并记录每个分块（一条多行 SQL）的行数、估算大小与耗时，
+ * 便于定位慢分块与调整批大小。
+ * </p>
+ *
+ * @param rows         写入的实体数量
+ * @param affectedRows 数据库返回的影响行数之和（MySQL 的插入或更新中，更新的行计为 2，未变化的行计为 0）
+ * @param chunks       各分块的执行明细，按执行顺序排列
+ * @author pangju666
+ * @since 2.2.0
+ */
+public record BulkWriteResult(long rows, long affectedRows, List<Chunk> chunks) {
+	/**
+	 * 获取所有分块的总耗时
+	 *
+	 * @return 总耗时
+	 * @since 2.2.0
+	 */
+	public Duration elapsed() {
+		return chunks.stream()
+			.map(Chunk::elapsed)
+			.reduce(Duration.ZERO, Duration::plus);
+	}
+
+	/**
+	 * 分块执行明细
+	 *
+	 * @param index          分块序号，从 0 开始
+	 * @param rows           分块包含的实体数量
+	 * @param estimatedBytes 分块 SQL 的估算字节数
+	 * @param affectedRows   分块的影响行数
+	 * @param elapsed        分块执行耗时
+	 * @author pangju666
+	 * @since 2.2.0
+	 */
+	public record Chunk(int index, int rows, long estimatedBytes, long affectedRows, Duration elapsed) {
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.model.page;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 键集（seek）分页结果
+ * <p>
+ * 包含当前页记录与用于获取下一页的不透明续页令牌。
+ * 令牌由仓储生成，调用方应原样回传，不应解析或拼接。
+ * </p>
+ *
+ * @param records   当前页记录，不为 {@code null}
+ * @param nextToken 下一页令牌，没有更多记录时为 {@code null}
+ * @param <T>       实体类型
+ * @author pangju666
+ * @since 2.2.0
+ */
+public record KeysetPage<T>(List<T> records, @Nullable String nextToken) {
+	/**
+	 * 是否存在下一页
+	 *
+	 * @return 存在下一页返回 {@code true}
+	 * @since 2.2.0
+	 */
+	public boolean hasNext() {
+		return Objects.nonNull(nextToken);
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.pangju666.framework.data.mybatisplus.model.snapshot;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 视图快照统计
+ * <p>
+ * 描述只读仓储物化快照的当前状态，可用于导出陈旧度与刷新耗时指标。
+ * </p>
+ *
+ * @param loaded              是否已加载快照
+ * @param rows                快照的行数，未加载时为 0
+ * @param loadedAt            快照的加载时间，未加载时为 {@code null}
+ * @param staleness           快照的陈旧度（距加载完成的时长），未加载时为 {@link Duration#ZERO}
+ * @param lastRefreshDuration 最近一次成功刷新的耗时，未刷新时为 {@link Duration#ZERO}
+ * @param refreshCount        成功刷新的次数
+ * @param failureCount        刷新失败的次数（包括行数超过上限）
+ * @param oversized           最近一次刷新是否因行数超过上限而放弃
+ * @author pangju666
+ * @since 2.2.0
+ */
+public record ViewSnapshotStats(boolean loaded, int rows, @Nullable Instant loadedAt, Duration staleness,
+								Duration lastRefreshDuration, long refreshCount, long failureCount,
+								boolean oversized) {
+}
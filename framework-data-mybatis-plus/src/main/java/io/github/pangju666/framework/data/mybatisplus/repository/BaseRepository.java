@@ -16,8 +16,15 @@
 
 package io.github.pangju666.framework.data.mybatisplus.repository;
 
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.core.toolkit.GlobalConfigUtils;
 import com.baomidou.mybatisplus.core.toolkit.LambdaUtils;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
 import com.baomidou.mybatisplus.core.toolkit.support.ColumnCache;
 import com.baomidou.mybatisplus.core.toolkit.support.LambdaMeta;
 import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
@@ -27,17 +34,54 @@ import com.baomidou.mybatisplus.spring.service.IService;
 import io.github.pangju666.commons.lang.pool.Constants;
 import io.github.pangju666.commons.lang.utils.JsonUtils;
 import io.github.pangju666.commons.lang.utils.StringUtils;
+import io.github.pangju666.framework.data.mybatisplus.advisor.JsonIndexAdvisor;
+import io.github.pangju666.framework.data.mybatisplus.advisor.JsonQueryType;
+import io.github.pangju666.framework.data.mybatisplus.batch.AdaptiveBatchSizer;
+import io.github.pangju666.framework.data.mybatisplus.batch.PurgeJob;
+import io.github.pangju666.framework.data.mybatisplus.cache.EntityCache;
+import io.github.pangju666.framework.data.mybatisplus.metrics.RepositoryInstrumentation;
+import io.github.pangju666.framework.data.mybatisplus.metrics.RepositoryInvocation;
+import io.github.pangju666.framework.data.mybatisplus.metrics.RepositoryInvocationContext;
+import io.github.pangju666.framework.data.mybatisplus.model.bulk.BulkWriteResult;
+import io.github.pangju666.framework.data.mybatisplus.model.page.KeysetPage;
+import io.github.pangju666.framework.data.mybatisplus.routing.DataSourceRoute;
+import io.github.pangju666.framework.data.mybatisplus.routing.DataSourceRouting;
+import io.github.pangju666.framework.data.mybatisplus.routing.ReadWriteRoutingDataSource;
 import io.github.pangju666.framework.data.mybatisplus.uitls.EntityUtils;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
+import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.reflection.property.PropertyNamer;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.jspecify.annotations.Nullable;
+import org.mybatis.spring.SqlSessionUtils;
 import org.springframework.util.Assert;
 
+import javax.sql.DataSource;
 import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * MyBatis-Plus 通用仓储基类。
@@ -46,11 +90,23 @@ import java.util.stream.Collectors;
  *
  * <p><b>提供能力：</b></p>
  * <ul>
- *   <li>JSON 列查询：键存在、键值匹配、数组包含、数组交集、空对象/空数组检测。</li>
- *   <li>列值操作：存在性判断、按列取单个/多个、列值去重、IS NULL/IS NOT NULL。</li>
+ *   <li>JSON 列查询：键存在、键值匹配、数组包含、数组交集、空对象/空数组检测；值以预编译参数绑定，
+ *       可结合 {@link JsonIndexAdvisor} 记录查询并改写为使用生成列/多值索引（见 {@link #setJsonIndexAdvisor(JsonIndexAdvisor)}）。</li>
+ *   <li>列值操作：存在性判断（按主键仅访问主键索引，支持批量）、按列取单个/多个、列值去重、IS NULL/IS NOT NULL。</li>
  *   <li>模糊匹配：LIKE/NOT LIKE 及 LEFT/RIGHT 变体，对空串进行安全处理。</li>
- *   <li>批量查询：in 查询支持分批，避免单条 SQL 过长与参数超限。</li>
- *   <li>维护操作：列值替换与删除（对 {@code null} 具有特殊语义）。</li>
+ *   <li>流式遍历：基于主键键集分页的 {@code streamBy*}/{@code forEachBatchBy*}，内存中仅驻留一个批次。</li>
+ *   <li>键集分页：基于续页令牌的 seek 分页，支持复合排序列与升降序，深页与首页成本一致。</li>
+ *   <li>复合键查询：按两列/三列的值组合分批查询，使用行构造器 {@code IN} 或可移植的析取条件（见 {@link #listByColumnTuples(SFunction, SFunction, Collection, int)}）。</li>
+ *   <li>批量查询：in 查询支持分批，避免单条 SQL 过长与参数超限；可选并行执行各批次（见 {@link #setBatchQueryParallelism(int)}），
+ *       默认批大小可按观测到的耗时自适应调节（见 {@link #setAdaptiveBatchSizer(AdaptiveBatchSizer)}）。</li>
+ *   <li>批量写入：多行 {@code INSERT ... VALUES} 与 {@code ON DUPLICATE KEY UPDATE}，按 {@code max_allowed_packet} 自动分块并记录各分块耗时。</li>
+ *   <li>实体缓存：可选的按主键读穿缓存（见 {@link #setEntityCache(EntityCache)}），写操作后自动失效；
+ *       注意按条件的写操作会清空整个缓存。</li>
+ *   <li>异步查询：{@code *Async} 方法返回 {@link CompletableFuture}，在虚拟线程上执行并限制并发（见 {@link #supplyAsync(Supplier)}）。</li>
+ *   <li>读写分离：可选将查询路由到从库（见 {@link #setReadFromReplica(boolean)}），事务中的查询保持使用主库。</li>
+ *   <li>观测：可选记录各便捷方法的耗时、返回行数与慢 SQL 执行计划（见 {@link #setInstrumentation(RepositoryInstrumentation)}）。</li>
+ *   <li>维护操作：列值替换与删除（对 {@code null} 具有特殊语义）；按主键分块删除（见 {@link #removeInChunks(Consumer, int)}），
+ *       以及后台分块清理或归档已逻辑删除的记录（见 {@link #purgeDeletedJob(Duration, int)}）。</li>
  *   <li>辅助：{@code SFunction} → 列名解析、值 → JSON/SQL 字面量转换。</li>
  * </ul>
  *
@@ -71,6 +127,7 @@ import java.util.stream.Collectors;
  *   <li>空集合通常返回空结果；LIKE 系列对空字符串返回空列表/false（避免全表扫描）。</li>
  *   <li>{@code SFunction} 解析依赖 MyBatis-Plus 的 Lambda 缓存与实体元数据，映射缺失将触发内部断言异常。</li>
  *   <li>大批量 in 查询建议合理设置 {@code batchSize}，以适配数据库配置与 SQL 长度限制。</li>
+ *   <li>并行分批查询在事务中自动退化为顺序执行，以保证使用事务绑定的连接。</li>
  * </ul>
  *
  * <p><b>性能与注意事项：</b></p>
@@ -79,7 +136,8 @@ import java.util.stream.Collectors;
  *   <li>LIKE 前缀模糊（likeLeft）相对更易利用索引，全模糊与后缀模糊开销较大。</li>
  * </ul>
  *
- * <p><b>线程安全：</b>仓储本身不持有共享可变业务状态；列缓存按实体类懒加载一次，常规 Spring 单例场景下可安全复用。</p>
+ * <p><b>线程安全：</b>仓储本身不持有共享可变业务状态；列缓存按实体类懒加载一次，常规 Spring 单例场景下可安全复用。
+ * 执行相关配置（如并行度、执行器）应在初始化阶段设置。</p>
  *
  * @author pangju666
  * @see CrudRepository
@@ -92,30 +150,395 @@ public abstract class BaseRepository<M extends BaseMapper<T>, T> extends CrudRep
 	 * <p>示例：column -&gt;&gt; '$.key' = 'value'（文本比较）。</p>
 	 *
 	 * @since 1.0.0
+	 * @deprecated 值直接拼接进 SQL，存在注入风险且每个值都产生不同的 SQL 文本；仓储已改为绑定参数，将在后续版本移除
 	 */
+	@Deprecated(since = "2.2.0")
 	protected static final String JSON_KEY_VALUE_SQL_FORMAT = "%s->>'$.%s' = '%s'";
 	/**
 	 * 生成 JSON 键存在检查 SQL 片段的格式串，使用 {@code JSON_CONTAINS_PATH(..., 'one', '$.key')}。
 	 *
 	 * @since 1.0.0
+	 * @deprecated 仓储已改为校验列名与路径后生成的条件模板，将在后续版本移除
 	 */
+	@Deprecated(since = "2.2.0")
 	protected static final String JSON_KEY_EXIST_SQL_FORMAT = "JSON_CONTAINS_PATH(%s, 'one', '$.%s')";
 	/**
 	 * 生成 JSON 数组包含值检查 SQL 片段的格式串，使用 {@code JSON_CONTAINS(column, 'jsonValue')}。
 	 *
 	 * @since 1.0.0
+	 * @deprecated 同 {@link #JSON_KEY_VALUE_SQL_FORMAT}
 	 */
+	@Deprecated(since = "2.2.0")
 	protected static final String JSON_ARRAY_VALUE_SQL_FORMAT = "JSON_CONTAINS(%s, '%s')";
 	/**
 	 * 生成 JSON 数组交集检查 SQL 片段的格式串，使用 {@code JSON_OVERLAPS(column, 'jsonArray')}（MySQL 8.0.17+）。
 	 *
 	 * @since 1.0.0
+	 * @deprecated 同 {@link #JSON_KEY_VALUE_SQL_FORMAT}
 	 */
+	@Deprecated(since = "2.2.0")
 	protected static final String JSON_ARRAY_VALUES_SQL_FORMAT = "JSON_OVERLAPS(%s, '%s')";
 
+	/**
+	 * 当前线程正在以自适应批大小执行分批查询的仓储。
+	 *
+	 * @since 2.2.0
+	 */
+	private static final ThreadLocal<Object> ADAPTIVE_BATCH_OWNER = new ThreadLocal<>();
+
 	private Map<String, ColumnCache> columnMap = null;
 	private boolean initColumnMap = false;
 
+	/**
+	 * 分批查询的执行器，为 {@code null} 时使用默认执行器（优先虚拟线程）。
+	 *
+	 * @since 2.2.0
+	 */
+	private Executor batchQueryExecutor = null;
+	/**
+	 * 分批查询的最大并行批次数，为 1 时按顺序执行。
+	 *
+	 * @since 2.2.0
+	 */
+	private int batchQueryParallelism = 1;
+	/**
+	 * 分批查询的并发许可，限制同时执行的批次数，避免耗尽连接池。
+	 *
+	 * @since 2.2.0
+	 */
+	private Semaphore batchQueryPermits = null;
+	/**
+	 * 按主键读穿的实体缓存，为 {@code null} 时不使用缓存。
+	 *
+	 * @since 2.2.0
+	 */
+	private EntityCache<T> entityCache = null;
+	/**
+	 * 批量写入单条 SQL 的最大字节数，为 0 时从数据库读取 {@code max_allowed_packet}。
+	 *
+	 * @since 2.2.0
+	 */
+	private volatile long bulkMaxPacketBytes = 0;
+	/**
+	 * 批量写入器，懒加载。
+	 *
+	 * @since 2.2.0
+	 */
+	private volatile BulkWriter<T> bulkWriter = null;
+	/**
+	 * JSON 列索引顾问，为 {@code null} 时不记录也不改写 JSON 查询。
+	 *
+	 * @since 2.2.0
+	 */
+	private JsonIndexAdvisor jsonIndexAdvisor = null;
+	/**
+	 * 仓储方法观测实现，为 {@code null} 时不记录。
+	 *
+	 * @since 2.2.0
+	 */
+	private RepositoryInstrumentation instrumentation = null;
+	/**
+	 * 是否将查询路由到从库。
+	 *
+	 * @since 2.2.0
+	 */
+	private boolean readFromReplica = false;
+	/**
+	 * 将查询路由到从库的 Mapper 代理，懒加载。
+	 *
+	 * @since 2.2.0
+	 */
+	private volatile M replicaRoutingMapper = null;
+	/**
+	 * 异步查询的执行器，为 {@code null} 时使用默认执行器（优先虚拟线程）。
+	 *
+	 * @since 2.2.0
+	 */
+	private Executor asyncExecutor = null;
+	/**
+	 * 异步查询的并发许可，为 {@code null} 时使用仓储数据源的默认许可。
+	 *
+	 * @since 2.2.0
+	 */
+	private Semaphore asyncPermits = null;
+	/**
+	 * 仓储数据源的默认异步查询并发许可，懒加载。
+	 *
+	 * @since 2.2.0
+	 */
+	private volatile Semaphore defaultAsyncPermits = null;
+	/**
+	 * 数据库是否支持行构造器 {@code IN}，为 {@code null} 时在首次多列查询时检测。
+	 *
+	 * @since 2.2.0
+	 */
+	private volatile Boolean rowConstructorInSupported = null;
+	/**
+	 * 自适应批大小调节器，为 {@code null} 时使用固定的默认批大小。
+	 *
+	 * @since 2.2.0
+	 */
+	private volatile AdaptiveBatchSizer adaptiveBatchSizer = null;
+
+	/**
+	 * 获取分批查询的最大并行批次数。
+	 *
+	 * @return 最大并行批次数，为 1 时表示按顺序执行
+	 * @since 2.2.0
+	 */
+	public int getBatchQueryParallelism() {
+		return batchQueryParallelism;
+	}
+
+	/**
+	 * 设置分批查询的最大并行批次数（默认为 1，即按顺序执行）。
+	 *
+	 * <p>大于 1 时开启并行模式：{@link #listByIds(Collection, int)}、{@link #listByColumnValues(SFunction, Collection, int)}
+	 * 等分批方法会在执行器上并行执行各批次，同一仓储同时执行的批次数不超过该值，合并结果保持输入的批次顺序。</p>
+	 * <p>建议结合连接池大小设置，并为其它查询预留连接。</p>
+	 *
+	 * @param parallelism 最大并行批次数，必须大于 0
+	 * @throws IllegalArgumentException 当 {@code parallelism} 小于等于 0
+	 * @since 2.2.0
+	 */
+	public void setBatchQueryParallelism(int parallelism) {
+		Assert.isTrue(parallelism > 0, "parallelism 必须大于0");
+		this.batchQueryParallelism = parallelism;
+		this.batchQueryPermits = parallelism > 1 ? new Semaphore(parallelism) : null;
+	}
+
+	/**
+	 * 设置分批查询的执行器。
+	 *
+	 * <p>仅在并行模式下使用；为 {@code null} 时使用默认执行器（JDK 21+ 使用虚拟线程，否则使用守护线程池）。</p>
+	 *
+	 * @param executor 执行器，可为 {@code null}
+	 * @since 2.2.0
+	 */
+	public void setBatchQueryExecutor(@Nullable Executor executor) {
+		this.batchQueryExecutor = executor;
+	}
+
+	/**
+	 * 获取实体缓存。
+	 *
+	 * @return 实体缓存，未设置时返回 {@code null}
+	 * @since 2.2.0
+	 */
+	public @Nullable EntityCache<T> getEntityCache() {
+		return entityCache;
+	}
+
+	/**
+	 * 设置按主键读穿的实体缓存（默认不使用缓存）。
+	 *
+	 * <p>设置后 {@link #getById(Serializable)}、{@link #listByIds(Collection, int)} 及 {@link #existsById(Serializable)}
+	 * 优先读取缓存，未命中的主键合并为一次（分批）in 查询后回填缓存；事务中只读取不回填，避免缓存未提交的数据。</p>
+	 * <p>经由仓储方法执行的写操作会在执行后失效缓存：按主键/实体的写操作失效对应主键，按条件的写操作
+	 * （如 {@link #update(Wrapper)}、{@link #removeByColumnValue(SFunction, Object)}）清空缓存；
+	 * 处于事务中时在事务结束后再次失效。直接通过 Mapper 或 {@link #lambdaUpdate()} 执行的写操作不会失效缓存。</p>
+	 * <p><b>注意：</b>按条件的写操作无法得知受影响的主键，每次执行都会清空整个缓存（{@link EntityCache#clear()}），
+	 * 之后的按主键查询全部回源数据库。频繁执行按条件写操作的仓储命中率会很低，此时应优先使用按主键/实体的写操作，
+	 * 或不为该仓储设置缓存。</p>
+	 * <p>缓存返回的实体可能被多个调用方共享，调用方不应修改缓存返回的实体。</p>
+	 *
+	 * @param entityCache 实体缓存，为 {@code null} 时关闭缓存
+	 * @since 2.2.0
+	 */
+	public void setEntityCache(@Nullable EntityCache<T> entityCache) {
+		this.entityCache = entityCache;
+	}
+
+	/**
+	 * 设置批量写入单条 SQL 的最大字节数。
+	 *
+	 * <p>默认（为 0 时）在首次批量写入时读取数据库的 {@code max_allowed_packet}，读取失败时使用 4MB。
+	 * 实际分块会为协议头与估算误差预留 20% 的空间。</p>
+	 *
+	 * @param maxPacketBytes 最大字节数，必须大于等于 0
+	 * @throws IllegalArgumentException 当 {@code maxPacketBytes} 小于 0
+	 * @since 2.2.0
+	 */
+	public void setBulkMaxPacketBytes(long maxPacketBytes) {
+		Assert.isTrue(maxPacketBytes >= 0, "maxPacketBytes 必须大于等于0");
+		this.bulkMaxPacketBytes = maxPacketBytes;
+	}
+
+	/**
+	 * 获取 JSON 列索引顾问。
+	 *
+	 * @return JSON 列索引顾问，未设置时返回 {@code null}
+	 * @since 2.2.0
+	 */
+	public @Nullable JsonIndexAdvisor getJsonIndexAdvisor() {
+		return jsonIndexAdvisor;
+	}
+
+	/**
+	 * 设置 JSON 列索引顾问（默认不设置）。
+	 *
+	 * <p>设置后，键存在、键值匹配、数组包含与数组交集查询会记录到顾问中，可通过 {@link JsonIndexAdvisor#getSuggestions()}
+	 * 获取生成列/多值索引的 DDL 建议；顾问开启改写后，已登记生成列的键查询改为查询生成列，已登记多值索引的数组查询改为
+	 * 多值索引可识别的 {@code column->'$'} 形式。顾问可在多个仓储间共享。</p>
+	 *
+	 * @param jsonIndexAdvisor JSON 列索引顾问，为 {@code null} 时关闭
+	 * @since 2.2.0
+	 */
+	public void setJsonIndexAdvisor(@Nullable JsonIndexAdvisor jsonIndexAdvisor) {
+		this.jsonIndexAdvisor = jsonIndexAdvisor;
+	}
+
+	/**
+	 * 获取仓储方法观测实现。
+	 *
+	 * @return 观测实现，未设置时返回 {@code null}
+	 * @since 2.2.0
+	 */
+	public @Nullable RepositoryInstrumentation getInstrumentation() {
+		return instrumentation;
+	}
+
+	/**
+	 * 设置仓储方法观测实现（默认不设置）。
+	 *
+	 * <p>设置后，便捷查询/写入方法（{@code list*}、{@code exists*}、{@code getByColumnValue}、JSON 查询、
+	 * {@code removeByColumn*}、{@code bulkInsert}/{@code bulkUpsert}、{@code forEachBatch*}、{@code pageByKeyset} 等）
+	 * 每次调用以实体类名与方法名（重载方法共用同一名称）记录耗时、返回行数与异常；调用期间执行的 SQL 会标记发起的方法，
+	 * 配合 {@link io.github.pangju666.framework.data.mybatisplus.metrics.SlowStatementInterceptor SlowStatementInterceptor}
+	 * 可定位慢 SQL 及其执行计划来自哪个方法。惰性的 {@code stream*} 方法不计时，其 SQL 仍会标记。</p>
+	 *
+	 * @param instrumentation 观测实现，为 {@code null} 时关闭
+	 * @since 2.2.0
+	 */
+	public void setInstrumentation(@Nullable RepositoryInstrumentation instrumentation) {
+		this.instrumentation = instrumentation;
+	}
+
+	/**
+	 * 设置异步查询（{@code *Async} 方法）的执行器。
+	 *
+	 * @param executor 执行器，为 {@code null} 时使用默认执行器（JDK 21+ 使用虚拟线程，否则使用守护线程池）
+	 * @since 2.2.0
+	 */
+	public void setAsyncExecutor(@Nullable Executor executor) {
+		this.asyncExecutor = executor;
+	}
+
+	/**
+	 * 设置异步查询（{@code *Async} 方法）的并发许可。
+	 *
+	 * <p>每个异步查询在执行线程上获取一个许可，结束后释放，用于限制同时占用的数据库连接数。</p>
+	 * <p>未设置时使用仓储数据源（{@link SqlSessionFactory} 配置的数据源）的默认许可：访问同一数据源的仓储共享，
+	 * 许可数为连接池最大连接数的一半（至少为 1，通过反射读取 HikariCP、Druid、Tomcat JDBC 或 DBCP2 的配置，包装的数据源会逐层解开），
+	 * 其余连接留给同步查询与事务；无法获取连接池大小时按 10 个连接（HikariCP 的默认连接池大小）计算为 5 个许可，
+	 * 无法获取数据源时每个仓储单独使用 5 个许可。需要调整预留比例或在多个数据源间统一限流时，
+	 * 可按需创建 {@link Semaphore} 并在相关仓储间共享。</p>
+	 *
+	 * @param permits 并发许可，为 {@code null} 时使用默认许可
+	 * @since 2.2.0
+	 */
+	public void setAsyncPermits(@Nullable Semaphore permits) {
+		this.asyncPermits = permits;
+	}
+
+	/**
+	 * 获取自适应批大小调节器。
+	 *
+	 * @return 调节器，未设置时返回 {@code null}
+	 * @since 2.2.0
+	 */
+	public @Nullable AdaptiveBatchSizer getAdaptiveBatchSizer() {
+		return adaptiveBatchSizer;
+	}
+
+	/**
+	 * 设置自适应批大小调节器（默认不设置，使用固定的 {@code DEFAULT_BATCH_SIZE}）。
+	 *
+	 * <p>设置后，未显式指定批大小的分批查询（{@link #listByIds(Collection)}、{@link #listByColumnValues(SFunction, Collection)}、
+	 * {@link #existingIds(Collection)}、{@link #missingIds(Collection)}、{@code listByColumnTuples} 及对应的 {@code *Async} 方法）
+	 * 使用调节器给出的批大小，并将各批次的耗时与返回行数反馈给调节器；顺序执行时同一次调用内的后续批次即使用调节后的批大小。
+	 * 显式传入 {@code batchSize} 的调用保持固定批大小。开启观测时，批大小变化通过
+	 * {@link RepositoryInstrumentation#recordBatchSize(String, int)} 上报。</p>
+	 * <p>调节器记录的是本仓储的表与键类型的特征，不应在仓储间共享。</p>
+	 *
+	 * @param sizer 调节器，为 {@code null} 时关闭自适应
+	 * @since 2.2.0
+	 */
+	public void setAdaptiveBatchSizer(@Nullable AdaptiveBatchSizer sizer) {
+		this.adaptiveBatchSizer = sizer;
+	}
+
+	/**
+	 * 设置数据库是否支持行构造器 {@code (a, b) IN ((?, ?), ...)}（默认自动检测）。
+	 *
+	 * <p>影响 {@link #listByColumnTuples(SFunction, SFunction, Collection, int)} 等多列查询生成的 SQL：支持时使用行构造器，
+	 * 否则使用可移植的 {@code (a = ? AND b = ?) OR ...} 形式。自动检测根据连接的数据库产品名判断
+	 * （MySQL、MariaDB、PostgreSQL、Oracle、H2、HSQLDB、DB2、SQLite、OceanBase 视为支持）。</p>
+	 *
+	 * @param supported 是否支持，为 {@code null} 时自动检测
+	 * @since 2.2.0
+	 */
+	public void setRowConstructorInSupported(@Nullable Boolean supported) {
+		this.rowConstructorInSupported = supported;
+	}
+
+	/**
+	 * 是否将查询路由到从库。
+	 *
+	 * @return 开启时返回 {@code true}
+	 * @since 2.2.0
+	 */
+	public boolean isReadFromReplica() {
+		return readFromReplica;
+	}
+
+	/**
+	 * 设置是否将查询路由到从库（默认关闭）。
+	 *
+	 * <p>开启后，{@link #getBaseMapper()} 返回 Mapper 代理：{@link BaseMapper} 的查询方法（{@code select*}、{@code exists}）
+	 * 在调用期间绑定 {@link DataSourceRoute#REPLICA} 路由，因此 {@code list*}、{@code exists*}、{@code get*}、{@code count}、
+	 * {@code page} 及基于 {@link #lambdaQuery()} 的查询都会从从库读取；写操作与自定义 Mapper 方法仍使用主库。</p>
+	 * <p>需配合 {@link ReadWriteRoutingDataSource} 使用，否则路由不生效。处于读写事务中的查询复用事务连接（主库）；
+	 * 需要读取刚写入的数据时，可使用 {@link DataSourceRouting#callOnPrimary(Supplier)} 强制读主库。</p>
+	 *
+	 * @param readFromReplica 是否开启
+	 * @since 2.2.0
+	 */
+	public void setReadFromReplica(boolean readFromReplica) {
+		this.readFromReplica = readFromReplica;
+	}
+
+	/**
+	 * 获取 Mapper；开启从库读取时返回路由查询方法的代理（见 {@link #setReadFromReplica(boolean)}）。
+	 *
+	 * @return Mapper
+	 * @since 2.2.0
+	 */
+	@Override
+	public M getBaseMapper() {
+		M mapper = super.getBaseMapper();
+		if (!readFromReplica) {
+			return mapper;
+		}
+		M routingMapper = this.replicaRoutingMapper;
+		if (Objects.isNull(routingMapper) || !ReplicaRoutingMapper.isWrapperOf(routingMapper, mapper)) {
+			routingMapper = ReplicaRoutingMapper.wrap(mapper, this::isReplicaQuery);
+			this.replicaRoutingMapper = routingMapper;
+		}
+		return routingMapper;
+	}
+
+	/**
+	 * 判断 Mapper 方法是否为可路由到从库的查询。
+	 *
+	 * @param method Mapper 方法
+	 * @return 默认仅 {@link BaseMapper} 声明的 {@code select*} 与 {@code exists} 方法返回 {@code true}
+	 * @since 2.2.0
+	 */
+	protected boolean isReplicaQuery(Method method) {
+		return ReplicaRoutingMapper.BASE_MAPPER_QUERIES.test(method);
+	}
+
 	/**
 	 * 查询指定 JSON 列为“空对象 {}”或列值为 {@code null} 的记录。
 	 *
@@ -130,11 +553,11 @@ public abstract class BaseRepository<M extends BaseMapper<T>, T> extends CrudRep
 	public <V> List<T> listByColumnEmptyJsonObject(SFunction<T, V> column) {
 		Assert.notNull(column, "column 不可为null");
 
-		return lambdaQuery()
+		return instrument("listByColumnEmptyJsonObject", () -> lambdaQuery()
 			.isNull(column)
 			.or()
 			.like(column, Constants.EMPTY_JSON_OBJECT_STR)
-			.list();
+			.list());
 	}
 
 	/**
@@ -151,11 +574,11 @@ public abstract class BaseRepository<M extends BaseMapper<T>, T> extends CrudRep
 	public <V> List<T> listByColumnEmptyJsonArray(SFunction<T, V> column) {
 		Assert.notNull(column, "column 不可为null");
 
-		return lambdaQuery()
+		return instrument("listByColumnEmptyJsonArray", () -> lambdaQuery()
 			.isNull(column)
 			.or()
 			.like(column, Constants.EMPTY_JSON_ARRAY_STR)
-			.list();
+			.list());
 	}
 
 	/**
@@ -193,6 +616,25 @@ public abstract class BaseRepository<M extends BaseMapper<T>, T> extends CrudRep
 		return listByColumnJsonKeyValue(columnToString(column), key, value);
 	}
 
+	/**
+	 * 查询指定 JSON 列中某键的值等于给定值集合中任意值的记录。
+	 *
+	 * <p>依赖 MySQL 5.7.13+，采用 {@code column->>'$.key' IN (?, ?, ...)} 的文本比较形式。</p>
+	 *
+	 * @param column JSON 列的 Lambda 引用
+	 * @param key    目标键
+	 * @param values 目标值集合（为空时返回空列表）
+	 * @return 键值匹配的实体列表
+	 * @throws IllegalArgumentException 当 {@code column} 为 null 或 {@code key} 为空白
+	 * @see #listByColumnJsonKeyValues(String, String, Collection)
+	 * @since 2.2.0
+	 */
+	public List<T> listByColumnJsonKeyValues(SFunction<T, ?> column, String key, Collection<?> values) {
+		Assert.notNull(column, "column 不可为null");
+		Assert.hasText(key, "key 不可为空");
+		return listByColumnJsonKeyValues(columnToString(column), key, values);
+	}
+
 	/**
 	 * 查询指定 JSON 数组列包含某个值的记录。
 	 *
@@ -229,87 +671,126 @@ public abstract class BaseRepository<M extends BaseMapper<T>, T> extends CrudRep
 	 * 检查指定列的 JSON 路径（键）是否存在。
 	 *
 	 * @param column 列名（物理列名）
-	 * @param key    目标键
+	 * @param key    目标键，支持以 {@code .} 分隔的嵌套键与数组下标（如 {@code a.b[0]}）
 	 * @return 包含该键的实体列表
-	 * @throws IllegalArgumentException 当 {@code column} 或 {@code key} 为空白
+	 * @throws IllegalArgumentException 当 {@code column} 或 {@code key} 为空白或不是合法的列名/路径
 	 * @since 1.0.0
 	 */
 	public List<T> listByColumnJsonKey(String column, String key) {
 		Assert.hasText(column, "column 不可为空");
 		Assert.hasText(key, "key 不可为空");
 
-		return lambdaQuery()
-			.apply(JSON_KEY_EXIST_SQL_FORMAT.formatted(column, key))
-			.list();
+		return instrument("listByColumnJsonKey", () -> lambdaQuery()
+			.apply(jsonKeyExistsSql(column, key))
+			.list());
 	}
 
 	/**
 	 * 检查指定列的某个 JSON 键值与给定值相等。
 	 *
+	 * <p>值以预编译参数绑定，同一列/键的查询共用一条 SQL 文本。</p>
+	 *
 	 * @param column 列名（物理列名）
-	 * @param key    目标键
+	 * @param key    目标键，支持以 {@code .} 分隔的嵌套键与数组下标（如 {@code a.b[0]}）
 	 * @param value  目标值
 	 * @return 键值匹配的实体列表
-	 * @throws IllegalArgumentException 当 {@code column} 或 {@code key} 为空白
+	 * @throws IllegalArgumentException 当 {@code column} 或 {@code key} 为空白或不是合法的列名/路径
 	 * @since 1.0.0
 	 */
 	public List<T> listByColumnJsonKeyValue(String column, String key, Object value) {
 		Assert.hasText(column, "column 不可为空");
 		Assert.hasText(key, "key 不可为空");
 
-		String sqlValue;
-		if (Objects.isNull(value)) {
-			sqlValue = "null";
-		} else if (value instanceof Number number) {
-			sqlValue = number.toString();
-		} else if (value instanceof String string) {
-			sqlValue = string;
-		} else if (value instanceof Boolean bool) {
-			sqlValue = bool.toString();
-		} else {
-			sqlValue = JsonUtils.toString(value);
+		return instrument("listByColumnJsonKeyValue", () -> {
+			String sql = JsonPredicates.keyValueEquals(column, key);
+			String generatedColumn = resolveJsonGeneratedColumn(column, key, JsonQueryType.KEY_VALUE, value);
+			if (Objects.nonNull(generatedColumn)) {
+				sql = JsonPredicates.generatedColumnEquals(generatedColumn);
+			}
+			return lambdaQuery()
+				.apply(sql, JsonPredicates.toText(value))
+				.list();
+		});
+	}
+
+	/**
+	 * 检查指定列的某个 JSON 键值等于给定值集合中的任意值，一次往返匹配多个值。
+	 *
+	 * <p>值以预编译参数绑定，按默认批大小（{@code DEFAULT_BATCH_SIZE}）分批执行。每批的参数个数向上取整到 2 的幂
+	 * （不足部分重复最后一个值），使不同数量的值集合只产生少量固定的 SQL 文本，保证预编译语句缓存的命中率。</p>
+	 *
+	 * @param column 列名（物理列名）
+	 * @param key    目标键，支持以 {@code .} 分隔的嵌套键与数组下标（如 {@code a.b[0]}）
+	 * @param values 目标值集合（为空时返回空列表），值的转换规则同 {@link #listByColumnJsonKeyValue(String, String, Object)}
+	 * @return 键值匹配的实体列表
+	 * @throws IllegalArgumentException 当 {@code column} 或 {@code key} 为空白或不是合法的列名/路径
+	 * @since 2.2.0
+	 */
+	public List<T> listByColumnJsonKeyValues(String column, String key, Collection<?> values) {
+		Assert.hasText(column, "column 不可为空");
+		Assert.hasText(key, "key 不可为空");
+
+		if (CollectionUtils.isEmpty(values)) {
+			return Collections.emptyList();
 		}
-		return lambdaQuery()
-			.apply(JSON_KEY_VALUE_SQL_FORMAT.formatted(column, key, sqlValue))
-			.list();
+
+		return instrument("listByColumnJsonKeyValues", () -> {
+			// 记录到顾问前先校验列名与键
+			JsonPredicates.keyValueEquals(column, key);
+			String generatedColumn = resolveJsonGeneratedColumn(column, key, JsonQueryType.KEY_VALUE, values);
+			List<String> textValues = values.stream()
+				.map(JsonPredicates::toText)
+				.distinct()
+				.toList();
+			return listByBatches(textValues, DEFAULT_BATCH_SIZE, part -> {
+				int size = Math.min(Integer.highestOneBit(part.size() - 1) << 1, DEFAULT_BATCH_SIZE);
+				size = Math.max(size, part.size());
+				Object[] params = new Object[size];
+				for (int i = 0; i < size; i++) {
+					params[i] = part.get(Math.min(i, part.size() - 1));
+				}
+				return lambdaQuery()
+					.apply(Objects.nonNull(generatedColumn) ? JsonPredicates.generatedColumnIn(generatedColumn, size) :
+						JsonPredicates.keyValueIn(column, key, size), params)
+					.list();
+			});
+		});
 	}
 
 	/**
 	 * 检查指定列（JSON 数组）是否包含某个值。
 	 *
+	 * <p>值序列化为 JSON 后以预编译参数绑定，同一列的查询共用一条 SQL 文本。</p>
+	 *
 	 * @param column 列名（物理列名）
 	 * @param value  目标值
 	 * @return 包含该值的实体列表
-	 * @throws IllegalArgumentException 当 {@code column} 为空白
+	 * @throws IllegalArgumentException 当 {@code column} 为空白或不是合法的列名
 	 * @since 1.0.0
 	 */
 	public List<T> listByColumnJsonArrayValue(String column, Object value) {
 		Assert.hasText(column, "column 不可为空");
 
-		String sqlValue;
-		if (Objects.isNull(value)) {
-			sqlValue = "null";
-		} else if (value instanceof Number number) {
-			sqlValue = number.toString();
-		} else if (value instanceof String string) {
-			sqlValue = "\"" + string + "\"";
-		} else if (value instanceof Boolean bool) {
-			sqlValue = bool.toString();
-		} else {
-			sqlValue = JsonUtils.toString(value);
-		}
-		return lambdaQuery()
-			.apply(JSON_ARRAY_VALUE_SQL_FORMAT.formatted(column, sqlValue))
-			.list();
+		return instrument("listByColumnJsonArrayValue", () -> {
+			String sql = JsonPredicates.arrayContains(column);
+			if (resolveJsonMultiValuedIndex(column, JsonQueryType.ARRAY_CONTAINS, value)) {
+				sql = JsonPredicates.indexedArrayContains(column);
+			}
+			return lambdaQuery()
+				.apply(sql, JsonPredicates.toJson(value))
+				.list();
+		});
 	}
 
 	/**
 	 * 检查指定列（JSON 数组）与给定值集合是否存在交集。
 	 *
+	 * <p>值集合序列化为 JSON 数组后以预编译参数绑定，同一列的查询共用一条 SQL 文本。</p>
+	 *
 	 * @param column 列名（物理列名）
 	 * @param values 值集合（为空时返回空列表）
 	 * @return 与集合存在交集的实体列表
-	 * @throws IllegalArgumentException 当 {@code column} 为空白
+	 * @throws IllegalArgumentException 当 {@code column} 为空白或不是合法的列名
 	 * @since 1.0.0
 	 */
 	public List<T> listByColumnJsonArrayValues(String column, Collection<?> values) {
@@ -319,20 +800,69 @@ public abstract class BaseRepository<M extends BaseMapper<T>, T> extends CrudRep
 			return Collections.emptyList();
 		}
 
-		return lambdaQuery()
-			.apply(JSON_ARRAY_VALUES_SQL_FORMAT.formatted(column, JsonUtils.toString(values)))
-			.list();
+		return instrument("listByColumnJsonArrayValues", () -> {
+			String sql = JsonPredicates.arrayOverlaps(column);
+			if (resolveJsonMultiValuedIndex(column, JsonQueryType.ARRAY_OVERLAPS, values)) {
+				sql = JsonPredicates.indexedArrayOverlaps(column);
+			}
+			return lambdaQuery()
+				.apply(sql, JsonUtils.toString(values))
+				.list();
+		});
+	}
+
+	/**
+	 * 根据主键查询。
+	 *
+	 * <p>设置实体缓存（{@link #setEntityCache(EntityCache)}）后优先读取缓存，未命中时查询数据库并回填缓存。</p>
+	 *
+	 * @param id 主键值
+	 * @return 实体，不存在时返回 {@code null}
+	 * @since 2.2.0
+	 */
+	@Override
+	public T getById(Serializable id) {
+		EntityCache<T> cache = this.entityCache;
+		if (Objects.isNull(cache) || Objects.isNull(id)) {
+			return super.getById(id);
+		}
+
+		String key = String.valueOf(id);
+		T entity = cache.get(key);
+		if (Objects.isNull(entity)) {
+			entity = super.getById(id);
+			if (Objects.nonNull(entity) && !RepositoryExecutors.isTransactionActive()) {
+				cache.put(key, entity);
+			}
+		}
+		return entity;
 	}
 
 	/**
 	 * 根据主键判断记录是否存在。
 	 *
+	 * <p>仅查询主键列（{@code SELECT id ... LIMIT 1}），只访问主键索引而不加载整行；设置实体缓存后缓存命中时不访问数据库。</p>
+	 *
 	 * @param id 主键值
-	 * @return 存在返回 {@code true}，否则 {@code false}
+	 * @return 存在返回 {@code true}，否则 {@code false}；{@code id} 为 {@code null} 时返回 {@code false}
 	 * @since 1.0.0
 	 */
 	public boolean existsById(Serializable id) {
-		return Objects.nonNull(getById(id));
+		if (Objects.isNull(id)) {
+			return false;
+		}
+
+		return instrument("existsById", () -> {
+			EntityCache<T> cache = this.entityCache;
+			if (Objects.nonNull(cache) && Objects.nonNull(cache.get(String.valueOf(id)))) {
+				return true;
+			}
+			String keyColumn = getKeyTableInfo().getKeyColumn();
+			return !getBaseMapper().selectObjs(Wrappers.<T>query()
+				.select(keyColumn)
+				.eq(keyColumn, id)
+				.last("LIMIT 1")).isEmpty();
+		});
 	}
 
 	/**
@@ -340,10 +870,83 @@ public abstract class BaseRepository<M extends BaseMapper<T>, T> extends CrudRep
 	 *
 	 * @param id 主键值
 	 * @return 不存在返回 {@code true}，否则 {@code false}
+	 * @see #existsById(Serializable)
 	 * @since 1.0.0
 	 */
 	public boolean notExistsById(Serializable id) {
-		return Objects.isNull(getById(id));
+		return !existsById(id);
+	}
+
+	/**
+	 * 判断主键集合对应的记录是否全部存在，使用默认批大小（{@code DEFAULT_BATCH_SIZE}，设置自适应调节器时由调节器决定）。
+	 *
+	 * @param ids 主键集合
+	 * @param <V> 主键类型
+	 * @return 全部存在返回 {@code true}；集合为空时返回 {@code true}
+	 * @see #missingIds(Collection, int)
+	 * @since 2.2.0
+	 */
+	public <V extends Serializable> boolean existsByIds(Collection<V> ids) {
+		return withDefaultBatchSize(batchSize -> missingIds(ids, batchSize)).isEmpty();
+	}
+
+	/**
+	 * 查询主键集合中存在的主键，使用默认批大小（{@code DEFAULT_BATCH_SIZE}，设置自适应调节器时由调节器决定）。
+	 *
+	 * @param ids 主键集合
+	 * @param <V> 主键类型
+	 * @return 存在的主键集合
+	 * @see #existingIds(Collection, int)
+	 * @since 2.2.0
+	 */
+	public <V extends Serializable> Set<V> existingIds(Collection<V> ids) {
+		return withDefaultBatchSize(batchSize -> existingIds(ids, batchSize));
+	}
+
+	/**
+	 * 查询主键集合中存在的主键。
+	 *
+	 * <p>仅查询主键列（{@code SELECT id ... WHERE id IN (...)}），按批大小分批执行；设置实体缓存后缓存命中的主键不再查询。
+	 * 主键按字符串形式（{@link String#valueOf(Object)}）匹配，因此入参类型与实体主键类型不同（如 {@code Integer} 与 {@code Long}）时也能正确匹配。</p>
+	 *
+	 * @param ids       主键集合，{@code null} 元素会被忽略
+	 * @param batchSize 批大小，必须大于 0
+	 * @param <V>       主键类型
+	 * @return 存在的主键集合，按入参顺序排列；集合为空时返回空集合
+	 * @throws IllegalArgumentException 当 {@code batchSize} 小于等于 0
+	 * @since 2.2.0
+	 */
+	public <V extends Serializable> Set<V> existingIds(Collection<V> ids, int batchSize) {
+		return instrument("existingIds", () -> partitionIdsByExistence(ids, batchSize, true));
+	}
+
+	/**
+	 * 查询主键集合中不存在的主键，使用默认批大小（{@code DEFAULT_BATCH_SIZE}，设置自适应调节器时由调节器决定）。
+	 *
+	 * @param ids 主键集合
+	 * @param <V> 主键类型
+	 * @return 不存在的主键集合
+	 * @see #missingIds(Collection, int)
+	 * @since 2.2.0
+	 */
+	public <V extends Serializable> Set<V> missingIds(Collection<V> ids) {
+		return withDefaultBatchSize(batchSize -> missingIds(ids, batchSize));
+	}
+
+	/**
+	 * 查询主键集合中不存在的主键。
+	 *
+	 * <p>查询方式同 {@link #existingIds(Collection, int)}，适用于批量校验主键的场景。</p>
+	 *
+	 * @param ids       主键集合，{@code null} 元素会被忽略
+	 * @param batchSize 批大小，必须大于 0
+	 * @param <V>       主键类型
+	 * @return 不存在的主键集合，按入参顺序排列；集合为空时返回空集合
+	 * @throws IllegalArgumentException 当 {@code batchSize} 小于等于 0
+	 * @since 2.2.0
+	 */
+	public <V extends Serializable> Set<V> missingIds(Collection<V> ids, int batchSize) {
+		return instrument("missingIds", () -> partitionIdsByExistence(ids, batchSize, false));
 	}
 
 	/**
@@ -361,14 +964,16 @@ public abstract class BaseRepository<M extends BaseMapper<T>, T> extends CrudRep
 	public <V> boolean existsByColumnValue(SFunction<T, V> column, @Nullable V value) {
 		Assert.notNull(column, "column 不可为null");
 
-		if (Objects.isNull(value)) {
+		return instrument("existsByColumnValue", () -> {
+			if (Objects.isNull(value)) {
+				return lambdaQuery()
+					.isNull(column)
+					.exists();
+			}
 			return lambdaQuery()
-				.isNull(column)
+				.eq(column, value)
 				.exists();
-		}
-		return lambdaQuery()
-			.eq(column, value)
-			.exists();
+		});
 	}
 
 	/**
@@ -386,14 +991,138 @@ public abstract class BaseRepository<M extends BaseMapper<T>, T> extends CrudRep
 	public <V> boolean notExistsByColumnValue(SFunction<T, V> column, @Nullable V value) {
 		Assert.notNull(column, "column 不可为null");
 
-		if (Objects.isNull(value)) {
-			return lambdaQuery()
-				.isNotNull(column)
+		return instrument("notExistsByColumnValue", () -> {
+			if (Objects.isNull(value)) {
+				return lambdaQuery()
+					.isNotNull(column)
+					.exists();
+			}
+			return !lambdaQuery()
+				.eq(column, value)
 				.exists();
+		});
+	}
+
+	/**
+	 * 使用多行 {@code INSERT} 批量插入，使用默认批大小（{@code DEFAULT_BATCH_SIZE}）。
+	 *
+	 * @param entities 实体集合
+	 * @return 写入结果
+	 * @see #bulkInsert(Collection, int)
+	 * @since 2.2.0
+	 */
+	public BulkWriteResult bulkInsert(Collection<T> entities) {
+		return bulkInsert(entities, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * 使用多行 {@code INSERT INTO ... VALUES (...),(...)} 批量插入。
+	 *
+	 * <p>与逐行执行的 {@link #saveBatch(Collection, int)} 不同，每个分块只执行一条 SQL；分块同时受批大小、
+	 * 单条语句 65535 个占位符以及 {@code max_allowed_packet}（见 {@link #setBulkMaxPacketBytes(long)}）限制。</p>
+	 * <p>写入前按 MyBatis-Plus 的约定处理实体：生成 {@code ASSIGN_ID}/{@code ASSIGN_UUID} 主键、执行
+	 * {@code MetaObjectHandler#insertFill}（如 {@link io.github.pangju666.framework.data.mybatisplus.model.entity.BaseEntity BaseEntity}
+	 * 的创建/更新时间）、乐观锁版本号为 {@code null} 时设置为 1；自增主键的分块执行后回填主键。</p>
+	 * <p>各分块在调用方的事务中执行，未处于事务中时每个分块单独提交。</p>
+	 *
+	 * @param entities  实体集合
+	 * @param batchSize 每个分块的最大行数，必须大于 0
+	 * @return 写入结果，包含各分块的行数与耗时；集合为空时返回空结果
+	 * @throws IllegalArgumentException 当 {@code batchSize} 小于等于 0
+	 * @since 2.2.0
+	 */
+	public BulkWriteResult bulkInsert(Collection<T> entities, int batchSize) {
+		return bulkWrite(entities, batchSize, false);
+	}
+
+	/**
+	 * 使用多行 {@code INSERT ... ON DUPLICATE KEY UPDATE} 批量插入或更新，使用默认批大小（{@code DEFAULT_BATCH_SIZE}）。
+	 *
+	 * @param entities 实体集合
+	 * @return 写入结果
+	 * @see #bulkUpsert(Collection, int)
+	 * @since 2.2.0
+	 */
+	public BulkWriteResult bulkUpsert(Collection<T> entities) {
+		return bulkUpsert(entities, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * 使用多行 {@code INSERT ... ON DUPLICATE KEY UPDATE} 批量插入或更新（仅支持 MySQL）。
+	 *
+	 * <p>分块与实体处理方式同 {@link #bulkInsert(Collection, int)}。主键或唯一键冲突时更新其余列：</p>
+	 * <ul>
+	 *   <li>仅插入时填充的列（{@code FieldFill.INSERT}，如创建时间）与 {@code updateStrategy = NEVER} 的列不更新。</li>
+	 *   <li>声明了 {@code @TableField(update = ...)} 的列使用该表达式更新（如更新时间 {@code CURRENT_TIMESTAMP}）。</li>
+	 *   <li>乐观锁版本号更新为 {@code version + 1}。</li>
+	 * </ul>
+	 * <p>执行后失效相关主键的实体缓存；存在未指定主键的实体时清空缓存。</p>
+	 *
+	 * @param entities  实体集合
+	 * @param batchSize 每个分块的最大行数，必须大于 0
+	 * @return 写入结果，包含各分块的行数、影响行数与耗时；集合为空时返回空结果
+	 * @throws IllegalArgumentException 当 {@code batchSize} 小于等于 0
+	 * @since 2.2.0
+	 */
+	public BulkWriteResult bulkUpsert(Collection<T> entities, int batchSize) {
+		EntityCache<T> cache = this.entityCache;
+		if (Objects.isNull(cache) || CollectionUtils.isEmpty(entities)) {
+			return bulkWrite(entities, batchSize, true);
+		}
+		try {
+			return bulkWrite(entities, batchSize, true);
+		} finally {
+			TableInfo tableInfo = getKeyTableInfo();
+			boolean allKeyed = entities.stream()
+				.allMatch(entity -> Objects.nonNull(tableInfo.getPropertyValue(entity, tableInfo.getKeyProperty())));
+			if (allKeyed) {
+				evictEntityCache(entities);
+			} else {
+				cache.clear();
+				RepositoryExecutors.runAfterCompletion(cache::clear);
+			}
+		}
+	}
+
+	/**
+	 * 执行批量写入：获取当前 {@link SqlSession} 绑定的连接（处于 Spring 事务中时为事务连接），交由批量写入器分块执行。
+	 *
+	 * @param entities  实体集合
+	 * @param batchSize 每个分块的最大行数
+	 * @param upsert    是否使用 {@code ON DUPLICATE KEY UPDATE}
+	 * @return 写入结果
+	 * @since 2.2.0
+	 */
+	protected BulkWriteResult bulkWrite(Collection<T> entities, int batchSize, boolean upsert) {
+		Assert.isTrue(batchSize > 0, "batchSize 必须大于0");
+
+		if (CollectionUtils.isEmpty(entities)) {
+			return new BulkWriteResult(0, 0, Collections.emptyList());
 		}
-		return !lambdaQuery()
-			.eq(column, value)
-			.exists();
+
+		return instrument(upsert ? "bulkUpsert" : "bulkInsert", () -> {
+			BulkWriter<T> writer = this.bulkWriter;
+			if (Objects.isNull(writer)) {
+				TableInfo tableInfo = TableInfoHelper.getTableInfo(getEntityClass());
+				Assert.notNull(tableInfo, "无法获取实体 [" + getEntityClass().getName() + "] 的表信息");
+				writer = new BulkWriter<>(tableInfo);
+				this.bulkWriter = writer;
+			}
+
+			SqlSessionFactory sqlSessionFactory = GlobalConfigUtils.currentSessionFactory(getEntityClass());
+			SqlSession sqlSession = SqlSessionUtils.getSqlSession(sqlSessionFactory);
+			try {
+				long maxPacketBytes = this.bulkMaxPacketBytes;
+				if (maxPacketBytes == 0) {
+					maxPacketBytes = BulkWriter.detectMaxPacketBytes(sqlSession.getConnection());
+					this.bulkMaxPacketBytes = maxPacketBytes;
+				}
+				List<T> entityList = entities instanceof List<T> list ? list : new ArrayList<>(entities);
+				return writer.write(sqlSession.getConnection(), entityList, upsert, batchSize, maxPacketBytes);
+			} finally {
+				SqlSessionUtils.closeSqlSession(sqlSession, sqlSessionFactory);
+			}
+		});
 	}
 
 	/**
@@ -407,7 +1136,8 @@ public abstract class BaseRepository<M extends BaseMapper<T>, T> extends CrudRep
 	 */
 	public <V> List<V> listColumnValue(SFunction<T, V> column) {
 		Assert.notNull(column, "column 不可为null");
-		return EntityUtils.getFieldValueList(lambdaQuery().select(column).list(), column);
+
+		return instrument("listColumnValue", () -> EntityUtils.getFieldValueList(lambdaQuery().select(column).list(), column));
 	}
 
 	/**
@@ -421,7 +1151,8 @@ public abstract class BaseRepository<M extends BaseMapper<T>, T> extends CrudRep
 	 */
 	public <V> List<V> listUniqueColumnValue(SFunction<T, V> column) {
 		Assert.notNull(column, "column 不可为null");
-		return EntityUtils.getUniqueFieldValueList(lambdaQuery().select(column).list(), column);
+
+		return instrument("listUniqueColumnValue", () -> EntityUtils.getUniqueFieldValueList(lambdaQuery().select(column).list(), column));
 	}
 
 	/**
@@ -439,10 +1170,12 @@ public abstract class BaseRepository<M extends BaseMapper<T>, T> extends CrudRep
 	public <V> T getByColumnValue(SFunction<T, V> column, V value) {
 		Assert.notNull(column, "column 不可为null");
 
-		if (Objects.isNull(value)) {
-			return lambdaQuery().isNull(column).one();
-		}
-		return lambdaQuery().eq(column, value).one();
+		return instrument("getByColumnValue", () -> {
+			if (Objects.isNull(value)) {
+				return lambdaQuery().isNull(column).one();
+			}
+			return lambdaQuery().eq(column, value).one();
+		});
 	}
 
 	/**
@@ -460,10 +1193,12 @@ public abstract class BaseRepository<M extends BaseMapper<T>, T> extends CrudRep
 	public <V> Optional<T> getOptByColumnValue(SFunction<T, V> column, V value) {
 		Assert.notNull(column, "column 不可为null");
 
-		if (Objects.isNull(value)) {
-			return Optional.ofNullable(lambdaQuery().isNull(column).one());
-		}
-		return Optional.ofNullable(lambdaQuery().eq(column, value).one());
+		return instrument("getOptByColumnValue", () -> {
+			if (Objects.isNull(value)) {
+				return Optional.ofNullable(lambdaQuery().isNull(column).one());
+			}
+			return Optional.ofNullable(lambdaQuery().eq(column, value).one());
+		});
 	}
 
 	/**
@@ -481,18 +1216,20 @@ public abstract class BaseRepository<M extends BaseMapper<T>, T> extends CrudRep
 	public <V> List<T> listByColumnValue(SFunction<T, V> column, V value) {
 		Assert.notNull(column, "column 不可为null");
 
-		if (Objects.isNull(value)) {
+		return instrument("listByColumnValue", () -> {
+			if (Objects.isNull(value)) {
+				return lambdaQuery()
+					.isNull(column)
+					.list();
+			}
 			return lambdaQuery()
-				.isNull(column)
+				.eq(column, value)
 				.list();
-		}
-		return lambdaQuery()
-			.eq(column, value)
-			.list();
+		});
 	}
 
 	/**
-	 * 根据主键集合查询，使用默认批大小（{@code DEFAULT_BATCH_SIZE}）。
+	 * 根据主键集合查询，使用默认批大小（{@code DEFAULT_BATCH_SIZE}，设置自适应调节器时由调节器决定）。
 	 *
 	 * @param ids 主键集合
 	 * @return 匹配的实体列表
@@ -501,12 +1238,15 @@ public abstract class BaseRepository<M extends BaseMapper<T>, T> extends CrudRep
 	 */
 	@Override
 	public List<T> listByIds(Collection<? extends Serializable> ids) {
-		return listByIds(ids, DEFAULT_BATCH_SIZE);
+		return withDefaultBatchSize(batchSize -> listByIds(ids, batchSize));
 	}
 
 	/**
 	 * 根据主键集合查询，支持分批执行以降低单条 SQL 的 in 列表长度。
 	 *
+	 * <p>开启并行模式（{@link #setBatchQueryParallelism(int)}）后各批次并行执行，结果仍按批次顺序合并。</p>
+	 * <p>设置实体缓存（{@link #setEntityCache(EntityCache)}）后仅查询缓存未命中的主键，结果按主键入参顺序返回（重复主键只返回一次）。</p>
+	 *
 	 * @param ids       主键集合
 	 * @param batchSize 批大小，必须大于 0；当集合大小不超过批大小时直接使用 MyBatis-Plus 的批量查询
 	 * @param <V>       主键类型（需为 {@link Serializable}）
@@ -521,18 +1261,20 @@ public abstract class BaseRepository<M extends BaseMapper<T>, T> extends CrudRep
 			return Collections.emptyList();
 		}
 
-		if (ids.size() <= batchSize) {
-			return super.listByIds(ids);
-		}
-		return ListUtils.partition(ids instanceof List<V> list ? list : List.copyOf(ids), batchSize)
-			.stream()
-			.map(super::listByIds)
-			.flatMap(List::stream)
-			.collect(Collectors.toList());
+		return instrument("listByIds", () -> {
+			EntityCache<T> cache = this.entityCache;
+			if (Objects.nonNull(cache)) {
+				return listByIdsThroughCache(cache, ids, batchSize);
+			}
+			if (ids.size() <= batchSize) {
+				return querySingleBatch(ids.size(), () -> super.listByIds(ids));
+			}
+			return listByBatches(ids, batchSize, super::listByIds);
+		});
 	}
 
 	/**
-	 * 根据列值集合查询，使用默认批大小（{@code DEFAULT_BATCH_SIZE}）。
+	 * 根据列值集合查询，使用默认批大小（{@code DEFAULT_BATCH_SIZE}，设置自适应调节器时由调节器决定）。
 	 *
 	 * @param column 列的 Lambda 引用
 	 * @param values 列值集合
@@ -542,12 +1284,14 @@ public abstract class BaseRepository<M extends BaseMapper<T>, T> extends CrudRep
 	 * @since 1.0.0
 	 */
 	public <V> List<T> listByColumnValues(SFunction<T, V> column, Collection<V> values) {
-		return listByColumnValues(column, values, DEFAULT_BATCH_SIZE);
+		return withDefaultBatchSize(batchSize -> listByColumnValues(column, values, batchSize));
 	}
 
 	/**
 	 * 根据列值集合查询，支持分批执行以降低单条 SQL 的 in 列表长度。
 	 *
+	 * <p>开启并行模式（{@link #setBatchQueryParallelism(int)}）后各批次并行执行，结果仍按批次顺序合并。</p>
+	 *
 	 * @param column    列的 Lambda 引用
 	 * @param values    列值集合
 	 * @param batchSize 批大小，必须大于 0
@@ -564,18 +1308,16 @@ public abstract class BaseRepository<M extends BaseMapper<T>, T> extends CrudRep
 			return Collections.emptyList();
 		}
 
-		if (values.size() <= batchSize) {
-			return lambdaQuery().in(column, values).list();
-		}
-		return ListUtils.partition(values instanceof List<V> list ? list : List.copyOf(values), batchSize)
-			.stream()
-			.map(part -> lambdaQuery().in(column, part).list())
-			.flatMap(List::stream)
-			.collect(Collectors.toList());
+		return instrument("listByColumnValues", () -> {
+			if (values.size() <= batchSize) {
+				return querySingleBatch(values.size(), () -> lambdaQuery().in(column, values).list());
+			}
+			return listByBatches(values, batchSize, part -> lambdaQuery().in(column, part).list());
+		});
 	}
 
 	/**
-	 * 根据列值集合查询（自定义查询来源），使用默认批大小（{@code DEFAULT_BATCH_SIZE}）。
+	 * 根据列值集合查询（自定义查询来源），使用默认批大小（{@code DEFAULT_BATCH_SIZE}，设置自适应调节器时由调节器决定）。
 	 *
 	 * @param column   列的 Lambda 引用
 	 * @param values   列值集合
@@ -587,12 +1329,14 @@ public abstract class BaseRepository<M extends BaseMapper<T>, T> extends CrudRep
 	 */
 	public <V> List<T> listByColumnValues(SFunction<T, V> column, Collection<V> values,
 										  Supplier<LambdaQueryChainWrapper<T>> supplier) {
-		return listByColumnValues(column, values, DEFAULT_BATCH_SIZE, supplier);
+		return withDefaultBatchSize(batchSize -> listByColumnValues(column, values, batchSize, supplier));
 	}
 
 	/**
 	 * 根据列值集合查询（自定义查询来源），支持分批执行以降低单条 SQL 的 in 列表长度。
 	 *
+	 * <p>并行模式下 {@code supplier} 会在执行器线程中调用，需保证其线程安全。</p>
+	 *
 	 * @param column    列的 Lambda 引用
 	 * @param values    列值集合
 	 * @param batchSize 批大小，必须大于 0
@@ -612,14 +1356,120 @@ public abstract class BaseRepository<M extends BaseMapper<T>, T> extends CrudRep
 			return Collections.emptyList();
 		}
 
-		if (values.size() <= batchSize) {
-			return supplier.get().in(column, values).list();
+		return instrument("listByColumnValues", () -> {
+			if (values.size() <= batchSize) {
+				return querySingleBatch(values.size(), () -> supplier.get().in(column, values).list());
+			}
+			return listByBatches(values, batchSize, part -> supplier.get().in(column, part).list());
+		});
+	}
+
+	/**
+	 * 根据两列的值组合（复合键）查询，使用默认批大小（{@code DEFAULT_BATCH_SIZE}，设置自适应调节器时由调节器决定）。
+	 *
+	 * @param column1 第一列的 Lambda 引用
+	 * @param column2 第二列的 Lambda 引用
+	 * @param tuples  值组合集合
+	 * @param <A>     第一列的值类型
+	 * @param <B>     第二列的值类型
+	 * @return 匹配的实体列表；当集合为空时返回空列表
+	 * @see #listByColumnTuples(SFunction, SFunction, Collection, int)
+	 * @since 2.2.0
+	 */
+	public <A, B> List<T> listByColumnTuples(SFunction<T, A> column1, SFunction<T, B> column2,
+											 Collection<? extends Pair<A, B>> tuples) {
+		return withDefaultBatchSize(batchSize -> listByColumnTuples(column1, column2, tuples, batchSize));
+	}
+
+	/**
+	 * 根据两列的值组合（复合键）查询，支持分批执行。
+	 *
+	 * <p>每批生成一条 {@code (c1, c2) IN ((?, ?), (?, ?), ...)} 查询（数据库不支持行构造器时使用
+	 * {@code (c1 = ? AND c2 = ?) OR ...}，见 {@link #setRowConstructorInSupported(Boolean)}），值以预编译参数绑定。
+	 * 每批的元组个数向上取整到 2 的幂（不足部分重复最后一个元组），保证预编译语句缓存的命中率。
+	 * 包含 {@code null} 的元组不会匹配任何记录（与 SQL 比较语义一致），重复的元组只查询一次。</p>
+	 * <p>开启并行模式（{@link #setBatchQueryParallelism(int)}）后各批次并行执行，结果仍按批次顺序合并。</p>
+	 *
+	 * @param column1   第一列的 Lambda 引用
+	 * @param column2   第二列的 Lambda 引用
+	 * @param tuples    值组合集合
+	 * @param batchSize 批大小（每批的元组个数），必须大于 0
+	 * @param <A>       第一列的值类型
+	 * @param <B>       第二列的值类型
+	 * @return 匹配的实体列表；当集合为空时返回空列表
+	 * @throws IllegalArgumentException 当列为 null 或 {@code batchSize} 小于等于 0
+	 * @since 2.2.0
+	 */
+	public <A, B> List<T> listByColumnTuples(SFunction<T, A> column1, SFunction<T, B> column2,
+											 Collection<? extends Pair<A, B>> tuples, int batchSize) {
+		Assert.notNull(column1, "column1 不可为null");
+		Assert.notNull(column2, "column2 不可为null");
+		Assert.isTrue(batchSize > 0, "batchSize 必须大于0");
+
+		if (CollectionUtils.isEmpty(tuples)) {
+			return Collections.emptyList();
+		}
+
+		return instrument("listByColumnTuples", () -> listByColumnTuples(
+			List.of(columnToString(column1), columnToString(column2)),
+			tuples.stream()
+				.filter(Objects::nonNull)
+				.map(tuple -> Arrays.asList(tuple.getLeft(), tuple.getRight())),
+			batchSize));
+	}
+
+	/**
+	 * 根据三列的值组合（复合键）查询，使用默认批大小（{@code DEFAULT_BATCH_SIZE}，设置自适应调节器时由调节器决定）。
+	 *
+	 * @param column1 第一列的 Lambda 引用
+	 * @param column2 第二列的 Lambda 引用
+	 * @param column3 第三列的 Lambda 引用
+	 * @param tuples  值组合集合
+	 * @param <A>     第一列的值类型
+	 * @param <B>     第二列的值类型
+	 * @param <C>     第三列的值类型
+	 * @return 匹配的实体列表；当集合为空时返回空列表
+	 * @see #listByColumnTuples(SFunction, SFunction, SFunction, Collection, int)
+	 * @since 2.2.0
+	 */
+	public <A, B, C> List<T> listByColumnTuples(SFunction<T, A> column1, SFunction<T, B> column2,
+												SFunction<T, C> column3, Collection<? extends Triple<A, B, C>> tuples) {
+		return withDefaultBatchSize(batchSize -> listByColumnTuples(column1, column2, column3, tuples, batchSize));
+	}
+
+	/**
+	 * 根据三列的值组合（复合键）查询，支持分批执行（SQL 形式与执行策略同 {@link #listByColumnTuples(SFunction, SFunction, Collection, int)}）。
+	 *
+	 * @param column1   第一列的 Lambda 引用
+	 * @param column2   第二列的 Lambda 引用
+	 * @param column3   第三列的 Lambda 引用
+	 * @param tuples    值组合集合
+	 * @param batchSize 批大小（每批的元组个数），必须大于 0
+	 * @param <A>       第一列的值类型
+	 * @param <B>       第二列的值类型
+	 * @param <C>       第三列的值类型
+	 * @return 匹配的实体列表；当集合为空时返回空列表
+	 * @throws IllegalArgumentException 当列为 null 或 {@code batchSize} 小于等于 0
+	 * @since 2.2.0
+	 */
+	public <A, B, C> List<T> listByColumnTuples(SFunction<T, A> column1, SFunction<T, B> column2,
+												SFunction<T, C> column3, Collection<? extends Triple<A, B, C>> tuples,
+												int batchSize) {
+		Assert.notNull(column1, "column1 不可为null");
+		Assert.notNull(column2, "column2 不可为null");
+		Assert.notNull(column3, "column3 不可为null");
+		Assert.isTrue(batchSize > 0, "batchSize 必须大于0");
+
+		if (CollectionUtils.isEmpty(tuples)) {
+			return Collections.emptyList();
 		}
-		return ListUtils.partition(values instanceof List<V> list ? list : List.copyOf(values), batchSize)
-			.stream()
-			.map(part -> supplier.get().in(column, part).list())
-			.flatMap(List::stream)
-			.collect(Collectors.toList());
+
+		return instrument("listByColumnTuples", () -> listByColumnTuples(
+			List.of(columnToString(column1), columnToString(column2), columnToString(column3)),
+			tuples.stream()
+				.filter(Objects::nonNull)
+				.map(tuple -> Arrays.asList(tuple.getLeft(), tuple.getMiddle(), tuple.getRight())),
+			batchSize));
 	}
 
 	/**
@@ -631,7 +1481,7 @@ public abstract class BaseRepository<M extends BaseMapper<T>, T> extends CrudRep
 	 * @since 1.0.0
 	 */
 	public <V> List<T> listByColumnNotNull(SFunction<T, V> column) {
-		return lambdaQuery().isNotNull(column).list();
+		return instrument("listByColumnNotNull", () -> lambdaQuery().isNotNull(column).list());
 	}
 
 	/**
@@ -643,323 +1493,1923 @@ public abstract class BaseRepository<M extends BaseMapper<T>, T> extends CrudRep
 	 * @since 1.0.0
 	 */
 	public <V> List<T> listByColumnNull(SFunction<T, V> column) {
-		return lambdaQuery().isNull(column).list();
+		return instrument("listByColumnNull", () -> lambdaQuery().isNull(column).list());
 	}
 
 	/**
-	 * 使用 LIKE 模式匹配列值。
+	 * 异步执行查询。
 	 *
-	 * @param column 字符串列的 Lambda 引用
-	 * @param value  匹配值；为空字符串或 {@code null} 时返回空列表
-	 * @return 匹配的实体列表
-	 * @throws IllegalArgumentException 当 {@code column} 为 null
-	 * @since 1.0.0
+	 * <p>查询在异步执行器（默认优先使用虚拟线程，见 {@link #setAsyncExecutor(Executor)}）上执行，执行前获取并发许可
+	 * （见 {@link #setAsyncPermits(Semaphore)}），并传递调用线程的 MDC、数据源路由与观测上下文。返回的 future 可使用
+	 * {@link CompletableFuture#thenCombine}、{@link CompletableFuture#allOf} 等组合。</p>
+	 * <p>异步查询不参与调用线程的事务：当前线程处于事务中时，查询在当前线程同步执行（使用事务连接），返回已完成的 future。</p>
+	 *
+	 * @param query 查询
+	 * @param <R>   结果类型
+	 * @return 查询结果的 future；查询抛出的异常以异常完成的方式传递
+	 * @throws IllegalArgumentException 当 {@code query} 为 null
+	 * @since 2.2.0
 	 */
-	public List<T> listByColumnLikeColumn(SFunction<T, String> column, String value) {
-		Assert.notNull(column, "column 不可为null");
-
-		if (StringUtils.isEmpty(value)) {
-			return Collections.emptyList();
+	public <R> CompletableFuture<R> supplyAsync(Supplier<R> query) {
+		Assert.notNull(query, "query 不可为null");
+
+		if (RepositoryExecutors.isTransactionActive()) {
+			try {
+				return CompletableFuture.completedFuture(query.get());
+			} catch (RuntimeException e) {
+				return CompletableFuture.failedFuture(e);
+			}
 		}
-		return lambdaQuery()
-			.like(column, value)
-			.list();
+
+		Semaphore permits = Objects.nonNull(asyncPermits) ? asyncPermits : getDefaultAsyncPermits();
+		Executor executor = Objects.nonNull(asyncExecutor) ? asyncExecutor : RepositoryExecutors.getDefaultExecutor();
+		Supplier<R> task = RepositoryExecutors.propagateContext(query);
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				permits.acquire();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("异步查询被中断", e);
+			}
+			try {
+				return task.get();
+			} finally {
+				permits.release();
+			}
+		}, executor);
 	}
 
 	/**
-	 * 使用 LIKE LEFT 模式匹配（右侧模糊）。
+	 * {@link #getById(Serializable)} 的异步版本（执行方式见 {@link #supplyAsync(Supplier)}）。
 	 *
-	 * @param column 字符串列的 Lambda 引用
-	 * @param value  匹配值；为空字符串或 {@code null} 时返回空列表
-	 * @return 匹配的实体列表
-	 * @throws IllegalArgumentException 当 {@code column} 为 null
-	 * @since 1.0.0
+	 * @param id 主键
+	 * @return 实体的 future，未找到时结果为 {@code null}
+	 * @since 2.2.0
 	 */
-	public List<T> listByColumnLikeLeft(SFunction<T, String> column, String value) {
-		Assert.notNull(column, "column 不可为null");
-
-		if (StringUtils.isEmpty(value)) {
-			return Collections.emptyList();
-		}
-		return lambdaQuery()
-			.likeLeft(column, value)
-			.list();
+	public CompletableFuture<T> getByIdAsync(Serializable id) {
+		return supplyAsync(() -> getById(id));
 	}
 
 	/**
-	 * 使用 LIKE RIGHT 模式匹配（左侧模糊）。
+	 * {@link #listByIds(Collection, int)} 的异步版本，使用默认批大小（执行方式见 {@link #supplyAsync(Supplier)}）。
 	 *
-	 * @param column 字符串列的 Lambda 引用
-	 * @param value  匹配值；为空字符串或 {@code null} 时返回空列表
-	 * @return 匹配的实体列表
-	 * @throws IllegalArgumentException 当 {@code column} 为 null
-	 * @since 1.0.0
+	 * @param ids 主键集合
+	 * @param <V> 主键类型
+	 * @return 实体列表的 future
+	 * @since 2.2.0
 	 */
-	public List<T> listByColumnLikeRight(SFunction<T, String> column, String value) {
-		Assert.notNull(column, "column 不可为null");
-
-		if (StringUtils.isEmpty(value)) {
-			return Collections.emptyList();
-		}
-		return lambdaQuery()
-			.likeRight(column, value)
-			.list();
+	public <V extends Serializable> CompletableFuture<List<T>> listByIdsAsync(Collection<V> ids) {
+		return supplyAsync(() -> listByIds(ids));
 	}
 
 	/**
-	 * 使用 NOT LIKE 模式匹配列值。
+	 * {@link #existsById(Serializable)} 的异步版本（执行方式见 {@link #supplyAsync(Supplier)}）。
 	 *
-	 * @param column 字符串列的 Lambda 引用
-	 * @param value  匹配值；为空字符串或 {@code null} 时返回空列表
-	 * @return 匹配的实体列表
-	 * @throws IllegalArgumentException 当 {@code column} 为 null
-	 * @since 1.0.0
+	 * @param id 主键
+	 * @return 是否存在的 future
+	 * @since 2.2.0
 	 */
-	public List<T> listByColumnNotLike(SFunction<T, String> column, String value) {
-		Assert.notNull(column, "column 不可为null");
-
-		if (StringUtils.isEmpty(value)) {
-			return Collections.emptyList();
-		}
-		return lambdaQuery()
-			.notLike(column, value)
-			.list();
+	public CompletableFuture<Boolean> existsByIdAsync(Serializable id) {
+		return supplyAsync(() -> existsById(id));
 	}
 
 	/**
-	 * 使用 NOT LIKE LEFT 模式匹配（左侧模糊）。
+	 * {@link #existsByColumnValue(SFunction, Object)} 的异步版本（执行方式见 {@link #supplyAsync(Supplier)}）。
 	 *
-	 * @param column 字符串列的 Lambda 引用
-	 * @param value  匹配值；为空字符串或 {@code null} 时返回空列表
-	 * @return 匹配的实体列表
-	 * @throws IllegalArgumentException 当 {@code column} 为 null
-	 * @since 1.0.0
+	 * @param column 列的 Lambda 引用
+	 * @param value  目标值，可为 {@code null}
+	 * @param <V>    列值类型
+	 * @return 是否存在的 future
+	 * @since 2.2.0
 	 */
-	public List<T> listByColumnNotLikeLeft(SFunction<T, String> column, String value) {
-		Assert.notNull(column, "column 不可为null");
-
-		if (StringUtils.isEmpty(value)) {
-			return Collections.emptyList();
-		}
-		return lambdaQuery()
-			.notLikeLeft(column, value)
-			.list();
+	public <V> CompletableFuture<Boolean> existsByColumnValueAsync(SFunction<T, V> column, @Nullable V value) {
+		return supplyAsync(() -> existsByColumnValue(column, value));
 	}
 
 	/**
-	 * 使用 NOT LIKE RIGHT 模式匹配（右侧模糊）。
+	 * {@link #getByColumnValue(SFunction, Object)} 的异步版本（执行方式见 {@link #supplyAsync(Supplier)}）。
 	 *
-	 * @param column 字符串列的 Lambda 引用
-	 * @param value  匹配值；为空字符串或 {@code null} 时返回空列表
-	 * @return 匹配的实体列表
-	 * @throws IllegalArgumentException 当 {@code column} 为 null
-	 * @since 1.0.0
+	 * @param column 列的 Lambda 引用
+	 * @param value  目标值，可为 {@code null}
+	 * @param <V>    列值类型
+	 * @return 实体的 future，未匹配时结果为 {@code null}
+	 * @since 2.2.0
 	 */
-	public List<T> listByColumnNotLikeRight(SFunction<T, String> column, String value) {
-		Assert.notNull(column, "column 不可为null");
-
-		if (StringUtils.isEmpty(value)) {
-			return Collections.emptyList();
-		}
-		return lambdaQuery()
-			.notLikeRight(column, value)
-			.list();
+	public <V> CompletableFuture<T> getByColumnValueAsync(SFunction<T, V> column, V value) {
+		return supplyAsync(() -> getByColumnValue(column, value));
 	}
 
 	/**
-	 * 替换指定列的值。
-	 *
-	 * <p>当 {@code oldValue} 为 {@code null} 时，更新列为 {@code IS NULL} 的记录；否则更新列值等于 {@code oldValue} 的记录。</p>
+	 * {@link #getOptByColumnValue(SFunction, Object)} 的异步版本（执行方式见 {@link #supplyAsync(Supplier)}）。
 	 *
-	 * @param column   列的 Lambda 引用
-	 * @param newValue 新值
-	 * @param oldValue 旧值，可为 {@code null}
-	 * @param <V>      列值类型
-	 * @return 是否更新成功
-	 * @throws IllegalArgumentException 当 {@code column} 为 null
-	 * @since 1.0.0
+	 * @param column 列的 Lambda 引用
+	 * @param value  目标值，可为 {@code null}
+	 * @param <V>    列值类型
+	 * @return 实体 Optional 的 future
+	 * @since 2.2.0
 	 */
-	public <V> boolean replaceColumnValue(SFunction<T, V> column, V newValue, V oldValue) {
-		Assert.notNull(column, "column 不可为null");
-
-		if (Objects.isNull(oldValue)) {
-			return lambdaUpdate()
-				.set(column, newValue)
-				.isNull(column)
-				.update();
-		} else {
-			return lambdaUpdate()
-				.set(column, newValue)
-				.eq(column, oldValue)
-				.update();
-		}
+	public <V> CompletableFuture<Optional<T>> getOptByColumnValueAsync(SFunction<T, V> column, V value) {
+		return supplyAsync(() -> getOptByColumnValue(column, value));
 	}
 
 	/**
-	 * 根据列值删除记录。
-	 *
-	 * <p>当 {@code value} 为 {@code null} 时删除列为 {@code IS NULL} 的记录；否则删除列值等于 {@code value} 的记录。</p>
+	 * {@link #listByColumnValue(SFunction, Object)} 的异步版本（执行方式见 {@link #supplyAsync(Supplier)}）。
 	 *
 	 * @param column 列的 Lambda 引用
 	 * @param value  目标值，可为 {@code null}
 	 * @param <V>    列值类型
-	 * @return 是否删除成功
-	 * @throws IllegalArgumentException 当 {@code column} 为 null
-	 * @since 1.0.0
+	 * @return 实体列表的 future
+	 * @since 2.2.0
 	 */
-	public <V> boolean removeByColumnValue(SFunction<T, V> column, V value) {
-		Assert.notNull(column, "column 不可为null");
-
-		if (Objects.isNull(value)) {
-			return lambdaUpdate()
-				.isNull(column)
-				.remove();
-		}
-		return lambdaUpdate()
-			.eq(column, value)
-			.remove();
+	public <V> CompletableFuture<List<T>> listByColumnValueAsync(SFunction<T, V> column, V value) {
+		return supplyAsync(() -> listByColumnValue(column, value));
 	}
 
 	/**
-	 * 根据列值集合删除记录。
+	 * {@link #listByColumnValues(SFunction, Collection, int)} 的异步版本，使用默认批大小（执行方式见 {@link #supplyAsync(Supplier)}）。
 	 *
 	 * @param column 列的 Lambda 引用
-	 * @param values 列值集合；为空集合时直接返回 {@code false}
+	 * @param values 列值集合
 	 * @param <V>    列值类型
-	 * @return 是否删除成功
-	 * @throws IllegalArgumentException 当 {@code column} 为 null
-	 * @since 1.0.0
+	 * @return 实体列表的 future
+	 * @since 2.2.0
 	 */
-	public <V> boolean removeByColumnValues(SFunction<T, V> column, Collection<V> values) {
-		Assert.notNull(column, "column 不可为null");
-
-		if (CollectionUtils.isEmpty(values)) {
-			return false;
-		}
-
-		return lambdaUpdate()
-			.in(column, values)
-			.remove();
+	public <V> CompletableFuture<List<T>> listByColumnValuesAsync(SFunction<T, V> column, Collection<V> values) {
+		return supplyAsync(() -> listByColumnValues(column, values));
 	}
 
 	/**
-	 * 使用 LIKE 模式根据列值删除记录。
+	 * {@link #list(Wrapper)} 的异步版本（执行方式见 {@link #supplyAsync(Supplier)}）。
 	 *
-	 * @param column 字符串列的 Lambda 引用
-	 * @param value  匹配值；为空字符串或 {@code null} 时直接返回 {@code false}
-	 * @return 是否删除成功
-	 * @throws IllegalArgumentException 当 {@code column} 为 null
-	 * @since 1.0.0
+	 * @param queryWrapper 查询条件
+	 * @return 实体列表的 future
+	 * @since 2.2.0
 	 */
-	public boolean removeByColumnLike(SFunction<T, String> column, String value) {
-		Assert.notNull(column, "column 不可为null");
-
-		if (StringUtils.isEmpty(value)) {
-			return false;
-		}
-		return lambdaUpdate()
-			.like(column, value)
-			.remove();
+	public CompletableFuture<List<T>> listAsync(Wrapper<T> queryWrapper) {
+		return supplyAsync(() -> list(queryWrapper));
 	}
 
 	/**
-	 * 使用 NOT LIKE 模式根据列值删除记录。
+	 * {@link #count(Wrapper)} 的异步版本（执行方式见 {@link #supplyAsync(Supplier)}）。
 	 *
-	 * @param column 字符串列的 Lambda 引用
-	 * @param value  匹配值；为空字符串或 {@code null} 时直接返回 {@code false}
-	 * @return 是否删除成功
-	 * @throws IllegalArgumentException 当 {@code column} 为 null
-	 * @since 1.0.0
+	 * @param queryWrapper 查询条件
+	 * @return 记录数的 future
+	 * @since 2.2.0
 	 */
-	public boolean removeByColumnNotLike(SFunction<T, String> column, String value) {
-		Assert.notNull(column, "column 不可为null");
-
-		if (StringUtils.isEmpty(value)) {
-			return false;
-		}
-		return lambdaUpdate()
-			.notLike(column, value)
-			.remove();
+	public CompletableFuture<Long> countAsync(Wrapper<T> queryWrapper) {
+		return supplyAsync(() -> count(queryWrapper));
 	}
 
 	/**
-	 * 使用 LIKE LEFT 模式（左侧模糊）根据列值删除记录。
+	 * 以流的形式遍历全表记录（按主键升序，基于主键的键集分页）。
 	 *
-	 * @param column 字符串列的 Lambda 引用
+	 * <p>每次仅加载 {@code batchSize} 条记录，消费完当前批次后才查询下一批，因此内存中只驻留有限的窗口。
+	 * 每批均为独立查询，不持有数据库游标，可在事务内外使用。</p>
+	 * <p>返回的流应在使用完毕后关闭（推荐使用 try-with-resources），关闭后不再查询后续批次。</p>
+	 *
+	 * @param batchSize 每批加载的记录数，必须大于 0
+	 * @return 实体流
+	 * @throws IllegalArgumentException 当 {@code batchSize} 小于等于 0
+	 * @throws IllegalStateException    当实体未声明主键
+	 * @since 2.2.0
+	 */
+	public Stream<T> streamAll(int batchSize) {
+		return streamByCondition(null, batchSize);
+	}
+
+	/**
+	 * 以流的形式遍历满足条件的记录（按主键升序，基于主键的键集分页）。
+	 *
+	 * @param condition 查询条件（会以 {@code AND (...)} 形式嵌套），为 {@code null} 时不附加条件；不可设置排序与 {@code last}
+	 * @param batchSize 每批加载的记录数，必须大于 0
+	 * @return 实体流
+	 * @throws IllegalArgumentException 当 {@code batchSize} 小于等于 0
+	 * @throws IllegalStateException    当实体未声明主键
+	 * @see #streamAll(int)
+	 * @since 2.2.0
+	 */
+	public Stream<T> streamByCondition(@Nullable Consumer<LambdaQueryWrapper<T>> condition, int batchSize) {
+		Assert.isTrue(batchSize > 0, "batchSize 必须大于0");
+		return streamByKeyset(condition, null, batchSize);
+	}
+
+	/**
+	 * 以流的形式遍历指定列等于给定值的记录。
+	 *
+	 * <p>当 {@code value} 为 {@code null} 时按 {@code IS NULL} 查询。</p>
+	 *
+	 * @param column    列的 Lambda 引用
+	 * @param value     目标值，可为 {@code null}
+	 * @param batchSize 每批加载的记录数，必须大于 0
+	 * @param <V>       列值类型
+	 * @return 实体流
+	 * @throws IllegalArgumentException 当 {@code column} 为 null 或 {@code batchSize} 小于等于 0
+	 * @see #streamAll(int)
+	 * @since 2.2.0
+	 */
+	public <V> Stream<T> streamByColumnValue(SFunction<T, V> column, @Nullable V value, int batchSize) {
+		Assert.notNull(column, "column 不可为null");
+		if (Objects.isNull(value)) {
+			return streamByCondition(wrapper -> wrapper.isNull(column), batchSize);
+		}
+		return streamByCondition(wrapper -> wrapper.eq(column, value), batchSize);
+	}
+
+	/**
+	 * 以流的形式遍历指定列为 {@code null} 的记录。
+	 *
+	 * @param column    列的 Lambda 引用
+	 * @param batchSize 每批加载的记录数，必须大于 0
+	 * @param <V>       列值类型
+	 * @return 实体流
+	 * @throws IllegalArgumentException 当 {@code column} 为 null 或 {@code batchSize} 小于等于 0
+	 * @see #streamAll(int)
+	 * @since 2.2.0
+	 */
+	public <V> Stream<T> streamByColumnNull(SFunction<T, V> column, int batchSize) {
+		Assert.notNull(column, "column 不可为null");
+		return streamByCondition(wrapper -> wrapper.isNull(column), batchSize);
+	}
+
+	/**
+	 * 以流的形式遍历指定列不为 {@code null} 的记录。
+	 *
+	 * @param column    列的 Lambda 引用
+	 * @param batchSize 每批加载的记录数，必须大于 0
+	 * @param <V>       列值类型
+	 * @return 实体流
+	 * @throws IllegalArgumentException 当 {@code column} 为 null 或 {@code batchSize} 小于等于 0
+	 * @see #streamAll(int)
+	 * @since 2.2.0
+	 */
+	public <V> Stream<T> streamByColumnNotNull(SFunction<T, V> column, int batchSize) {
+		Assert.notNull(column, "column 不可为null");
+		return streamByCondition(wrapper -> wrapper.isNotNull(column), batchSize);
+	}
+
+	/**
+	 * 以流的形式遍历指定 JSON 列中存在给定键（路径）的记录。
+	 *
+	 * <p>依赖 MySQL 5.7.8+ 的 {@code JSON_CONTAINS_PATH(column, 'one', '$.key')}。</p>
+	 *
+	 * @param column    JSON 列的 Lambda 引用
+	 * @param key       要检查的键（JSONPath 中的直接键名）
+	 * @param batchSize 每批加载的记录数，必须大于 0
+	 * @return 实体流
+	 * @throws IllegalArgumentException 当 {@code column} 为 null、{@code key} 为空白或 {@code batchSize} 小于等于 0
+	 * @see #streamAll(int)
+	 * @since 2.2.0
+	 */
+	public Stream<T> streamByColumnJsonKey(SFunction<T, ?> column, String key, int batchSize) {
+		Assert.notNull(column, "column 不可为null");
+		Assert.hasText(key, "key 不可为空");
+		String sql = jsonKeyExistsSql(columnToString(column), key);
+		return streamByCondition(wrapper -> wrapper.apply(sql), batchSize);
+	}
+
+	/**
+	 * 以流的形式遍历某列的值（允许重复，过滤 {@code null}）。
+	 *
+	 * <p>每批仅查询主键与该列，适用于替代大表上的 {@link #listColumnValue(SFunction)}。</p>
+	 *
+	 * @param column    列的 Lambda 引用
+	 * @param batchSize 每批加载的记录数，必须大于 0
+	 * @param <V>       列值类型
+	 * @return 列值流
+	 * @throws IllegalArgumentException 当 {@code column} 为 null 或 {@code batchSize} 小于等于 0
+	 * @see #streamAll(int)
+	 * @since 2.2.0
+	 */
+	public <V> Stream<V> streamColumnValue(SFunction<T, V> column, int batchSize) {
+		Assert.notNull(column, "column 不可为null");
+		Assert.isTrue(batchSize > 0, "batchSize 必须大于0");
+		return streamByKeyset(null, columnToString(column), batchSize)
+			.map(column)
+			.filter(Objects::nonNull);
+	}
+
+	/**
+	 * 按批遍历全表记录（按主键升序，基于主键的键集分页）。
+	 *
+	 * <p>每批查询完成后立即回调 {@code consumer}，回调返回后才查询下一批；批次列表在回调后即可被回收。</p>
+	 *
+	 * @param batchSize 每批加载的记录数，必须大于 0
+	 * @param consumer  批次回调，参数为非空的实体列表
+	 * @return 遍历的记录总数
+	 * @throws IllegalArgumentException 当 {@code consumer} 为 null 或 {@code batchSize} 小于等于 0
+	 * @throws IllegalStateException    当实体未声明主键
+	 * @since 2.2.0
+	 */
+	public long forEachBatch(int batchSize, Consumer<List<T>> consumer) {
+		return forEachBatchByCondition(null, batchSize, consumer);
+	}
+
+	/**
+	 * 按批遍历满足条件的记录（按主键升序，基于主键的键集分页）。
+	 *
+	 * @param condition 查询条件（会以 {@code AND (...)} 形式嵌套），为 {@code null} 时不附加条件；不可设置排序与 {@code last}
+	 * @param batchSize 每批加载的记录数，必须大于 0
+	 * @param consumer  批次回调，参数为非空的实体列表
+	 * @return 遍历的记录总数
+	 * @throws IllegalArgumentException 当 {@code consumer} 为 null 或 {@code batchSize} 小于等于 0
+	 * @throws IllegalStateException    当实体未声明主键
+	 * @see #forEachBatch(int, Consumer)
+	 * @since 2.2.0
+	 */
+	public long forEachBatchByCondition(@Nullable Consumer<LambdaQueryWrapper<T>> condition, int batchSize,
+										Consumer<List<T>> consumer) {
+		Assert.isTrue(batchSize > 0, "batchSize 必须大于0");
+		Assert.notNull(consumer, "consumer 不可为null");
+
+		return instrument("forEachBatch", () -> {
+			long total = 0;
+			Object lastKey = null;
+			List<T> batch;
+			do {
+				batch = listNextKeysetBatch(condition, null, lastKey, batchSize);
+				if (batch.isEmpty()) {
+					break;
+				}
+				total += batch.size();
+				lastKey = getKeyValue(batch.get(batch.size() - 1));
+				consumer.accept(batch);
+			} while (batch.size() == batchSize);
+			return total;
+		});
+	}
+
+	/**
+	 * 按批遍历指定列等于给定值的记录。
+	 *
+	 * <p>当 {@code value} 为 {@code null} 时按 {@code IS NULL} 查询。</p>
+	 *
+	 * @param column    列的 Lambda 引用
+	 * @param value     目标值，可为 {@code null}
+	 * @param batchSize 每批加载的记录数，必须大于 0
+	 * @param consumer  批次回调，参数为非空的实体列表
+	 * @param <V>       列值类型
+	 * @return 遍历的记录总数
+	 * @throws IllegalArgumentException 当 {@code column}、{@code consumer} 为 null 或 {@code batchSize} 小于等于 0
+	 * @see #forEachBatch(int, Consumer)
+	 * @since 2.2.0
+	 */
+	public <V> long forEachBatchByColumnValue(SFunction<T, V> column, @Nullable V value, int batchSize,
+											  Consumer<List<T>> consumer) {
+		Assert.notNull(column, "column 不可为null");
+		if (Objects.isNull(value)) {
+			return forEachBatchByCondition(wrapper -> wrapper.isNull(column), batchSize, consumer);
+		}
+		return forEachBatchByCondition(wrapper -> wrapper.eq(column, value), batchSize, consumer);
+	}
+
+	/**
+	 * 按批遍历指定列为 {@code null} 的记录。
+	 *
+	 * @param column    列的 Lambda 引用
+	 * @param batchSize 每批加载的记录数，必须大于 0
+	 * @param consumer  批次回调，参数为非空的实体列表
+	 * @param <V>       列值类型
+	 * @return 遍历的记录总数
+	 * @throws IllegalArgumentException 当 {@code column}、{@code consumer} 为 null 或 {@code batchSize} 小于等于 0
+	 * @see #forEachBatch(int, Consumer)
+	 * @since 2.2.0
+	 */
+	public <V> long forEachBatchByColumnNull(SFunction<T, V> column, int batchSize, Consumer<List<T>> consumer) {
+		Assert.notNull(column, "column 不可为null");
+		return forEachBatchByCondition(wrapper -> wrapper.isNull(column), batchSize, consumer);
+	}
+
+	/**
+	 * 按批遍历指定列不为 {@code null} 的记录。
+	 *
+	 * @param column    列的 Lambda 引用
+	 * @param batchSize 每批加载的记录数，必须大于 0
+	 * @param consumer  批次回调，参数为非空的实体列表
+	 * @param <V>       列值类型
+	 * @return 遍历的记录总数
+	 * @throws IllegalArgumentException 当 {@code column}、{@code consumer} 为 null 或 {@code batchSize} 小于等于 0
+	 * @see #forEachBatch(int, Consumer)
+	 * @since 2.2.0
+	 */
+	public <V> long forEachBatchByColumnNotNull(SFunction<T, V> column, int batchSize, Consumer<List<T>> consumer) {
+		Assert.notNull(column, "column 不可为null");
+		return forEachBatchByCondition(wrapper -> wrapper.isNotNull(column), batchSize, consumer);
+	}
+
+	/**
+	 * 按批遍历指定 JSON 列中存在给定键（路径）的记录。
+	 *
+	 * <p>依赖 MySQL 5.7.8+ 的 {@code JSON_CONTAINS_PATH(column, 'one', '$.key')}。</p>
+	 *
+	 * @param column    JSON 列的 Lambda 引用
+	 * @param key       要检查的键（JSONPath 中的直接键名）
+	 * @param batchSize 每批加载的记录数，必须大于 0
+	 * @param consumer  批次回调，参数为非空的实体列表
+	 * @return 遍历的记录总数
+	 * @throws IllegalArgumentException 当 {@code column}、{@code consumer} 为 null，{@code key} 为空白或 {@code batchSize} 小于等于 0
+	 * @see #forEachBatch(int, Consumer)
+	 * @since 2.2.0
+	 */
+	public long forEachBatchByColumnJsonKey(SFunction<T, ?> column, String key, int batchSize,
+											Consumer<List<T>> consumer) {
+		Assert.notNull(column, "column 不可为null");
+		Assert.hasText(key, "key 不可为空");
+		String sql = jsonKeyExistsSql(columnToString(column), key);
+		return forEachBatchByCondition(wrapper -> wrapper.apply(sql), batchSize, consumer);
+	}
+
+	/**
+	 * 键集（seek）分页查询，按主键升序排序。
+	 *
+	 * @param token 续页令牌，为 {@code null} 或空白时查询第一页
+	 * @param size  每页记录数，必须大于 0
+	 * @return 分页结果
+	 * @throws IllegalArgumentException 当 {@code size} 小于等于 0 或令牌无效
+	 * @throws IllegalStateException    当实体未声明主键
+	 * @see #pageByKeyset(Consumer, List, boolean, String, int)
+	 * @since 2.2.0
+	 */
+	public KeysetPage<T> pageByKeyset(@Nullable String token, int size) {
+		return pageByKeyset(null, Collections.emptyList(), true, token, size);
+	}
+
+	/**
+	 * 键集（seek）分页查询（附加查询条件），按主键升序排序。
+	 *
+	 * @param condition 查询条件（会以 {@code AND (...)} 形式嵌套），为 {@code null} 时不附加条件；不可设置排序与 {@code last}
+	 * @param token     续页令牌，为 {@code null} 或空白时查询第一页
+	 * @param size      每页记录数，必须大于 0
+	 * @return 分页结果
+	 * @throws IllegalArgumentException 当 {@code size} 小于等于 0 或令牌无效
+	 * @throws IllegalStateException    当实体未声明主键
+	 * @see #pageByKeyset(Consumer, List, boolean, String, int)
+	 * @since 2.2.0
+	 */
+	public KeysetPage<T> pageByKeyset(@Nullable Consumer<LambdaQueryWrapper<T>> condition, @Nullable String token,
+									  int size) {
+		return pageByKeyset(condition, Collections.emptyList(), true, token, size);
+	}
+
+	/**
+	 * 键集（seek）分页查询。
+	 *
+	 * <p>按 {@code sortColumns} 依次排序，并自动追加主键作为最终排序列以保证顺序唯一（例如 {@code create_time, id}）。
+	 * 续页时使用 {@code (c1 > v1) OR (c1 = v1 AND c2 > v2) ...} 形式的定位条件代替 {@code OFFSET}，
+	 * 在 {@code (sortColumns..., id)} 上存在索引时，任意深度的页都只需一次索引定位。</p>
+	 *
+	 * <p>使用约定：</p>
+	 * <ul>
+	 *   <li>排序列值不可为 {@code null}（建议排序列声明为 NOT NULL），否则抛出 {@link IllegalStateException}。</li>
+	 *   <li>令牌与排序列、排序方向绑定，更换排序定义后旧令牌将被拒绝。</li>
+	 *   <li>支持的排序列类型：字符串、数值、布尔、枚举、{@link Date} 与常用 {@code java.time} 类型。</li>
+	 * </ul>
+	 *
+	 * @param condition   查询条件（会以 {@code AND (...)} 形式嵌套），为 {@code null} 时不附加条件；不可设置排序与 {@code last}
+	 * @param sortColumns 排序列（不含主键时自动追加主键），可为空
+	 * @param asc         是否升序（所有排序列使用相同方向）
+	 * @param token       续页令牌，为 {@code null} 或空白时查询第一页
+	 * @param size        每页记录数，必须大于 0
+	 * @return 分页结果
+	 * @throws IllegalArgumentException 当 {@code sortColumns} 为 null、{@code size} 小于等于 0 或令牌无效
+	 * @throws IllegalStateException    当实体未声明主键，或排序列值为 {@code null}
+	 * @since 2.2.0
+	 */
+	public KeysetPage<T> pageByKeyset(@Nullable Consumer<LambdaQueryWrapper<T>> condition,
+									  List<SFunction<T, ?>> sortColumns, boolean asc, @Nullable String token,
+									  int size) {
+		Assert.notNull(sortColumns, "sortColumns 不可为null");
+		Assert.isTrue(size > 0, "size 必须大于0");
+
+		return instrument("pageByKeyset", () -> {
+			TableInfo tableInfo = getKeyTableInfo();
+			String keyColumn = tableInfo.getKeyColumn();
+
+			List<String> columns = new ArrayList<>(sortColumns.size() + 1);
+			List<Class<?>> types = new ArrayList<>(sortColumns.size() + 1);
+			List<Function<T, ?>> getters = new ArrayList<>(sortColumns.size() + 1);
+			for (SFunction<T, ?> sortColumn : sortColumns) {
+				Assert.notNull(sortColumn, "sortColumns 中不可包含null");
+				String column = columnToString(sortColumn);
+				if (column.equals(keyColumn)) {
+					break;
+				}
+				TableFieldInfo fieldInfo = tableInfo.getFieldList().stream()
+					.filter(field -> field.getColumn().equals(column))
+					.findFirst()
+					.orElseThrow(() -> new IllegalArgumentException("无法解析排序列 [" + column + "] 的属性类型"));
+				columns.add(column);
+				types.add(fieldInfo.getPropertyType());
+				getters.add(sortColumn);
+			}
+			columns.add(keyColumn);
+			types.add(tableInfo.getKeyType());
+			getters.add(this::getKeyValue);
+
+			LambdaQueryChainWrapper<T> query = lambdaQuery();
+			if (Objects.nonNull(condition)) {
+				query.and(condition);
+			}
+			if (StringUtils.isNotBlank(token)) {
+				Object[] lastValues = KeysetTokens.decode(token, columns, asc, types);
+				List<Object> params = new ArrayList<>();
+				query.apply(buildKeysetSeekSql(columns, lastValues, asc, params), params.toArray());
+			}
+			String direction = asc ? " ASC" : " DESC";
+			String orderBy = columns.stream()
+				.map(column -> column + direction)
+				.collect(Collectors.joining(", "));
+			List<T> records = query.last("ORDER BY " + orderBy + " LIMIT " + (size + 1)).list();
+
+			if (records.size() <= size) {
+				return new KeysetPage<>(records, null);
+			}
+			records = new ArrayList<>(records.subList(0, size));
+			T last = records.get(size - 1);
+			List<Object> lastValues = getters.stream()
+				.map(getter -> (Object) getter.apply(last))
+				.toList();
+			return new KeysetPage<>(records, KeysetTokens.encode(columns, asc, lastValues));
+		});
+	}
+
+	/**
+	 * 使用 LIKE 模式匹配列值。
+	 *
+	 * @param column 字符串列的 Lambda 引用
+	 * @param value  匹配值；为空字符串或 {@code null} 时返回空列表
+	 * @return 匹配的实体列表
+	 * @throws IllegalArgumentException 当 {@code column} 为 null
+	 * @since 1.0.0
+	 */
+	public List<T> listByColumnLikeColumn(SFunction<T, String> column, String value) {
+		Assert.notNull(column, "column 不可为null");
+
+		if (StringUtils.isEmpty(value)) {
+			return Collections.emptyList();
+		}
+
+		return instrument("listByColumnLikeColumn", () -> lambdaQuery()
+			.like(column, value)
+			.list());
+	}
+
+	/**
+	 * 使用 LIKE LEFT 模式匹配（右侧模糊）。
+	 *
+	 * @param column 字符串列的 Lambda 引用
+	 * @param value  匹配值；为空字符串或 {@code null} 时返回空列表
+	 * @return 匹配的实体列表
+	 * @throws IllegalArgumentException 当 {@code column} 为 null
+	 * @since 1.0.0
+	 */
+	public List<T> listByColumnLikeLeft(SFunction<T, String> column, String value) {
+		Assert.notNull(column, "column 不可为null");
+
+		if (StringUtils.isEmpty(value)) {
+			return Collections.emptyList();
+		}
+
+		return instrument("listByColumnLikeLeft", () -> lambdaQuery()
+			.likeLeft(column, value)
+			.list());
+	}
+
+	/**
+	 * 使用 LIKE RIGHT 模式匹配（左侧模糊）。
+	 *
+	 * @param column 字符串列的 Lambda 引用
+	 * @param value  匹配值；为空字符串或 {@code null} 时返回空列表
+	 * @return 匹配的实体列表
+	 * @throws IllegalArgumentException 当 {@code column} 为 null
+	 * @since 1.0.0
+	 */
+	public List<T> listByColumnLikeRight(SFunction<T, String> column, String value) {
+		Assert.notNull(column, "column 不可为null");
+
+		if (StringUtils.isEmpty(value)) {
+			return Collections.emptyList();
+		}
+
+		return instrument("listByColumnLikeRight", () -> lambdaQuery()
+			.likeRight(column, value)
+			.list());
+	}
+
+	/**
+	 * 使用 NOT LIKE 模式匹配列值。
+	 *
+	 * @param column 字符串列的 Lambda 引用
+	 * @param value  匹配值；为空字符串或 {@code null} 时返回空列表
+	 * @return 匹配的实体列表
+	 * @throws IllegalArgumentException 当 {@code column} 为 null
+	 * @since 1.0.0
+	 */
+	public List<T> listByColumnNotLike(SFunction<T, String> column, String value) {
+		Assert.notNull(column, "column 不可为null");
+
+		if (StringUtils.isEmpty(value)) {
+			return Collections.emptyList();
+		}
+
+		return instrument("listByColumnNotLike", () -> lambdaQuery()
+			.notLike(column, value)
+			.list());
+	}
+
+	/**
+	 * 使用 NOT LIKE LEFT 模式匹配（左侧模糊）。
+	 *
+	 * @param column 字符串列的 Lambda 引用
+	 * @param value  匹配值；为空字符串或 {@code null} 时返回空列表
+	 * @return 匹配的实体列表
+	 * @throws IllegalArgumentException 当 {@code column} 为 null
+	 * @since 1.0.0
+	 */
+	public List<T> listByColumnNotLikeLeft(SFunction<T, String> column, String value) {
+		Assert.notNull(column, "column 不可为null");
+
+		if (StringUtils.isEmpty(value)) {
+			return Collections.emptyList();
+		}
+
+		return instrument("listByColumnNotLikeLeft", () -> lambdaQuery()
+			.notLikeLeft(column, value)
+			.list());
+	}
+
+	/**
+	 * 使用 NOT LIKE RIGHT 模式匹配（右侧模糊）。
+	 *
+	 * @param column 字符串列的 Lambda 引用
+	 * @param value  匹配值；为空字符串或 {@code null} 时返回空列表
+	 * @return 匹配的实体列表
+	 * @throws IllegalArgumentException 当 {@code column} 为 null
+	 * @since 1.0.0
+	 */
+	public List<T> listByColumnNotLikeRight(SFunction<T, String> column, String value) {
+		Assert.notNull(column, "column 不可为null");
+
+		if (StringUtils.isEmpty(value)) {
+			return Collections.emptyList();
+		}
+
+		return instrument("listByColumnNotLikeRight", () -> lambdaQuery()
+			.notLikeRight(column, value)
+			.list());
+	}
+
+	/**
+	 * 替换指定列的值。
+	 *
+	 * <p>当 {@code oldValue} 为 {@code null} 时，更新列为 {@code IS NULL} 的记录；否则更新列值等于 {@code oldValue} 的记录。</p>
+	 *
+	 * @param column   列的 Lambda 引用
+	 * @param newValue 新值
+	 * @param oldValue 旧值，可为 {@code null}
+	 * @param <V>      列值类型
+	 * @return 是否更新成功
+	 * @throws IllegalArgumentException 当 {@code column} 为 null
+	 * @since 1.0.0
+	 */
+	public <V> boolean replaceColumnValue(SFunction<T, V> column, V newValue, V oldValue) {
+		Assert.notNull(column, "column 不可为null");
+
+		return instrument("replaceColumnValue", () -> {
+			if (Objects.isNull(oldValue)) {
+				return executeAndClearEntityCache(() -> lambdaUpdate()
+					.set(column, newValue)
+					.isNull(column)
+					.update());
+			} else {
+				return executeAndClearEntityCache(() -> lambdaUpdate()
+					.set(column, newValue)
+					.eq(column, oldValue)
+					.update());
+			}
+		});
+	}
+
+	/**
+	 * 根据列值删除记录。
+	 *
+	 * <p>当 {@code value} 为 {@code null} 时删除列为 {@code IS NULL} 的记录；否则删除列值等于 {@code value} 的记录。</p>
+	 *
+	 * @param column 列的 Lambda 引用
+	 * @param value  目标值，可为 {@code null}
+	 * @param <V>    列值类型
+	 * @return 是否删除成功
+	 * @throws IllegalArgumentException 当 {@code column} 为 null
+	 * @since 1.0.0
+	 */
+	public <V> boolean removeByColumnValue(SFunction<T, V> column, V value) {
+		Assert.notNull(column, "column 不可为null");
+
+		return instrument("removeByColumnValue", () -> {
+			if (Objects.isNull(value)) {
+				return executeAndClearEntityCache(() -> lambdaUpdate()
+					.isNull(column)
+					.remove());
+			}
+			return executeAndClearEntityCache(() -> lambdaUpdate()
+				.eq(column, value)
+				.remove());
+		});
+	}
+
+	/**
+	 * 根据列值集合删除记录。
+	 *
+	 * @param column 列的 Lambda 引用
+	 * @param values 列值集合；为空集合时直接返回 {@code false}
+	 * @param <V>    列值类型
+	 * @return 是否删除成功
+	 * @throws IllegalArgumentException 当 {@code column} 为 null
+	 * @since 1.0.0
+	 */
+	public <V> boolean removeByColumnValues(SFunction<T, V> column, Collection<V> values) {
+		Assert.notNull(column, "column 不可为null");
+
+		if (CollectionUtils.isEmpty(values)) {
+			return false;
+		}
+
+		return instrument("removeByColumnValues", () -> executeAndClearEntityCache(() -> lambdaUpdate()
+			.in(column, values)
+			.remove()));
+	}
+
+	/**
+	 * 使用 LIKE 模式根据列值删除记录。
+	 *
+	 * @param column 字符串列的 Lambda 引用
+	 * @param value  匹配值；为空字符串或 {@code null} 时直接返回 {@code false}
+	 * @return 是否删除成功
+	 * @throws IllegalArgumentException 当 {@code column} 为 null
+	 * @since 1.0.0
+	 */
+	public boolean removeByColumnLike(SFunction<T, String> column, String value) {
+		Assert.notNull(column, "column 不可为null");
+
+		if (StringUtils.isEmpty(value)) {
+			return false;
+		}
+
+		return instrument("removeByColumnLike", () -> executeAndClearEntityCache(() -> lambdaUpdate()
+			.like(column, value)
+			.remove()));
+	}
+
+	/**
+	 * 使用 NOT LIKE 模式根据列值删除记录。
+	 *
+	 * @param column 字符串列的 Lambda 引用
+	 * @param value  匹配值；为空字符串或 {@code null} 时直接返回 {@code false}
+	 * @return 是否删除成功
+	 * @throws IllegalArgumentException 当 {@code column} 为 null
+	 * @since 1.0.0
+	 */
+	public boolean removeByColumnNotLike(SFunction<T, String> column, String value) {
+		Assert.notNull(column, "column 不可为null");
+
+		if (StringUtils.isEmpty(value)) {
+			return false;
+		}
+
+		return instrument("removeByColumnNotLike", () -> executeAndClearEntityCache(() -> lambdaUpdate()
+			.notLike(column, value)
+			.remove()));
+	}
+
+	/**
+	 * 使用 LIKE LEFT 模式（左侧模糊）根据列值删除记录。
+	 *
+	 * @param column 字符串列的 Lambda 引用
+	 * @param value  匹配值；为空字符串或 {@code null} 时直接返回 {@code false}
+	 * @return 是否删除成功
+	 * @throws IllegalArgumentException 当 {@code column} 为 null
+	 * @since 1.0.0
+	 */
+	public boolean removeByColumnLikeLeft(SFunction<T, String> column, String value) {
+		Assert.notNull(column, "column 不可为null");
+
+		if (StringUtils.isEmpty(value)) {
+			return false;
+		}
+
+		return instrument("removeByColumnLikeLeft", () -> executeAndClearEntityCache(() -> lambdaUpdate()
+			.likeLeft(column, value)
+			.remove()));
+	}
+
+	/**
+	 * 使用 NOT LIKE LEFT 模式（左侧模糊）根据列值删除记录。
+	 *
+	 * @param column 字符串列的 Lambda 引用
+	 * @param value  匹配值；为空字符串或 {@code null} 时直接返回 {@code false}
+	 * @return 是否删除成功
+	 * @throws IllegalArgumentException 当 {@code column} 为 null
+	 * @since 1.0.0
+	 */
+	public boolean removeByColumnNotLikeLeft(SFunction<T, String> column, String value) {
+		Assert.notNull(column, "column 不可为null");
+
+		if (StringUtils.isEmpty(value)) {
+			return false;
+		}
+
+		return instrument("removeByColumnNotLikeLeft", () -> executeAndClearEntityCache(() -> lambdaUpdate()
+			.notLikeLeft(column, value)
+			.remove()));
+	}
+
+	/**
+	 * 使用 LIKE RIGHT 模式（右侧模糊）根据列值删除记录。
+	 *
+	 * @param column 字符串列的 Lambda 引用
 	 * @param value  匹配值；为空字符串或 {@code null} 时直接返回 {@code false}
 	 * @return 是否删除成功
-	 * @throws IllegalArgumentException 当 {@code column} 为 null
-	 * @since 1.0.0
+	 * @throws IllegalArgumentException 当 {@code column} 为 null
+	 * @since 1.0.0
+	 */
+	public boolean removeByColumnLikeRight(SFunction<T, String> column, String value) {
+		Assert.notNull(column, "column 不可为null");
+
+		if (StringUtils.isEmpty(value)) {
+			return false;
+		}
+
+		return instrument("removeByColumnLikeRight", () -> executeAndClearEntityCache(() -> lambdaUpdate()
+			.likeRight(column, value)
+			.remove()));
+	}
+
+	/**
+	 * 使用 NOT LIKE RIGHT 模式（右侧模糊）根据列值删除记录。
+	 *
+	 * @param column 字符串列的 Lambda 引用
+	 * @param value  匹配值；为空字符串或 {@code null} 时直接返回 {@code false}
+	 * @return 是否删除成功
+	 * @throws IllegalArgumentException 当 {@code column} 为 null
+	 * @since 1.0.0
+	 */
+	public boolean removeByColumnNotLikeRight(SFunction<T, String> column, String value) {
+		Assert.notNull(column, "column 不可为null");
+
+		if (StringUtils.isEmpty(value)) {
+			return false;
+		}
+
+		return instrument("removeByColumnNotLikeRight", () -> executeAndClearEntityCache(() -> lambdaUpdate()
+			.notLikeRight(column, value)
+			.remove()));
+	}
+
+	/**
+	 * 按主键分块删除满足条件的记录（逻辑删除实体执行逻辑删除）。
+	 *
+	 * <p>按主键升序每次查询至多 {@code chunkSize} 个主键，再按主键执行删除，直到没有满足条件的记录。
+	 * 与 {@link #remove(Wrapper)} 的单条 {@code UPDATE}/{@code DELETE} 相比，每条语句只锁定少量行，适用于大批量删除；
+	 * 调用方未处于事务中时每个分块单独提交，因此中途失败时已处理的分块不会回滚。主键查询始终在主库执行。</p>
+	 *
+	 * @param condition 删除条件（会以 {@code AND (...)} 形式嵌套），为 {@code null} 时删除全部记录；不可设置排序与 {@code last}
+	 * @param chunkSize 每个分块的最大行数，必须大于 0
+	 * @return 删除的行数
+	 * @throws IllegalArgumentException 当 {@code chunkSize} 小于等于 0
+	 * @throws IllegalStateException    当实体未声明主键
+	 * @since 2.2.0
+	 */
+	public long removeInChunks(@Nullable Consumer<LambdaQueryWrapper<T>> condition, int chunkSize) {
+		Assert.isTrue(chunkSize > 0, "chunkSize 必须大于0");
+
+		return instrument("removeInChunks", () -> DataSourceRouting.callOnPrimary(() -> {
+			String keyColumn = getKeyTableInfo().getKeyColumn();
+			long total = 0;
+			Object lastKey = null;
+			List<T> chunk;
+			do {
+				chunk = listNextKeysetBatch(condition, keyColumn, lastKey, chunkSize);
+				if (chunk.isEmpty()) {
+					break;
+				}
+				List<Object> ids = chunk.stream()
+					.map(this::getKeyValue)
+					.toList();
+				lastKey = ids.get(ids.size() - 1);
+				try {
+					total += getBaseMapper().deleteByIds(ids);
+				} finally {
+					evictEntityCache(ids);
+				}
+			} while (chunk.size() == chunkSize);
+			return total;
+		}));
+	}
+
+	/**
+	 * 按主键分块删除指定列等于给定值的记录（逻辑删除实体执行逻辑删除）。
+	 *
+	 * <p>当 {@code value} 为 {@code null} 时删除列为 {@code IS NULL} 的记录，分块方式见 {@link #removeInChunks(Consumer, int)}。</p>
+	 *
+	 * @param column    列的 Lambda 引用
+	 * @param value     目标值，可为 {@code null}
+	 * @param chunkSize 每个分块的最大行数，必须大于 0
+	 * @param <V>       列值类型
+	 * @return 删除的行数
+	 * @throws IllegalArgumentException 当 {@code column} 为 null 或 {@code chunkSize} 小于等于 0
+	 * @throws IllegalStateException    当实体未声明主键
+	 * @since 2.2.0
+	 */
+	public <V> long removeByColumnValueInChunks(SFunction<T, V> column, @Nullable V value, int chunkSize) {
+		Assert.notNull(column, "column 不可为null");
+		if (Objects.isNull(value)) {
+			return removeInChunks(wrapper -> wrapper.isNull(column), chunkSize);
+		}
+		return removeInChunks(wrapper -> wrapper.eq(column, value), chunkSize);
+	}
+
+	/**
+	 * 创建物理删除已逻辑删除记录（墓碑）的分块清理任务。
+	 *
+	 * <p>任务每个分块按主键升序选取至多 {@code chunkSize} 条墓碑，再按主键范围删除，调用方未处于事务中时每个分块单独提交；
+	 * 可通过 {@link PurgeJob#setThrottle(Duration)} 设置分块间隔，并支持暂停、恢复与取消。
+	 * {@link PurgeJob#start()} 使用异步查询执行器（见 {@link #setAsyncExecutor(Executor)}）后台执行。</p>
+	 * <p>保留期限基于删除时间：逻辑删除字段为时间类型（如 {@code LogicTimeBaseEntity}）时使用该字段，
+	 * 否则（如 {@code LogicStatusBaseEntity}）使用更新时间列。</p>
+	 *
+	 * @param retention 保留期限，删除时间早于 {@code 当前时间 - retention} 的记录才会被清理；为 {@code null} 时清理全部墓碑
+	 * @param chunkSize 每个分块的最大行数，必须大于 0
+	 * @return 尚未执行的清理任务
+	 * @throws IllegalArgumentException 当 {@code chunkSize} 小于等于 0 或 {@code retention} 为负数
+	 * @throws IllegalStateException    当实体未声明主键或逻辑删除字段，或无法确定删除时间列
+	 * @since 2.2.0
+	 */
+	public PurgeJob purgeDeletedJob(@Nullable Duration retention, int chunkSize) {
+		return createPurgeJob(null, retention, chunkSize);
+	}
+
+	/**
+	 * 创建将已逻辑删除记录（墓碑）移动到归档表的分块清理任务。
+	 *
+	 * <p>每个分块在同一事务中执行 {@code INSERT INTO archiveTable (...) SELECT ...} 与 {@code DELETE}，
+	 * 归档表需包含实体映射的全部列（可使用 {@code CREATE TABLE archive LIKE table} 创建）。其余行为同
+	 * {@link #purgeDeletedJob(Duration, int)}。</p>
+	 *
+	 * @param archiveTable 归档表名
+	 * @param retention    保留期限，为 {@code null} 时归档全部墓碑
+	 * @param chunkSize    每个分块的最大行数，必须大于 0
+	 * @return 尚未执行的清理任务
+	 * @throws IllegalArgumentException 当 {@code archiveTable} 为空白或不是合法的表名、{@code chunkSize} 小于等于 0 或
+	 *                                  {@code retention} 为负数
+	 * @throws IllegalStateException    当实体未声明主键或逻辑删除字段，或无法确定删除时间列
+	 * @since 2.2.0
+	 */
+	public PurgeJob archiveDeletedJob(String archiveTable, @Nullable Duration retention, int chunkSize) {
+		Assert.hasText(archiveTable, "archiveTable 不可为空");
+		return createPurgeJob(archiveTable, retention, chunkSize);
+	}
+
+	/**
+	 * 创建墓碑清理任务，每个分块获取当前 {@link SqlSession} 绑定的连接并在主库执行。
+	 *
+	 * @param archiveTable 归档表名，为 {@code null} 时直接删除
+	 * @param retention    保留期限，为 {@code null} 时不限制
+	 * @param chunkSize    每个分块的最大行数
+	 * @return 尚未执行的清理任务
+	 * @since 2.2.0
+	 */
+	protected PurgeJob createPurgeJob(@Nullable String archiveTable, @Nullable Duration retention, int chunkSize) {
+		Assert.isTrue(chunkSize > 0, "chunkSize 必须大于0");
+		Assert.isTrue(Objects.isNull(retention) || !retention.isNegative(), "retention 不可为负数");
+
+		TombstonePurger purger = new TombstonePurger(getKeyTableInfo(), archiveTable,
+			Objects.isNull(retention) ? null : Instant.now().minus(retention));
+		String method = Objects.isNull(archiveTable) ? "purgeDeleted" : "archiveDeleted";
+		Executor executor = Objects.nonNull(asyncExecutor) ? asyncExecutor : RepositoryExecutors.getDefaultExecutor();
+		return new PurgeJob(() -> instrument(method, () -> DataSourceRouting.callOnPrimary(() -> {
+			SqlSessionFactory sqlSessionFactory = GlobalConfigUtils.currentSessionFactory(getEntityClass());
+			SqlSession sqlSession = SqlSessionUtils.getSqlSession(sqlSessionFactory);
+			try {
+				return purger.purgeNextChunk(sqlSession.getConnection(), chunkSize,
+					RepositoryExecutors.isActualTransactionActive());
+			} finally {
+				SqlSessionUtils.closeSqlSession(sqlSession, sqlSessionFactory);
+			}
+		})), executor);
+	}
+
+	/**
+	 * 根据主键更新，执行后失效该主键的缓存。
+	 *
+	 * @param entity 实体
+	 * @return 是否更新成功
+	 * @since 2.2.0
+	 */
+	@Override
+	public boolean updateById(T entity) {
+		try {
+			return super.updateById(entity);
+		} finally {
+			evictEntityCache(Collections.singletonList(entity));
+		}
+	}
+
+	/**
+	 * 根据条件更新，执行后清空缓存。
+	 *
+	 * @param updateWrapper 更新条件
+	 * @return 是否更新成功
+	 * @since 2.2.0
+	 */
+	@Override
+	public boolean update(Wrapper<T> updateWrapper) {
+		return executeAndClearEntityCache(() -> super.update(updateWrapper));
+	}
+
+	/**
+	 * 根据条件使用实体更新，执行后清空缓存。
+	 *
+	 * @param entity        实体
+	 * @param updateWrapper 更新条件
+	 * @return 是否更新成功
+	 * @since 2.2.0
+	 */
+	@Override
+	public boolean update(T entity, Wrapper<T> updateWrapper) {
+		return executeAndClearEntityCache(() -> super.update(entity, updateWrapper));
+	}
+
+	/**
+	 * 保存或更新，执行前后失效该主键的缓存（避免判断记录是否存在时命中过期缓存）。
+	 *
+	 * @param entity 实体
+	 * @return 是否成功
+	 * @since 2.2.0
+	 */
+	@Override
+	public boolean saveOrUpdate(T entity) {
+		evictEntityCache(Collections.singletonList(entity));
+		try {
+			return super.saveOrUpdate(entity);
+		} finally {
+			evictEntityCache(Collections.singletonList(entity));
+		}
+	}
+
+	/**
+	 * 批量保存或更新，执行后失效相关主键的缓存。
+	 *
+	 * @param entityList 实体集合
+	 * @param batchSize  批大小
+	 * @return 是否成功
+	 * @since 2.2.0
+	 */
+	@Override
+	public boolean saveOrUpdateBatch(Collection<T> entityList, int batchSize) {
+		try {
+			return super.saveOrUpdateBatch(entityList, batchSize);
+		} finally {
+			evictEntityCache(entityList);
+		}
+	}
+
+	/**
+	 * 根据主键批量更新，执行后失效相关主键的缓存。
+	 *
+	 * @param entityList 实体集合
+	 * @param batchSize  批大小
+	 * @return 是否成功
+	 * @since 2.2.0
+	 */
+	@Override
+	public boolean updateBatchById(Collection<T> entityList, int batchSize) {
+		try {
+			return super.updateBatchById(entityList, batchSize);
+		} finally {
+			evictEntityCache(entityList);
+		}
+	}
+
+	/**
+	 * 根据主键删除，执行后失效该主键的缓存。
+	 *
+	 * @param id 主键值
+	 * @return 是否删除成功
+	 * @since 2.2.0
+	 */
+	@Override
+	public boolean removeById(Serializable id) {
+		try {
+			return super.removeById(id);
+		} finally {
+			evictEntityCache(Collections.singletonList(id));
+		}
+	}
+
+	/**
+	 * 根据主键删除，执行后失效该主键的缓存。
+	 *
+	 * @param id      主键值
+	 * @param useFill 是否填充（逻辑删除时生效）
+	 * @return 是否删除成功
+	 * @since 2.2.0
+	 */
+	@Override
+	public boolean removeById(Serializable id, boolean useFill) {
+		try {
+			return super.removeById(id, useFill);
+		} finally {
+			evictEntityCache(Collections.singletonList(id));
+		}
+	}
+
+	/**
+	 * 根据实体删除，执行后失效该主键的缓存。
+	 *
+	 * @param entity 实体
+	 * @return 是否删除成功
+	 * @since 2.2.0
+	 */
+	@Override
+	public boolean removeById(T entity) {
+		try {
+			return super.removeById(entity);
+		} finally {
+			evictEntityCache(Collections.singletonList(entity));
+		}
+	}
+
+	/**
+	 * 根据主键（或实体）集合删除，执行后失效相关主键的缓存。
+	 *
+	 * @param list 主键或实体集合
+	 * @return 是否删除成功
+	 * @since 2.2.0
+	 */
+	@Override
+	public boolean removeByIds(Collection<?> list) {
+		try {
+			return super.removeByIds(list);
+		} finally {
+			evictEntityCache(list);
+		}
+	}
+
+	/**
+	 * 根据主键（或实体）集合删除，执行后失效相关主键的缓存。
+	 *
+	 * @param list    主键或实体集合
+	 * @param useFill 是否填充（逻辑删除时生效）
+	 * @return 是否删除成功
+	 * @since 2.2.0
+	 */
+	@Override
+	public boolean removeByIds(Collection<?> list, boolean useFill) {
+		try {
+			return super.removeByIds(list, useFill);
+		} finally {
+			evictEntityCache(list);
+		}
+	}
+
+	/**
+	 * 根据主键（或实体）集合批量删除，执行后失效相关主键的缓存。
+	 *
+	 * @param list 主键或实体集合
+	 * @return 是否删除成功
+	 * @since 2.2.0
+	 */
+	@Override
+	public boolean removeBatchByIds(Collection<?> list) {
+		try {
+			return super.removeBatchByIds(list);
+		} finally {
+			evictEntityCache(list);
+		}
+	}
+
+	/**
+	 * 根据列映射删除，执行后清空缓存。
+	 *
+	 * @param columnMap 列名与值的映射
+	 * @return 是否删除成功
+	 * @since 2.2.0
 	 */
-	public boolean removeByColumnLikeLeft(SFunction<T, String> column, String value) {
-		Assert.notNull(column, "column 不可为null");
+	@Override
+	public boolean removeByMap(Map<String, Object> columnMap) {
+		return executeAndClearEntityCache(() -> super.removeByMap(columnMap));
+	}
 
-		if (StringUtils.isEmpty(value)) {
-			return false;
+	/**
+	 * 根据条件删除，执行后清空缓存。
+	 *
+	 * @param queryWrapper 删除条件
+	 * @return 是否删除成功
+	 * @since 2.2.0
+	 */
+	@Override
+	public boolean remove(Wrapper<T> queryWrapper) {
+		return executeAndClearEntityCache(() -> super.remove(queryWrapper));
+	}
+
+	/**
+	 * 通过缓存按主键集合查询：先批量读取缓存，未命中的主键合并为一次（分批）in 查询并回填缓存。
+	 *
+	 * @param cache     实体缓存
+	 * @param ids       主键集合，不可为空
+	 * @param batchSize 批大小
+	 * @param <V>       主键类型
+	 * @return 实体列表，按主键入参顺序排列（重复主键只返回一次）
+	 * @since 2.2.0
+	 */
+	protected <V extends Serializable> List<T> listByIdsThroughCache(EntityCache<T> cache, Collection<V> ids,
+																	 int batchSize) {
+		Map<String, V> idMap = new LinkedHashMap<>(ids.size());
+		for (V id : ids) {
+			if (Objects.nonNull(id)) {
+				idMap.putIfAbsent(String.valueOf(id), id);
+			}
 		}
-		return lambdaUpdate()
-			.likeLeft(column, value)
-			.remove();
+		if (idMap.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		Map<String, T> entities = new HashMap<>(cache.getAll(idMap.keySet()));
+		if (entities.size() < idMap.size()) {
+			List<V> missingIds = idMap.entrySet()
+				.stream()
+				.filter(entry -> !entities.containsKey(entry.getKey()))
+				.map(Map.Entry::getValue)
+				.toList();
+			List<T> loaded = missingIds.size() <= batchSize ?
+				querySingleBatch(missingIds.size(), () -> super.listByIds(missingIds)) :
+				listByBatches(missingIds, batchSize, super::listByIds);
+			if (!loaded.isEmpty()) {
+				Map<String, T> loadedEntities = new HashMap<>(loaded.size());
+				for (T entity : loaded) {
+					loadedEntities.put(String.valueOf(getKeyValue(entity)), entity);
+				}
+				if (!RepositoryExecutors.isTransactionActive()) {
+					cache.putAll(loadedEntities);
+				}
+				entities.putAll(loadedEntities);
+			}
+		}
+
+		List<T> result = new ArrayList<>(entities.size());
+		for (String key : idMap.keySet()) {
+			T entity = entities.get(key);
+			if (Objects.nonNull(entity)) {
+				result.add(entity);
+			}
+		}
+		return result;
 	}
 
 	/**
-	 * 使用 NOT LIKE LEFT 模式（左侧模糊）根据列值删除记录。
+	 * 按存在性筛选主键集合。
 	 *
-	 * @param column 字符串列的 Lambda 引用
-	 * @param value  匹配值；为空字符串或 {@code null} 时直接返回 {@code false}
-	 * @return 是否删除成功
-	 * @throws IllegalArgumentException 当 {@code column} 为 null
-	 * @since 1.0.0
+	 * @param ids       主键集合
+	 * @param batchSize 批大小，必须大于 0
+	 * @param existing  为 {@code true} 时返回存在的主键，否则返回不存在的主键
+	 * @param <V>       主键类型
+	 * @return 筛选后的主键集合，按入参顺序排列
+	 * @since 2.2.0
 	 */
-	public boolean removeByColumnNotLikeLeft(SFunction<T, String> column, String value) {
-		Assert.notNull(column, "column 不可为null");
+	private <V extends Serializable> Set<V> partitionIdsByExistence(Collection<V> ids, int batchSize, boolean existing) {
+		Assert.isTrue(batchSize > 0, "batchSize 必须大于0");
 
-		if (StringUtils.isEmpty(value)) {
-			return false;
+		if (CollectionUtils.isEmpty(ids)) {
+			return Collections.emptySet();
 		}
-		return lambdaUpdate()
-			.notLikeLeft(column, value)
-			.remove();
+
+		Map<String, V> idMap = new LinkedHashMap<>(ids.size());
+		for (V id : ids) {
+			if (Objects.nonNull(id)) {
+				idMap.putIfAbsent(String.valueOf(id), id);
+			}
+		}
+		if (idMap.isEmpty()) {
+			return Collections.emptySet();
+		}
+
+		Set<String> existingKeys = new HashSet<>(idMap.size());
+		EntityCache<T> cache = this.entityCache;
+		if (Objects.nonNull(cache)) {
+			existingKeys.addAll(cache.getAll(idMap.keySet()).keySet());
+		}
+		List<V> uncheckedIds = idMap.entrySet()
+			.stream()
+			.filter(entry -> !existingKeys.contains(entry.getKey()))
+			.map(Map.Entry::getValue)
+			.toList();
+		if (!uncheckedIds.isEmpty()) {
+			String keyColumn = getKeyTableInfo().getKeyColumn();
+			List<Object> keys = queryByBatches(uncheckedIds, batchSize, part ->
+				getBaseMapper().selectObjs(Wrappers.<T>query()
+					.select(keyColumn)
+					.in(keyColumn, part)));
+			for (Object key : keys) {
+				existingKeys.add(String.valueOf(key));
+			}
+		}
+
+		Set<V> result = new LinkedHashSet<>();
+		idMap.forEach((key, id) -> {
+			if (existingKeys.contains(key) == existing) {
+				result.add(id);
+			}
+		});
+		return result;
 	}
 
 	/**
-	 * 使用 LIKE RIGHT 模式（右侧模糊）根据列值删除记录。
+	 * 失效主键（或实体）对应的缓存；处于事务中时在事务结束后再次失效。
 	 *
-	 * @param column 字符串列的 Lambda 引用
-	 * @param value  匹配值；为空字符串或 {@code null} 时直接返回 {@code false}
-	 * @return 是否删除成功
-	 * @throws IllegalArgumentException 当 {@code column} 为 null
-	 * @since 1.0.0
+	 * @param idOrEntities 主键或实体集合，{@code null} 元素及主键为 {@code null} 的实体会被忽略
+	 * @since 2.2.0
 	 */
-	public boolean removeByColumnLikeRight(SFunction<T, String> column, String value) {
-		Assert.notNull(column, "column 不可为null");
+	protected void evictEntityCache(@Nullable Collection<?> idOrEntities) {
+		EntityCache<T> cache = this.entityCache;
+		if (Objects.isNull(cache) || CollectionUtils.isEmpty(idOrEntities)) {
+			return;
+		}
 
-		if (StringUtils.isEmpty(value)) {
-			return false;
+		Class<T> entityClass = getEntityClass();
+		List<String> keys = new ArrayList<>(idOrEntities.size());
+		for (Object idOrEntity : idOrEntities) {
+			if (Objects.isNull(idOrEntity)) {
+				continue;
+			}
+			if (entityClass.isInstance(idOrEntity)) {
+				TableInfo tableInfo = getKeyTableInfo();
+				Object keyValue = tableInfo.getPropertyValue(idOrEntity, tableInfo.getKeyProperty());
+				if (Objects.nonNull(keyValue)) {
+					keys.add(String.valueOf(keyValue));
+				}
+			} else {
+				keys.add(String.valueOf(idOrEntity));
+			}
+		}
+		if (!keys.isEmpty()) {
+			cache.evictAll(keys);
+			RepositoryExecutors.runAfterCompletion(() -> cache.evictAll(keys));
 		}
-		return lambdaUpdate()
-			.likeRight(column, value)
-			.remove();
 	}
 
 	/**
-	 * 使用 NOT LIKE RIGHT 模式（右侧模糊）根据列值删除记录。
+	 * 获取仓储数据源的默认异步查询并发许可（见 {@link #setAsyncPermits(Semaphore)}）。
 	 *
-	 * @param column 字符串列的 Lambda 引用
-	 * @param value  匹配值；为空字符串或 {@code null} 时直接返回 {@code false}
-	 * @return 是否删除成功
-	 * @throws IllegalArgumentException 当 {@code column} 为 null
-	 * @since 1.0.0
+	 * @return 默认并发许可
+	 * @since 2.2.0
 	 */
-	public boolean removeByColumnNotLikeRight(SFunction<T, String> column, String value) {
-		Assert.notNull(column, "column 不可为null");
+	private Semaphore getDefaultAsyncPermits() {
+		Semaphore permits = this.defaultAsyncPermits;
+		if (Objects.isNull(permits)) {
+			DataSource dataSource = null;
+			try {
+				Environment environment = GlobalConfigUtils.currentSessionFactory(getEntityClass())
+					.getConfiguration()
+					.getEnvironment();
+				if (Objects.nonNull(environment)) {
+					dataSource = environment.getDataSource();
+				}
+			} catch (RuntimeException ignored) {
+			}
+			permits = RepositoryExecutors.getDefaultAsyncPermits(dataSource);
+			this.defaultAsyncPermits = permits;
+		}
+		return permits;
+	}
 
-		if (StringUtils.isEmpty(value)) {
+	/**
+	 * 执行按条件的写操作，执行后清空缓存；处于事务中时在事务结束后再次清空。
+	 *
+	 * @param operation 写操作
+	 * @return 写操作的结果
+	 * @since 2.2.0
+	 */
+	protected boolean executeAndClearEntityCache(BooleanSupplier operation) {
+		try {
+			return operation.getAsBoolean();
+		} finally {
+			EntityCache<T> cache = this.entityCache;
+			if (Objects.nonNull(cache)) {
+				cache.clear();
+				RepositoryExecutors.runAfterCompletion(cache::clear);
+			}
+		}
+	}
+
+	/**
+	 * 以观测方式执行仓储方法。
+	 *
+	 * <p>未设置观测实现或当前线程已处于其它仓储方法中（如重载方法互相委托）时直接执行；
+	 * 否则在执行期间绑定 {@link RepositoryInvocationContext}，结束后记录耗时、返回行数与异常。</p>
+	 *
+	 * @param method 方法名
+	 * @param call   方法体
+	 * @param <R>    结果类型
+	 * @return 方法体的结果
+	 * @since 2.2.0
+	 */
+	protected <R> R instrument(String method, Supplier<R> call) {
+		RepositoryInstrumentation observer = this.instrumentation;
+		if (Objects.isNull(observer) || Objects.nonNull(RepositoryInvocationContext.current())) {
+			return call.get();
+		}
+
+		String entity = getEntityClass().getSimpleName();
+		long start = System.nanoTime();
+		R result = null;
+		Throwable error = null;
+		try {
+			result = RepositoryInvocationContext.callWith(new RepositoryInvocationContext(entity, method), call);
+			return result;
+		} catch (RuntimeException | Error e) {
+			error = e;
+			throw e;
+		} finally {
+			long rows = Objects.isNull(error) ? countRows(result) : -1;
+			observer.recordInvocation(new RepositoryInvocation(entity, method, System.nanoTime() - start, rows, error));
+		}
+	}
+
+	/**
+	 * 计算仓储方法返回的行数，无法确定时（如布尔结果）返回 -1。
+	 */
+	private static long countRows(@Nullable Object result) {
+		if (Objects.isNull(result)) {
+			return 0;
+		}
+		if (result instanceof Boolean) {
+			return -1;
+		}
+		if (result instanceof Number number) {
+			return number.longValue();
+		}
+		if (result instanceof Collection<?> collection) {
+			return collection.size();
+		}
+		if (result instanceof Optional<?> optional) {
+			return optional.isPresent() ? 1 : 0;
+		}
+		if (result instanceof KeysetPage<?> page) {
+			return page.records().size();
+		}
+		if (result instanceof BulkWriteResult bulkWriteResult) {
+			return bulkWriteResult.rows();
+		}
+		return 1;
+	}
+
+	/**
+	 * 按多列的值组合分批查询。
+	 *
+	 * @param columns   物理列名
+	 * @param tuples    值组合，元素个数与列数一致；包含 {@code null} 的组合被忽略
+	 * @param batchSize 批大小
+	 * @return 匹配的实体列表
+	 * @since 2.2.0
+	 */
+	private List<T> listByColumnTuples(List<String> columns, Stream<List<Object>> tuples, int batchSize) {
+		List<List<Object>> distinctTuples = tuples
+			.filter(tuple -> tuple.stream().allMatch(Objects::nonNull))
+			.distinct()
+			.toList();
+		if (distinctTuples.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		boolean rowConstructor = isRowConstructorInSupported();
+		return listByBatches(distinctTuples, batchSize, part -> {
+			int size = Math.min(Integer.highestOneBit(part.size() - 1) << 1, batchSize);
+			size = Math.max(size, part.size());
+			Object[] params = new Object[size * columns.size()];
+			for (int i = 0; i < size; i++) {
+				List<Object> tuple = part.get(Math.min(i, part.size() - 1));
+				for (int j = 0; j < columns.size(); j++) {
+					params[i * columns.size() + j] = tuple.get(j);
+				}
+			}
+			return lambdaQuery()
+				.apply(rowConstructor ? TuplePredicates.rowIn(columns, size) : TuplePredicates.orChain(columns, size), params)
+				.list();
+		});
+	}
+
+	/**
+	 * 判断数据库是否支持行构造器 {@code IN}，未设置时根据连接的数据库产品名检测一次。
+	 *
+	 * @return 支持时返回 {@code true}；检测失败时返回 {@code false}
+	 * @since 2.2.0
+	 */
+	private boolean isRowConstructorInSupported() {
+		Boolean supported = this.rowConstructorInSupported;
+		if (Objects.isNull(supported)) {
+			SqlSessionFactory sqlSessionFactory = GlobalConfigUtils.currentSessionFactory(getEntityClass());
+			SqlSession sqlSession = SqlSessionUtils.getSqlSession(sqlSessionFactory);
+			try {
+				supported = TuplePredicates.supportsRowConstructorIn(
+					sqlSession.getConnection().getMetaData().getDatabaseProductName());
+			} catch (SQLException e) {
+				supported = false;
+			} finally {
+				SqlSessionUtils.closeSqlSession(sqlSession, sqlSessionFactory);
+			}
+			this.rowConstructorInSupported = supported;
+		}
+		return supported;
+	}
+
+	/**
+	 * 使用默认批大小执行分批操作。
+	 *
+	 * <p>未设置自适应批大小调节器（见 {@link #setAdaptiveBatchSizer(AdaptiveBatchSizer)}）时传入 {@code DEFAULT_BATCH_SIZE}；
+	 * 否则传入调节器的当前批大小，并在操作执行期间由 {@link #listByBatches(Collection, int, Function)} 记录各批次耗时、
+	 * 按调节后的批大小分区。显式传入批大小的调用不受影响。</p>
+	 *
+	 * @param call 分批操作，参数为批大小
+	 * @param <R>  结果类型
+	 * @return 操作结果
+	 * @since 2.2.0
+	 */
+	protected <R> R withDefaultBatchSize(IntFunction<R> call) {
+		AdaptiveBatchSizer sizer = this.adaptiveBatchSizer;
+		if (Objects.isNull(sizer)) {
+			return call.apply(DEFAULT_BATCH_SIZE);
+		}
+		Object previous = ADAPTIVE_BATCH_OWNER.get();
+		if (previous == this) {
+			return call.apply(sizer.getBatchSize());
+		}
+		ADAPTIVE_BATCH_OWNER.set(this);
+		try {
+			return call.apply(sizer.getBatchSize());
+		} finally {
+			if (Objects.isNull(previous)) {
+				ADAPTIVE_BATCH_OWNER.remove();
+			} else {
+				ADAPTIVE_BATCH_OWNER.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * 记录一个批次的执行结果，批大小变化时上报观测实现。
+	 */
+	private void recordBatch(AdaptiveBatchSizer sizer, int batchSize, int rows, long durationNanos) {
+		int previous = sizer.getBatchSize();
+		int current = sizer.record(batchSize, rows, durationNanos);
+		RepositoryInstrumentation observer = this.instrumentation;
+		if (Objects.nonNull(observer) && (current != previous || sizer.getSamples() == 1)) {
+			observer.recordBatchSize(getEntityClass().getSimpleName(), current);
+		}
+	}
+
+	/**
+	 * 将值集合按批大小分区后逐批查询，并按批次顺序合并结果。
+	 *
+	 * <p>当并行度大于 1、批次数大于 1 且当前线程不处于事务中时，各批次在执行器上并行执行，
+	 * 同时执行的批次数受 {@link #setBatchQueryParallelism(int)} 限制；否则在当前线程按顺序执行。
+	 * 处于事务中时保持顺序执行，以确保查询使用事务绑定的连接。</p>
+	 * <p>并行执行时任一批次失败后不再提交后续批次，并取消其余批次：尚未开始的批次不再执行，执行中的批次所在线程会被中断，
+	 * 但 JDBC 驱动通常不响应中断，执行中的查询可能仍会执行完毕（结果被丢弃）；所有已提交的批次结束前不会释放并行名额。</p>
+	 *
+	 * @param values    值集合，不可为空
+	 * @param batchSize 批大小，必须大于 0
+	 * @param query     单批查询函数
+	 * @param <V>       值类型
+	 * @return 合并后的实体列表，顺序与批次顺序一致
+	 * @since 2.2.0
+	 */
+	protected <V> List<T> listByBatches(Collection<V> values, int batchSize, Function<List<V>, List<T>> query) {
+		return queryByBatches(values, batchSize, query);
+	}
+
+	/**
+	 * 执行不需要分区的单批查询；处于 {@link #withDefaultBatchSize(IntFunction)} 中且设置了自适应批大小调节器时记录该批次耗时，
+	 * 使 in 列表始终不超过批大小的仓储同样能够缩减批大小。
+	 *
+	 * @param batchSize 该批次的大小（in 列表的值个数）
+	 * @param query     单批查询
+	 * @return 查询结果
+	 * @since 2.2.0
+	 */
+	private List<T> querySingleBatch(int batchSize, Supplier<List<T>> query) {
+		AdaptiveBatchSizer sizer = ADAPTIVE_BATCH_OWNER.get() == this ? this.adaptiveBatchSizer : null;
+		if (Objects.isNull(sizer)) {
+			return query.get();
+		}
+		long start = System.nanoTime();
+		List<T> rows = query.get();
+		recordBatch(sizer, batchSize, rows.size(), System.nanoTime() - start);
+		return rows;
+	}
+
+	/**
+	 * 将值集合按批大小分区后逐批查询，并按批次顺序合并结果（执行策略同 {@link #listByBatches(Collection, int, Function)}）。
+	 *
+	 * @param values    值集合，不可为空
+	 * @param batchSize 批大小，必须大于 0
+	 * @param query     单批查询函数
+	 * @param <V>       值类型
+	 * @param <R>       结果类型
+	 * @return 合并后的结果列表，顺序与批次顺序一致
+	 * @since 2.2.0
+	 */
+	private <V, R> List<R> queryByBatches(Collection<V> values, int batchSize, Function<List<V>, List<R>> batchQuery) {
+		AdaptiveBatchSizer sizer = ADAPTIVE_BATCH_OWNER.get() == this ? this.adaptiveBatchSizer : null;
+		Function<List<V>, List<R>> query = Objects.isNull(sizer) ? batchQuery : part -> {
+			long start = System.nanoTime();
+			List<R> rows = batchQuery.apply(part);
+			recordBatch(sizer, part.size(), rows.size(), System.nanoTime() - start);
+			return rows;
+		};
+		List<V> valueList = values instanceof List<V> list ? list : List.copyOf(values);
+		Semaphore permits = this.batchQueryPermits;
+		boolean sequential = Objects.isNull(permits) || RepositoryExecutors.isTransactionActive();
+		if (Objects.nonNull(sizer) && sequential) {
+			// 顺序执行时每批使用调节后的最新批大小
+			List<R> result = new ArrayList<>();
+			for (int from = 0; from < valueList.size(); ) {
+				int to = Math.min(valueList.size(), from + sizer.getBatchSize());
+				result.addAll(query.apply(valueList.subList(from, to)));
+				from = to;
+			}
+			return result;
+		}
+
+		List<List<V>> parts = ListUtils.partition(valueList, Objects.nonNull(sizer) ? sizer.getBatchSize() : batchSize);
+		if (parts.size() == 1 || sequential) {
+			return parts.stream()
+				.map(query)
+				.flatMap(List::stream)
+				.collect(Collectors.toList());
+		}
+
+		Executor executor = Objects.nonNull(batchQueryExecutor) ? batchQueryExecutor : RepositoryExecutors.getDefaultExecutor();
+		AtomicBoolean failed = new AtomicBoolean();
+		List<FutureTask<List<R>>> tasks = new ArrayList<>(parts.size());
+		try {
+			for (List<V> part : parts) {
+				// 已有批次失败时不再提交后续批次，失败由下方合并结果时统一抛出
+				if (failed.get()) {
+					break;
+				}
+				permits.acquire();
+				Supplier<List<R>> batch = RepositoryExecutors.propagateContext(() -> query.apply(part));
+				FutureTask<List<R>> task = new FutureTask<>(() -> {
+					try {
+						return batch.get();
+					} catch (RuntimeException | Error e) {
+						failed.set(true);
+						throw e;
+					}
+				}) {
+					@Override
+					protected void done() {
+						// 正常结束、异常与取消（包括未开始即取消）时均会调用，保证名额只释放一次
+						permits.release();
+					}
+				};
+				tasks.add(task);
+				try {
+					executor.execute(task);
+				} catch (RuntimeException e) {
+					cancelAll(tasks);
+					throw e;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			cancelAll(tasks);
+			throw new IllegalStateException("分批查询被中断", e);
+		}
+
+		List<R> result = new ArrayList<>();
+		try {
+			for (FutureTask<List<R>> task : tasks) {
+				result.addAll(task.get());
+			}
+		} catch (ExecutionException e) {
+			cancelAll(tasks);
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException("分批查询失败", e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			cancelAll(tasks);
+			throw new IllegalStateException("分批查询被中断", e);
+		}
+		return result;
+	}
+
+	/**
+	 * 取消分批查询的全部批次，执行中的批次所在线程会被中断。
+	 *
+	 * @param tasks 已提交的批次
+	 * @since 2.2.0
+	 */
+	private static void cancelAll(List<? extends Future<?>> tasks) {
+		for (Future<?> task : tasks) {
+			task.cancel(true);
+		}
+	}
+
+	/**
+	 * 构建基于主键键集分页的惰性实体流。
+	 *
+	 * @param condition    查询条件，可为 {@code null}
+	 * @param selectColumn 额外查询的列（同时查询主键），为 {@code null} 时查询全部列
+	 * @param batchSize    每批加载的记录数
+	 * @return 实体流，关闭后不再查询后续批次
+	 * @since 2.2.0
+	 */
+	protected Stream<T> streamByKeyset(@Nullable Consumer<LambdaQueryWrapper<T>> condition,
+									   @Nullable String selectColumn, int batchSize) {
+		KeysetIterator iterator = new KeysetIterator(condition, selectColumn, batchSize);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+				Spliterator.ORDERED | Spliterator.NONNULL), false)
+			.onClose(iterator::close);
+	}
+
+	/**
+	 * 查询主键大于 {@code lastKey} 的下一批记录（按主键升序）。
+	 *
+	 * @param condition    查询条件，可为 {@code null}
+	 * @param selectColumn 额外查询的列（同时查询主键），为 {@code null} 时查询全部列
+	 * @param lastKey      上一批最后一条记录的主键，为 {@code null} 时从头查询
+	 * @param batchSize    批大小
+	 * @return 下一批记录，没有更多记录时返回空列表
+	 * @throws IllegalStateException 当实体未声明主键
+	 * @since 2.2.0
+	 */
+	protected List<T> listNextKeysetBatch(@Nullable Consumer<LambdaQueryWrapper<T>> condition,
+										  @Nullable String selectColumn, @Nullable Object lastKey, int batchSize) {
+		String keyColumn = getKeyTableInfo().getKeyColumn();
+		LambdaQueryChainWrapper<T> query = lambdaQuery();
+		if (Objects.nonNull(selectColumn)) {
+			query.select(getEntityClass(), field -> field.getColumn().equals(selectColumn));
+		}
+		if (Objects.nonNull(condition)) {
+			query.and(condition);
+		}
+		if (Objects.nonNull(lastKey)) {
+			query.apply(keyColumn + " > {0}", lastKey);
+		}
+		return query.last("ORDER BY " + keyColumn + " ASC LIMIT " + batchSize).list();
+	}
+
+	/**
+	 * 构建键集分页的定位条件。
+	 *
+	 * <p>生成 {@code c1 >= {0} AND ((c1 > {1}) OR (c1 = {2} AND c2 > {3}) ...)} 形式的 SQL 片段（降序时使用 {@code <=}/{@code <}），
+	 * 前导的范围条件便于优化器对首个排序列使用索引范围扫描。</p>
+	 *
+	 * @param columns    排序列（物理列名），最后一列为主键
+	 * @param lastValues 上一页最后一条记录的排序列值
+	 * @param asc        是否升序
+	 * @param params     参数收集列表，按占位符序号追加参数
+	 * @return 带占位符的 SQL 片段
+	 * @since 2.2.0
+	 */
+	protected String buildKeysetSeekSql(List<String> columns, Object[] lastValues, boolean asc, List<Object> params) {
+		String rangeOperator = asc ? " >= " : " <= ";
+		String seekOperator = asc ? " > " : " < ";
+
+		StringBuilder builder = new StringBuilder();
+		if (columns.size() > 1) {
+			builder.append(columns.get(0)).append(rangeOperator).append(appendSqlParam(params, lastValues[0]))
+				.append(" AND ");
+		}
+		builder.append('(');
+		for (int i = 0; i < columns.size(); i++) {
+			if (i > 0) {
+				builder.append(" OR ");
+			}
+			builder.append('(');
+			for (int j = 0; j < i; j++) {
+				builder.append(columns.get(j)).append(" = ").append(appendSqlParam(params, lastValues[j])).append(" AND ");
+			}
+			builder.append(columns.get(i)).append(seekOperator).append(appendSqlParam(params, lastValues[i]))
+				.append(')');
+		}
+		return builder.append(')').toString();
+	}
+
+	private static String appendSqlParam(List<Object> params, Object value) {
+		params.add(value);
+		return "{" + (params.size() - 1) + "}";
+	}
+
+	/**
+	 * 构建 JSON 键（路径）存在条件，已登记生成列时使用 {@code generated IS NOT NULL}。
+	 *
+	 * @param column 列名（物理列名）
+	 * @param key    键（路径）
+	 * @return SQL 片段
+	 * @throws IllegalArgumentException 当列名或键不合法
+	 * @since 2.2.0
+	 */
+	protected String jsonKeyExistsSql(String column, String key) {
+		String sql = JsonPredicates.keyExists(column, key);
+		String generatedColumn = resolveJsonGeneratedColumn(column, key, JsonQueryType.KEY_EXISTS, null);
+		return Objects.nonNull(generatedColumn) ? JsonPredicates.generatedColumnNotNull(generatedColumn) : sql;
+	}
+
+	/**
+	 * 记录 JSON 键查询并查找可替代的生成列。
+	 *
+	 * <p>调用前应已完成列名与键的校验，避免将非法输入记录到顾问中。</p>
+	 *
+	 * @param column JSON 列名
+	 * @param key    键（路径）
+	 * @param type   查询类型
+	 * @param sample 查询值样本，可为 {@code null}
+	 * @return 已登记的生成列名，未设置顾问、未登记或未开启改写时返回 {@code null}
+	 * @since 2.2.0
+	 */
+	protected @Nullable String resolveJsonGeneratedColumn(String column, String key, JsonQueryType type,
+														   @Nullable Object sample) {
+		JsonIndexAdvisor advisor = this.jsonIndexAdvisor;
+		if (Objects.isNull(advisor)) {
+			return null;
+		}
+		String tableName = getTableName();
+		advisor.record(tableName, column, key, type, sample);
+		return advisor.findGeneratedColumn(tableName, column, key);
+	}
+
+	/**
+	 * 记录 JSON 数组查询并判断是否可使用多值索引。
+	 *
+	 * <p>调用前应已完成列名的校验，避免将非法输入记录到顾问中。</p>
+	 *
+	 * @param column JSON 列名
+	 * @param type   查询类型
+	 * @param sample 查询值样本，可为 {@code null}
+	 * @return 已登记多值索引且开启改写时返回 {@code true}
+	 * @since 2.2.0
+	 */
+	protected boolean resolveJsonMultiValuedIndex(String column, JsonQueryType type, @Nullable Object sample) {
+		JsonIndexAdvisor advisor = this.jsonIndexAdvisor;
+		if (Objects.isNull(advisor)) {
 			return false;
 		}
-		return lambdaUpdate()
-			.notLikeRight(column, value)
-			.remove();
+		String tableName = getTableName();
+		advisor.record(tableName, column, null, type, sample);
+		return advisor.hasMultiValuedIndex(tableName, column);
+	}
+
+	/**
+	 * 获取实体对应的表名。
+	 *
+	 * @return 表名
+	 * @throws IllegalStateException 当无法获取实体的表信息
+	 * @since 2.2.0
+	 */
+	protected String getTableName() {
+		TableInfo tableInfo = TableInfoHelper.getTableInfo(getEntityClass());
+		if (Objects.isNull(tableInfo)) {
+			throw new IllegalStateException("无法获取实体 [" + getEntityClass().getName() + "] 的表信息");
+		}
+		return tableInfo.getTableName();
+	}
+
+	/**
+	 * 获取实体的主键值。
+	 *
+	 * @param entity 实体
+	 * @return 主键值
+	 * @throws IllegalStateException 当实体未声明主键或主键值为 {@code null}
+	 * @since 2.2.0
+	 */
+	protected Object getKeyValue(T entity) {
+		TableInfo tableInfo = getKeyTableInfo();
+		Object keyValue = tableInfo.getPropertyValue(entity, tableInfo.getKeyProperty());
+		if (Objects.isNull(keyValue)) {
+			throw new IllegalStateException("实体 [" + tableInfo.getEntityType().getName() + "] 的主键值为null");
+		}
+		return keyValue;
+	}
+
+	/**
+	 * 获取声明了主键的实体表信息。
+	 *
+	 * @return 实体表信息
+	 * @throws IllegalStateException 当无法获取表信息或实体未声明主键
+	 * @since 2.2.0
+	 */
+	protected TableInfo getKeyTableInfo() {
+		TableInfo tableInfo = TableInfoHelper.getTableInfo(getEntityClass());
+		if (Objects.isNull(tableInfo) || !tableInfo.havePK()) {
+			throw new IllegalStateException("实体 [" + getEntityClass().getName() + "] 未声明主键");
+		}
+		return tableInfo;
 	}
 
 	/**
@@ -997,4 +3447,52 @@ public abstract class BaseRepository<M extends BaseMapper<T>, T> extends CrudRep
 			fieldName, instantiatedClass.getName());
 		return columnCache.getColumn();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 基于主键键集分页的惰性迭代器，仅在当前批次消费完毕后查询下一批。
+	 *
+	 * @since 2.2.0
+	 */
+	private final class KeysetIterator implements Iterator<T> {
+		private final Consumer<LambdaQueryWrapper<T>> condition;
+		private final String selectColumn;
+		private final int batchSize;
+
+		private Iterator<T> batchIterator = Collections.emptyIterator();
+		private Object lastKey = null;
+		private boolean exhausted = false;
+		private volatile boolean closed = false;
+
+		KeysetIterator(@Nullable Consumer<LambdaQueryWrapper<T>> condition, @Nullable String selectColumn, int batchSize) {
+			this.condition = condition;
+			this.selectColumn = selectColumn;
+			this.batchSize = batchSize;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (!closed && !batchIterator.hasNext() && !exhausted) {
+				List<T> batch = listNextKeysetBatch(condition, selectColumn, lastKey, batchSize);
+				exhausted = batch.size() < batchSize;
+				if (!batch.isEmpty()) {
+					lastKey = getKeyValue(batch.get(batch.size() - 1));
+				}
+				batchIterator = batch.iterator();
+			}
+			return !closed && batchIterator.hasNext();
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return batchIterator.next();
+		}
+
+		void close() {
+			closed = true;
+			batchIterator = Collections.emptyIterator();
+		}
+	}
+}
@@ -17,15 +17,33 @@
 package io.github.pangju666.framework.data.mybatisplus.repository;
 
 import com.baomidou.mybatisplus.core.conditions.Wrapper;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
 import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
 import com.baomidou.mybatisplus.extension.conditions.update.LambdaUpdateChainWrapper;
 import com.baomidou.mybatisplus.extension.conditions.update.UpdateChainWrapper;
 import com.baomidou.mybatisplus.extension.kotlin.KtUpdateChainWrapper;
+import io.github.pangju666.framework.data.mybatisplus.batch.PurgeJob;
+import io.github.pangju666.framework.data.mybatisplus.metrics.RepositoryInstrumentation;
+import io.github.pangju666.framework.data.mybatisplus.model.bulk.BulkWriteResult;
+import io.github.pangju666.framework.data.mybatisplus.model.snapshot.ViewSnapshotStats;
+import io.github.pangju666.framework.data.mybatisplus.routing.ReadWriteRoutingDataSource;
+import io.github.pangju666.framework.data.mybatisplus.uitls.EntityUtils;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.ibatis.exceptions.TooManyResultsException;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
 
 import java.io.Serializable;
-import java.util.Collection;
-import java.util.Map;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 /**
  * 只读仓储基类，用于绑定数据库视图（view）或只读表的实体。
@@ -34,6 +52,10 @@ import java.util.Map;
  * <ul>
  *   <li>禁用所有数据写入与删除相关操作，统一抛出 {@code UnsupportedOperationException}。</li>
  *   <li>保留查询相关能力（如单体查询、列表查询、分页、计数、条件构造等），具体实现继承自 {@link BaseRepository}。</li>
+ *   <li>默认将全部查询（包括自定义 Mapper 方法）路由到从库，需配合 {@link ReadWriteRoutingDataSource} 使用，
+ *       可通过 {@link #setReadFromReplica(boolean)} 关闭。</li>
+ *   <li>可选的快照模式：将视图物化为内存快照，按刷新间隔后台刷新并限制最大陈旧度，常用查询直接从快照返回
+ *       （见 {@link #setSnapshotEnabled(boolean)}）。</li>
  * </ul>
  *
  * <p><b>使用场景</b></p>
@@ -50,7 +72,7 @@ import java.util.Map;
  *
  * <p><b>行为约定</b></p>
  * <ul>
- *   <li>所有写操作方法均为 {@code final} 并抛出 {@code UnsupportedOperationException}（包括 save、update、remove、批量写、链式更新等）。</li>
+ *   <li>所有写操作方法均为 {@code final} 并抛出 {@code UnsupportedOperationException}（包括 save、update、remove、批量写、分块删除、墓碑清理任务、链式更新等）。</li>
  *   <li>若后续需要写入能力，请改用 {@link BaseRepository} 或在业务层使用专用写仓储。</li>
  * </ul>
  *
@@ -64,6 +86,447 @@ import java.util.Map;
  * @since 1.0.0
  */
 public abstract class BaseViewRepository<M extends BaseMapper<T>, T> extends BaseRepository<M, T> {
+	/**
+	 * 快照默认刷新间隔
+	 *
+	 * @since 2.2.0
+	 */
+	public static final Duration DEFAULT_SNAPSHOT_REFRESH_INTERVAL = Duration.ofMinutes(1);
+	/**
+	 * 快照默认最大行数
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int DEFAULT_SNAPSHOT_MAX_ROWS = 100_000;
+
+	/**
+	 * 是否开启快照模式
+	 *
+	 * @since 2.2.0
+	 */
+	private volatile boolean snapshotEnabled = false;
+	/**
+	 * 快照刷新间隔（纳秒）
+	 *
+	 * @since 2.2.0
+	 */
+	private volatile long snapshotRefreshIntervalNanos = DEFAULT_SNAPSHOT_REFRESH_INTERVAL.toNanos();
+	/**
+	 * 快照最大陈旧度（纳秒），小于 0 时不限制
+	 *
+	 * @since 2.2.0
+	 */
+	private volatile long snapshotMaxStalenessNanos = -1;
+	/**
+	 * 快照最大行数
+	 *
+	 * @since 2.2.0
+	 */
+	private volatile int snapshotMaxRows = DEFAULT_SNAPSHOT_MAX_ROWS;
+	/**
+	 * 后台刷新快照的执行器，为 {@code null} 时使用默认执行器
+	 *
+	 * @since 2.2.0
+	 */
+	private volatile Executor snapshotRefreshExecutor = null;
+	/**
+	 * 当前快照
+	 *
+	 * @since 2.2.0
+	 */
+	private volatile ViewSnapshot<T> snapshot = null;
+	/**
+	 * 下次允许刷新快照的时间（纳秒），用于刷新失败或行数超限后的退避
+	 *
+	 * @since 2.2.0
+	 */
+	private volatile long snapshotNextAttemptNanos = 0;
+	private volatile long snapshotLastRefreshNanos = 0;
+	private volatile boolean snapshotOversized = false;
+	private final AtomicBoolean snapshotRefreshing = new AtomicBoolean();
+	private final AtomicLong snapshotRefreshCount = new AtomicLong();
+	private final AtomicLong snapshotFailureCount = new AtomicLong();
+	private final Object snapshotLock = new Object();
+
+	/**
+	 * 创建只读仓储，默认开启从库读取。
+	 *
+	 * @since 2.2.0
+	 */
+	protected BaseViewRepository() {
+		setReadFromReplica(true);
+	}
+
+	/**
+	 * 只读仓储的 Mapper 不执行写操作，全部方法均可路由到从库。
+	 *
+	 * @param method Mapper 方法
+	 * @return 始终返回 {@code true}
+	 * @since 2.2.0
+	 */
+	@Override
+	protected boolean isReplicaQuery(Method method) {
+		return true;
+	}
+
+	/**
+	 * 是否开启快照模式。
+	 *
+	 * @return 开启时返回 {@code true}
+	 * @since 2.2.0
+	 */
+	public boolean isSnapshotEnabled() {
+		return snapshotEnabled;
+	}
+
+	/**
+	 * 设置是否开启快照模式（默认关闭）。
+	 *
+	 * <p>开启后，视图的全部行会加载到内存快照中（首次查询时同步加载），{@link #list()}、{@link #count()}、
+	 * {@link #listColumnValue(SFunction)}、{@link #listUniqueColumnValue(SFunction)}、{@link #getByColumnValue(SFunction, Object)}、
+	 * {@link #getOptByColumnValue(SFunction, Object)}、{@link #listByColumnValue(SFunction, Object)}、
+	 * {@link #listByColumnValues(SFunction, Collection, int)}、{@link #listByColumnNull(SFunction)}、
+	 * {@link #listByColumnNotNull(SFunction)}、{@link #existsByColumnValue(SFunction, Object)} 及
+	 * {@link #notExistsByColumnValue(SFunction, Object)} 直接从快照返回，按列的等值查询使用懒加载的内存索引；其它查询仍访问数据库。</p>
+	 * <p>快照超过刷新间隔后由后台异步刷新，刷新期间继续使用旧快照；超过最大陈旧度的快照不再使用，查询回退到数据库。
+	 * 也可在数据变更事件或定时任务中调用 {@link #refreshSnapshot()} 主动刷新。</p>
+	 * <p>适用于行数较少、查询代价高的聚合视图。值比较使用 Java 的相等语义（数值按大小比较），
+	 * 与数据库排序规则（如大小写不敏感）不同时结果可能不一致；快照返回的实体被多个调用方共享，调用方不应修改。</p>
+	 *
+	 * @param snapshotEnabled 是否开启，关闭时丢弃当前快照
+	 * @since 2.2.0
+	 */
+	public void setSnapshotEnabled(boolean snapshotEnabled) {
+		this.snapshotEnabled = snapshotEnabled;
+		if (!snapshotEnabled) {
+			this.snapshot = null;
+		}
+	}
+
+	/**
+	 * 设置快照的刷新间隔（默认为 {@link #DEFAULT_SNAPSHOT_REFRESH_INTERVAL}）。
+	 *
+	 * <p>同时决定刷新失败或行数超限后多久重试。</p>
+	 *
+	 * @param refreshInterval 刷新间隔，必须大于 0
+	 * @throws IllegalArgumentException 当 {@code refreshInterval} 为 {@code null} 或不大于 0
+	 * @since 2.2.0
+	 */
+	public void setSnapshotRefreshInterval(Duration refreshInterval) {
+		Assert.notNull(refreshInterval, "refreshInterval 不可为null");
+		Assert.isTrue(refreshInterval.compareTo(Duration.ZERO) > 0, "refreshInterval 必须大于0");
+		this.snapshotRefreshIntervalNanos = refreshInterval.toNanos();
+	}
+
+	/**
+	 * 设置快照允许的最大陈旧度（默认不限制）。
+	 *
+	 * <p>快照陈旧度超过该值（如后台刷新持续失败）时查询回退到数据库，保证返回数据的陈旧度有上界。
+	 * 建议设置为刷新间隔加上一次刷新的预期耗时以上。</p>
+	 *
+	 * @param maxStaleness 最大陈旧度，为 {@code null} 时不限制
+	 * @throws IllegalArgumentException 当 {@code maxStaleness} 为负数
+	 * @since 2.2.0
+	 */
+	public void setSnapshotMaxStaleness(@Nullable Duration maxStaleness) {
+		Assert.isTrue(Objects.isNull(maxStaleness) || !maxStaleness.isNegative(), "maxStaleness 不可为负数");
+		this.snapshotMaxStalenessNanos = Objects.isNull(maxStaleness) ? -1 : maxStaleness.toNanos();
+	}
+
+	/**
+	 * 设置快照的最大行数（默认为 {@link #DEFAULT_SNAPSHOT_MAX_ROWS}）。
+	 *
+	 * <p>视图行数超过该值时放弃本次刷新并丢弃当前快照，查询回退到数据库，下一个刷新间隔后重试。</p>
+	 *
+	 * @param maxRows 最大行数，必须大于 0
+	 * @throws IllegalArgumentException 当 {@code maxRows} 小于等于 0
+	 * @since 2.2.0
+	 */
+	public void setSnapshotMaxRows(int maxRows) {
+		Assert.isTrue(maxRows > 0, "maxRows 必须大于0");
+		this.snapshotMaxRows = maxRows;
+	}
+
+	/**
+	 * 设置后台刷新快照的执行器。
+	 *
+	 * @param executor 执行器，为 {@code null} 时使用默认执行器（JDK 21+ 使用虚拟线程，否则使用守护线程池）
+	 * @since 2.2.0
+	 */
+	public void setSnapshotRefreshExecutor(@Nullable Executor executor) {
+		this.snapshotRefreshExecutor = executor;
+	}
+
+	/**
+	 * 立即刷新快照（在当前线程同步执行）。
+	 *
+	 * <p>适合在视图依赖的数据变更后或定时任务中调用。刷新失败时保留旧快照并抛出异常；开启观测时，
+	 * 刷新耗时以方法名 {@code refreshSnapshot} 记录（见 {@link #setInstrumentation(RepositoryInstrumentation)}）。</p>
+	 *
+	 * @return 刷新成功返回 {@code true}；视图行数超过上限时返回 {@code false}
+	 * @throws IllegalStateException 当未开启快照模式
+	 * @since 2.2.0
+	 */
+	public boolean refreshSnapshot() {
+		Assert.state(snapshotEnabled, "未开启快照模式");
+
+		synchronized (snapshotLock) {
+			return loadSnapshot();
+		}
+	}
+
+	/**
+	 * 获取快照统计。
+	 *
+	 * @return 快照统计
+	 * @since 2.2.0
+	 */
+	public ViewSnapshotStats getSnapshotStats() {
+		ViewSnapshot<T> current = this.snapshot;
+		Duration lastRefresh = Duration.ofNanos(snapshotLastRefreshNanos);
+		if (Objects.isNull(current)) {
+			return new ViewSnapshotStats(false, 0, null, Duration.ZERO, lastRefresh,
+				snapshotRefreshCount.get(), snapshotFailureCount.get(), snapshotOversized);
+		}
+		return new ViewSnapshotStats(true, current.rows().size(), current.loadedAt(),
+			Duration.ofNanos(System.nanoTime() - current.loadedAtNanos()), lastRefresh,
+			snapshotRefreshCount.get(), snapshotFailureCount.get(), snapshotOversized);
+	}
+
+	/**
+	 * 开启快照模式时从快照返回全部行，否则查询数据库。
+	 *
+	 * @return 全部行
+	 * @since 2.2.0
+	 */
+	@Override
+	public List<T> list() {
+		ViewSnapshot<T> current = currentSnapshot();
+		if (Objects.isNull(current)) {
+			return super.list();
+		}
+		return new ArrayList<>(current.rows());
+	}
+
+	/**
+	 * 开启快照模式时返回快照的行数，否则查询数据库。
+	 *
+	 * @return 行数
+	 * @since 2.2.0
+	 */
+	@Override
+	public long count() {
+		ViewSnapshot<T> current = currentSnapshot();
+		if (Objects.isNull(current)) {
+			return super.count();
+		}
+		return current.rows().size();
+	}
+
+	@Override
+	public <V> List<V> listColumnValue(SFunction<T, V> column) {
+		ViewSnapshot<T> current = currentSnapshot();
+		if (Objects.isNull(current)) {
+			return super.listColumnValue(column);
+		}
+		Assert.notNull(column, "column 不可为null");
+		return EntityUtils.getFieldValueList(current.rows(), column);
+	}
+
+	@Override
+	public <V> List<V> listUniqueColumnValue(SFunction<T, V> column) {
+		ViewSnapshot<T> current = currentSnapshot();
+		if (Objects.isNull(current)) {
+			return super.listUniqueColumnValue(column);
+		}
+		Assert.notNull(column, "column 不可为null");
+		return EntityUtils.getUniqueFieldValueList(current.rows(), column);
+	}
+
+	@Override
+	public <V> T getByColumnValue(SFunction<T, V> column, V value) {
+		ViewSnapshot<T> current = currentSnapshot();
+		if (Objects.isNull(current)) {
+			return super.getByColumnValue(column, value);
+		}
+		Assert.notNull(column, "column 不可为null");
+		List<T> rows = current.find(columnToString(column), column, value);
+		if (rows.size() > 1) {
+			throw new TooManyResultsException("Expected one result (or null) to be returned by selectOne(), but found: " +
+				rows.size());
+		}
+		return rows.isEmpty() ? null : rows.get(0);
+	}
+
+	@Override
+	public <V> Optional<T> getOptByColumnValue(SFunction<T, V> column, V value) {
+		if (Objects.isNull(currentSnapshot())) {
+			return super.getOptByColumnValue(column, value);
+		}
+		return Optional.ofNullable(getByColumnValue(column, value));
+	}
+
+	@Override
+	public <V> List<T> listByColumnValue(SFunction<T, V> column, V value) {
+		ViewSnapshot<T> current = currentSnapshot();
+		if (Objects.isNull(current)) {
+			return super.listByColumnValue(column, value);
+		}
+		Assert.notNull(column, "column 不可为null");
+		return new ArrayList<>(current.find(columnToString(column), column, value));
+	}
+
+	@Override
+	public <V> List<T> listByColumnValues(SFunction<T, V> column, Collection<V> values, int batchSize) {
+		ViewSnapshot<T> current = currentSnapshot();
+		if (Objects.isNull(current)) {
+			return super.listByColumnValues(column, values, batchSize);
+		}
+		Assert.notNull(column, "column 不可为null");
+		Assert.isTrue(batchSize > 0, "batchSize 必须大于0");
+		if (CollectionUtils.isEmpty(values)) {
+			return Collections.emptyList();
+		}
+		return current.findAll(columnToString(column), column, values);
+	}
+
+	@Override
+	public <V> List<T> listByColumnNotNull(SFunction<T, V> column) {
+		ViewSnapshot<T> current = currentSnapshot();
+		if (Objects.isNull(current)) {
+			return super.listByColumnNotNull(column);
+		}
+		return current.findNull(columnToString(column), column, false);
+	}
+
+	@Override
+	public <V> List<T> listByColumnNull(SFunction<T, V> column) {
+		ViewSnapshot<T> current = currentSnapshot();
+		if (Objects.isNull(current)) {
+			return super.listByColumnNull(column);
+		}
+		return new ArrayList<>(current.findNull(columnToString(column), column, true));
+	}
+
+	@Override
+	public <V> boolean existsByColumnValue(SFunction<T, V> column, @Nullable V value) {
+		ViewSnapshot<T> current = currentSnapshot();
+		if (Objects.isNull(current)) {
+			return super.existsByColumnValue(column, value);
+		}
+		Assert.notNull(column, "column 不可为null");
+		return !current.find(columnToString(column), column, value).isEmpty();
+	}
+
+	@Override
+	public <V> boolean notExistsByColumnValue(SFunction<T, V> column, @Nullable V value) {
+		ViewSnapshot<T> current = currentSnapshot();
+		if (Objects.isNull(current)) {
+			return super.notExistsByColumnValue(column, value);
+		}
+		Assert.notNull(column, "column 不可为null");
+		if (Objects.isNull(value)) {
+			return !current.findNull(columnToString(column), column, false).isEmpty();
+		}
+		return current.find(columnToString(column), column, value).isEmpty();
+	}
+
+	/**
+	 * 获取可用于查询的快照，必要时加载或触发后台刷新。
+	 *
+	 * @return 快照；未开启快照模式、加载失败、行数超限或超过最大陈旧度时返回 {@code null}（查询应回退到数据库）
+	 */
+	private @Nullable ViewSnapshot<T> currentSnapshot() {
+		if (!snapshotEnabled) {
+			return null;
+		}
+
+		ViewSnapshot<T> current = this.snapshot;
+		long now = System.nanoTime();
+		if (Objects.isNull(current)) {
+			if (now - snapshotNextAttemptNanos < 0) {
+				return null;
+			}
+			synchronized (snapshotLock) {
+				current = this.snapshot;
+				if (Objects.isNull(current) && now - snapshotNextAttemptNanos >= 0) {
+					try {
+						loadSnapshot();
+					} catch (RuntimeException e) {
+						return null;
+					}
+					current = this.snapshot;
+				}
+			}
+			return current;
+		}
+
+		long age = now - current.loadedAtNanos();
+		if (age >= snapshotRefreshIntervalNanos && now - snapshotNextAttemptNanos >= 0) {
+			refreshSnapshotAsync();
+		}
+		long maxStaleness = snapshotMaxStalenessNanos;
+		if (maxStaleness >= 0 && age > maxStaleness) {
+			return null;
+		}
+		return current;
+	}
+
+	private void refreshSnapshotAsync() {
+		if (!snapshotRefreshing.compareAndSet(false, true)) {
+			return;
+		}
+		Executor executor = Objects.nonNull(snapshotRefreshExecutor) ? snapshotRefreshExecutor :
+			RepositoryExecutors.getDefaultExecutor();
+		try {
+			executor.execute(() -> {
+				try {
+					synchronized (snapshotLock) {
+						loadSnapshot();
+					}
+				} catch (RuntimeException ignored) {
+					// 失败已计数，保留旧快照直到超过最大陈旧度
+				} finally {
+					snapshotRefreshing.set(false);
+				}
+			});
+		} catch (RuntimeException e) {
+			snapshotRefreshing.set(false);
+		}
+	}
+
+	/**
+	 * 从数据库加载快照，需持有 {@link #snapshotLock}。
+	 *
+	 * @return 加载成功返回 {@code true}；行数超过上限时返回 {@code false}
+	 */
+	private boolean loadSnapshot() {
+		int maxRows = this.snapshotMaxRows;
+		long start = System.nanoTime();
+		snapshotNextAttemptNanos = start + snapshotRefreshIntervalNanos;
+		List<T> rows;
+		try {
+			rows = instrument("refreshSnapshot", () -> getBaseMapper().selectList(
+				Wrappers.<T>query().last("LIMIT " + (maxRows + 1))));
+		} catch (RuntimeException | Error e) {
+			snapshotFailureCount.incrementAndGet();
+			throw e;
+		}
+
+		if (rows.size() > maxRows) {
+			snapshotFailureCount.incrementAndGet();
+			snapshotOversized = true;
+			this.snapshot = null;
+			return false;
+		}
+		long end = System.nanoTime();
+		this.snapshot = new ViewSnapshot<>(new ArrayList<>(rows), end, Instant.now());
+		snapshotOversized = false;
+		snapshotLastRefreshNanos = end - start;
+		snapshotRefreshCount.incrementAndGet();
+		return true;
+	}
+
 	@Override
 	public final boolean save(T entity) {
 		throw new UnsupportedOperationException();
@@ -218,4 +681,49 @@ public abstract class BaseViewRepository<M extends BaseMapper<T>, T> extends Bas
 	public final boolean removeByColumnLikeRight(SFunction<T, String> column, String value) {
 		throw new UnsupportedOperationException();
 	}
-}
\ No newline at end of file
+
+	@Override
+	public final BulkWriteResult bulkInsert(Collection<T> entities) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public final BulkWriteResult bulkInsert(Collection<T> entities, int batchSize) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public final BulkWriteResult bulkUpsert(Collection<T> entities) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public final BulkWriteResult bulkUpsert(Collection<T> entities, int batchSize) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public final long removeInChunks(@Nullable Consumer<LambdaQueryWrapper<T>> condition, int chunkSize) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public final <V> long removeByColumnValueInChunks(SFunction<T, V> column, @Nullable V value, int chunkSize) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public final PurgeJob purgeDeletedJob(@Nullable Duration retention, int chunkSize) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public final PurgeJob archiveDeletedJob(String archiveTable, @Nullable Duration retention, int chunkSize) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	protected final PurgeJob createPurgeJob(@Nullable String archiveTable, @Nullable Duration retention, int chunkSize) {
+		throw new UnsupportedOperationException();
+	}
+}
@@ -0,0 +1,468 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.repository;
+
+import com.baomidou.mybatisplus.annotation.FieldFill;
+import com.baomidou.mybatisplus.annotation.FieldStrategy;
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.core.incrementer.IdentifierGenerator;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.toolkit.ExceptionUtils;
+import com.baomidou.mybatisplus.core.toolkit.GlobalConfigUtils;
+import io.github.pangju666.commons.lang.utils.StringUtils;
+import io.github.pangju666.framework.data.mybatisplus.model.bulk.BulkWriteResult;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+import org.apache.ibatis.type.TypeHandlerRegistry;
+import org.jspecify.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.time.Duration;
+import java.time.temporal.Temporal;
+import java.util.*;
+
+/**
+ * 多行 {@code INSERT ... VALUES (...),(...)} 批量写入器。
+ *
+ * <p>根据实体表信息生成列清单与类型处理器，将实体按批大小、占位符上限与 {@code max_allowed_packet} 切分为多个分块，
+ * 每个分块执行一条多行 SQL。插入或更新使用 MySQL 的 {@code ON DUPLICATE KEY UPDATE}。</p>
+ *
+ * <p>{@code null} 值按字段策略处理，与 MyBatis-Plus 单条写入一致：插入策略为 {@code NOT_NULL}/{@code NOT_EMPTY}
+ * 的空值不写入该列（使用列默认值），更新策略为 {@code NOT_NULL}/{@code NOT_EMPTY} 的空值不覆盖已有值；
+ * 策略为 {@code ALWAYS} 时写入 {@code NULL}。同一分块内空值列不同的行拆分为多条 SQL 执行。</p>
+ *
+ * <p>写入前按 MyBatis-Plus 的约定准备实体：生成 {@link IdType#ASSIGN_ID}/{@link IdType#ASSIGN_UUID} 主键、
+ * 执行 {@code MetaObjectHandler#insertFill}、为 {@code null} 的乐观锁版本号设置初始值 1、为 {@code null} 的逻辑删除字段设置未删除值。</p>
+ *
+ * @param <T> 实体类型
+ * @author pangju666
+ * @since 2.2.0
+ */
+final class BulkWriter<T> {
+	/**
+	 * 单条预编译语句的占位符上限（MySQL 协议限制）。
+	 *
+	 * @since 2.2.0
+	 */
+	static final int MAX_PARAMETERS = 65535;
+	/**
+	 * 无法获取 {@code max_allowed_packet} 时使用的包大小（MySQL 5.7 的默认值）。
+	 *
+	 * @since 2.2.0
+	 */
+	static final long DEFAULT_MAX_PACKET_BYTES = 4L * 1024 * 1024;
+	/**
+	 * 为协议头与估算误差预留的包大小比例。
+	 *
+	 * @since 2.2.0
+	 */
+	private static final double PACKET_USAGE_RATIO = 0.8;
+	/**
+	 * 无法估算大小的值按该字节数计算。
+	 *
+	 * @since 2.2.0
+	 */
+	private static final int DEFAULT_VALUE_BYTES = 32;
+
+	private final TableInfo tableInfo;
+	private final List<Column> columns;
+	private final @Nullable Column keyColumn;
+	private final @Nullable TableFieldInfo versionFieldInfo;
+	private final @Nullable TableFieldInfo logicDeleteFieldInfo;
+
+	BulkWriter(TableInfo tableInfo) {
+		this.tableInfo = tableInfo;
+		this.versionFieldInfo = tableInfo.isWithVersion() ? tableInfo.getVersionFieldInfo() : null;
+		this.logicDeleteFieldInfo = tableInfo.isWithLogicDelete() ? tableInfo.getLogicDeleteFieldInfo() : null;
+
+		TypeHandlerRegistry registry = tableInfo.getConfiguration().getTypeHandlerRegistry();
+		List<Column> columns = new ArrayList<>(tableInfo.getFieldList().size() + 1);
+		if (tableInfo.havePK()) {
+			this.keyColumn = new Column(tableInfo.getKeyColumn(), tableInfo.getKeyProperty(), tableInfo.getKeyType(),
+				resolveTypeHandler(registry, tableInfo.getKeyType(), null, null), null, null, false,
+				FieldStrategy.NOT_NULL, FieldStrategy.NEVER);
+			columns.add(keyColumn);
+		} else {
+			this.keyColumn = null;
+		}
+		for (TableFieldInfo fieldInfo : tableInfo.getFieldList()) {
+			if (fieldInfo.getInsertStrategy() == FieldStrategy.NEVER) {
+				continue;
+			}
+			columns.add(new Column(fieldInfo.getColumn(), fieldInfo.getProperty(), fieldInfo.getPropertyType(),
+				resolveTypeHandler(registry, fieldInfo.getPropertyType(), fieldInfo.getTypeHandler(), fieldInfo.getJdbcType()),
+				fieldInfo.getJdbcType(), buildUpdateSql(fieldInfo),
+				fieldInfo.isVersion() || StringUtils.isNotBlank(fieldInfo.getUpdate()),
+				fieldInfo.getInsertStrategy(), fieldInfo.getUpdateStrategy()));
+		}
+		this.columns = Collections.unmodifiableList(columns);
+	}
+
+	/**
+	 * 查询当前连接的 {@code max_allowed_packet}。
+	 *
+	 * @param connection 数据库连接
+	 * @return 包大小（字节），查询失败（如非 MySQL 数据库）时返回 {@link #DEFAULT_MAX_PACKET_BYTES}
+	 * @since 2.2.0
+	 */
+	static long detectMaxPacketBytes(Connection connection) {
+		try (Statement statement = connection.createStatement();
+			 ResultSet resultSet = statement.executeQuery("SELECT @@max_allowed_packet")) {
+			if (resultSet.next() && resultSet.getLong(1) > 0) {
+				return resultSet.getLong(1);
+			}
+		} catch (SQLException ignored) {
+		}
+		return DEFAULT_MAX_PACKET_BYTES;
+	}
+
+	/**
+	 * 执行批量写入。
+	 *
+	 * @param connection     数据库连接，由调用方管理生命周期与事务
+	 * @param entities       实体列表，不可为空
+	 * @param upsert         是否使用 {@code ON DUPLICATE KEY UPDATE}
+	 * @param batchSize      每个分块的最大行数
+	 * @param maxPacketBytes 单条 SQL 的最大字节数
+	 * @return 写入结果
+	 * @since 2.2.0
+	 */
+	BulkWriteResult write(Connection connection, List<T> entities, boolean upsert, int batchSize, long maxPacketBytes) {
+		Configuration configuration = tableInfo.getConfiguration();
+		for (T entity : entities) {
+			prepare(configuration, entity);
+		}
+
+		long packetBudget = (long) (maxPacketBytes * PACKET_USAGE_RATIO);
+		int rowsPerParameterLimit = Math.max(1, MAX_PARAMETERS / columns.size());
+		long headerBytes = buildHeader(columns).length() + (upsert ? buildUpsertSuffix(columns).length() : 0);
+
+		List<BulkWriteResult.Chunk> chunks = new ArrayList<>();
+		long affectedRows = 0;
+		int start = 0;
+		while (start < entities.size()) {
+			long chunkBytes = headerBytes;
+			int end = start;
+			while (end < entities.size() && end - start < batchSize && end - start < rowsPerParameterLimit) {
+				long rowBytes = estimateRowBytes(entities.get(end));
+				if (end > start && chunkBytes + rowBytes > packetBudget) {
+					break;
+				}
+				chunkBytes += rowBytes;
+				++end;
+			}
+
+			List<T> chunk = entities.subList(start, end);
+			long begin = System.nanoTime();
+			long chunkAffectedRows = writeChunk(connection, configuration, chunk, upsert);
+			chunks.add(new BulkWriteResult.Chunk(chunks.size(), chunk.size(), chunkBytes, chunkAffectedRows,
+				Duration.ofNanos(System.nanoTime() - begin)));
+			affectedRows += chunkAffectedRows;
+			start = end;
+		}
+		return new BulkWriteResult(entities.size(), affectedRows, Collections.unmodifiableList(chunks));
+	}
+
+	private long writeChunk(Connection connection, Configuration configuration, List<T> chunk, boolean upsert) {
+		// 按各列的写入状态分组，同一组内的行使用相同的列清单与更新片段
+		Map<BitSet, List<Object[]>> groups = new LinkedHashMap<>();
+		Map<BitSet, List<T>> groupEntities = new HashMap<>();
+		for (T entity : chunk) {
+			Object[] values = new Object[columns.size()];
+			BitSet states = new BitSet(columns.size() * 2);
+			for (int i = 0; i < columns.size(); i++) {
+				Column column = columns.get(i);
+				Object value = getColumnValue(entity, column);
+				values[i] = value;
+				boolean updated = upsert && Objects.nonNull(column.updateSql()) && !column.updateAlways() &&
+					!isEmptyValue(value, column.updateStrategy());
+				// 偶数位：写入该列；奇数位：插入或更新时以新值更新该列
+				states.set(i * 2, updated || !isEmptyValue(value, column.insertStrategy()));
+				states.set(i * 2 + 1, updated);
+			}
+			groups.computeIfAbsent(states, key -> new ArrayList<>()).add(values);
+			groupEntities.computeIfAbsent(states, key -> new ArrayList<>()).add(entity);
+		}
+
+		JdbcType jdbcTypeForNull = configuration.getJdbcTypeForNull();
+		long affectedRows = 0;
+		for (Map.Entry<BitSet, List<Object[]>> group : groups.entrySet()) {
+			BitSet states = group.getKey();
+			List<Integer> indexes = new ArrayList<>(columns.size());
+			List<Column> groupColumns = new ArrayList<>(columns.size());
+			List<Column> updateColumns = new ArrayList<>(columns.size());
+			for (int i = 0; i < columns.size(); i++) {
+				Column column = columns.get(i);
+				if (states.get(i * 2)) {
+					indexes.add(i);
+					groupColumns.add(column);
+				}
+				if (Objects.nonNull(column.updateSql()) && (column.updateAlways() || states.get(i * 2 + 1))) {
+					updateColumns.add(column);
+				}
+			}
+			// 自增主键且组内均未指定主键时不写主键列，并回填数据库生成的主键
+			boolean generateKeys = !upsert && Objects.nonNull(keyColumn) && tableInfo.getIdType() == IdType.AUTO &&
+				!states.get(0);
+
+			String sql = buildSql(groupColumns, group.getValue().size(), upsert ? updateColumns : null);
+			try (PreparedStatement statement = generateKeys ?
+				connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql)) {
+				int parameterIndex = 1;
+				for (Object[] values : group.getValue()) {
+					for (int i = 0; i < indexes.size(); i++) {
+						Column column = groupColumns.get(i);
+						Object value = values[indexes.get(i)];
+						// 未声明 JDBC 类型的 null 值使用全局配置的 jdbcTypeForNull，与 MyBatis 参数处理一致
+						JdbcType jdbcType = Objects.isNull(value) && Objects.isNull(column.jdbcType()) ?
+							jdbcTypeForNull : column.jdbcType();
+						column.typeHandler().setParameter(statement, parameterIndex++, value, jdbcType);
+					}
+				}
+				affectedRows += statement.executeUpdate();
+				if (generateKeys) {
+					fillGeneratedKeys(statement, groupEntities.get(states));
+				}
+			} catch (SQLException e) {
+				throw ExceptionUtils.mpe("批量写入表 %s 失败", e, tableInfo.getTableName());
+			}
+		}
+		return affectedRows;
+	}
+
+	private void fillGeneratedKeys(PreparedStatement statement, List<T> chunk) throws SQLException {
+		try (ResultSet resultSet = statement.getGeneratedKeys()) {
+			Iterator<T> iterator = chunk.iterator();
+			while (iterator.hasNext() && resultSet.next()) {
+				Object key = convertNumber(resultSet.getObject(1), keyColumn.javaType());
+				tableInfo.setPropertyValue(iterator.next(), keyColumn.property(), key);
+			}
+		}
+	}
+
+	private void prepare(Configuration configuration, T entity) {
+		if (Objects.nonNull(keyColumn) && Objects.isNull(tableInfo.getPropertyValue(entity, keyColumn.property()))) {
+			IdentifierGenerator generator = GlobalConfigUtils.getGlobalConfig(configuration).getIdentifierGenerator();
+			if (tableInfo.getIdType() == IdType.ASSIGN_ID) {
+				Object key = String.class == keyColumn.javaType() ? generator.nextId(entity).toString() :
+					convertNumber(generator.nextId(entity), keyColumn.javaType());
+				tableInfo.setPropertyValue(entity, keyColumn.property(), key);
+			} else if (tableInfo.getIdType() == IdType.ASSIGN_UUID) {
+				tableInfo.setPropertyValue(entity, keyColumn.property(), generator.nextUUID(entity));
+			}
+		}
+		if (tableInfo.isWithInsertFill()) {
+			GlobalConfigUtils.getMetaObjectHandler(configuration)
+				.ifPresent(handler -> handler.insertFill(configuration.newMetaObject(entity)));
+		}
+		if (Objects.nonNull(versionFieldInfo) &&
+			Objects.isNull(tableInfo.getPropertyValue(entity, versionFieldInfo.getProperty()))) {
+			tableInfo.setPropertyValue(entity, versionFieldInfo.getProperty(),
+				convertNumber(1, versionFieldInfo.getPropertyType()));
+		}
+	}
+
+	private @Nullable Object getColumnValue(T entity, Column column) {
+		Object value = tableInfo.getPropertyValue(entity, column.property());
+		if (Objects.isNull(value) && Objects.nonNull(logicDeleteFieldInfo) &&
+			logicDeleteFieldInfo.getProperty().equals(column.property())) {
+			return convertLiteral(logicDeleteFieldInfo.getLogicNotDeleteValue(), column.javaType());
+		}
+		return value;
+	}
+
+	private long estimateRowBytes(T entity) {
+		// 每个值之间的逗号与行首尾括号
+		long bytes = columns.size() + 2;
+		for (Column column : columns) {
+			bytes += estimateValueBytes(tableInfo.getPropertyValue(entity, column.property()));
+		}
+		return bytes;
+	}
+
+	private String buildSql(List<Column> chunkColumns, int rows, @Nullable List<Column> updateColumns) {
+		String placeholders = "(" + String.join(",", Collections.nCopies(chunkColumns.size(), "?")) + ")";
+		StringBuilder builder = new StringBuilder(buildHeader(chunkColumns));
+		for (int i = 0; i < rows; i++) {
+			if (i > 0) {
+				builder.append(',');
+			}
+			builder.append(placeholders);
+		}
+		if (Objects.nonNull(updateColumns)) {
+			builder.append(buildUpsertSuffix(updateColumns));
+		}
+		return builder.toString();
+	}
+
+	private String buildHeader(List<Column> chunkColumns) {
+		StringJoiner joiner = new StringJoiner(",", "INSERT INTO " + tableInfo.getTableName() + " (", ") VALUES ");
+		for (Column column : chunkColumns) {
+			joiner.add(column.name());
+		}
+		return joiner.toString();
+	}
+
+	private String buildUpsertSuffix(List<Column> updateColumns) {
+		StringJoiner joiner = new StringJoiner(",", " ON DUPLICATE KEY UPDATE ", "");
+		for (Column column : updateColumns) {
+			if (Objects.nonNull(column.updateSql())) {
+				joiner.add(column.updateSql());
+			}
+		}
+		// 所有列均不可更新时，使用主键自赋值使重复行保持不变
+		if (joiner.length() == " ON DUPLICATE KEY UPDATE ".length() && Objects.nonNull(keyColumn)) {
+			joiner.add(keyColumn.name() + " = " + keyColumn.name());
+		}
+		return joiner.toString();
+	}
+
+	private @Nullable String buildUpdateSql(TableFieldInfo fieldInfo) {
+		String column = fieldInfo.getColumn();
+		if (fieldInfo.isVersion()) {
+			return column + " = " + column + " + 1";
+		}
+		if (fieldInfo.getUpdateStrategy() == FieldStrategy.NEVER || fieldInfo.getFieldFill() == FieldFill.INSERT) {
+			return null;
+		}
+		if (StringUtils.isNotBlank(fieldInfo.getUpdate())) {
+			return column + " = " + String.format(fieldInfo.getUpdate(), column);
+		}
+		return column + " = VALUES(" + column + ")";
+	}
+
+	@SuppressWarnings("unchecked")
+	private static TypeHandler<Object> resolveTypeHandler(TypeHandlerRegistry registry, Class<?> javaType,
+														  @Nullable Class<?> typeHandlerClass,
+														  @Nullable JdbcType jdbcType) {
+		TypeHandler<?> typeHandler = null;
+		if (Objects.nonNull(typeHandlerClass)) {
+			typeHandler = registry.getMappingTypeHandler((Class<? extends TypeHandler<?>>) typeHandlerClass);
+			if (Objects.isNull(typeHandler)) {
+				typeHandler = registry.getInstance(javaType, typeHandlerClass);
+			}
+		} else if (javaType != Object.class) {
+			typeHandler = registry.getTypeHandler(javaType, jdbcType);
+		}
+		return (TypeHandler<Object>) Objects.requireNonNullElseGet(typeHandler, registry::getUnknownTypeHandler);
+	}
+
+	/**
+	 * 判断值在给定字段策略下是否视为空值（不写入）。
+	 */
+	private static boolean isEmptyValue(@Nullable Object value, FieldStrategy strategy) {
+		if (strategy != FieldStrategy.NOT_NULL && strategy != FieldStrategy.NOT_EMPTY &&
+			strategy != FieldStrategy.DEFAULT) {
+			return false;
+		}
+		if (Objects.isNull(value)) {
+			return true;
+		}
+		return strategy == FieldStrategy.NOT_EMPTY && value instanceof CharSequence charSequence &&
+			charSequence.isEmpty();
+	}
+
+	private static long estimateValueBytes(@Nullable Object value) {
+		if (Objects.isNull(value)) {
+			return 4;
+		}
+		if (value instanceof CharSequence charSequence) {
+			// 引号与转义字符按 10% 预留
+			return charSequence.toString().getBytes(StandardCharsets.UTF_8).length * 11L / 10 + 2;
+		}
+		if (value instanceof byte[] bytes) {
+			// 客户端预编译以十六进制或转义形式发送二进制
+			return bytes.length * 2L + 3;
+		}
+		if (value instanceof Number || value instanceof Boolean) {
+			return 24;
+		}
+		if (value instanceof java.util.Date || value instanceof Temporal) {
+			return 32;
+		}
+		if (value instanceof Collection<?> || value instanceof Map<?, ?>) {
+			// JSON/列表类型处理器的序列化结果与 toString 长度相近
+			return String.valueOf(value).getBytes(StandardCharsets.UTF_8).length * 12L / 10 + 2;
+		}
+		return DEFAULT_VALUE_BYTES;
+	}
+
+	private static @Nullable Object convertLiteral(@Nullable String literal, Class<?> javaType) {
+		if (Objects.isNull(literal) || "null".equalsIgnoreCase(literal)) {
+			return null;
+		}
+		if (Boolean.class == javaType || boolean.class == javaType) {
+			return "1".equals(literal) || Boolean.parseBoolean(literal);
+		}
+		if (Number.class.isAssignableFrom(javaType) || javaType.isPrimitive()) {
+			return convertNumber(new BigDecimal(literal), javaType);
+		}
+		return literal;
+	}
+
+	private static Object convertNumber(Object value, Class<?> javaType) {
+		if (!(value instanceof Number number) || javaType.isInstance(value)) {
+			return value;
+		}
+		if (Long.class == javaType || long.class == javaType) {
+			return number.longValue();
+		}
+		if (Integer.class == javaType || int.class == javaType) {
+			return number.intValue();
+		}
+		if (Short.class == javaType || short.class == javaType) {
+			return number.shortValue();
+		}
+		if (Byte.class == javaType || byte.class == javaType) {
+			return number.byteValue();
+		}
+		if (BigInteger.class == javaType) {
+			return new BigInteger(number.toString());
+		}
+		if (BigDecimal.class == javaType) {
+			return new BigDecimal(number.toString());
+		}
+		if (String.class == javaType) {
+			return number.toString();
+		}
+		return value;
+	}
+
+	/**
+	 * 写入列
+	 *
+	 * @param name        列名
+	 * @param property    属性名
+	 * @param javaType    属性类型
+	 * @param typeHandler 类型处理器
+	 * @param jdbcType    JDBC 类型，可为 {@code null}
+	 * @param updateSql      插入或更新时的更新片段，为 {@code null} 时不更新该列
+	 * @param updateAlways   更新片段不引用新值（乐观锁版本号、自定义更新 SQL），不受更新策略影响
+	 * @param insertStrategy 插入策略
+	 * @param updateStrategy 更新策略
+	 * @since 2.2.0
+	 */
+	private record Column(String name, String property, Class<?> javaType, TypeHandler<Object> typeHandler,
+						  @Nullable JdbcType jdbcType, @Nullable String updateSql, boolean updateAlways,
+						  FieldStrategy insertStrategy, FieldStrategy updateStrategy) {
+	}
+}
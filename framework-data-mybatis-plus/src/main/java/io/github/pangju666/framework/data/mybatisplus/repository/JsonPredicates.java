@@ -0,0 +1,252 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.repository;
+
+import io.github.pangju666.commons.lang.utils.JsonUtils;
+import org.springframework.util.Assert;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * JSON 查询条件模板。
+ *
+ * <p>生成供 {@code Wrapper#apply(String, Object...)} 使用的 SQL 片段：列名与 JSON 路径经过校验后写入模板，
+ * 值统一使用 {@code {0}} 形式的占位符绑定为预编译参数。同一列/路径对生成的 SQL 文本保持不变，
+ * 可命中数据库的预编译语句缓存与 MyBatis 的语句缓存，同时避免值拼接带来的 SQL 注入。</p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+final class JsonPredicates {
+	/**
+	 * 模板缓存的最大条目数，超过后不再缓存新模板（仍可正常生成）。
+	 *
+	 * @since 2.2.0
+	 */
+	private static final int MAX_CACHED_TEMPLATES = 4096;
+	/**
+	 * 合法列名：可选的表别名前缀，可带反引号。
+	 *
+	 * @since 2.2.0
+	 */
+	private static final Pattern COLUMN_PATTERN = Pattern.compile(
+		"^(`?[\\p{L}\\p{N}_$]+`?\\.)?`?[\\p{L}\\p{N}_$]+`?$");
+	/**
+	 * 合法 JSON 路径（不含 {@code $.} 前缀）：以 {@code .} 分隔的键名，每个键名后可跟数组下标。
+	 *
+	 * @since 2.2.0
+	 */
+	private static final Pattern KEY_PATTERN = Pattern.compile(
+		"^[\\p{L}\\p{N}_$]+(\\[\\d+])*(\\.[\\p{L}\\p{N}_$]+(\\[\\d+])*)*$");
+
+	private static final Map<String, String> TEMPLATES = new ConcurrentHashMap<>();
+
+	private JsonPredicates() {
+	}
+
+	/**
+	 * 键（路径）存在条件：{@code JSON_CONTAINS_PATH(column, 'one', '$.key')}。
+	 *
+	 * @param column 列名
+	 * @param key    键（路径）
+	 * @return SQL 片段（无占位符）
+	 * @throws IllegalArgumentException 当列名或键不合法
+	 * @since 2.2.0
+	 */
+	static String keyExists(String column, String key) {
+		return template("exists", column, key, 0, () -> "JSON_CONTAINS_PATH(" + column + ", 'one', '$." + key + "')");
+	}
+
+	/**
+	 * 键值相等条件：{@code column->>'$.key' = {0}}（文本比较）。
+	 *
+	 * @param column 列名
+	 * @param key    键（路径）
+	 * @return SQL 片段，参数值使用 {@link #toText(Object)} 转换
+	 * @throws IllegalArgumentException 当列名或键不合法
+	 * @since 2.2.0
+	 */
+	static String keyValueEquals(String column, String key) {
+		return template("eq", column, key, 0, () -> column + "->>'$." + key + "' = {0}");
+	}
+
+	/**
+	 * 键值集合匹配条件：{@code column->>'$.key' IN ({0}, {1}, ...)}（文本比较）。
+	 *
+	 * @param column 列名
+	 * @param key    键（路径）
+	 * @param size   参数个数，必须大于 0
+	 * @return SQL 片段，参数值使用 {@link #toText(Object)} 转换
+	 * @throws IllegalArgumentException 当列名或键不合法
+	 * @since 2.2.0
+	 */
+	static String keyValueIn(String column, String key, int size) {
+		return template("in", column, key, size, () -> inTemplate(column + "->>'$." + key + "'", size));
+	}
+
+	/**
+	 * 数组包含条件：{@code JSON_CONTAINS(column, CAST({0} AS JSON))}。
+	 *
+	 * @param column 列名
+	 * @return SQL 片段，参数值使用 {@link #toJson(Object)} 转换
+	 * @throws IllegalArgumentException 当列名不合法
+	 * @since 2.2.0
+	 */
+	static String arrayContains(String column) {
+		return template("contains", column, "", 0, () -> "JSON_CONTAINS(" + column + ", CAST({0} AS JSON))");
+	}
+
+	/**
+	 * 数组交集条件：{@code JSON_OVERLAPS(column, CAST({0} AS JSON))}（MySQL 8.0.17+）。
+	 *
+	 * @param column 列名
+	 * @return SQL 片段，参数值使用 {@link #toJson(Object)} 转换
+	 * @throws IllegalArgumentException 当列名不合法
+	 * @since 2.2.0
+	 */
+	static String arrayOverlaps(String column) {
+		return template("overlaps", column, "", 0, () -> "JSON_OVERLAPS(" + column + ", CAST({0} AS JSON))");
+	}
+
+	/**
+	 * 数组包含条件（多值索引形式）：{@code JSON_CONTAINS(column->'$', CAST({0} AS JSON))}。
+	 *
+	 * @param column 列名，列上需存在 {@code CAST(column->'$' AS ... ARRAY)} 多值索引
+	 * @return SQL 片段，参数值使用 {@link #toJson(Object)} 转换
+	 * @throws IllegalArgumentException 当列名不合法
+	 * @since 2.2.0
+	 */
+	static String indexedArrayContains(String column) {
+		return template("indexed-contains", column, "", 0,
+			() -> "JSON_CONTAINS(" + column + "->'$', CAST({0} AS JSON))");
+	}
+
+	/**
+	 * 数组交集条件（多值索引形式）：{@code JSON_OVERLAPS(column->'$', CAST({0} AS JSON))}。
+	 *
+	 * @param column 列名，列上需存在 {@code CAST(column->'$' AS ... ARRAY)} 多值索引
+	 * @return SQL 片段，参数值使用 {@link #toJson(Object)} 转换
+	 * @throws IllegalArgumentException 当列名不合法
+	 * @since 2.2.0
+	 */
+	static String indexedArrayOverlaps(String column) {
+		return template("indexed-overlaps", column, "", 0,
+			() -> "JSON_OVERLAPS(" + column + "->'$', CAST({0} AS JSON))");
+	}
+
+	/**
+	 * 生成列非空条件：{@code generated IS NOT NULL}，等价于生成列对应的键（路径）存在。
+	 *
+	 * @param generatedColumn 值为 {@code column->>'$.key'} 的生成列
+	 * @return SQL 片段（无占位符）
+	 * @throws IllegalArgumentException 当列名不合法
+	 * @since 2.2.0
+	 */
+	static String generatedColumnNotNull(String generatedColumn) {
+		return template("generated-exists", generatedColumn, "", 0, () -> generatedColumn + " IS NOT NULL");
+	}
+
+	/**
+	 * 生成列相等条件：{@code generated = {0}}。
+	 *
+	 * @param generatedColumn 值为 {@code column->>'$.key'} 的生成列
+	 * @return SQL 片段，参数值使用 {@link #toText(Object)} 转换
+	 * @throws IllegalArgumentException 当列名不合法
+	 * @since 2.2.0
+	 */
+	static String generatedColumnEquals(String generatedColumn) {
+		return template("generated-eq", generatedColumn, "", 0, () -> generatedColumn + " = {0}");
+	}
+
+	/**
+	 * 生成列集合匹配条件：{@code generated IN ({0}, {1}, ...)}。
+	 *
+	 * @param generatedColumn 值为 {@code column->>'$.key'} 的生成列
+	 * @param size            参数个数，必须大于 0
+	 * @return SQL 片段，参数值使用 {@link #toText(Object)} 转换
+	 * @throws IllegalArgumentException 当列名不合法
+	 * @since 2.2.0
+	 */
+	static String generatedColumnIn(String generatedColumn, int size) {
+		return template("generated-in", generatedColumn, "", size, () -> inTemplate(generatedColumn, size));
+	}
+
+	/**
+	 * 将值转换为与 {@code ->>} 提取结果比较的文本。
+	 *
+	 * @param value 值，可为 {@code null}
+	 * @return 文本；{@code null} 转换为 {@code "null"}，字符串、数字与布尔值使用原文，其它对象序列化为 JSON
+	 * @since 2.2.0
+	 */
+	static String toText(Object value) {
+		if (Objects.isNull(value)) {
+			return "null";
+		}
+		if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean) {
+			return value.toString();
+		}
+		return JsonUtils.toString(value);
+	}
+
+	/**
+	 * 将值转换为 JSON 文本。
+	 *
+	 * @param value 值，可为 {@code null}
+	 * @return JSON 文本；{@code null} 转换为 {@code "null"}，字符串转换为带转义的 JSON 字符串
+	 * @since 2.2.0
+	 */
+	static String toJson(Object value) {
+		if (Objects.isNull(value)) {
+			return "null";
+		}
+		if (value instanceof Number || value instanceof Boolean) {
+			return value.toString();
+		}
+		return JsonUtils.toString(value);
+	}
+
+	private static String inTemplate(String expression, int size) {
+		StringJoiner joiner = new StringJoiner(", ", expression + " IN (", ")");
+		for (int i = 0; i < size; i++) {
+			joiner.add("{" + i + "}");
+		}
+		return joiner.toString();
+	}
+
+	private static String template(String kind, String column, String key, int size, Supplier<String> builder) {
+		String cacheKey = kind + '\u0000' + column + '\u0000' + key + '\u0000' + size;
+		String template = TEMPLATES.get(cacheKey);
+		if (Objects.nonNull(template)) {
+			return template;
+		}
+
+		Assert.isTrue(COLUMN_PATTERN.matcher(column).matches(), "column 不是合法的列名：" + column);
+		if (!key.isEmpty()) {
+			Assert.isTrue(KEY_PATTERN.matcher(key).matches(), "key 不是合法的 JSON 路径：" + key);
+		}
+		template = builder.get();
+		if (TEMPLATES.size() < MAX_CACHED_TEMPLATES) {
+			TEMPLATES.putIfAbsent(cacheKey, template);
+		}
+		return template;
+	}
+}
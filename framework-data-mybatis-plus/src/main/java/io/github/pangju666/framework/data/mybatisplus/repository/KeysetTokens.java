@@ -0,0 +1,170 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.repository;
+
+import com.google.gson.JsonParseException;
+import io.github.pangju666.commons.lang.utils.JsonUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.time.temporal.Temporal;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 键集分页续页令牌的编解码工具。
+ *
+ * <p>令牌为 Base64URL 编码的 JSON，记录排序列、排序方向与上一页最后一条记录的排序列值。
+ * 排序列值按实体属性类型转换为字符串，解码时再按属性类型还原，以保证绑定参数类型与列类型一致。</p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+final class KeysetTokens {
+	private KeysetTokens() {
+	}
+
+	/**
+	 * 编码续页令牌。
+	 *
+	 * @param columns 排序列（物理列名）
+	 * @param asc     是否升序
+	 * @param values  排序列值，与 {@code columns} 一一对应
+	 * @return 续页令牌
+	 * @throws IllegalStateException 当排序列值为 {@code null} 或类型不支持
+	 * @since 2.2.0
+	 */
+	static String encode(List<String> columns, boolean asc, List<Object> values) {
+		Payload payload = new Payload();
+		payload.columns = columns;
+		payload.asc = asc;
+		payload.values = values.stream()
+			.map(KeysetTokens::valueToString)
+			.toList();
+		return Base64.getUrlEncoder().withoutPadding()
+			.encodeToString(JsonUtils.toString(payload).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 解码续页令牌并校验其与当前排序定义一致。
+	 *
+	 * @param token   续页令牌
+	 * @param columns 当前排序列（物理列名）
+	 * @param asc     当前是否升序
+	 * @param types   排序列对应的属性类型
+	 * @return 上一页最后一条记录的排序列值
+	 * @throws IllegalArgumentException 当令牌无效或与当前排序定义不一致
+	 * @since 2.2.0
+	 */
+	static Object[] decode(String token, List<String> columns, boolean asc, List<Class<?>> types) {
+		Payload payload;
+		try {
+			String json = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			payload = JsonUtils.fromString(json, Payload.class);
+		} catch (IllegalArgumentException | JsonParseException e) {
+			throw new IllegalArgumentException("无效的续页令牌", e);
+		}
+		if (Objects.isNull(payload) || !columns.equals(payload.columns) || asc != payload.asc ||
+			Objects.isNull(payload.values) || payload.values.size() != types.size()) {
+			throw new IllegalArgumentException("续页令牌与当前排序定义不一致");
+		}
+
+		Object[] values = new Object[types.size()];
+		for (int i = 0; i < values.length; i++) {
+			try {
+				values[i] = stringToValue(payload.values.get(i), types.get(i));
+			} catch (RuntimeException e) {
+				throw new IllegalArgumentException("无效的续页令牌", e);
+			}
+		}
+		return values;
+	}
+
+	private static String valueToString(Object value) {
+		if (Objects.isNull(value)) {
+			throw new IllegalStateException("键集分页的排序列值不可为null");
+		}
+		if (value instanceof Date date) {
+			return String.valueOf(date.getTime());
+		}
+		if (value instanceof Enum<?> enumValue) {
+			return enumValue.name();
+		}
+		if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean ||
+			value instanceof Temporal) {
+			return value.toString();
+		}
+		throw new IllegalStateException("不支持的排序列值类型：" + value.getClass().getName());
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Object stringToValue(String value, Class<?> type) {
+		if (type == String.class) {
+			return value;
+		} else if (type == Long.class || type == long.class) {
+			return Long.valueOf(value);
+		} else if (type == Integer.class || type == int.class) {
+			return Integer.valueOf(value);
+		} else if (type == Short.class || type == short.class) {
+			return Short.valueOf(value);
+		} else if (type == Byte.class || type == byte.class) {
+			return Byte.valueOf(value);
+		} else if (type == Double.class || type == double.class) {
+			return Double.valueOf(value);
+		} else if (type == Float.class || type == float.class) {
+			return Float.valueOf(value);
+		} else if (type == Boolean.class || type == boolean.class) {
+			return Boolean.valueOf(value);
+		} else if (type == BigDecimal.class) {
+			return new BigDecimal(value);
+		} else if (type == BigInteger.class) {
+			return new BigInteger(value);
+		} else if (Date.class.isAssignableFrom(type)) {
+			return new Date(Long.parseLong(value));
+		} else if (type == LocalDateTime.class) {
+			return LocalDateTime.parse(value);
+		} else if (type == LocalDate.class) {
+			return LocalDate.parse(value);
+		} else if (type == LocalTime.class) {
+			return LocalTime.parse(value);
+		} else if (type == Instant.class) {
+			return Instant.parse(value);
+		} else if (type == OffsetDateTime.class) {
+			return OffsetDateTime.parse(value);
+		} else if (type == ZonedDateTime.class) {
+			return ZonedDateTime.parse(value);
+		} else if (type.isEnum()) {
+			return Enum.valueOf((Class<? extends Enum>) type, value);
+		}
+		throw new IllegalStateException("不支持的排序列类型：" + type.getName());
+	}
+
+	/**
+	 * 令牌内容。
+	 *
+	 * @since 2.2.0
+	 */
+	private static final class Payload {
+		private List<String> columns;
+		private boolean asc;
+		private List<String> values;
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.pangju666.framework.data.mybatisplus.repository;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import io.github.pangju666.framework.data.mybatisplus.routing.DataSourceRoute;
+import io.github.pangju666.framework.data.mybatisplus.routing.DataSourceRouting;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * 将 Mapper 的查询方法路由到从库的代理。
+ *
+ * <p>被判定为查询的方法在调用期间绑定 {@link DataSourceRoute#REPLICA} 路由；当前线程已绑定路由时保持不变，
+ * 以便调用方通过 {@link DataSourceRouting#callOnPrimary(java.util.function.Supplier)} 强制读主库。</p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+final class ReplicaRoutingMapper implements InvocationHandler {
+	/**
+	 * {@link BaseMapper} 声明的查询方法：{@code select*} 与 {@code exists}。
+	 *
+	 * @since 2.2.0
+	 */
+	static final Predicate<Method> BASE_MAPPER_QUERIES = method -> method.getDeclaringClass() == BaseMapper.class &&
+		(method.getName().startsWith("select") || method.getName().equals("exists"));
+
+	private final Object target;
+	private final Predicate<Method> queryMethod;
+
+	private ReplicaRoutingMapper(Object target, Predicate<Method> queryMethod) {
+		this.target = target;
+		this.queryMethod = queryMethod;
+	}
+
+	/**
+	 * 创建 Mapper 代理。
+	 *
+	 * @param mapper      原 Mapper
+	 * @param queryMethod 判定查询方法的条件
+	 * @param <M>         Mapper 类型
+	 * @return 实现原 Mapper 全部接口的代理
+	 * @since 2.2.0
+	 */
+	@SuppressWarnings("unchecked")
+	static <M> M wrap(M mapper, Predicate<Method> queryMethod) {
+		ClassLoader classLoader = mapper.getClass().getClassLoader();
+		return (M) Proxy.newProxyInstance(classLoader, ClassUtils.getAllInterfacesForClass(mapper.getClass(), classLoader),
+			new ReplicaRoutingMapper(mapper, queryMethod));
+	}
+
+	/**
+	 * 判断对象是否为本类创建的代理。
+	 *
+	 * @param mapper Mapper
+	 * @param target 原 Mapper
+	 * @return 是代理且代理的是 {@code target} 时返回 {@code true}
+	 * @since 2.2.0
+	 */
+	static boolean isWrapperOf(Object mapper, Object target) {
+		return Proxy.isProxyClass(mapper.getClass()) &&
+			Proxy.getInvocationHandler(mapper) instanceof ReplicaRoutingMapper handler &&
+			handler.target == target;
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		if (method.getDeclaringClass() == Object.class) {
+			return switch (method.getName()) {
+				case "equals" -> proxy == args[0];
+				case "hashCode" -> System.identityHashCode(proxy);
+				default -> invokeTarget(method, args);
+			};
+		}
+		if (Objects.nonNull(DataSourceRouting.current()) || !queryMethod.test(method)) {
+			return invokeTarget(method, args);
+		}
+		try {
+			return DataSourceRouting.callOnReplica(() -> {
+				try {
+					return invokeTarget(method, args);
+				} catch (Throwable e) {
+					throw new TargetException(e);
+				}
+			});
+		} catch (TargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	private Object invokeTarget(Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+
+	/**
+	 * 在 {@link java.util.function.Supplier} 中传递原始异常。
+	 */
+	private static final class TargetException extends RuntimeException {
+		private TargetException(Throwable cause) {
+			super(null, cause, false, false);
+		}
+	}
+}
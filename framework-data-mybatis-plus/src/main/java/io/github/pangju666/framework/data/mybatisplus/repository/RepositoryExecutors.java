@@ -0,0 +1,303 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.repository;
+
+import io.github.pangju666.framework.data.mybatisplus.metrics.RepositoryInvocationContext;
+import io.github.pangju666.framework.data.mybatisplus.routing.DataSourceRoute;
+import io.github.pangju666.framework.data.mybatisplus.routing.DataSourceRouting;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.MDC;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 仓储内部使用的执行器与线程上下文工具。
+ *
+ * <p>默认执行器优先使用虚拟线程（JDK 21+，通过反射获取 {@code Executors.newVirtualThreadPerTaskExecutor}），
+ * 当前运行时不支持时退化为守护线程组成的缓存线程池。</p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+final class RepositoryExecutors {
+	/**
+	 * 是否存在 spring-tx（可选依赖）。
+	 *
+	 * @since 2.2.0
+	 */
+	private static final boolean TRANSACTION_PRESENT = ClassUtils.isPresent(
+		"org.springframework.transaction.support.TransactionSynchronizationManager",
+		RepositoryExecutors.class.getClassLoader());
+
+	/**
+	 * 是否存在 slf4j（可选依赖）。
+	 *
+	 * @since 2.2.0
+	 */
+	private static final boolean MDC_PRESENT = ClassUtils.isPresent("org.slf4j.MDC",
+		RepositoryExecutors.class.getClassLoader());
+	/**
+	 * 无法获取连接池大小时假定的连接池大小，与 HikariCP 默认的连接池大小一致。
+	 *
+	 * @since 2.2.0
+	 */
+	static final int DEFAULT_POOL_SIZE = 10;
+	/**
+	 * 读取连接池最大连接数的方法名（HikariCP、Druid/Tomcat JDBC、DBCP2）。
+	 *
+	 * @since 2.2.0
+	 */
+	private static final String[] POOL_SIZE_GETTERS = {"getMaximumPoolSize", "getMaxActive", "getMaxTotal"};
+	/**
+	 * 读取被包装数据源的方法名（Spring {@code DelegatingDataSource}、{@code ReadWriteRoutingDataSource}、
+	 * Spring {@code AbstractRoutingDataSource}）。
+	 *
+	 * @since 2.2.0
+	 */
+	private static final String[] TARGET_DATA_SOURCE_GETTERS = {"getTargetDataSource", "getPrimary",
+		"getResolvedDefaultDataSource"};
+	/**
+	 * 查找连接池时最多解开的包装层数。
+	 *
+	 * @since 2.2.0
+	 */
+	private static final int MAX_UNWRAP_DEPTH = 8;
+	/**
+	 * 按数据源缓存的默认异步查询并发许可，访问同一数据源的仓储共享同一许可。
+	 *
+	 * @since 2.2.0
+	 */
+	private static final Map<DataSource, Semaphore> DEFAULT_ASYNC_SEMAPHORES = new WeakHashMap<>();
+
+	private static volatile ExecutorService defaultExecutor;
+
+	private RepositoryExecutors() {
+	}
+
+	/**
+	 * 获取默认执行器（懒加载，全局共享）。
+	 *
+	 * @return 默认执行器
+	 * @since 2.2.0
+	 */
+	static ExecutorService getDefaultExecutor() {
+		ExecutorService executor = defaultExecutor;
+		if (executor == null) {
+			synchronized (RepositoryExecutors.class) {
+				executor = defaultExecutor;
+				if (executor == null) {
+					executor = createDefaultExecutor();
+					defaultExecutor = executor;
+				}
+			}
+		}
+		return executor;
+	}
+
+	/**
+	 * 获取数据源的默认异步查询并发许可。
+	 *
+	 * <p>同一数据源返回同一许可，许可数为连接池最大连接数（见 {@link #resolvePoolSize(DataSource)}）的一半（至少为 1），
+	 * 为同步查询与事务预留其余连接；数据源为 {@code null} 时按 {@value #DEFAULT_POOL_SIZE} 个连接计算并新建许可，
+	 * 由调用方自行保存。</p>
+	 *
+	 * @param dataSource 数据源，可为 {@code null}
+	 * @return 默认并发许可
+	 * @since 2.2.0
+	 */
+	static Semaphore getDefaultAsyncPermits(@Nullable DataSource dataSource) {
+		if (Objects.isNull(dataSource)) {
+			return new Semaphore(asyncPermitsOf(DEFAULT_POOL_SIZE));
+		}
+		synchronized (DEFAULT_ASYNC_SEMAPHORES) {
+			return DEFAULT_ASYNC_SEMAPHORES.computeIfAbsent(dataSource,
+				key -> new Semaphore(asyncPermitsOf(resolvePoolSize(key))));
+		}
+	}
+
+	/**
+	 * 获取数据源连接池的最大连接数。
+	 *
+	 * <p>通过反射读取 HikariCP（{@code getMaximumPoolSize}）、Druid/Tomcat JDBC（{@code getMaxActive}）
+	 * 或 DBCP2（{@code getMaxTotal}）的配置，数据源为包装类型时逐层解开后查找。</p>
+	 *
+	 * @param dataSource 数据源
+	 * @return 最大连接数；无法获取时返回 {@value #DEFAULT_POOL_SIZE}
+	 * @since 2.2.0
+	 */
+	static int resolvePoolSize(DataSource dataSource) {
+		Object current = dataSource;
+		for (int depth = 0; depth < MAX_UNWRAP_DEPTH && Objects.nonNull(current); depth++) {
+			for (String getter : POOL_SIZE_GETTERS) {
+				if (invokeGetter(current, getter) instanceof Integer size && size > 0) {
+					return size;
+				}
+			}
+			Object target = null;
+			for (String getter : TARGET_DATA_SOURCE_GETTERS) {
+				target = invokeGetter(current, getter);
+				if (target instanceof DataSource) {
+					break;
+				}
+			}
+			current = target instanceof DataSource && target != current ? target : null;
+		}
+		return DEFAULT_POOL_SIZE;
+	}
+
+	private static int asyncPermitsOf(int poolSize) {
+		return Math.max(1, poolSize / 2);
+	}
+
+	/**
+	 * 包装操作，使其在执行线程上恢复当前线程的上下文。
+	 *
+	 * <p>传递的上下文包括：仓储方法观测上下文（{@link RepositoryInvocationContext}）、数据源路由（{@link DataSourceRouting}）
+	 * 以及 slf4j 的 MDC（存在时）。事务资源绑定在调用线程上，不会传递。</p>
+	 *
+	 * @param action 操作
+	 * @param <R>    结果类型
+	 * @return 包装后的操作
+	 * @since 2.2.0
+	 */
+	static <R> Supplier<R> propagateContext(Supplier<R> action) {
+		Supplier<R> result = RepositoryInvocationContext.propagate(action);
+		DataSourceRoute route = DataSourceRouting.current();
+		if (Objects.nonNull(route)) {
+			Supplier<R> routed = result;
+			result = () -> DataSourceRouting.callWith(route, routed);
+		}
+		if (MDC_PRESENT) {
+			result = MdcPropagation.propagate(result);
+		}
+		return result;
+	}
+
+	/**
+	 * 判断当前线程是否处于 Spring 事务（或事务同步）中。
+	 *
+	 * <p>事务中的连接绑定在当前线程，切换线程执行会脱离事务，调用方应据此退化为当前线程执行。</p>
+	 *
+	 * @return 处于事务中返回 {@code true}；未引入 spring-tx 时始终返回 {@code false}
+	 * @since 2.2.0
+	 */
+	static boolean isTransactionActive() {
+		return TRANSACTION_PRESENT && (TransactionSynchronizationManager.isActualTransactionActive() ||
+			TransactionSynchronizationManager.isSynchronizationActive());
+	}
+
+	/**
+	 * 判断当前线程是否处于实际开启的 Spring 事务中。
+	 *
+	 * <p>与 {@link #isTransactionActive()} 不同，仅开启事务同步而未开启事务的作用域（如 {@code SUPPORTS} 传播）返回
+	 * {@code false}，此时每次提交仍会立即生效。</p>
+	 *
+	 * @return 处于实际事务中返回 {@code true}；未引入 spring-tx 时始终返回 {@code false}
+	 * @since 2.2.0
+	 */
+	static boolean isActualTransactionActive() {
+		return TRANSACTION_PRESENT && TransactionSynchronizationManager.isActualTransactionActive();
+	}
+
+	/**
+	 * 在当前事务结束（提交或回滚）后执行操作。
+	 *
+	 * <p>用于写操作后的缓存二次失效：事务提交前其它线程可能读到旧数据并回填缓存，事务结束后再次失效可消除该窗口。</p>
+	 *
+	 * @param action 待执行的操作
+	 * @return 已注册到事务同步返回 {@code true}；当前线程未启用事务同步或未引入 spring-tx 时返回 {@code false}
+	 * @since 2.2.0
+	 */
+	static boolean runAfterCompletion(Runnable action) {
+		if (!TRANSACTION_PRESENT || !TransactionSynchronizationManager.isSynchronizationActive()) {
+			return false;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				action.run();
+			}
+		});
+		return true;
+	}
+
+	/**
+	 * MDC 传递，单独成类以避免未引入 slf4j 时加载失败。
+	 */
+	private static final class MdcPropagation {
+		private static <R> Supplier<R> propagate(Supplier<R> action) {
+			Map<String, String> context = MDC.getCopyOfContextMap();
+			return () -> {
+				Map<String, String> previous = MDC.getCopyOfContextMap();
+				if (Objects.isNull(context)) {
+					MDC.clear();
+				} else {
+					MDC.setContextMap(context);
+				}
+				try {
+					return action.get();
+				} finally {
+					if (Objects.isNull(previous)) {
+						MDC.clear();
+					} else {
+						MDC.setContextMap(previous);
+					}
+				}
+			};
+		}
+	}
+
+	private static @Nullable Object invokeGetter(Object target, String name) {
+		Method method = ClassUtils.getMethodIfAvailable(target.getClass(), name);
+		if (Objects.isNull(method) || method.getParameterCount() != 0) {
+			return null;
+		}
+		try {
+			return method.invoke(target);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	private static ExecutorService createDefaultExecutor() {
+		try {
+			Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) method.invoke(null);
+		} catch (ReflectiveOperationException e) {
+			AtomicInteger counter = new AtomicInteger();
+			ThreadFactory threadFactory = runnable -> {
+				Thread thread = new Thread(runnable, "repository-executor-" + counter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			};
+			return Executors.newCachedThreadPool(threadFactory);
+		}
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.repository;
+
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.toolkit.ExceptionUtils;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+
+/**
+ * 已逻辑删除记录（墓碑）的分块物理删除与归档。
+ *
+ * <p>每个分块先按主键升序查询至多 {@code chunkSize} 个墓碑主键，再以 {@code key BETWEEN min AND max} 加墓碑条件执行
+ * {@code DELETE}（归档时先执行 {@code INSERT INTO archive (...) SELECT ...}），每条语句只锁定一个较小的主键范围。
+ * 归档与删除在同一事务中执行：调用方未处于 Spring 事务时，每个分块单独提交。</p>
+ *
+ * <p>墓碑条件由逻辑删除字段决定：未删除值为 {@code null} 时为 {@code column IS NOT NULL}，否则为 {@code column <> 未删除值}。
+ * 保留期限基于删除时间：逻辑删除字段为时间类型时使用该字段，否则使用 {@code updateTime} 属性对应的列。</p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+final class TombstonePurger {
+	/**
+	 * 合法表名：可选的库名前缀，可带反引号。
+	 *
+	 * @since 2.2.0
+	 */
+	private static final Pattern TABLE_PATTERN = Pattern.compile(
+		"^(`?[\\p{L}\\p{N}_$]+`?\\.)?`?[\\p{L}\\p{N}_$]+`?$");
+	/**
+	 * 逻辑删除字段不是时间类型时，用于判断删除时间的属性。
+	 *
+	 * @since 2.2.0
+	 */
+	private static final String UPDATE_TIME_PROPERTY = "updateTime";
+
+	private final String tableName;
+	private final String firstKeysSql;
+	private final String nextKeysSql;
+	private final String deleteSql;
+	private final @Nullable String archiveSql;
+	private final List<Object> tombstoneParams;
+
+	private @Nullable Object lastKey = null;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param tableInfo    实体表信息，需声明主键与逻辑删除字段
+	 * @param archiveTable 归档表名，为 {@code null} 时直接删除；归档表需包含实体映射的全部列
+	 * @param cutoff       删除时间早于该时刻的记录才会被处理，为 {@code null} 时不限制
+	 * @throws IllegalArgumentException 当归档表名不合法时
+	 * @throws IllegalStateException    当实体未声明主键、逻辑删除字段或无法确定删除时间列时
+	 * @since 2.2.0
+	 */
+	TombstonePurger(TableInfo tableInfo, @Nullable String archiveTable, @Nullable Instant cutoff) {
+		if (!tableInfo.havePK()) {
+			throw new IllegalStateException("实体 [" + tableInfo.getEntityType().getName() + "] 未声明主键");
+		}
+		if (!tableInfo.isWithLogicDelete()) {
+			throw new IllegalStateException("实体 [" + tableInfo.getEntityType().getName() + "] 未声明逻辑删除字段");
+		}
+		if (Objects.nonNull(archiveTable)) {
+			Assert.isTrue(TABLE_PATTERN.matcher(archiveTable).matches(), "archiveTable 不是合法的表名：" + archiveTable);
+		}
+
+		String table = tableInfo.getTableName();
+		this.tableName = table;
+		String key = tableInfo.getKeyColumn();
+		TableFieldInfo logicDeleteField = tableInfo.getLogicDeleteFieldInfo();
+		String notDeleteValue = logicDeleteField.getLogicNotDeleteValue();
+
+		List<Object> params = new ArrayList<>(2);
+		StringBuilder tombstone = new StringBuilder(logicDeleteField.getColumn());
+		if (Objects.isNull(notDeleteValue) || "null".equalsIgnoreCase(notDeleteValue)) {
+			tombstone.append(" IS NOT NULL");
+		} else {
+			tombstone.append(" <> ?");
+			params.add(notDeleteValue);
+		}
+		if (Objects.nonNull(cutoff)) {
+			tombstone.append(" AND ").append(resolveDeleteTimeColumn(tableInfo, logicDeleteField)).append(" < ?");
+			params.add(Timestamp.from(cutoff));
+		}
+		this.tombstoneParams = List.copyOf(params);
+
+		this.firstKeysSql = "SELECT " + key + " FROM " + table + " WHERE " + tombstone +
+			" ORDER BY " + key + " ASC LIMIT ?";
+		this.nextKeysSql = "SELECT " + key + " FROM " + table + " WHERE " + key + " > ? AND " + tombstone +
+			" ORDER BY " + key + " ASC LIMIT ?";
+		String range = " FROM " + table + " WHERE " + key + " BETWEEN ? AND ? AND " + tombstone;
+		this.deleteSql = "DELETE" + range;
+		if (Objects.nonNull(archiveTable)) {
+			StringJoiner columns = new StringJoiner(", ");
+			columns.add(key);
+			tableInfo.getFieldList().forEach(field -> columns.add(field.getColumn()));
+			this.archiveSql = "INSERT INTO " + archiveTable + " (" + columns + ") SELECT " + columns + range;
+		} else {
+			this.archiveSql = null;
+		}
+	}
+
+	/**
+	 * 处理下一个分块。
+	 *
+	 * @param connection  数据库连接，由调用方管理生命周期
+	 * @param chunkSize   分块的最大行数
+	 * @param transaction 调用方是否已处于事务中，为 {@code false} 时在本方法内开启并提交事务
+	 * @return 删除的行数，没有更多墓碑时返回 -1
+	 * @since 2.2.0
+	 */
+	synchronized long purgeNextChunk(Connection connection, int chunkSize, boolean transaction) {
+		try {
+			List<Object> keys = selectNextKeys(connection, chunkSize);
+			if (keys.isEmpty()) {
+				return -1;
+			}
+
+			Object firstKey = keys.get(0);
+			Object chunkLastKey = keys.get(keys.size() - 1);
+			boolean autoCommit = !transaction && connection.getAutoCommit();
+			if (autoCommit) {
+				connection.setAutoCommit(false);
+			}
+			try {
+				if (Objects.nonNull(archiveSql)) {
+					executeRange(connection, archiveSql, firstKey, chunkLastKey);
+				}
+				long deleted = executeRange(connection, deleteSql, firstKey, chunkLastKey);
+				if (autoCommit) {
+					connection.commit();
+				}
+				lastKey = chunkLastKey;
+				return deleted;
+			} catch (SQLException | RuntimeException e) {
+				if (autoCommit) {
+					connection.rollback();
+				}
+				throw e;
+			} finally {
+				if (autoCommit) {
+					connection.setAutoCommit(true);
+				}
+			}
+		} catch (SQLException e) {
+			throw ExceptionUtils.mpe("清理表 %s 的已删除记录失败", e, tableName);
+		}
+	}
+
+	private List<Object> selectNextKeys(Connection connection, int chunkSize) throws SQLException {
+		List<Object> keys = new ArrayList<>(chunkSize);
+		try (PreparedStatement statement = connection.prepareStatement(
+			Objects.isNull(lastKey) ? firstKeysSql : nextKeysSql)) {
+			int index = 1;
+			if (Objects.nonNull(lastKey)) {
+				statement.setObject(index++, lastKey);
+			}
+			index = bindTombstoneParams(statement, index);
+			statement.setInt(index, chunkSize);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				while (resultSet.next()) {
+					keys.add(resultSet.getObject(1));
+				}
+			}
+		}
+		return keys;
+	}
+
+	private long executeRange(Connection connection, String sql, Object firstKey, Object lastKey) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			statement.setObject(1, firstKey);
+			statement.setObject(2, lastKey);
+			bindTombstoneParams(statement, 3);
+			return statement.executeUpdate();
+		}
+	}
+
+	private int bindTombstoneParams(PreparedStatement statement, int index) throws SQLException {
+		for (Object param : tombstoneParams) {
+			statement.setObject(index++, param);
+		}
+		return index;
+	}
+
+	private static String resolveDeleteTimeColumn(TableInfo tableInfo, TableFieldInfo logicDeleteField) {
+		Class<?> type = logicDeleteField.getPropertyType();
+		if (Date.class.isAssignableFrom(type) || Temporal.class.isAssignableFrom(type)) {
+			return logicDeleteField.getColumn();
+		}
+		return tableInfo.getFieldList().stream()
+			.filter(field -> UPDATE_TIME_PROPERTY.equals(field.getProperty()))
+			.map(TableFieldInfo::getColumn)
+			.findFirst()
+			.orElseThrow(() -> new IllegalStateException("实体 [" + tableInfo.getEntityType().getName() +
+				"] 的逻辑删除字段不是时间类型且未声明 " + UPDATE_TIME_PROPERTY + " 属性，无法按保留期限清理"));
+	}
+}
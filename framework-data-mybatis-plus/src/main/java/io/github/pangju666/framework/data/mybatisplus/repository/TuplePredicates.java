@@ -0,0 +1,126 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.pangju666.framework.data.mybatisplus.repository;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 多列（元组）匹配条件模板。
+ *
+ * <p>生成供 {@code Wrapper#apply(String, Object...)} 使用的 SQL 片段，值统一使用 {@code {0}} 形式的占位符，
+ * 按行优先顺序绑定（第 i 个元组的第 j 列对应第 {@code i * 列数 + j} 个参数）。同一列组合与元组个数生成的 SQL 文本保持不变。</p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+final class TuplePredicates {
+	/**
+	 * 模板缓存的最大条目数，超过后不再缓存新模板（仍可正常生成）。
+	 *
+	 * @since 2.2.0
+	 */
+	private static final int MAX_CACHED_TEMPLATES = 1024;
+	/**
+	 * 支持行构造器 {@code (a, b) IN ((?, ?), ...)} 的数据库产品名关键字（小写）。
+	 *
+	 * @since 2.2.0
+	 */
+	private static final List<String> ROW_CONSTRUCTOR_PRODUCTS = List.of("mysql", "mariadb", "postgresql", "oracle",
+		"h2", "hsql", "db2", "sqlite", "oceanbase");
+
+	private static final Map<String, String> TEMPLATES = new ConcurrentHashMap<>();
+
+	private TuplePredicates() {
+	}
+
+	/**
+	 * 行构造器条件：{@code (c1, c2) IN (({0}, {1}), ({2}, {3}), ...)}。
+	 *
+	 * @param columns 列名
+	 * @param size    元组个数，必须大于 0
+	 * @return SQL 片段
+	 * @since 2.2.0
+	 */
+	static String rowIn(List<String> columns, int size) {
+		return template("row-in", columns, size, () -> {
+			StringJoiner joiner = new StringJoiner(", ", "(" + String.join(", ", columns) + ") IN (", ")");
+			for (int i = 0; i < size; i++) {
+				StringJoiner tuple = new StringJoiner(", ", "(", ")");
+				for (int j = 0; j < columns.size(); j++) {
+					tuple.add("{" + (i * columns.size() + j) + "}");
+				}
+				joiner.add(tuple.toString());
+			}
+			return joiner.toString();
+		});
+	}
+
+	/**
+	 * 可移植的析取条件：{@code ((c1 = {0} AND c2 = {1}) OR (c1 = {2} AND c2 = {3}) ...)}。
+	 *
+	 * @param columns 列名
+	 * @param size    元组个数，必须大于 0
+	 * @return SQL 片段
+	 * @since 2.2.0
+	 */
+	static String orChain(List<String> columns, int size) {
+		return template("or", columns, size, () -> {
+			StringJoiner joiner = new StringJoiner(" OR ", "(", ")");
+			for (int i = 0; i < size; i++) {
+				StringJoiner tuple = new StringJoiner(" AND ", "(", ")");
+				for (int j = 0; j < columns.size(); j++) {
+					tuple.add(columns.get(j) + " = {" + (i * columns.size() + j) + "}");
+				}
+				joiner.add(tuple.toString());
+			}
+			return joiner.toString();
+		});
+	}
+
+	/**
+	 * 判断数据库是否支持行构造器 {@code IN}。
+	 *
+	 * @param productName 数据库产品名（{@code DatabaseMetaData#getDatabaseProductName()}）
+	 * @return 支持时返回 {@code true}；未知数据库返回 {@code false}
+	 * @since 2.2.0
+	 */
+	static boolean supportsRowConstructorIn(String productName) {
+		String name = productName.toLowerCase(Locale.ROOT);
+		return ROW_CONSTRUCTOR_PRODUCTS.stream().anyMatch(name::contains);
+	}
+
+	private static String template(String kind, List<String> columns, int size,
+								   Supplier<String> builder) {
+		String cacheKey = kind + '\u0000' + String.join("\u0000", columns) + '\u0000' + size;
+		String template = TEMPLATES.get(cacheKey);
+		if (Objects.nonNull(template)) {
+			return template;
+		}
+		template = builder.get();
+		if (TEMPLATES.size() < MAX_CACHED_TEMPLATES) {
+			TEMPLATES.putIfAbsent(cacheKey, template);
+		}
+		return template;
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.pangju666.framework.data.mybatisplus.repository;
+
+import org.jspecify.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 只读仓储的内存快照。
+ *
+ * <p>持有视图的全部行，按列懒加载构建等值索引（首次按某列查询时构建，之后复用）。
+ * 值比较使用 {@link Object#equals(Object)}，数值统一按大小比较（如 {@code 1} 与 {@code 1L} 相等），
+ * 因此与数据库的排序规则（如大小写不敏感的字符串比较）可能存在差异。</p>
+ *
+ * @param <T> 实体类型
+ * @author pangju666
+ * @since 2.2.0
+ */
+final class ViewSnapshot<T> {
+	/**
+	 * 索引中代表 {@code null} 值的键。
+	 *
+	 * @since 2.2.0
+	 */
+	private static final Object NULL_KEY = new Object();
+
+	private final List<T> rows;
+	private final long loadedAtNanos;
+	private final Instant loadedAt;
+	private final Map<String, Map<Object, List<T>>> indexes = new ConcurrentHashMap<>();
+
+	ViewSnapshot(List<T> rows, long loadedAtNanos, Instant loadedAt) {
+		this.rows = Collections.unmodifiableList(rows);
+		this.loadedAtNanos = loadedAtNanos;
+		this.loadedAt = loadedAt;
+	}
+
+	List<T> rows() {
+		return rows;
+	}
+
+	long loadedAtNanos() {
+		return loadedAtNanos;
+	}
+
+	Instant loadedAt() {
+		return loadedAt;
+	}
+
+	/**
+	 * 查询列值等于 {@code value} 的行（{@code null} 匹配列值为 {@code null} 的行）。
+	 *
+	 * @param column 列名，作为索引的键
+	 * @param getter 列值读取函数
+	 * @param value  目标值，可为 {@code null}
+	 * @return 匹配的行（只读）
+	 * @since 2.2.0
+	 */
+	List<T> find(String column, Function<T, ?> getter, @Nullable Object value) {
+		return index(column, getter).getOrDefault(key(value), Collections.emptyList());
+	}
+
+	/**
+	 * 查询列值在 {@code values} 中的行，重复的值只匹配一次。
+	 *
+	 * @param column 列名，作为索引的键
+	 * @param getter 列值读取函数
+	 * @param values 目标值集合，{@code null} 元素被忽略（与 SQL {@code IN} 一致）
+	 * @return 匹配的行
+	 * @since 2.2.0
+	 */
+	List<T> findAll(String column, Function<T, ?> getter, Collection<?> values) {
+		Map<Object, List<T>> index = index(column, getter);
+		Set<Object> keys = new HashSet<>(Math.max(16, (int) (values.size() / 0.75f) + 1));
+		List<T> result = new ArrayList<>();
+		for (Object value : values) {
+			if (Objects.nonNull(value) && keys.add(key(value))) {
+				result.addAll(index.getOrDefault(key(value), Collections.emptyList()));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 查询列值为（或不为）{@code null} 的行。
+	 *
+	 * @param column 列名，作为索引的键
+	 * @param getter 列值读取函数
+	 * @param isNull 为 {@code true} 时返回列值为 {@code null} 的行，否则返回不为 {@code null} 的行
+	 * @return 匹配的行
+	 * @since 2.2.0
+	 */
+	List<T> findNull(String column, Function<T, ?> getter, boolean isNull) {
+		Map<Object, List<T>> index = index(column, getter);
+		if (isNull) {
+			return index.getOrDefault(NULL_KEY, Collections.emptyList());
+		}
+		List<T> result = new ArrayList<>(rows.size() - index.getOrDefault(NULL_KEY, Collections.emptyList()).size());
+		for (T row : rows) {
+			if (Objects.nonNull(getter.apply(row))) {
+				result.add(row);
+			}
+		}
+		return result;
+	}
+
+	private Map<Object, List<T>> index(String column, Function<T, ?> getter) {
+		return indexes.computeIfAbsent(column, key -> {
+			Map<Object, List<T>> index = new HashMap<>();
+			for (T row : rows) {
+				index.computeIfAbsent(key(getter.apply(row)), value -> new ArrayList<>(1)).add(row);
+			}
+			return index;
+		});
+	}
+
+	private static Object key(@Nullable Object value) {
+		if (Objects.isNull(value)) {
+			return NULL_KEY;
+		}
+		if (value instanceof BigDecimal decimal) {
+			return decimal.signum() == 0 ? BigDecimal.ZERO : decimal.stripTrailingZeros();
+		}
+		if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			return key(BigDecimal.valueOf(((Number) value).longValue()));
+		}
+		if (value instanceof BigInteger integer) {
+			return key(new BigDecimal(integer));
+		}
+		if ((value instanceof Double || value instanceof Float) && Double.isFinite(((Number) value).doubleValue())) {
+			return key(new BigDecimal(value.toString()));
+		}
+		return value;
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.pangju666.framework.data.mybatisplus.routing;
+
+/**
+ * 数据源路由目标
+ *
+ * @author pangju666
+ * @see DataSourceRouting
+ * @see ReadWriteRoutingDataSource
+ * @since 2.2.0
+ */
+public enum DataSourceRoute {
+	/**
+	 * 主库，承担全部写操作及要求强一致的读操作
+	 *
+	 * @since 2.2.0
+	 */
+	PRIMARY,
+	/**
+	 * 从库，仅承担读操作；没有可用从库时退化为主库
+	 *
+	 * @since 2.2.0
+	 */
+	REPLICA
+}
@@ -0,0 +1,100 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.pangju666.framework.data.mybatisplus.routing;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * 当前线程的数据源路由
+ * <p>
+ * 由仓储在执行查询时绑定到当前线程，{@link ReadWriteRoutingDataSource} 获取连接时据此选择主库或从库。
+ * 已绑定的路由不会被仓储覆盖，调用方可通过 {@link #callOnPrimary(Supplier)} 强制读主库（如写后立即读）。
+ * 路由只影响新获取的连接：事务中的连接在事务开始时已绑定到线程，事务内的查询始终使用该连接。
+ * </p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+public final class DataSourceRouting {
+	private static final ThreadLocal<DataSourceRoute> CURRENT = new ThreadLocal<>();
+
+	private DataSourceRouting() {
+	}
+
+	/**
+	 * 获取当前线程绑定的路由
+	 *
+	 * @return 路由，未绑定时返回 {@code null}（由数据源使用主库）
+	 * @since 2.2.0
+	 */
+	public static @Nullable DataSourceRoute current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * 在从库路由下执行操作
+	 *
+	 * @param action 操作
+	 * @param <R>    结果类型
+	 * @return 操作结果
+	 * @since 2.2.0
+	 */
+	public static <R> R callOnReplica(Supplier<R> action) {
+		return callWith(DataSourceRoute.REPLICA, action);
+	}
+
+	/**
+	 * 在主库路由下执行操作
+	 *
+	 * @param action 操作
+	 * @param <R>    结果类型
+	 * @return 操作结果
+	 * @since 2.2.0
+	 */
+	public static <R> R callOnPrimary(Supplier<R> action) {
+		return callWith(DataSourceRoute.PRIMARY, action);
+	}
+
+	/**
+	 * 在绑定路由的情况下执行操作，执行结束后恢复之前的路由
+	 *
+	 * @param route  路由，为 {@code null} 时直接执行
+	 * @param action 操作
+	 * @param <R>    结果类型
+	 * @return 操作结果
+	 * @since 2.2.0
+	 */
+	public static <R> R callWith(@Nullable DataSourceRoute route, Supplier<R> action) {
+		if (route == null) {
+			return action.get();
+		}
+		DataSourceRoute previous = CURRENT.get();
+		CURRENT.set(route);
+		try {
+			return action.get();
+		} finally {
+			if (previous == null) {
+				CURRENT.remove();
+			} else {
+				CURRENT.set(previous);
+			}
+		}
+	}
+}
@@ -0,0 +1,304 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.pangju666.framework.data.mybatisplus.routing;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 读写分离数据源
+ * <p>
+ * 当前线程绑定 {@link DataSourceRoute#REPLICA} 路由（见 {@link DataSourceRouting}）时从从库获取连接，否则使用主库。
+ * 多个从库之间轮询分配；从库获取连接失败或复制延迟超过上限时跳过该从库，全部从库不可用时退化为主库。
+ * </p>
+ * <p>
+ * 处于读写事务中时始终使用主库：事务连接在事务开始时从主库获取并绑定到线程，事务内的查询复用该连接；
+ * 对于由其它方式（如 JTA 或延迟连接代理）在事务中获取的连接，本数据源同样检查当前事务是否只读。
+ * 仅开启事务同步而未开启事务的作用域（如 {@code SUPPORTS} 传播）中，首次获取的连接同样绑定到线程并被后续写入复用，
+ * 因此除非该作用域显式声明为只读，否则也使用主库。
+ * </p>
+ * <p>
+ * 设置延迟探测（见 {@link #setLagProbe(ReplicaLagProbe)}）后，各从库的延迟在距上次探测超过探测间隔时，
+ * 由首个获取该从库连接的线程顺带探测（其它线程继续使用上次的结果）；也可定时调用 {@link #refreshReplicas()} 主动探测。
+ * 获取连接失败的从库在一个探测间隔后重新参与分配。
+ * </p>
+ *
+ * @author pangju666
+ * @see DataSourceRouting
+ * @since 2.2.0
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+	/**
+	 * 默认允许的最大复制延迟
+	 *
+	 * @since 2.2.0
+	 */
+	public static final Duration DEFAULT_MAX_REPLICA_LAG = Duration.ofSeconds(5);
+	/**
+	 * 默认的探测间隔
+	 *
+	 * @since 2.2.0
+	 */
+	public static final Duration DEFAULT_CHECK_INTERVAL = Duration.ofSeconds(1);
+
+	private final DataSource primary;
+	private final List<Replica> replicas;
+	private final AtomicInteger nextReplica = new AtomicInteger();
+	private final LongAdder primaryFallbacks = new LongAdder();
+
+	private volatile @Nullable ReplicaLagProbe lagProbe = null;
+	private volatile long maxReplicaLagNanos = DEFAULT_MAX_REPLICA_LAG.toNanos();
+	private volatile long checkIntervalNanos = DEFAULT_CHECK_INTERVAL.toNanos();
+
+	/**
+	 * 创建读写分离数据源
+	 *
+	 * @param primary  主库
+	 * @param replicas 从库（名称 → 数据源），按迭代顺序参与轮询；为空时所有连接均来自主库
+	 * @throws IllegalArgumentException 当 {@code primary} 或 {@code replicas} 为 {@code null}
+	 * @since 2.2.0
+	 */
+	public ReadWriteRoutingDataSource(DataSource primary, Map<String, ? extends DataSource> replicas) {
+		Assert.notNull(primary, "primary 不可为null");
+		Assert.notNull(replicas, "replicas 不可为null");
+
+		this.primary = primary;
+		this.replicas = new ArrayList<>(replicas.size());
+		replicas.forEach((name, dataSource) -> {
+			Assert.notNull(dataSource, "从库 " + name + " 不可为null");
+			this.replicas.add(new Replica(name, dataSource));
+		});
+	}
+
+	/**
+	 * 设置从库复制延迟探测（默认不探测，仅按获取连接是否成功判断从库可用性）
+	 *
+	 * @param lagProbe 延迟探测，为 {@code null} 时关闭探测
+	 * @see ReplicaLagProbe#MYSQL
+	 * @since 2.2.0
+	 */
+	public void setLagProbe(@Nullable ReplicaLagProbe lagProbe) {
+		this.lagProbe = lagProbe;
+	}
+
+	/**
+	 * 设置允许的最大复制延迟（默认为 {@link #DEFAULT_MAX_REPLICA_LAG}）
+	 * <p>延迟超过该值或延迟未知的从库不参与分配，仅在设置了延迟探测时生效。</p>
+	 *
+	 * @param maxReplicaLag 最大复制延迟
+	 * @throws IllegalArgumentException 当 {@code maxReplicaLag} 为 {@code null} 或为负数
+	 * @since 2.2.0
+	 */
+	public void setMaxReplicaLag(Duration maxReplicaLag) {
+		Assert.notNull(maxReplicaLag, "maxReplicaLag 不可为null");
+		Assert.isTrue(!maxReplicaLag.isNegative(), "maxReplicaLag 不可为负数");
+		this.maxReplicaLagNanos = maxReplicaLag.toNanos();
+	}
+
+	/**
+	 * 设置探测间隔（默认为 {@link #DEFAULT_CHECK_INTERVAL}）
+	 * <p>同时决定获取连接失败的从库多久后重新参与分配。</p>
+	 *
+	 * @param checkInterval 探测间隔
+	 * @throws IllegalArgumentException 当 {@code checkInterval} 为 {@code null} 或为负数
+	 * @since 2.2.0
+	 */
+	public void setCheckInterval(Duration checkInterval) {
+		Assert.notNull(checkInterval, "checkInterval 不可为null");
+		Assert.isTrue(!checkInterval.isNegative(), "checkInterval 不可为负数");
+		this.checkIntervalNanos = checkInterval.toNanos();
+	}
+
+	/**
+	 * 获取主库
+	 *
+	 * @return 主库
+	 * @since 2.2.0
+	 */
+	public DataSource getPrimary() {
+		return primary;
+	}
+
+	/**
+	 * 获取因没有可用从库而退化为主库的次数
+	 *
+	 * @return 退化次数
+	 * @since 2.2.0
+	 */
+	public long getPrimaryFallbackCount() {
+		return primaryFallbacks.sum();
+	}
+
+	/**
+	 * 获取各从库的状态快照
+	 *
+	 * @return 从库状态列表，顺序与构造时一致
+	 * @since 2.2.0
+	 */
+	public List<ReplicaStatus> getReplicaStatuses() {
+		List<ReplicaStatus> statuses = new ArrayList<>(replicas.size());
+		for (Replica replica : replicas) {
+			long lagNanos = replica.lagNanos;
+			Duration lag = lagNanos < 0 || lagNanos == Long.MAX_VALUE ? null : Duration.ofNanos(lagNanos);
+			statuses.add(new ReplicaStatus(replica.name, replica.available, lag, replica.isEligible()));
+		}
+		return statuses;
+	}
+
+	/**
+	 * 立即探测所有从库（可用性与复制延迟）
+	 *
+	 * @since 2.2.0
+	 */
+	public void refreshReplicas() {
+		for (Replica replica : replicas) {
+			replica.refresh();
+		}
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return getConnection(DataSource::getConnection);
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return getConnection(dataSource -> dataSource.getConnection(username, password));
+	}
+
+	/**
+	 * 判断当前线程获取的连接是否应来自从库
+	 *
+	 * @return 绑定了从库路由，且不处于事务（或事务同步）中或当前作用域为只读时返回 {@code true}
+	 * @since 2.2.0
+	 */
+	protected boolean shouldUseReplica() {
+		if (replicas.isEmpty() || DataSourceRouting.current() != DataSourceRoute.REPLICA) {
+			return false;
+		}
+		if (TransactionSynchronizationManager.isActualTransactionActive() ||
+			TransactionSynchronizationManager.isSynchronizationActive()) {
+			// 同步作用域内的连接绑定到线程，后续写入会复用该连接
+			return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+		}
+		return true;
+	}
+
+	private Connection getConnection(ConnectionOpener opener) throws SQLException {
+		if (!shouldUseReplica()) {
+			return opener.open(primary);
+		}
+
+		int size = replicas.size();
+		int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+		for (int i = 0; i < size; i++) {
+			Replica replica = replicas.get((start + i) % size);
+			if (!replica.checkEligible()) {
+				continue;
+			}
+			try {
+				return opener.open(replica.dataSource);
+			} catch (SQLException e) {
+				replica.markUnavailable();
+				logger.warn("从库 " + replica.name + " 获取连接失败，尝试其它数据源", e);
+			}
+		}
+		primaryFallbacks.increment();
+		return opener.open(primary);
+	}
+
+	@FunctionalInterface
+	private interface ConnectionOpener {
+		Connection open(DataSource dataSource) throws SQLException;
+	}
+
+	private final class Replica {
+		private final String name;
+		private final DataSource dataSource;
+		private final AtomicBoolean checking = new AtomicBoolean();
+
+		private volatile boolean available = true;
+		/**
+		 * 最近一次探测的复制延迟（纳秒），未探测时为 -1，延迟未知时为 {@link Long#MAX_VALUE}
+		 */
+		private volatile long lagNanos = -1;
+		private volatile long nextCheckNanos = System.nanoTime();
+
+		private Replica(String name, DataSource dataSource) {
+			this.name = name;
+			this.dataSource = dataSource;
+		}
+
+		private boolean checkEligible() {
+			if (System.nanoTime() - nextCheckNanos >= 0) {
+				refresh();
+			}
+			return isEligible();
+		}
+
+		private boolean isEligible() {
+			if (!available) {
+				return false;
+			}
+			return Objects.isNull(lagProbe) || (lagNanos >= 0 && lagNanos <= maxReplicaLagNanos);
+		}
+
+		private void refresh() {
+			if (!checking.compareAndSet(false, true)) {
+				return;
+			}
+			try {
+				ReplicaLagProbe probe = lagProbe;
+				if (Objects.isNull(probe)) {
+					available = true;
+					return;
+				}
+				try (Connection connection = dataSource.getConnection()) {
+					Duration lag = probe.probe(connection);
+					lagNanos = Objects.isNull(lag) ? Long.MAX_VALUE : lag.toNanos();
+					available = true;
+				} catch (SQLException | RuntimeException e) {
+					available = false;
+					logger.warn("从库 " + name + " 延迟探测失败", e);
+				}
+			} finally {
+				nextCheckNanos = System.nanoTime() + checkIntervalNanos;
+				checking.set(false);
+			}
+		}
+
+		private void markUnavailable() {
+			available = false;
+			nextCheckNanos = System.nanoTime() + checkIntervalNanos;
+		}
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.pangju666.framework.data.mybatisplus.routing;
+
+import org.jspecify.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * 从库复制延迟探测
+ *
+ * @author pangju666
+ * @see ReadWriteRoutingDataSource#setLagProbe(ReplicaLagProbe)
+ * @since 2.2.0
+ */
+@FunctionalInterface
+public interface ReplicaLagProbe {
+	/**
+	 * MySQL 复制延迟探测
+	 * <p>
+	 * 读取 {@code SHOW REPLICA STATUS}（8.0.22+）的 {@code Seconds_Behind_Source}，不支持时退化为
+	 * {@code SHOW SLAVE STATUS} 的 {@code Seconds_Behind_Master}；复制线程未运行时该值为 {@code NULL}，视为延迟未知。
+	 * </p>
+	 *
+	 * @since 2.2.0
+	 */
+	ReplicaLagProbe MYSQL = connection -> {
+		try {
+			return readSecondsBehind(connection, "SHOW REPLICA STATUS", "Seconds_Behind_Source");
+		} catch (SQLException e) {
+			return readSecondsBehind(connection, "SHOW SLAVE STATUS", "Seconds_Behind_Master");
+		}
+	};
+
+	/**
+	 * 探测从库的复制延迟
+	 *
+	 * @param connection 从库连接，由调用方负责关闭
+	 * @return 复制延迟，未知（如复制已停止）时返回 {@code null}
+	 * @throws SQLException 探测失败时抛出，调用方应视为从库不可用
+	 * @since 2.2.0
+	 */
+	@Nullable
+	Duration probe(Connection connection) throws SQLException;
+
+	private static @Nullable Duration readSecondsBehind(Connection connection, String sql, String column)
+		throws SQLException {
+		try (Statement statement = connection.createStatement();
+			 ResultSet resultSet = statement.executeQuery(sql)) {
+			if (!resultSet.next()) {
+				return null;
+			}
+			long seconds = resultSet.getLong(column);
+			return resultSet.wasNull() ? null : Duration.ofSeconds(seconds);
+		}
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.pangju666.framework.data.mybatisplus.routing;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * 从库状态快照
+ *
+ * @param name      从库名称
+ * @param available 最近一次获取连接或探测是否成功
+ * @param lag       最近一次探测的复制延迟，未设置探测或延迟未知时为 {@code null}
+ * @param eligible  当前是否可承担读请求（可用且延迟未超过上限）
+ * @author pangju666
+ * @see ReadWriteRoutingDataSource#getReplicaStatuses()
+ * @since 2.2.0
+ */
+public record ReplicaStatus(String name, boolean available, @Nullable Duration lag, boolean eligible) {
+}
@@ -0,0 +1,161 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.type.codec;
+
+import org.springframework.util.Assert;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 压缩包装编解码器
+ * <p>
+ * 编码结果达到阈值时使用 {@link Deflater}（JDK 内置，无需额外依赖）压缩，否则原样存储，列类型应为 BLOB/VARBINARY。
+ * 每个值以 1 字节头部标识存储格式：{@code 0x00} 为未压缩，{@code 0x01} 为 Deflate 压缩；
+ * 首字节不是以上头部的列值（例如迁移前写入的 JSON 文本）直接交给被包装的编解码器解码，便于存量数据平滑迁移。
+ * 以字符串读写（{@link #encodeToString(Object)}、{@link #decodeString(String, Class)}）时使用编码结果的 Base64 表示。
+ * </p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+public class CompressingJsonCodec implements JsonCodec {
+	/**
+	 * 默认压缩阈值（字节）
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int DEFAULT_THRESHOLD = 1024;
+
+	private static final byte RAW = 0x00;
+	private static final byte DEFLATE = 0x01;
+
+	private final JsonCodec delegate;
+	private final int threshold;
+	private final int level;
+
+	/**
+	 * 构造函数，使用默认阈值与 {@link Deflater#BEST_SPEED} 压缩级别
+	 *
+	 * @param delegate 被包装的编解码器
+	 * @since 2.2.0
+	 */
+	public CompressingJsonCodec(JsonCodec delegate) {
+		this(delegate, DEFAULT_THRESHOLD, Deflater.BEST_SPEED);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param delegate  被包装的编解码器
+	 * @param threshold 压缩阈值（字节），编码结果小于该值时不压缩
+	 * @param level     压缩级别，取值范围 0-9
+	 * @throws IllegalArgumentException 当参数不合法时
+	 * @since 2.2.0
+	 */
+	public CompressingJsonCodec(JsonCodec delegate, int threshold, int level) {
+		Assert.notNull(delegate, "delegate 不可为null");
+		Assert.isTrue(threshold >= 0, "threshold 必须大于等于0");
+		Assert.isTrue(level >= Deflater.NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION,
+			"level 必须在0-9之间");
+		this.delegate = delegate;
+		this.threshold = threshold;
+		this.level = level;
+	}
+
+	@Override
+	public boolean isBinary() {
+		return true;
+	}
+
+	@Override
+	public byte[] encode(Object value) throws IOException {
+		byte[] data = delegate.encode(value);
+		if (data.length >= threshold) {
+			byte[] compressed = deflate(data);
+			if (compressed.length < data.length) {
+				return compressed;
+			}
+		}
+		byte[] result = new byte[data.length + 1];
+		result[0] = RAW;
+		System.arraycopy(data, 0, result, 1, data.length);
+		return result;
+	}
+
+	@Override
+	public Object decode(byte[] data, Class<?> type) throws IOException {
+		return switch (data[0]) {
+			case RAW -> delegate.decode(Arrays.copyOfRange(data, 1, data.length), type);
+			case DEFLATE -> delegate.decode(inflate(data), type);
+			default -> delegate.decode(data, type);
+		};
+	}
+
+	/**
+	 * 获取被包装的编解码器
+	 *
+	 * @return 被包装的编解码器
+	 * @since 2.2.0
+	 */
+	public JsonCodec getDelegate() {
+		return delegate;
+	}
+
+	private byte[] deflate(byte[] data) {
+		Deflater deflater = new Deflater(level);
+		try {
+			deflater.setInput(data);
+			deflater.finish();
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream(data.length / 2 + 16);
+			outputStream.write(DEFLATE);
+			byte[] buffer = new byte[Math.min(8192, data.length + 64)];
+			while (!deflater.finished()) {
+				int count = deflater.deflate(buffer);
+				outputStream.write(buffer, 0, count);
+			}
+			return outputStream.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private byte[] inflate(byte[] data) throws IOException {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(data, 1, data.length - 1);
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream(data.length * 4);
+			byte[] buffer = new byte[8192];
+			while (!inflater.finished()) {
+				int count = inflater.inflate(buffer);
+				if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new IOException("压缩数据不完整");
+				}
+				outputStream.write(buffer, 0, count);
+			}
+			return outputStream.toByteArray();
+		} catch (DataFormatException e) {
+			throw new IOException("压缩数据格式错误", e);
+		} finally {
+			inflater.end();
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.type.codec;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import io.github.pangju666.commons.lang.utils.JsonUtils;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * 基于 Gson 的文本编解码器（默认编解码器）
+ * <p>
+ * 无参构造时使用 {@link JsonUtils} 的全局配置，与历史版本的存储格式完全一致；
+ * 指定 {@link Gson} 实例时按类型缓存 {@link TypeAdapter}，读写时不再查找适配器。
+ * </p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+public final class GsonJsonCodec implements JsonCodec {
+	/**
+	 * 使用 {@link JsonUtils} 全局配置的实例
+	 *
+	 * @since 2.2.0
+	 */
+	public static final GsonJsonCodec DEFAULT = new GsonJsonCodec();
+
+	private final Gson gson;
+	private final ClassValue<TypeAdapter<?>> adapters;
+
+	private GsonJsonCodec() {
+		this.gson = null;
+		this.adapters = null;
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param gson Gson 实例
+	 * @throws IllegalArgumentException 当 {@code gson} 为 null
+	 * @since 2.2.0
+	 */
+	public GsonJsonCodec(Gson gson) {
+		Assert.notNull(gson, "gson 不可为null");
+		this.gson = gson;
+		this.adapters = new ClassValue<>() {
+			@Override
+			protected TypeAdapter<?> computeValue(Class<?> type) {
+				return gson.getAdapter(type);
+			}
+		};
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public String encodeToString(Object value) throws IOException {
+		try {
+			if (Objects.isNull(gson)) {
+				return JsonUtils.toString(value);
+			}
+			return ((TypeAdapter<Object>) adapters.get(value.getClass())).toJson(value);
+		} catch (JsonParseException e) {
+			throw new IOException(e);
+		}
+	}
+
+	@Override
+	public Object decodeString(String text, Class<?> type) throws IOException {
+		try {
+			if (Objects.isNull(gson)) {
+				return JsonUtils.fromString(text, type);
+			}
+			return adapters.get(type).fromJson(text);
+		} catch (JsonParseException e) {
+			throw new IOException(e);
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.type.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+
+/**
+ * 基于 Jackson 的编解码器
+ * <p>
+ * 按类型缓存 {@link ObjectReader}/{@link ObjectWriter}，读写基于 Jackson 的流式解析器。
+ * 是否为二进制格式由 {@link ObjectMapper} 的数据格式决定：使用 {@code JsonFactory} 时为文本编解码器；
+ * 使用 Smile（{@code SmileFactory}）或 CBOR（{@code CBORFactory}）等二进制格式时为二进制编解码器，列类型应为 BLOB/VARBINARY。
+ * 需要引入 {@code jackson-databind}，二进制格式需额外引入对应的 {@code jackson-dataformat-*} 模块。
+ * </p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+public class JacksonJsonCodec implements JsonCodec {
+	private final ObjectMapper objectMapper;
+	private final boolean binary;
+	private final ClassValue<ObjectReader> readers;
+	private final ClassValue<ObjectWriter> writers;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param objectMapper ObjectMapper 实例，例如 {@code new ObjectMapper(new CBORFactory())}
+	 * @throws IllegalArgumentException 当 {@code objectMapper} 为 null
+	 * @since 2.2.0
+	 */
+	public JacksonJsonCodec(ObjectMapper objectMapper) {
+		Assert.notNull(objectMapper, "objectMapper 不可为null");
+		this.objectMapper = objectMapper;
+		this.binary = objectMapper.getFactory().canHandleBinaryNatively();
+		this.readers = new ClassValue<>() {
+			@Override
+			protected ObjectReader computeValue(Class<?> type) {
+				return objectMapper.readerFor(type);
+			}
+		};
+		this.writers = new ClassValue<>() {
+			@Override
+			protected ObjectWriter computeValue(Class<?> type) {
+				return objectMapper.writerFor(type);
+			}
+		};
+	}
+
+	@Override
+	public boolean isBinary() {
+		return binary;
+	}
+
+	@Override
+	public byte[] encode(Object value) throws IOException {
+		return writers.get(value.getClass()).writeValueAsBytes(value);
+	}
+
+	@Override
+	public Object decode(byte[] data, Class<?> type) throws IOException {
+		return readers.get(type).readValue(data);
+	}
+
+	@Override
+	public String encodeToString(Object value) throws IOException {
+		if (binary) {
+			return JsonCodec.super.encodeToString(value);
+		}
+		return writers.get(value.getClass()).writeValueAsString(value);
+	}
+
+	@Override
+	public Object decodeString(String text, Class<?> type) throws IOException {
+		if (binary) {
+			return JsonCodec.super.decodeString(text, type);
+		}
+		return readers.get(type).readValue(text);
+	}
+
+	/**
+	 * 获取 ObjectMapper 实例
+	 *
+	 * @return ObjectMapper 实例
+	 * @since 2.2.0
+	 */
+	public ObjectMapper getObjectMapper() {
+		return objectMapper;
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.type.codec;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * JSON 列编解码器
+ * <p>
+ * 由 {@link io.github.pangju666.framework.data.mybatisplus.type.handler.JsonTypeHandler JsonTypeHandler}
+ * 用于对象与列值之间的转换。文本编解码器（{@link #isBinary()} 为 {@code false}）以字符串读写 VARCHAR/TEXT/JSON 列；
+ * 二进制编解码器（如 Smile、CBOR 或压缩包装）以字节数组读写 BLOB/VARBINARY 列。
+ * </p>
+ * <p>
+ * 实现必须线程安全，并应按目标类型缓存序列化器/反序列化器，避免每行重复解析类型。
+ * 文本编解码器至少实现 {@link #encodeToString(Object)} 与 {@link #decodeString(String, Class)}，字节数组方法默认通过 UTF-8 转换；
+ * 二进制编解码器至少实现 {@link #encode(Object)} 与 {@link #decode(byte[], Class)}，字符串方法默认使用 Base64 表示编码结果。
+ * 未实现必需方法时调用默认方法抛出 {@link UnsupportedOperationException}。
+ * </p>
+ *
+ * @author pangju666
+ * @see JsonCodecs
+ * @since 2.2.0
+ */
+public interface JsonCodec {
+	/**
+	 * 是否为二进制编解码器
+	 *
+	 * @return 二进制编解码器返回 {@code true}，列值以字节数组读写
+	 * @since 2.2.0
+	 */
+	default boolean isBinary() {
+		return false;
+	}
+
+	/**
+	 * 将对象编码为字节数组
+	 * <p>
+	 * 默认实现仅适用于文本编解码器，将 {@link #encodeToString(Object)} 的结果按 UTF-8 编码。
+	 * </p>
+	 *
+	 * @param value 对象，不为 {@code null}
+	 * @return 编码结果
+	 * @throws IOException                   编码失败时抛出
+	 * @throws UnsupportedOperationException 二进制编解码器未实现该方法时抛出
+	 * @since 2.2.0
+	 */
+	default byte[] encode(Object value) throws IOException {
+		if (isBinary()) {
+			throw new UnsupportedOperationException("二进制编解码器 " + getClass().getName() + " 必须实现 encode(Object)");
+		}
+		return encodeToString(value).getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 将字节数组解码为对象
+	 * <p>
+	 * 默认实现仅适用于文本编解码器，将列值按 UTF-8 解码后交给 {@link #decodeString(String, Class)}。
+	 * </p>
+	 *
+	 * @param data 列值，不为空
+	 * @param type 目标类型
+	 * @return 解码结果
+	 * @throws IOException                   解码失败时抛出
+	 * @throws UnsupportedOperationException 二进制编解码器未实现该方法时抛出
+	 * @since 2.2.0
+	 */
+	default Object decode(byte[] data, Class<?> type) throws IOException {
+		if (isBinary()) {
+			throw new UnsupportedOperationException("二进制编解码器 " + getClass().getName() + " 必须实现 decode(byte[], Class)");
+		}
+		return decodeString(new String(data, StandardCharsets.UTF_8), type);
+	}
+
+	/**
+	 * 将对象编码为字符串
+	 * <p>
+	 * 默认实现仅适用于二进制编解码器，返回 {@link #encode(Object)} 结果的 Base64 表示（二进制数据直接按 UTF-8 转换会丢失信息）。
+	 * </p>
+	 *
+	 * @param value 对象，不为 {@code null}
+	 * @return 编码结果
+	 * @throws IOException                   编码失败时抛出
+	 * @throws UnsupportedOperationException 文本编解码器未实现该方法时抛出
+	 * @since 2.2.0
+	 */
+	default String encodeToString(Object value) throws IOException {
+		if (!isBinary()) {
+			throw new UnsupportedOperationException("文本编解码器 " + getClass().getName() + " 必须实现 encodeToString(Object)");
+		}
+		return Base64.getEncoder().encodeToString(encode(value));
+	}
+
+	/**
+	 * 将字符串解码为对象
+	 * <p>
+	 * 默认实现仅适用于二进制编解码器，将 Base64 文本（{@link #encodeToString(Object)} 的结果）解码后交给 {@link #decode(byte[], Class)}。
+	 * </p>
+	 *
+	 * @param text 列值，不为空白
+	 * @param type 目标类型
+	 * @return 解码结果
+	 * @throws IOException                   解码失败（包括不是合法的 Base64 文本）时抛出
+	 * @throws UnsupportedOperationException 文本编解码器未实现该方法时抛出
+	 * @since 2.2.0
+	 */
+	default Object decodeString(String text, Class<?> type) throws IOException {
+		if (!isBinary()) {
+			throw new UnsupportedOperationException("文本编解码器 " + getClass().getName() + " 必须实现 decodeString(String, Class)");
+		}
+		byte[] data;
+		try {
+			data = Base64.getDecoder().decode(text);
+		} catch (IllegalArgumentException e) {
+			throw new IOException("不是合法的 Base64 文本", e);
+		}
+		return decode(data, type);
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.type.codec;
+
+import org.springframework.util.Assert;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JSON 编解码器注册表
+ * <p>
+ * MyBatis 仅以目标类型实例化 {@link io.github.pangju666.framework.data.mybatisplus.type.handler.JsonTypeHandler JsonTypeHandler}，
+ * 因此按目标类型登记编解码器：已登记的类型使用对应编解码器，其余类型使用默认编解码器（{@link GsonJsonCodec#DEFAULT}）。
+ * 应在应用启动阶段完成登记，切换编解码器前需确保对应列的存储格式兼容。
+ * </p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+public final class JsonCodecs {
+	private static final Map<Class<?>, JsonCodec> CODECS = new ConcurrentHashMap<>();
+
+	private static volatile JsonCodec defaultCodec = GsonJsonCodec.DEFAULT;
+
+	private JsonCodecs() {
+	}
+
+	/**
+	 * 获取默认编解码器
+	 *
+	 * @return 默认编解码器
+	 * @since 2.2.0
+	 */
+	public static JsonCodec getDefault() {
+		return defaultCodec;
+	}
+
+	/**
+	 * 设置默认编解码器
+	 *
+	 * @param codec 编解码器
+	 * @throws IllegalArgumentException 当 {@code codec} 为 null
+	 * @since 2.2.0
+	 */
+	public static void setDefault(JsonCodec codec) {
+		Assert.notNull(codec, "codec 不可为null");
+		defaultCodec = codec;
+	}
+
+	/**
+	 * 为目标类型登记编解码器
+	 *
+	 * @param type  目标类型
+	 * @param codec 编解码器
+	 * @throws IllegalArgumentException 当参数为 null
+	 * @since 2.2.0
+	 */
+	public static void register(Class<?> type, JsonCodec codec) {
+		Assert.notNull(type, "type 不可为null");
+		Assert.notNull(codec, "codec 不可为null");
+		CODECS.put(type, codec);
+	}
+
+	/**
+	 * 移除目标类型登记的编解码器
+	 *
+	 * @param type 目标类型
+	 * @since 2.2.0
+	 */
+	public static void unregister(Class<?> type) {
+		if (type != null) {
+			CODECS.remove(type);
+		}
+	}
+
+	/**
+	 * 解析目标类型使用的编解码器
+	 *
+	 * @param type 目标类型
+	 * @return 已登记的编解码器，未登记时返回默认编解码器
+	 * @since 2.2.0
+	 */
+	public static JsonCodec resolve(Class<?> type) {
+		JsonCodec codec = CODECS.get(type);
+		return codec != null ? codec : defaultCodec;
+	}
+}
@@ -0,0 +1,204 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.type.codec;
+
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 延迟解析的 JSON 值
+ * <p>
+ * 由 {@link io.github.pangju666.framework.data.mybatisplus.type.handler.LazyJsonTypeHandler LazyJsonTypeHandler} 创建，
+ * 读取结果集时只保存列的原始字符串或字节数组，首次调用 {@link #get()} 时才解码，解码结果会被缓存，原始数据随即释放。
+ * 适用于只读取少量标量列的大批量查询，未访问的 JSON 字段不产生解析开销。
+ * </p>
+ * <p>
+ * 未解析的值回写数据库时，若编解码器相同则直接写回原始数据，不经过解码与重新编码。
+ * </p>
+ *
+ * @param <T> 值类型
+ * @author pangju666
+ * @since 2.2.0
+ */
+public final class LazyJson<T> implements Supplier<T> {
+	private final Class<T> type;
+	private volatile Object raw;
+	private volatile JsonCodec codec;
+	private volatile T value;
+	private volatile boolean loaded;
+
+	private LazyJson(Class<T> type, Object raw, JsonCodec codec, T value, boolean loaded) {
+		this.type = type;
+		this.raw = raw;
+		this.codec = codec;
+		this.value = value;
+		this.loaded = loaded;
+	}
+
+	/**
+	 * 创建已解析的值，通常用于写入
+	 *
+	 * @param value 值
+	 * @param <T>   值类型
+	 * @return 已解析的值
+	 * @since 2.2.0
+	 */
+	public static <T> LazyJson<T> of(T value) {
+		return new LazyJson<>(null, null, null, value, true);
+	}
+
+	/**
+	 * 创建延迟解析的文本值
+	 *
+	 * @param text  列的原始字符串
+	 * @param type  目标类型
+	 * @param codec 编解码器
+	 * @param <T>   值类型
+	 * @return 延迟解析的值
+	 * @throws IllegalArgumentException 当参数为 null
+	 * @since 2.2.0
+	 */
+	public static <T> LazyJson<T> ofText(String text, Class<T> type, JsonCodec codec) {
+		Assert.notNull(text, "text 不可为null");
+		Assert.notNull(type, "type 不可为null");
+		Assert.notNull(codec, "codec 不可为null");
+		return new LazyJson<>(type, text, codec, null, false);
+	}
+
+	/**
+	 * 创建延迟解析的二进制值
+	 *
+	 * @param data  列的原始字节数组
+	 * @param type  目标类型
+	 * @param codec 编解码器
+	 * @param <T>   值类型
+	 * @return 延迟解析的值
+	 * @throws IllegalArgumentException 当参数为 null
+	 * @since 2.2.0
+	 */
+	public static <T> LazyJson<T> ofBytes(byte[] data, Class<T> type, JsonCodec codec) {
+		Assert.notNull(data, "data 不可为null");
+		Assert.notNull(type, "type 不可为null");
+		Assert.notNull(codec, "codec 不可为null");
+		return new LazyJson<>(type, data, codec, null, false);
+	}
+
+	/**
+	 * 获取值，首次调用时解码并缓存结果
+	 *
+	 * @return 值
+	 * @throws UncheckedIOException 当解码失败时
+	 * @since 2.2.0
+	 */
+	@Override
+	public T get() {
+		if (!loaded) {
+			synchronized (this) {
+				if (!loaded) {
+					value = decode();
+					loaded = true;
+					raw = null;
+					codec = null;
+				}
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * 是否已解码
+	 *
+	 * @return 已解码返回 {@code true}
+	 * @since 2.2.0
+	 */
+	public boolean isLoaded() {
+		return loaded;
+	}
+
+	/**
+	 * 编码为字节数组，未解码且编解码器相同时直接返回原始数据
+	 *
+	 * @param jsonCodec 编解码器
+	 * @return 编码结果
+	 * @throws IOException 当编码失败时
+	 * @since 2.2.0
+	 */
+	public byte[] encode(JsonCodec jsonCodec) throws IOException {
+		if (!loaded) {
+			synchronized (this) {
+				if (!loaded && codec == jsonCodec && raw instanceof byte[] data) {
+					return data;
+				}
+			}
+		}
+		return jsonCodec.encode(get());
+	}
+
+	/**
+	 * 编码为字符串，未解码且编解码器相同时直接返回原始数据
+	 *
+	 * @param jsonCodec 编解码器
+	 * @return 编码结果
+	 * @throws IOException 当编码失败时
+	 * @since 2.2.0
+	 */
+	public String encodeToString(JsonCodec jsonCodec) throws IOException {
+		if (!loaded) {
+			synchronized (this) {
+				if (!loaded && codec == jsonCodec && raw instanceof String text) {
+					return text;
+				}
+			}
+		}
+		return jsonCodec.encodeToString(get());
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof LazyJson<?> other)) {
+			return false;
+		}
+		return Objects.equals(get(), other.get());
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hashCode(get());
+	}
+
+	@Override
+	public String toString() {
+		return Objects.toString(get());
+	}
+
+	private T decode() {
+		try {
+			Object data = raw;
+			Object result = data instanceof byte[] bytes ? codec.decode(bytes, type) : codec.decodeString((String) data, type);
+			return type.cast(result);
+		} catch (IOException e) {
+			throw new UncheckedIOException("json数据解析失败", e);
+		}
+	}
+}
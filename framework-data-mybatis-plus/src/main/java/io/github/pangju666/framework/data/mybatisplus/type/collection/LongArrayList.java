@@ -0,0 +1,206 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.type.collection;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * 基于 {@code long[]} 的 {@code List<Long>}
+ * <p>
+ * 元素以基本类型存储，支持 {@code null} 元素（通过位图标记）。可通过 {@link #getLong(int)}、{@link #addLong(long)}
+ * 等方法直接读写基本类型值，避免装箱。
+ * </p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+public class LongArrayList extends PrimitiveArrayList<Long> {
+	private long[] elements;
+
+	/**
+	 * 构造函数，使用默认初始容量
+	 *
+	 * @since 2.2.0
+	 */
+	public LongArrayList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param initialCapacity 初始容量
+	 * @throws IllegalArgumentException 当 {@code initialCapacity} 小于 0
+	 * @since 2.2.0
+	 */
+	public LongArrayList(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("initialCapacity 必须大于等于0");
+		}
+		this.elements = new long[initialCapacity];
+	}
+
+	/**
+	 * 构造函数，复制给定数组
+	 *
+	 * @param values 初始元素
+	 * @since 2.2.0
+	 */
+	public LongArrayList(long[] values) {
+		this.elements = Arrays.copyOf(values, values.length);
+		this.size = values.length;
+	}
+
+	/**
+	 * 构造函数，复制给定集合
+	 *
+	 * @param values 初始元素，可包含 {@code null}
+	 * @since 2.2.0
+	 */
+	public LongArrayList(Collection<? extends Long> values) {
+		this(values.size());
+		for (Long value : values) {
+			add(value);
+		}
+	}
+
+	@Override
+	public Long get(int index) {
+		Objects.checkIndex(index, size);
+		return isNullAt(index) ? null : elements[index];
+	}
+
+	/**
+	 * 获取指定位置的基本类型值
+	 *
+	 * @param index 位置
+	 * @return 元素值，元素为 {@code null} 时返回 {@code 0L}（可通过 {@link #isNull(int)} 区分）
+	 * @throws IndexOutOfBoundsException 当位置越界
+	 * @since 2.2.0
+	 */
+	public long getLong(int index) {
+		Objects.checkIndex(index, size);
+		return elements[index];
+	}
+
+	@Override
+	public Long set(int index, Long element) {
+		Objects.checkIndex(index, size);
+		Long oldValue = isNullAt(index) ? null : elements[index];
+		elements[index] = Objects.isNull(element) ? 0L : element;
+		markNull(index, Objects.isNull(element));
+		return oldValue;
+	}
+
+	/**
+	 * 设置指定位置的基本类型值
+	 *
+	 * @param index 位置
+	 * @param value 元素值
+	 * @throws IndexOutOfBoundsException 当位置越界
+	 * @since 2.2.0
+	 */
+	public void setLong(int index, long value) {
+		Objects.checkIndex(index, size);
+		elements[index] = value;
+		markNull(index, false);
+	}
+
+	@Override
+	public boolean add(Long element) {
+		if (Objects.isNull(element)) {
+			addNull();
+		} else {
+			addLong(element);
+		}
+		return true;
+	}
+
+	/**
+	 * 在末尾添加基本类型值
+	 *
+	 * @param value 元素值
+	 * @since 2.2.0
+	 */
+	public void addLong(long value) {
+		++modCount;
+		if (size == elements.length) {
+			elements = Arrays.copyOf(elements, newCapacity(elements.length, size + 1));
+		}
+		elements[size++] = value;
+	}
+
+	/**
+	 * 在末尾添加 {@code null} 元素
+	 *
+	 * @since 2.2.0
+	 */
+	public void addNull() {
+		addLong(0L);
+		markNull(size - 1, true);
+	}
+
+	@Override
+	public void add(int index, Long element) {
+		checkPositionIndex(index);
+		++modCount;
+		if (size == elements.length) {
+			elements = Arrays.copyOf(elements, newCapacity(elements.length, size + 1));
+		}
+		System.arraycopy(elements, index, elements, index + 1, size - index);
+		shiftNullsForInsert(index);
+		elements[index] = Objects.isNull(element) ? 0L : element;
+		++size;
+		markNull(index, Objects.isNull(element));
+	}
+
+	@Override
+	public Long remove(int index) {
+		Objects.checkIndex(index, size);
+		++modCount;
+		Long oldValue = isNullAt(index) ? null : elements[index];
+		System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+		shiftNullsForRemove(index);
+		--size;
+		return oldValue;
+	}
+
+	/**
+	 * 确保容量不小于给定值
+	 *
+	 * @param minCapacity 最小容量
+	 * @since 2.2.0
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > elements.length) {
+			++modCount;
+			elements = Arrays.copyOf(elements, newCapacity(elements.length, minCapacity));
+		}
+	}
+
+	/**
+	 * 转换为基本类型数组
+	 *
+	 * @return 新数组，{@code null} 元素对应 {@code 0L}
+	 * @since 2.2.0
+	 */
+	public long[] toLongArray() {
+		return Arrays.copyOf(elements, size);
+	}
+}
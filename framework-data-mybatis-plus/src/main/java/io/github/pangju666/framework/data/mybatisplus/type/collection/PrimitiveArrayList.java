@@ -0,0 +1,149 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.type.collection;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * 基于基本类型数组的列表基类
+ * <p>
+ * 子类使用基本类型数组存储元素，避免每个元素一个包装对象；{@code null} 元素通过位图标记，
+ * 列表中没有 {@code null} 时不分配位图。
+ * </p>
+ *
+ * @param <E> 包装类型
+ * @author pangju666
+ * @since 2.2.0
+ */
+abstract class PrimitiveArrayList<E> extends AbstractList<E> implements RandomAccess, Serializable {
+	/**
+	 * 默认初始容量
+	 *
+	 * @since 2.2.0
+	 */
+	static final int DEFAULT_CAPACITY = 10;
+
+	/**
+	 * 元素数量
+	 *
+	 * @since 2.2.0
+	 */
+	int size = 0;
+	/**
+	 * {@code null} 元素位图，没有 {@code null} 元素时为 {@code null}
+	 *
+	 * @since 2.2.0
+	 */
+	BitSet nulls = null;
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * 判断指定位置的元素是否为 {@code null}
+	 *
+	 * @param index 位置
+	 * @return 为 {@code null} 时返回 {@code true}
+	 * @throws IndexOutOfBoundsException 当位置越界
+	 * @since 2.2.0
+	 */
+	public boolean isNull(int index) {
+		Objects.checkIndex(index, size);
+		return isNullAt(index);
+	}
+
+	/**
+	 * 判断列表中是否包含 {@code null} 元素
+	 *
+	 * @return 包含时返回 {@code true}
+	 * @since 2.2.0
+	 */
+	public boolean hasNulls() {
+		return Objects.nonNull(nulls) && !nulls.isEmpty();
+	}
+
+	@Override
+	public void clear() {
+		++modCount;
+		size = 0;
+		nulls = null;
+	}
+
+	boolean isNullAt(int index) {
+		return Objects.nonNull(nulls) && nulls.get(index);
+	}
+
+	void markNull(int index, boolean isNull) {
+		if (isNull) {
+			if (Objects.isNull(nulls)) {
+				nulls = new BitSet();
+			}
+			nulls.set(index);
+		} else if (Objects.nonNull(nulls)) {
+			nulls.clear(index);
+		}
+	}
+
+	/**
+	 * 在 {@code index} 处插入元素前，将位图中 {@code index} 及之后的标记后移一位（需在 {@link #size} 增加前调用）
+	 */
+	void shiftNullsForInsert(int index) {
+		if (Objects.isNull(nulls) || index == size) {
+			return;
+		}
+		for (int i = size; i > index; i--) {
+			nulls.set(i, nulls.get(i - 1));
+		}
+		nulls.clear(index);
+	}
+
+	/**
+	 * 删除 {@code index} 处元素后，将位图中之后的标记前移一位（需在 {@link #size} 减少前调用）
+	 */
+	void shiftNullsForRemove(int index) {
+		if (Objects.isNull(nulls)) {
+			return;
+		}
+		for (int i = index; i < size - 1; i++) {
+			nulls.set(i, nulls.get(i + 1));
+		}
+		nulls.clear(size - 1);
+	}
+
+	void checkPositionIndex(int index) {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	static int newCapacity(int oldCapacity, int minCapacity) {
+		int capacity = oldCapacity + Math.max(oldCapacity >> 1, 1);
+		if (capacity < minCapacity) {
+			capacity = minCapacity;
+		}
+		if (capacity < 0) {
+			throw new OutOfMemoryError("Required array length is too large");
+		}
+		return capacity;
+	}
+}
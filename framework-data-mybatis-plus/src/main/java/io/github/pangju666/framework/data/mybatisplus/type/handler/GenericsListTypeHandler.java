@@ -25,11 +25,10 @@ import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * 泛型VARCHAR转List类型处理器
@@ -43,6 +42,25 @@ import java.util.stream.Collectors;
  * @since 1.0.0
  */
 public abstract class GenericsListTypeHandler<T> extends BaseTypeHandler<List<T>> {
+	/**
+	 * 正则元字符，分隔符不包含这些字符时按字面量切分，不经过正则引擎
+	 *
+	 * @since 2.2.0
+	 */
+	private static final String REGEX_META_CHARS = ".$|()[]{}^?*+\\";
+	/**
+	 * 线程复用的字符串构建器的最大保留容量，超过后不再复用，避免长期持有大数组
+	 *
+	 * @since 2.2.0
+	 */
+	private static final int MAX_REUSABLE_BUILDER_CAPACITY = 8192;
+	/**
+	 * 线程复用的字符串构建器
+	 *
+	 * @since 2.2.0
+	 */
+	private static final ThreadLocal<StringBuilder> BUILDER_CACHE = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
 	/**
 	 * 字符串到目标类型的转换器
 	 *
@@ -55,6 +73,12 @@ public abstract class GenericsListTypeHandler<T> extends BaseTypeHandler<List<T>
 	 * @since 1.0.0
 	 */
 	private final String delimiter;
+	/**
+	 * 分隔符是否可按字面量切分（不含正则元字符）
+	 *
+	 * @since 2.2.0
+	 */
+	private final boolean literalDelimiter;
 
 	/**
 	 * 构造函数
@@ -82,6 +106,7 @@ public abstract class GenericsListTypeHandler<T> extends BaseTypeHandler<List<T>
 	public GenericsListTypeHandler(String delimiter, Converter<String, T> converter) {
 		this.delimiter = delimiter;
 		this.converter = converter;
+		this.literalDelimiter = !delimiter.isEmpty() && delimiter.chars().noneMatch(c -> REGEX_META_CHARS.indexOf(c) >= 0);
 	}
 
 	/**
@@ -106,10 +131,17 @@ public abstract class GenericsListTypeHandler<T> extends BaseTypeHandler<List<T>
 	 */
 	@Override
 	public void setNonNullParameter(PreparedStatement ps, int i, List<T> parameter, JdbcType jdbcType) throws SQLException {
-		List<String> values = parameter.stream()
-			.map(element -> Objects.isNull(element) ? StringUtils.EMPTY : element.toString())
-			.toList();
-		ps.setString(i, String.join(delimiter, values));
+		StringBuilder builder = borrowBuilder();
+		for (int index = 0; index < parameter.size(); index++) {
+			if (index > 0) {
+				builder.append(delimiter);
+			}
+			T element = parameter.get(index);
+			if (Objects.nonNull(element)) {
+				builder.append(element);
+			}
+		}
+		ps.setString(i, releaseBuilder(builder));
 	}
 
 	/**
@@ -175,8 +207,71 @@ public abstract class GenericsListTypeHandler<T> extends BaseTypeHandler<List<T>
 		if (StringUtils.isBlank(result)) {
 			return Collections.emptyList();
 		}
-		return Arrays.stream(result.split(delimiter))
-			.map(converter::convert)
-			.collect(Collectors.toList());
+		if (!literalDelimiter) {
+			String[] values = result.split(delimiter);
+			List<T> list = new ArrayList<>(values.length);
+			for (String value : values) {
+				list.add(converter.convert(value));
+			}
+			return list;
+		}
+
+		// 按字面量切分，语义与 String#split 一致：保留中间的空串，丢弃末尾的空串
+		List<T> list = new ArrayList<>();
+		int nonEmptySize = 0;
+		int start = 0;
+		while (true) {
+			int end = result.indexOf(delimiter, start);
+			int segmentEnd = end < 0 ? result.length() : end;
+			list.add(converter.convert(result.substring(start, segmentEnd)));
+			if (segmentEnd > start) {
+				nonEmptySize = list.size();
+			}
+			if (end < 0) {
+				break;
+			}
+			start = end + delimiter.length();
+		}
+		return nonEmptySize == list.size() ? list : new ArrayList<>(list.subList(0, nonEmptySize));
+	}
+
+	/**
+	 * 获取列表元素之间的分隔符
+	 *
+	 * @return 分隔符
+	 * @since 2.2.0
+	 */
+	protected String getDelimiter() {
+		return delimiter;
+	}
+
+	/**
+	 * 获取当前线程复用的字符串构建器（已清空）
+	 * <p>
+	 * 使用完毕后应调用 {@link #releaseBuilder(StringBuilder)} 获取结果并归还。
+	 * </p>
+	 *
+	 * @return 字符串构建器
+	 * @since 2.2.0
+	 */
+	protected static StringBuilder borrowBuilder() {
+		StringBuilder builder = BUILDER_CACHE.get();
+		builder.setLength(0);
+		return builder;
+	}
+
+	/**
+	 * 获取字符串构建器的结果并归还，容量过大时丢弃该构建器
+	 *
+	 * @param builder 由 {@link #borrowBuilder()} 获取的构建器
+	 * @return 构建结果
+	 * @since 2.2.0
+	 */
+	protected static String releaseBuilder(StringBuilder builder) {
+		String result = builder.toString();
+		if (builder.capacity() > MAX_REUSABLE_BUILDER_CAPACITY) {
+			BUILDER_CACHE.remove();
+		}
+		return result;
 	}
 }
\ No newline at end of file
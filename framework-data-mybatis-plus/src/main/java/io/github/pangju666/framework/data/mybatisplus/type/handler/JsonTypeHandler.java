@@ -17,14 +17,16 @@
 package io.github.pangju666.framework.data.mybatisplus.type.handler;
 
 import com.baomidou.mybatisplus.core.toolkit.Assert;
-import com.google.gson.JsonSyntaxException;
-import io.github.pangju666.commons.lang.utils.JsonUtils;
+import io.github.pangju666.framework.data.mybatisplus.type.codec.JsonCodec;
+import io.github.pangju666.framework.data.mybatisplus.type.codec.JsonCodecs;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.ibatis.type.BaseTypeHandler;
 import org.apache.ibatis.type.JdbcType;
 import org.apache.ibatis.type.MappedJdbcTypes;
 import org.apache.ibatis.type.MappedTypes;
 
+import java.io.IOException;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -37,6 +39,10 @@ import java.util.*;
  * 用于在MyBatis中处理Java对象与JSON字符串之间的转换。
  * 支持将Java对象序列化为JSON字符串存储到数据库，以及将数据库中的JSON字符串反序列化为Java对象。
  * </p>
+ * <p>
+ * 自2.2.0起序列化由{@link JsonCodec}完成，默认使用{@link JsonCodecs#getDefault()}（Gson），存储格式与之前版本一致。
+ * 可通过{@link JsonCodecs#register(Class, JsonCodec)}为目标类型指定编解码器，二进制编解码器（如Smile、CBOR或压缩包装）以字节数组读写，列类型应为BLOB/VARBINARY。
+ * </p>
  *
  * @author pangju666
  * @since 1.0.0
@@ -53,6 +59,15 @@ public final class JsonTypeHandler extends BaseTypeHandler<Object> {
 	 * @since 1.0.0
 	 */
 	private final Class<?> type;
+	/**
+	 * 指定的编解码器
+	 * <p>
+	 * 为null时每次读写通过{@link JsonCodecs#resolve(Class)}解析，以便启动阶段晚于处理器创建的登记也能生效
+	 * </p>
+	 *
+	 * @since 2.2.0
+	 */
+	private final JsonCodec codec;
 
 	/**
 	 * 构造函数
@@ -67,6 +82,25 @@ public final class JsonTypeHandler extends BaseTypeHandler<Object> {
 	public JsonTypeHandler(Class<?> type) {
 		Assert.notNull(type, "type 不能为null");
 		this.type = type;
+		this.codec = null;
+	}
+
+	/**
+	 * 构造函数
+	 * <p>
+	 * 创建一个指定目标类型与编解码器的JSON类型处理器
+	 * </p>
+	 *
+	 * @param type  目标类型，不能为null
+	 * @param codec 编解码器，不能为null
+	 * @throws IllegalArgumentException 如果type或codec为null
+	 * @since 2.2.0
+	 */
+	public JsonTypeHandler(Class<?> type, JsonCodec codec) {
+		Assert.notNull(type, "type 不能为null");
+		Assert.notNull(codec, "codec 不能为null");
+		this.type = type;
+		this.codec = codec;
 	}
 
 	/**
@@ -84,7 +118,12 @@ public final class JsonTypeHandler extends BaseTypeHandler<Object> {
 	 */
 	@Override
 	public void setNonNullParameter(PreparedStatement ps, int i, Object parameter, JdbcType jdbcType) throws SQLException {
-		ps.setString(i, toJson(parameter));
+		JsonCodec jsonCodec = getCodec();
+		if (jsonCodec.isBinary()) {
+			ps.setBytes(i, encode(jsonCodec, parameter));
+		} else {
+			ps.setString(i, toJson(jsonCodec, parameter));
+		}
 	}
 
 	/**
@@ -101,8 +140,13 @@ public final class JsonTypeHandler extends BaseTypeHandler<Object> {
 	 */
 	@Override
 	public Object getNullableResult(ResultSet rs, String columnName) throws SQLException {
+		JsonCodec jsonCodec = getCodec();
+		if (jsonCodec.isBinary()) {
+			final byte[] data = rs.getBytes(columnName);
+			return ArrayUtils.isEmpty(data) ? getNullValue() : decode(jsonCodec, data);
+		}
 		final String json = rs.getString(columnName);
-		return StringUtils.isBlank(json) ? getNullValue() : parse(json);
+		return StringUtils.isBlank(json) ? getNullValue() : parse(jsonCodec, json);
 	}
 
 	/**
@@ -119,8 +163,13 @@ public final class JsonTypeHandler extends BaseTypeHandler<Object> {
 	 */
 	@Override
 	public Object getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+		JsonCodec jsonCodec = getCodec();
+		if (jsonCodec.isBinary()) {
+			final byte[] data = rs.getBytes(columnIndex);
+			return ArrayUtils.isEmpty(data) ? getNullValue() : decode(jsonCodec, data);
+		}
 		final String json = rs.getString(columnIndex);
-		return StringUtils.isBlank(json) ? getNullValue() : parse(json);
+		return StringUtils.isBlank(json) ? getNullValue() : parse(jsonCodec, json);
 	}
 
 	/**
@@ -137,8 +186,13 @@ public final class JsonTypeHandler extends BaseTypeHandler<Object> {
 	 */
 	@Override
 	public Object getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+		JsonCodec jsonCodec = getCodec();
+		if (jsonCodec.isBinary()) {
+			final byte[] data = cs.getBytes(columnIndex);
+			return ArrayUtils.isEmpty(data) ? getNullValue() : decode(jsonCodec, data);
+		}
 		final String json = cs.getString(columnIndex);
-		return StringUtils.isBlank(json) ? getNullValue() : parse(json);
+		return StringUtils.isBlank(json) ? getNullValue() : parse(jsonCodec, json);
 	}
 
 	/**
@@ -147,38 +201,84 @@ public final class JsonTypeHandler extends BaseTypeHandler<Object> {
 	 * 将JSON字符串解析为指定类型的Java对象
 	 * </p>
 	 *
-	 * @param json JSON字符串
+	 * @param jsonCodec 编解码器
+	 * @param json      JSON字符串
 	 * @return 解析后的Java对象
 	 * @throws SQLException 如果解析过程中发生错误
 	 * @since 1.0.0
 	 */
-	private Object parse(String json) throws SQLException {
+	private Object parse(JsonCodec jsonCodec, String json) throws SQLException {
 		try {
-			return JsonUtils.fromString(json, type);
-		} catch (JsonSyntaxException e) {
+			return jsonCodec.decodeString(json, type);
+		} catch (IOException | RuntimeException e) {
 			throw new SQLException("json字符串解析失败", e);
 		}
 	}
 
+	/**
+	 * 解码二进制列值
+	 *
+	 * @param jsonCodec 编解码器
+	 * @param data      列值
+	 * @return 解码后的Java对象
+	 * @throws SQLException 如果解码过程中发生错误
+	 * @since 2.2.0
+	 */
+	private Object decode(JsonCodec jsonCodec, byte[] data) throws SQLException {
+		try {
+			return jsonCodec.decode(data, type);
+		} catch (IOException | RuntimeException e) {
+			throw new SQLException("json数据解码失败", e);
+		}
+	}
+
 	/**
 	 * 将对象转换为JSON字符串
 	 * <p>
 	 * 将Java对象序列化为JSON字符串
 	 * </p>
 	 *
-	 * @param obj Java对象
+	 * @param jsonCodec 编解码器
+	 * @param obj       Java对象
 	 * @return 序列化后的JSON字符串
 	 * @throws SQLException 如果序列化过程中发生错误
 	 * @since 1.0.0
 	 */
-	private String toJson(Object obj) throws SQLException {
+	private String toJson(JsonCodec jsonCodec, Object obj) throws SQLException {
 		try {
-			return JsonUtils.toString(obj);
-		} catch (JsonSyntaxException e) {
+			return jsonCodec.encodeToString(obj);
+		} catch (IOException | RuntimeException e) {
 			throw new SQLException("json字符串转换失败", e);
 		}
 	}
 
+	/**
+	 * 将对象编码为二进制列值
+	 *
+	 * @param jsonCodec 编解码器
+	 * @param obj       Java对象
+	 * @return 编码结果
+	 * @throws SQLException 如果编码过程中发生错误
+	 * @since 2.2.0
+	 */
+	private byte[] encode(JsonCodec jsonCodec, Object obj) throws SQLException {
+		try {
+			return jsonCodec.encode(obj);
+		} catch (IOException | RuntimeException e) {
+			throw new SQLException("json数据编码失败", e);
+		}
+	}
+
+	/**
+	 * 获取当前使用的编解码器
+	 *
+	 * @return 编解码器
+	 * @since 2.2.0
+	 */
+	private JsonCodec getCodec() {
+		return codec != null ? codec : JsonCodecs.resolve(type);
+	}
+
 	/**
 	 * 获取空值
 	 * <p>
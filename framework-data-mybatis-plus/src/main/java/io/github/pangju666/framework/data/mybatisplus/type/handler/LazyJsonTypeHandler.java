@@ -0,0 +1,159 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.type.handler;
+
+import io.github.pangju666.framework.data.mybatisplus.type.codec.JsonCodec;
+import io.github.pangju666.framework.data.mybatisplus.type.codec.JsonCodecs;
+import io.github.pangju666.framework.data.mybatisplus.type.codec.LazyJson;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 延迟解析的JSON类型处理器
+ * <p>
+ * 与{@link JsonTypeHandler}使用相同的编解码器与存储格式，但读取时返回{@link LazyJson}，只保存列的原始数据，
+ * 首次访问{@link LazyJson#get()}时才解码。空列值（null或空白）返回null。
+ * </p>
+ * <p>
+ * MyBatis无法从{@code LazyJson<T>}字段获取泛型参数，因此需要为每个目标类型创建子类，例如：
+ * <pre>{@code
+ * public class MetaLazyJsonTypeHandler extends LazyJsonTypeHandler<Meta> {
+ *     public MetaLazyJsonTypeHandler() {
+ *         super(Meta.class);
+ *     }
+ * }
+ * }</pre>
+ * </p>
+ *
+ * @param <T> 目标类型
+ * @author pangju666
+ * @since 2.2.0
+ */
+public abstract class LazyJsonTypeHandler<T> extends BaseTypeHandler<LazyJson<T>> {
+	/**
+	 * 目标类型
+	 *
+	 * @since 2.2.0
+	 */
+	private final Class<T> type;
+	/**
+	 * 指定的编解码器，为null时通过{@link JsonCodecs#resolve(Class)}解析
+	 *
+	 * @since 2.2.0
+	 */
+	private final JsonCodec codec;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param type 目标类型，不能为null
+	 * @throws IllegalArgumentException 如果type为null
+	 * @since 2.2.0
+	 */
+	protected LazyJsonTypeHandler(Class<T> type) {
+		Assert.notNull(type, "type 不能为null");
+		this.type = type;
+		this.codec = null;
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param type  目标类型，不能为null
+	 * @param codec 编解码器，不能为null
+	 * @throws IllegalArgumentException 如果type或codec为null
+	 * @since 2.2.0
+	 */
+	protected LazyJsonTypeHandler(Class<T> type, JsonCodec codec) {
+		Assert.notNull(type, "type 不能为null");
+		Assert.notNull(codec, "codec 不能为null");
+		this.type = type;
+		this.codec = codec;
+	}
+
+	@Override
+	public void setNonNullParameter(PreparedStatement ps, int i, LazyJson<T> parameter, JdbcType jdbcType) throws SQLException {
+		JsonCodec jsonCodec = getCodec();
+		try {
+			if (jsonCodec.isBinary()) {
+				ps.setBytes(i, parameter.encode(jsonCodec));
+			} else {
+				ps.setString(i, parameter.encodeToString(jsonCodec));
+			}
+		} catch (IOException | RuntimeException e) {
+			throw new SQLException("json数据编码失败", e);
+		}
+	}
+
+	@Override
+	public LazyJson<T> getNullableResult(ResultSet rs, String columnName) throws SQLException {
+		JsonCodec jsonCodec = getCodec();
+		if (jsonCodec.isBinary()) {
+			return wrap(rs.getBytes(columnName), jsonCodec);
+		}
+		return wrap(rs.getString(columnName), jsonCodec);
+	}
+
+	@Override
+	public LazyJson<T> getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+		JsonCodec jsonCodec = getCodec();
+		if (jsonCodec.isBinary()) {
+			return wrap(rs.getBytes(columnIndex), jsonCodec);
+		}
+		return wrap(rs.getString(columnIndex), jsonCodec);
+	}
+
+	@Override
+	public LazyJson<T> getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+		JsonCodec jsonCodec = getCodec();
+		if (jsonCodec.isBinary()) {
+			return wrap(cs.getBytes(columnIndex), jsonCodec);
+		}
+		return wrap(cs.getString(columnIndex), jsonCodec);
+	}
+
+	/**
+	 * 获取目标类型
+	 *
+	 * @return 目标类型
+	 * @since 2.2.0
+	 */
+	protected Class<T> getType() {
+		return type;
+	}
+
+	private LazyJson<T> wrap(String text, JsonCodec jsonCodec) {
+		return StringUtils.isBlank(text) ? null : LazyJson.ofText(text, type, jsonCodec);
+	}
+
+	private LazyJson<T> wrap(byte[] data, JsonCodec jsonCodec) {
+		return ArrayUtils.isEmpty(data) ? null : LazyJson.ofBytes(data, type, jsonCodec);
+	}
+
+	private JsonCodec getCodec() {
+		return codec != null ? codec : JsonCodecs.resolve(type);
+	}
+}
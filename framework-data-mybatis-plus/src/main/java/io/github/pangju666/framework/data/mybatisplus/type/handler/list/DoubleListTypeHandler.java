@@ -22,6 +22,9 @@ import org.apache.ibatis.type.JdbcType;
 import org.apache.ibatis.type.MappedJdbcTypes;
 import org.apache.ibatis.type.MappedTypes;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -30,6 +33,10 @@ import java.util.List;
  * 用于处理数据库VARCHAR类型与List<Double>类型之间的转换。
  * 将以分隔符分隔的字符串转换为Double列表，或将Double列表转换为分隔的字符串。
  * </p>
+ * <p>
+ * 解析结果为基于基本类型数组的 {@link io.github.pangju666.framework.data.mybatisplus.type.collection.DoubleArrayList}，
+ * 解析与格式化均逐段处理，不经过正则切分、中间字符串数组与逐元素装箱。
+ * </p>
  *
  * @author pangju666
  * @since 1.0.0
@@ -40,4 +47,19 @@ public final class DoubleListTypeHandler extends GenericsListTypeHandler<Double>
 	public DoubleListTypeHandler() {
 		super((value) -> StringUtils.isBlank(value) ? null : Double.valueOf(value));
 	}
+
+	@Override
+	public void setNonNullParameter(PreparedStatement ps, int i, List<Double> parameter, JdbcType jdbcType) throws SQLException {
+		StringBuilder builder = borrowBuilder();
+		PrimitiveListCodec.formatDoubles(builder, parameter, getDelimiter());
+		ps.setString(i, releaseBuilder(builder));
+	}
+
+	@Override
+	protected List<Double> getListResult(String result) {
+		if (StringUtils.isBlank(result)) {
+			return Collections.emptyList();
+		}
+		return PrimitiveListCodec.parseDoubles(result, getDelimiter());
+	}
 }
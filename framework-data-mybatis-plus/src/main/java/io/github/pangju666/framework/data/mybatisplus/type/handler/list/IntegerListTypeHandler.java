@@ -22,6 +22,9 @@ import org.apache.ibatis.type.JdbcType;
 import org.apache.ibatis.type.MappedJdbcTypes;
 import org.apache.ibatis.type.MappedTypes;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -30,6 +33,10 @@ import java.util.List;
  * 用于处理数据库VARCHAR类型与List<Integer>类型之间的转换。
  * 将以分隔符分隔的字符串转换为Integer列表，或将Integer列表转换为分隔的字符串。
  * </p>
+ * <p>
+ * 解析结果为基于基本类型数组的 {@link io.github.pangju666.framework.data.mybatisplus.type.collection.IntArrayList}，
+ * 解析与格式化均逐段处理，不经过正则切分、中间字符串数组与逐元素装箱。
+ * </p>
  *
  * @author pangju666
  * @since 1.0.0
@@ -40,4 +47,19 @@ public final class IntegerListTypeHandler extends GenericsListTypeHandler<Intege
 	public IntegerListTypeHandler() {
 		super(value -> StringUtils.isBlank(value) ? null : Integer.valueOf(value));
 	}
+
+	@Override
+	public void setNonNullParameter(PreparedStatement ps, int i, List<Integer> parameter, JdbcType jdbcType) throws SQLException {
+		StringBuilder builder = borrowBuilder();
+		PrimitiveListCodec.formatInts(builder, parameter, getDelimiter());
+		ps.setString(i, releaseBuilder(builder));
+	}
+
+	@Override
+	protected List<Integer> getListResult(String result) {
+		if (StringUtils.isBlank(result)) {
+			return Collections.emptyList();
+		}
+		return PrimitiveListCodec.parseInts(result, getDelimiter());
+	}
 }
@@ -0,0 +1,201 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.mybatisplus.type.handler.list;
+
+import io.github.pangju666.framework.data.mybatisplus.type.collection.DoubleArrayList;
+import io.github.pangju666.framework.data.mybatisplus.type.collection.IntArrayList;
+import io.github.pangju666.framework.data.mybatisplus.type.collection.LongArrayList;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 基本类型列表与分隔字符串之间的转换。
+ *
+ * <p>解析时逐段扫描原字符串，数值直接写入基本类型列表（整数使用 {@link Long#parseLong(CharSequence, int, int, int)}
+ * 按区间解析，不创建子串）；格式化时直接追加基本类型值，不经过装箱与中间集合。</p>
+ *
+ * <p>语义与 {@link io.github.pangju666.framework.data.mybatisplus.type.handler.GenericsListTypeHandler GenericsListTypeHandler}
+ * 保持一致：空白段解析为 {@code null}，末尾的空段被丢弃（同 {@link String#split(String)}），{@code null} 元素格式化为空串，
+ * 非法数值抛出 {@link NumberFormatException}。</p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+final class PrimitiveListCodec {
+	private PrimitiveListCodec() {
+	}
+
+	static LongArrayList parseLongs(String value, String delimiter) {
+		LongArrayList list = new LongArrayList(estimateSize(value, delimiter));
+		int nonEmptySize = 0;
+		int start = 0;
+		while (true) {
+			int end = value.indexOf(delimiter, start);
+			int segmentEnd = end < 0 ? value.length() : end;
+			if (isBlank(value, start, segmentEnd)) {
+				list.addNull();
+			} else {
+				list.addLong(Long.parseLong(value, start, segmentEnd, 10));
+			}
+			if (segmentEnd > start) {
+				nonEmptySize = list.size();
+			}
+			if (end < 0) {
+				break;
+			}
+			start = end + delimiter.length();
+		}
+		truncate(list, nonEmptySize);
+		return list;
+	}
+
+	static IntArrayList parseInts(String value, String delimiter) {
+		IntArrayList list = new IntArrayList(estimateSize(value, delimiter));
+		int nonEmptySize = 0;
+		int start = 0;
+		while (true) {
+			int end = value.indexOf(delimiter, start);
+			int segmentEnd = end < 0 ? value.length() : end;
+			if (isBlank(value, start, segmentEnd)) {
+				list.addNull();
+			} else {
+				list.addInt(Integer.parseInt(value, start, segmentEnd, 10));
+			}
+			if (segmentEnd > start) {
+				nonEmptySize = list.size();
+			}
+			if (end < 0) {
+				break;
+			}
+			start = end + delimiter.length();
+		}
+		truncate(list, nonEmptySize);
+		return list;
+	}
+
+	static DoubleArrayList parseDoubles(String value, String delimiter) {
+		DoubleArrayList list = new DoubleArrayList(estimateSize(value, delimiter));
+		int nonEmptySize = 0;
+		int start = 0;
+		while (true) {
+			int end = value.indexOf(delimiter, start);
+			int segmentEnd = end < 0 ? value.length() : end;
+			if (isBlank(value, start, segmentEnd)) {
+				list.addNull();
+			} else {
+				// JDK 未提供按区间解析浮点数的方法，此处仍需创建子串
+				list.addDouble(Double.parseDouble(value.substring(start, segmentEnd)));
+			}
+			if (segmentEnd > start) {
+				nonEmptySize = list.size();
+			}
+			if (end < 0) {
+				break;
+			}
+			start = end + delimiter.length();
+		}
+		truncate(list, nonEmptySize);
+		return list;
+	}
+
+	static void formatLongs(StringBuilder builder, List<Long> values, String delimiter) {
+		if (values instanceof LongArrayList list) {
+			for (int i = 0; i < list.size(); i++) {
+				if (i > 0) {
+					builder.append(delimiter);
+				}
+				if (!list.isNull(i)) {
+					builder.append(list.getLong(i));
+				}
+			}
+			return;
+		}
+		formatBoxed(builder, values, delimiter);
+	}
+
+	static void formatInts(StringBuilder builder, List<Integer> values, String delimiter) {
+		if (values instanceof IntArrayList list) {
+			for (int i = 0; i < list.size(); i++) {
+				if (i > 0) {
+					builder.append(delimiter);
+				}
+				if (!list.isNull(i)) {
+					builder.append(list.getInt(i));
+				}
+			}
+			return;
+		}
+		formatBoxed(builder, values, delimiter);
+	}
+
+	static void formatDoubles(StringBuilder builder, List<Double> values, String delimiter) {
+		if (values instanceof DoubleArrayList list) {
+			for (int i = 0; i < list.size(); i++) {
+				if (i > 0) {
+					builder.append(delimiter);
+				}
+				if (!list.isNull(i)) {
+					builder.append(list.getDouble(i));
+				}
+			}
+			return;
+		}
+		formatBoxed(builder, values, delimiter);
+	}
+
+	private static void formatBoxed(StringBuilder builder, List<?> values, String delimiter) {
+		int index = 0;
+		for (Object value : values) {
+			if (index++ > 0) {
+				builder.append(delimiter);
+			}
+			if (Objects.nonNull(value)) {
+				builder.append(value);
+			}
+		}
+	}
+
+	private static int estimateSize(String value, String delimiter) {
+		if (delimiter.length() != 1) {
+			return 10;
+		}
+		char delimiterChar = delimiter.charAt(0);
+		int count = 1;
+		for (int i = 0; i < value.length(); i++) {
+			if (value.charAt(i) == delimiterChar) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+	private static boolean isBlank(String value, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (!Character.isWhitespace(value.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void truncate(List<?> list, int size) {
+		while (list.size() > size) {
+			list.remove(list.size() - 1);
+		}
+	}
+}
@@ -5,11 +5,11 @@
  *    you may not use this file except in compliance with the License.
  *    You may obtain a copy of the License at
  *
- *      http://www.apache.org/licenses/LICTNST-2.0
+ *      http://www.apache.org/licenses/LICENSE-2.0
  *
  *    Unless required by applicable law or agreed to in writing, software
  *    distributed under the License is distributed on an "AS IS" BASIS,
- *    WITHOUT WARRANTITS OR CONDITIONS OF ANY KIND, either express or implied.
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
  *    See the License for the specific language governing permissions and
  *    limitations under the License.
  */
@@ -18,8 +18,18 @@ package io.github.pangju666.framework.data.mybatisplus.uitls;
 
 import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
 import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.util.Assert;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.IntFunction;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
 /**
@@ -37,9 +47,28 @@ import java.util.stream.Collectors;
  *   <li>对于数值聚合（求和/平均），{@code null} 数值会按 0 处理参与计算</li>
  * </ul>
  *
- * <p>线程安全：类为无状态工具类，方法均为静态，线程安全。</p>
+ * <p>性能说明：每个元素只调用一次字段提取函数，结果容器按集合大小预分配容量；
+ * 集合大小达到 {@link #getParallelThreshold() 并行阈值} 时自动使用并行流（ForkJoin 公共池）处理，
+ * 此时字段提取函数必须无副作用。</p>
+ *
+ * <p>线程安全：方法均为静态，线程安全。唯一的共享状态是全局的并行阈值（volatile 字段），
+ * 修改后对所有线程的后续调用立即生效，建议仅在应用启动时设置一次。</p>
  */
 public class EntityUtils {
+	/**
+	 * 默认并行阈值
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 50_000;
+
+	/**
+	 * 并行阈值，集合大小达到该值时使用并行流
+	 *
+	 * @since 2.2.0
+	 */
+	private static volatile int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
 	/**
 	 * 工具类构造器
 	 * <p>受保护的空构造，避免被实例化。</p>
@@ -47,6 +76,30 @@ public class EntityUtils {
 	protected EntityUtils() {
 	}
 
+	/**
+	 * 获取并行阈值
+	 *
+	 * @return 并行阈值
+	 * @since 2.2.0
+	 */
+	public static int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
+	/**
+	 * 设置并行阈值
+	 * <p>集合大小达到该值时使用并行流处理，设置为 {@link Integer#MAX_VALUE} 可关闭并行处理。</p>
+	 * <p>该值为 JVM 内全局共享的配置，会影响所有线程（包括其它组件）的后续调用，不适合按调用临时修改。</p>
+	 *
+	 * @param threshold 并行阈值，必须大于 0
+	 * @throws IllegalArgumentException 当 {@code threshold} 小于等于 0
+	 * @since 2.2.0
+	 */
+	public static void setParallelThreshold(final int threshold) {
+		Assert.isTrue(threshold > 0, "threshold 必须大于0");
+		parallelThreshold = threshold;
+	}
+
 	/**
 	 * 提取字段并生成列表（保留顺序，允许重复）
 	 *
@@ -60,10 +113,20 @@ public class EntityUtils {
 		if (CollectionUtils.isEmpty(collection)) {
 			return Collections.emptyList();
 		}
-		return collection.stream()
-			.map(sFunction)
-			.filter(Objects::nonNull)
-			.collect(Collectors.toList());
+		if (isParallel(collection)) {
+			return collection.parallelStream()
+				.map(sFunction)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toCollection(ArrayList::new));
+		}
+		List<V> result = new ArrayList<>(collection.size());
+		for (T item : collection) {
+			V value = sFunction.apply(item);
+			if (Objects.nonNull(value)) {
+				result.add(value);
+			}
+		}
+		return result;
 	}
 
 	/**
@@ -79,14 +142,25 @@ public class EntityUtils {
 		if (CollectionUtils.isEmpty(collection)) {
 			return Collections.emptySet();
 		}
-		return collection.stream()
-			.map(sFunction)
-			.filter(Objects::nonNull)
-			.collect(Collectors.toSet());
+		if (isParallel(collection)) {
+			return collection.parallelStream()
+				.map(sFunction)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toSet());
+		}
+		Set<V> result = new HashSet<>(capacity(collection.size()));
+		for (T item : collection) {
+			V value = sFunction.apply(item);
+			if (Objects.nonNull(value)) {
+				result.add(value);
+			}
+		}
+		return result;
 	}
 
 	/**
 	 * 提取字段并生成去重列表（保留首次出现的顺序）
+	 * <p>去重依赖首次出现顺序，始终顺序处理。</p>
 	 *
 	 * @param collection 实体集合，可为 {@code null}
 	 * @param sFunction  字段提取函数（方法引用）
@@ -98,11 +172,14 @@ public class EntityUtils {
 		if (CollectionUtils.isEmpty(collection)) {
 			return Collections.emptyList();
 		}
-		return collection.stream()
-			.map(sFunction)
-			.filter(Objects::nonNull)
-			.distinct()
-			.collect(Collectors.toList());
+		Set<V> values = new LinkedHashSet<>(capacity(collection.size()));
+		for (T item : collection) {
+			V value = sFunction.apply(item);
+			if (Objects.nonNull(value)) {
+				values.add(value);
+			}
+		}
+		return new ArrayList<>(values);
 	}
 
 	/**
@@ -112,7 +189,8 @@ public class EntityUtils {
 	 * </p>
 	 * <ul>
 	 *   <li>会过滤掉字段值为 {@code null} 的实体（不包含空键）。</li>
-	 *   <li>当存在重复键时，{@link Collectors#toMap} 将抛出 {@link IllegalStateException}，请确保键唯一或先去重。</li>
+	 *   <li>当存在重复键时抛出 {@link IllegalStateException}，请确保键唯一或使用
+	 *   {@link #mapByField(Collection, SFunction, BinaryOperator)} 指定合并策略。</li>
 	 *   <li>当集合为空或为 {@code null} 时返回空映射。</li>
 	 * </ul>
 	 *
@@ -126,9 +204,48 @@ public class EntityUtils {
 		if (CollectionUtils.isEmpty(collection)) {
 			return Collections.emptyMap();
 		}
-		return collection.stream()
-			.filter(item -> Objects.nonNull(sFunction.apply(item)))
-			.collect(Collectors.toMap(sFunction, item -> item));
+		return collectMap(collection, sFunction, null, HashMap::new);
+	}
+
+	/**
+	 * 以字段值作为键，将实体映射为 {@code Map}，重复键按合并函数处理。
+	 * <p>常用合并策略：保留先出现的 {@code (first, second) -> first}，保留后出现的 {@code (first, second) -> second}。</p>
+	 *
+	 * @param collection    实体集合，可为 {@code null}
+	 * @param sFunction     字段提取函数（方法引用），不可为 {@code null}
+	 * @param mergeFunction 重复键合并函数，参数依次为已有实体与新实体，不可为 {@code null}
+	 * @param <T>           实体类型
+	 * @param <V>           键的类型（字段值类型）
+	 * @return 以非 {@code null} 字段值为键的映射；当集合为空或为 {@code null} 时返回空映射
+	 * @since 2.2.0
+	 */
+	public static <T, V> Map<V, T> mapByField(final Collection<T> collection, final SFunction<T, V> sFunction,
+											  final BinaryOperator<T> mergeFunction) {
+		return mapByField(collection, sFunction, mergeFunction, HashMap::new);
+	}
+
+	/**
+	 * 以字段值作为键，将实体映射到指定类型的 {@code Map}，重复键按合并函数处理。
+	 * <p>{@code mapFactory} 接收按集合大小计算的初始容量，例如传入 {@code LinkedHashMap::new} 可保留实体顺序。</p>
+	 *
+	 * @param collection    实体集合，可为 {@code null}
+	 * @param sFunction     字段提取函数（方法引用），不可为 {@code null}
+	 * @param mergeFunction 重复键合并函数，参数依次为已有实体与新实体，不可为 {@code null}
+	 * @param mapFactory    映射工厂，参数为初始容量，不可为 {@code null}
+	 * @param <T>           实体类型
+	 * @param <V>           键的类型（字段值类型）
+	 * @param <M>           映射类型
+	 * @return 以非 {@code null} 字段值为键的映射；当集合为空或为 {@code null} 时返回 {@code mapFactory} 创建的空映射
+	 * @since 2.2.0
+	 */
+	public static <T, V, M extends Map<V, T>> M mapByField(final Collection<T> collection, final SFunction<T, V> sFunction,
+															final BinaryOperator<T> mergeFunction, final IntFunction<M> mapFactory) {
+		Assert.notNull(mergeFunction, "mergeFunction 不可为null");
+		Assert.notNull(mapFactory, "mapFactory 不可为null");
+		if (CollectionUtils.isEmpty(collection)) {
+			return mapFactory.apply(0);
+		}
+		return collectMap(collection, sFunction, mergeFunction, mapFactory);
 	}
 
 	/**
@@ -152,16 +269,37 @@ public class EntityUtils {
 		if (CollectionUtils.isEmpty(collection)) {
 			return Collections.emptyMap();
 		}
-		return collection.stream()
-			.filter(item -> Objects.nonNull(sFunction.apply(item)))
-			.collect(Collectors.groupingBy(sFunction, Collectors.mapping(
-				item -> item, Collectors.toList())));
+		return collectGroups(collection, sFunction, HashMap::new);
+	}
+
+	/**
+	 * 按字段值对实体进行分组，结果保存到指定类型的 {@code Map}。
+	 * <p>{@code mapFactory} 接收预估的初始容量，例如传入 {@code LinkedHashMap::new} 可保留分组首次出现的顺序。</p>
+	 *
+	 * @param collection 实体集合，可为 {@code null}
+	 * @param sFunction  字段提取函数（方法引用），不可为 {@code null}
+	 * @param mapFactory 映射工厂，参数为初始容量，不可为 {@code null}
+	 * @param <T>        实体类型
+	 * @param <V>        分组键类型（字段值类型）
+	 * @param <M>        映射类型
+	 * @return 分组映射；当集合为空或为 {@code null} 时返回 {@code mapFactory} 创建的空映射
+	 * @since 2.2.0
+	 */
+	public static <T, V, M extends Map<V, List<T>>> M groupByField(final Collection<T> collection, final SFunction<T, V> sFunction,
+																  final IntFunction<M> mapFactory) {
+		Assert.notNull(mapFactory, "mapFactory 不可为null");
+		if (CollectionUtils.isEmpty(collection)) {
+			return mapFactory.apply(0);
+		}
+		return collectGroups(collection, sFunction, mapFactory);
 	}
 
 	/**
 	 * 对数值字段求和（转换为 {@code double}）
 	 * <p>
 	 * 行为：空集合或 {@code null} 返回 0；提取出的数值为 {@code null} 时按 0 处理参与求和。
+	 * 整数类型按 {@code long} 精确累加（溢出时转为 {@link BigDecimal}），{@link BigDecimal}/{@link BigInteger} 精确累加，
+	 * 仅在返回时转换为 {@code double}。
 	 * </p>
 	 *
 	 * @param collection 实体集合，可为 {@code null}
@@ -173,12 +311,7 @@ public class EntityUtils {
 		if (CollectionUtils.isEmpty(collection)) {
 			return 0;
 		}
-		return collection.stream()
-			.mapToDouble(item -> {
-				Number value = sFunction.apply(item);
-				return Objects.nonNull(value) ? value.doubleValue() : 0;
-			})
-			.sum();
+		return accumulate(collection, sFunction).doubleValue();
 	}
 
 	/**
@@ -196,12 +329,256 @@ public class EntityUtils {
 		if (CollectionUtils.isEmpty(collection)) {
 			return 0d;
 		}
-		return collection.stream()
-			.mapToDouble(item -> {
-				Number value = sFunction.apply(item);
-				return Objects.nonNull(value) ? value.doubleValue() : 0;
-			})
-			.average()
-			.orElse(0d);
+		NumberAccumulator accumulator = accumulate(collection, sFunction);
+		return accumulator.doubleValue() / accumulator.count;
+	}
+
+	/**
+	 * 对整数字段求和（{@code long} 精确计算）
+	 * <p>
+	 * 行为：空集合或 {@code null} 返回 0；提取出的数值为 {@code null} 时按 0 处理；
+	 * 非整数类型按 {@link Number#longValue()} 截断后参与计算。
+	 * </p>
+	 *
+	 * @param collection 实体集合，可为 {@code null}
+	 * @param sFunction  数值字段提取函数（方法引用），返回 {@link Number}
+	 * @param <T>        实体类型
+	 * @return 求和结果，空集合或 {@code null} 返回 0
+	 * @throws ArithmeticException 当结果超出 {@code long} 范围时
+	 * @since 2.2.0
+	 */
+	public static <T> long sumLongFieldValue(final Collection<T> collection, final SFunction<T, ? extends Number> sFunction) {
+		if (CollectionUtils.isEmpty(collection)) {
+			return 0L;
+		}
+		if (isParallel(collection)) {
+			return collection.parallelStream()
+				.mapToLong(item -> toLong(sFunction.apply(item)))
+				.reduce(0L, Math::addExact);
+		}
+		long sum = 0L;
+		for (T item : collection) {
+			sum = Math.addExact(sum, toLong(sFunction.apply(item)));
+		}
+		return sum;
+	}
+
+	/**
+	 * 对数值字段求和（{@link BigDecimal} 精确计算）
+	 * <p>
+	 * 行为：空集合或 {@code null} 返回 {@link BigDecimal#ZERO}；提取出的数值为 {@code null} 时按 0 处理；
+	 * 浮点类型按 {@link BigDecimal#valueOf(double)} 转换。
+	 * </p>
+	 *
+	 * @param collection 实体集合，可为 {@code null}
+	 * @param sFunction  数值字段提取函数（方法引用），返回 {@link Number}
+	 * @param <T>        实体类型
+	 * @return 求和结果，空集合或 {@code null} 返回 {@link BigDecimal#ZERO}
+	 * @since 2.2.0
+	 */
+	public static <T> BigDecimal sumBigDecimalFieldValue(final Collection<T> collection,
+														 final SFunction<T, ? extends Number> sFunction) {
+		if (CollectionUtils.isEmpty(collection)) {
+			return BigDecimal.ZERO;
+		}
+		return accumulate(collection, sFunction).toBigDecimal();
+	}
+
+	/**
+	 * 对数值字段求平均（{@link BigDecimal} 精确计算）
+	 * <p>
+	 * 行为：空集合或 {@code null} 返回 {@link BigDecimal#ZERO}；提取出的数值为 {@code null} 时按 0 处理参与计算。
+	 * </p>
+	 *
+	 * @param collection   实体集合，可为 {@code null}
+	 * @param sFunction    数值字段提取函数（方法引用），返回 {@link Number}
+	 * @param scale        结果精度
+	 * @param roundingMode 舍入模式，不可为 {@code null}
+	 * @param <T>          实体类型
+	 * @return 平均值，空集合或 {@code null} 返回 {@link BigDecimal#ZERO}
+	 * @since 2.2.0
+	 */
+	public static <T> BigDecimal averageBigDecimalFieldValue(final Collection<T> collection,
+															 final SFunction<T, ? extends Number> sFunction,
+															 final int scale, final RoundingMode roundingMode) {
+		Assert.notNull(roundingMode, "roundingMode 不可为null");
+		if (CollectionUtils.isEmpty(collection)) {
+			return BigDecimal.ZERO;
+		}
+		NumberAccumulator accumulator = accumulate(collection, sFunction);
+		return accumulator.toBigDecimal().divide(BigDecimal.valueOf(accumulator.count), scale, roundingMode);
+	}
+
+	private static boolean isParallel(final Collection<?> collection) {
+		return collection.size() >= parallelThreshold;
+	}
+
+	/**
+	 * 计算容纳指定数量元素且不触发扩容的 {@link HashMap} 初始容量
+	 */
+	private static int capacity(final int expectedSize) {
+		return expectedSize < 3 ? expectedSize + 1 : (int) Math.min(Integer.MAX_VALUE, (long) (expectedSize / 0.75f) + 1);
+	}
+
+	private static <T, V, M extends Map<V, T>> M collectMap(final Collection<T> collection, final SFunction<T, V> sFunction,
+														   final BinaryOperator<T> mergeFunction, final IntFunction<M> mapFactory) {
+		BiConsumer<M, T> accumulator = (map, item) -> {
+			V key = sFunction.apply(item);
+			if (Objects.nonNull(key)) {
+				putOrMerge(map, key, item, mergeFunction);
+			}
+		};
+		if (isParallel(collection)) {
+			int chunkCapacity = capacity(collection.size() / Runtime.getRuntime().availableProcessors());
+			return collection.parallelStream().collect(Collector.of(() -> mapFactory.apply(chunkCapacity), accumulator,
+				(left, right) -> {
+					right.forEach((key, item) -> putOrMerge(left, key, item, mergeFunction));
+					return left;
+				}));
+		}
+		M map = mapFactory.apply(capacity(collection.size()));
+		for (T item : collection) {
+			accumulator.accept(map, item);
+		}
+		return map;
+	}
+
+	private static <T, V> void putOrMerge(final Map<V, T> map, final V key, final T item, final BinaryOperator<T> mergeFunction) {
+		T existing = map.putIfAbsent(key, item);
+		if (Objects.nonNull(existing)) {
+			if (Objects.isNull(mergeFunction)) {
+				throw new IllegalStateException(String.format("Duplicate key %s (attempted merging values %s and %s)",
+					key, existing, item));
+			}
+			map.put(key, mergeFunction.apply(existing, item));
+		}
+	}
+
+	private static <T, V, M extends Map<V, List<T>>> M collectGroups(final Collection<T> collection,
+																	 final SFunction<T, V> sFunction,
+																	 final IntFunction<M> mapFactory) {
+		// 分组数量未知，按元素数量的一部分预估，避免小分组数时浪费内存
+		int groupCapacity = capacity(Math.min(collection.size(), 1024));
+		BiConsumer<M, T> accumulator = (map, item) -> {
+			V key = sFunction.apply(item);
+			if (Objects.nonNull(key)) {
+				map.computeIfAbsent(key, k -> new ArrayList<>()).add(item);
+			}
+		};
+		if (isParallel(collection)) {
+			return collection.parallelStream().collect(Collector.of(() -> mapFactory.apply(groupCapacity), accumulator,
+				(left, right) -> {
+					right.forEach((key, items) -> left.merge(key, items, (first, second) -> {
+						first.addAll(second);
+						return first;
+					}));
+					return left;
+				}));
+		}
+		M map = mapFactory.apply(groupCapacity);
+		for (T item : collection) {
+			accumulator.accept(map, item);
+		}
+		return map;
+	}
+
+	private static <T> NumberAccumulator accumulate(final Collection<T> collection,
+													final SFunction<T, ? extends Number> sFunction) {
+		if (isParallel(collection)) {
+			return collection.parallelStream().collect(Collector.of(NumberAccumulator::new,
+				(accumulator, item) -> accumulator.add(sFunction.apply(item)), NumberAccumulator::combine));
+		}
+		NumberAccumulator accumulator = new NumberAccumulator();
+		for (T item : collection) {
+			accumulator.add(sFunction.apply(item));
+		}
+		return accumulator;
+	}
+
+	private static long toLong(final Number value) {
+		return Objects.nonNull(value) ? value.longValue() : 0L;
+	}
+
+	/**
+	 * 数值累加器
+	 * <p>整数累加到 {@code long}（溢出时转入 {@link BigDecimal}），{@link BigDecimal}/{@link BigInteger} 精确累加，
+	 * 浮点数使用 Kahan 补偿求和，与 {@link java.util.stream.DoubleStream#sum()} 精度一致。</p>
+	 */
+	private static final class NumberAccumulator {
+		private long longSum;
+		private BigDecimal decimalSum;
+		private double doubleSum;
+		private double doubleCompensation;
+		private long count;
+
+		void add(final Number value) {
+			++count;
+			if (Objects.isNull(value)) {
+				return;
+			}
+			if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte ||
+				value instanceof AtomicInteger || value instanceof AtomicLong) {
+				addLong(value.longValue());
+			} else if (value instanceof BigDecimal decimal) {
+				addDecimal(decimal);
+			} else if (value instanceof BigInteger integer) {
+				addDecimal(new BigDecimal(integer));
+			} else {
+				addDouble(value.doubleValue());
+			}
+		}
+
+		NumberAccumulator combine(final NumberAccumulator other) {
+			count += other.count;
+			addLong(other.longSum);
+			if (Objects.nonNull(other.decimalSum)) {
+				addDecimal(other.decimalSum);
+			}
+			addDouble(other.doubleSum);
+			addDouble(-other.doubleCompensation);
+			return this;
+		}
+
+		double doubleValue() {
+			double doubleTotal = doubleSum - doubleCompensation;
+			if (Objects.isNull(decimalSum)) {
+				return longSum + doubleTotal;
+			}
+			return decimalSum.add(BigDecimal.valueOf(longSum)).doubleValue() + doubleTotal;
+		}
+
+		BigDecimal toBigDecimal() {
+			BigDecimal result = BigDecimal.valueOf(longSum);
+			if (Objects.nonNull(decimalSum)) {
+				result = result.add(decimalSum);
+			}
+			double doubleTotal = doubleSum - doubleCompensation;
+			if (doubleTotal != 0d) {
+				result = result.add(BigDecimal.valueOf(doubleTotal));
+			}
+			return result;
+		}
+
+		private void addLong(final long value) {
+			long sum = longSum + value;
+			// 同号相加结果变号即溢出
+			if (((longSum ^ sum) & (value ^ sum)) < 0) {
+				addDecimal(BigDecimal.valueOf(longSum).add(BigDecimal.valueOf(value)));
+				longSum = 0L;
+			} else {
+				longSum = sum;
+			}
+		}
+
+		private void addDecimal(final BigDecimal value) {
+			decimalSum = Objects.isNull(decimalSum) ? value : decimalSum.add(value);
+		}
+
+		private void addDouble(final double value) {
+			double corrected = value - doubleCompensation;
+			double sum = doubleSum + corrected;
+			doubleCompensation = (sum - doubleSum) - corrected;
+			doubleSum = sum;
+		}
 	}
 }
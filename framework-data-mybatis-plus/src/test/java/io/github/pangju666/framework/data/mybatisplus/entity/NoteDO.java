@@ -0,0 +1,36 @@
+package io.github.pangju666.framework.data.mybatisplus.entity;
+
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import io.github.pangju666.framework.data.mybatisplus.model.entity.LogicTimeBaseEntity;
+
+@TableName("notes")
+public class NoteDO extends LogicTimeBaseEntity {
+	@TableId
+	private Long id;
+	private String content;
+
+	public NoteDO() {
+	}
+
+	public NoteDO(Long id, String content) {
+		this.id = id;
+		this.content = content;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getContent() {
+		return content;
+	}
+
+	public void setContent(String content) {
+		this.content = content;
+	}
+}
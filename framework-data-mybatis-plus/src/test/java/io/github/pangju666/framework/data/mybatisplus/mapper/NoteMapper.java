@@ -0,0 +1,9 @@
+package io.github.pangju666.framework.data.mybatisplus.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import io.github.pangju666.framework.data.mybatisplus.entity.NoteDO;
+import org.apache.ibatis.annotations.Mapper;
+
+@Mapper
+public interface NoteMapper extends BaseMapper<NoteDO> {
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package io.github.pangju666.framework.data.mybatisplus.repository;
+
+import io.github.pangju666.framework.data.mybatisplus.entity.NoteDO;
+import io.github.pangju666.framework.data.mybatisplus.mapper.NoteMapper;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class NoteRepository extends BaseRepository<NoteMapper, NoteDO> {
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package io.github.pangju666.framework.data.mybatisplus.repository;
+
+import io.github.pangju666.framework.data.mybatisplus.entity.UserDO;
+import io.github.pangju666.framework.data.mybatisplus.mapper.UserMapper;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class UserViewRepository extends BaseViewRepository<UserMapper, UserDO> {
+}
@@ -1,19 +1,55 @@
 package io.github.pangju666.framework.data.mybatisplus.test;
 
 import io.github.pangju666.framework.data.mybatisplus.TestApplication;
+import io.github.pangju666.framework.data.mybatisplus.advisor.JsonIndexAdvisor;
+import io.github.pangju666.framework.data.mybatisplus.advisor.JsonIndexSuggestion;
+import io.github.pangju666.framework.data.mybatisplus.advisor.JsonQueryType;
+import io.github.pangju666.framework.data.mybatisplus.batch.AdaptiveBatchSizer;
+import io.github.pangju666.framework.data.mybatisplus.batch.PurgeJob;
+import io.github.pangju666.framework.data.mybatisplus.cache.CaffeineEntityCache;
+import io.github.pangju666.framework.data.mybatisplus.cache.EntityCache;
 import io.github.pangju666.framework.data.mybatisplus.entity.DocDO;
+import io.github.pangju666.framework.data.mybatisplus.entity.NoteDO;
 import io.github.pangju666.framework.data.mybatisplus.entity.UserDO;
+import io.github.pangju666.framework.data.mybatisplus.metrics.MicrometerRepositoryInstrumentation;
+import io.github.pangju666.framework.data.mybatisplus.model.bulk.BulkWriteResult;
+import io.github.pangju666.framework.data.mybatisplus.model.page.KeysetPage;
 import io.github.pangju666.framework.data.mybatisplus.repository.DocRepository;
+import io.github.pangju666.framework.data.mybatisplus.repository.NoteRepository;
+import io.github.pangju666.framework.data.mybatisplus.repository.BaseViewRepository;
 import io.github.pangju666.framework.data.mybatisplus.repository.UserRepository;
+import io.github.pangju666.framework.data.mybatisplus.repository.UserViewRepository;
+import io.github.pangju666.framework.data.mybatisplus.routing.DataSourceRouting;
+import io.github.pangju666.framework.data.mybatisplus.routing.ReadWriteRoutingDataSource;
+import io.github.pangju666.framework.data.mybatisplus.uitls.EntityUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
 import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -25,6 +61,15 @@ class BaseRepositoryMySqlTests {
 	@Autowired
 	private DocRepository docRepo;
 
+	@Autowired
+	private UserViewRepository userViewRepo;
+
+	@Autowired
+	private NoteRepository noteRepo;
+
+	@Autowired
+	private DataSource dataSource;
+
 	// -------- 基础存在性与查询 --------
 
 	@Test
@@ -35,6 +80,14 @@ class BaseRepositoryMySqlTests {
 		assertTrue(userRepo.notExistsById(999L));
 	}
 
+	@Test
+	void existsByIds_existingIds_and_missingIds() {
+		assertTrue(userRepo.existsByIds(List.of(1L, 2L)));
+		assertFalse(userRepo.existsByIds(List.of(1L, 999L)));
+		assertEquals(Set.of(3L, 1L), userRepo.existingIds(List.of(3L, 998L, 1L), 1));
+		assertEquals(List.of(999L, 998L), List.copyOf(userRepo.missingIds(List.of(999L, 2L, 998L), 2)));
+	}
+
 	@Test
 	void getByColumnValue_and_getOptByColumnValue() {
 		UserDO u1 = userRepo.getByColumnValue(UserDO::getName, "Carol");
@@ -90,6 +143,46 @@ class BaseRepositoryMySqlTests {
 		assertEquals(Set.of(1L, 2L, 3L, 4L), idsBatch);
 	}
 
+	@Test
+	void listByIds_parallel_keeps_batch_order() {
+		userRepo.setBatchQueryParallelism(4);
+		try {
+			List<UserDO> list = userRepo.listByIds(Arrays.asList(1L, 2L, 3L, 4L), 1);
+			assertEquals(List.of(1L, 2L, 3L, 4L), list.stream().map(UserDO::getId).toList());
+
+			List<UserDO> listByAge = userRepo.listByColumnValues(UserDO::getAge, List.of(25, 30, 28), 1);
+			assertEquals(Set.of("Alice", "Bob", "Carol"), Set.copyOf(listByAge.stream().map(UserDO::getName).toList()));
+		} finally {
+			userRepo.setBatchQueryParallelism(1);
+		}
+	}
+
+	@Test
+	void entityCache_read_through_and_evict_on_write() {
+		EntityCache<UserDO> cache = new CaffeineEntityCache<>(100, Duration.ofMinutes(1));
+		userRepo.setEntityCache(cache);
+		try {
+			assertEquals("Alice", userRepo.getById(1L).getName());
+			assertEquals("Alice", userRepo.getById(1L).getName());
+			assertEquals(1, cache.getStats().hitCount());
+
+			List<UserDO> list = userRepo.listByIds(Arrays.asList(3L, 1L, 2L, 3L), 2);
+			assertEquals(List.of(3L, 1L, 2L), list.stream().map(UserDO::getId).toList());
+			assertEquals(2, cache.getStats().hitCount());
+
+			assertTrue(userRepo.updateById(list.get(2)));
+			assertNull(cache.get("2"));
+			assertNotNull(cache.get("3"));
+
+			cache.clear();
+			assertNull(cache.get("3"));
+			assertEquals(3L, userRepo.getById(3L).getId());
+			assertNotNull(cache.get("3"));
+		} finally {
+			userRepo.setEntityCache(null);
+		}
+	}
+
 	@Test
 	void listByColumnValues_default_and_custom_batch_size() {
 		List<Integer> ages = List.of(25, 30, 28);
@@ -119,6 +212,48 @@ class BaseRepositoryMySqlTests {
 			Set.copyOf(listSupplierExplicitBatch.stream().map(UserDO::getName).toList()));
 	}
 
+	// -------- 流式遍历 --------
+
+	@Test
+	void stream_and_forEachBatch_by_keyset() {
+		try (Stream<UserDO> stream = userRepo.streamAll(3)) {
+			assertEquals(List.of(1L, 2L, 3L, 4L), stream.map(UserDO::getId).toList());
+		}
+		try (Stream<UserDO> stream = userRepo.streamByColumnValue(UserDO::getAge, 25, 1)) {
+			assertEquals(List.of("Bob", "Carol"), stream.map(UserDO::getName).toList());
+		}
+		try (Stream<String> stream = userRepo.streamColumnValue(UserDO::getEmail, 2)) {
+			assertEquals(3, stream.count());
+		}
+
+		List<Integer> batchSizes = new ArrayList<>();
+		long total = userRepo.forEachBatchByColumnNotNull(UserDO::getEmail, 2, batch -> batchSizes.add(batch.size()));
+		assertEquals(3, total);
+		assertEquals(List.of(2, 1), batchSizes);
+	}
+
+	// -------- 键集分页 --------
+
+	@Test
+	void pageByKeyset_composite_sort_and_directions() {
+		KeysetPage<UserDO> first = userRepo.pageByKeyset(null, List.of(UserDO::getAge), true, null, 2);
+		assertEquals(List.of(2L, 4L), first.records().stream().map(UserDO::getId).toList());
+		assertTrue(first.hasNext());
+
+		KeysetPage<UserDO> second = userRepo.pageByKeyset(null, List.of(UserDO::getAge), true, first.nextToken(), 2);
+		assertEquals(List.of(3L, 1L), second.records().stream().map(UserDO::getId).toList());
+		assertFalse(second.hasNext());
+
+		KeysetPage<UserDO> desc = userRepo.pageByKeyset(null, List.of(UserDO::getAge), false, null, 3);
+		assertEquals(List.of(1L, 3L, 4L), desc.records().stream().map(UserDO::getId).toList());
+
+		KeysetPage<UserDO> byId = userRepo.pageByKeyset(userRepo.pageByKeyset(null, 3).nextToken(), 3);
+		assertEquals(List.of(4L), byId.records().stream().map(UserDO::getId).toList());
+
+		assertThrows(IllegalArgumentException.class,
+			() -> userRepo.pageByKeyset(null, List.of(UserDO::getAge), false, first.nextToken(), 2));
+	}
+
 	// -------- 列值存在性与 null 判断 --------
 
 	@Test
@@ -169,6 +304,46 @@ class BaseRepositoryMySqlTests {
 
 	// -------- 更新与删除（使用事务回滚不影响其它用例） --------
 
+	@Test
+	@Transactional
+	void bulkInsert_and_bulkUpsert_chunked() {
+		List<UserDO> users = new ArrayList<>();
+		for (long id = 101; id <= 105; id++) {
+			users.add(new UserDO(id, "Bulk" + id, 40, null));
+		}
+		BulkWriteResult inserted = userRepo.bulkInsert(users, 2);
+		assertEquals(5, inserted.rows());
+		assertEquals(5, inserted.affectedRows());
+		assertEquals(List.of(2, 2, 1), inserted.chunks().stream().map(BulkWriteResult.Chunk::rows).toList());
+
+		BulkWriteResult upserted = userRepo.bulkUpsert(List.of(new UserDO(101L, "Bulk101", 41, null),
+			new UserDO(106L, "Bulk106", 40, null)));
+		assertEquals(1, upserted.chunks().size());
+		assertEquals(41, userRepo.getById(101L).getAge());
+		assertEquals(6, userRepo.listByColumnLikeRight(UserDO::getName, "Bulk").size());
+	}
+
+	@Test
+	@Transactional
+	void bulkInsert_and_bulkUpsert_null_columns() {
+		BulkWriteResult inserted = userRepo.bulkInsert(List.of(new UserDO(201L, "Null201", null, null),
+			new UserDO(202L, "Null202", 20, "n202@example.com"), new UserDO(203L, null, 30, null)));
+		assertEquals(3, inserted.affectedRows());
+		assertNull(userRepo.getById(201L).getEmail());
+		assertNull(userRepo.getById(203L).getName());
+		assertEquals("n202@example.com", userRepo.getById(202L).getEmail());
+
+		// null 值不覆盖已有值
+		userRepo.bulkUpsert(List.of(new UserDO(202L, "Null202", null, null), new UserDO(201L, null, 21, "n201@example.com")));
+		UserDO user202 = userRepo.getById(202L);
+		assertEquals(20, user202.getAge());
+		assertEquals("n202@example.com", user202.getEmail());
+		UserDO user201 = userRepo.getById(201L);
+		assertEquals("Null201", user201.getName());
+		assertEquals(21, user201.getAge());
+		assertEquals("n201@example.com", user201.getEmail());
+	}
+
 	@Test
 	@Transactional
 	void replaceColumnValue_updates_expected_rows() {
@@ -243,6 +418,36 @@ class BaseRepositoryMySqlTests {
 		assertEquals(Set.of("doc1"), Set.copyOf(authorAlice.stream().map(DocDO::getTitle).toList()));
 	}
 
+	@Test
+	void jsonKeyValues_batch_and_rejects_unsafe_path() {
+		var authors = docRepo.listByColumnJsonKeyValues(DocDO::getMeta, "author", List.of("Alice", "Bob", "Nobody"));
+		assertEquals(Set.of("doc1", "doc2"), Set.copyOf(authors.stream().map(DocDO::getTitle).toList()));
+
+		assertThrows(IllegalArgumentException.class,
+			() -> docRepo.listByColumnJsonKeyValue("meta", "author' OR '1'='1", "Alice"));
+	}
+
+	@Test
+	void jsonIndexAdvisor_records_usage_and_suggests_ddl() {
+		JsonIndexAdvisor advisor = new JsonIndexAdvisor();
+		docRepo.setJsonIndexAdvisor(advisor);
+		try {
+			docRepo.listByColumnJsonKeyValue(DocDO::getMeta, "author", "Alice");
+			docRepo.listByColumnJsonKey(DocDO::getMeta, "author");
+			docRepo.listByColumnJsonArrayValues(DocDO::getTags, List.of("tech", "misc"));
+
+			List<JsonIndexSuggestion> suggestions = advisor.getSuggestions();
+			assertEquals(2, suggestions.size());
+			JsonIndexSuggestion keySuggestion = suggestions.get(0);
+			assertEquals(2, keySuggestion.count());
+			assertEquals(Set.of(JsonQueryType.KEY_VALUE, JsonQueryType.KEY_EXISTS), keySuggestion.queryTypes());
+			assertTrue(keySuggestion.ddl().contains("GENERATED ALWAYS AS"));
+			assertTrue(suggestions.get(1).ddl().contains("CHAR(255) ARRAY"));
+		} finally {
+			docRepo.setJsonIndexAdvisor(null);
+		}
+	}
+
 	@Test
 	void jsonArray_value_and_values_lambda_overloads() {
 		var containsNews = docRepo.listByColumnJsonArrayValue(DocDO::getTags, "news");
@@ -269,4 +474,241 @@ class BaseRepositoryMySqlTests {
 		var overlaps = docRepo.listByColumnJsonArrayValues("tags", List.of("misc", "foo"));
 		assertEquals(Set.of("doc3"), Set.copyOf(overlaps.stream().map(DocDO::getTitle).toList()));
 	}
+
+	@Test
+	void instrumentation_records_helper_timers_and_rows() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		userRepo.setInstrumentation(new MicrometerRepositoryInstrumentation(registry));
+		try {
+			userRepo.listByColumnValues(UserDO::getId, List.of(1L, 2L, 999L), 1);
+			userRepo.listByColumnValues(UserDO::getId, List.of(3L));
+			assertThrows(IllegalArgumentException.class, () -> userRepo.listByColumnJsonKey("name;", "a"));
+
+			var timer = registry.get(MicrometerRepositoryInstrumentation.INVOCATION_TIMER)
+				.tag("entity", "UserDO")
+				.tag("method", "listByColumnValues")
+				.tag("outcome", "success")
+				.timer();
+			assertEquals(2, timer.count());
+			var rows = registry.get(MicrometerRepositoryInstrumentation.ROWS_SUMMARY)
+				.tag("method", "listByColumnValues")
+				.summary();
+			assertEquals(3, rows.totalAmount());
+		} finally {
+			userRepo.setInstrumentation(null);
+		}
+	}
+
+	@Test
+	void readWriteRoutingDataSource_routes_replica_reads_and_falls_back_on_lag() throws Exception {
+		AtomicInteger replicaConnections = new AtomicInteger();
+		DataSource replica = new DelegatingDataSource(dataSource) {
+			@Override
+			public Connection getConnection() throws SQLException {
+				replicaConnections.incrementAndGet();
+				return super.getConnection();
+			}
+		};
+		ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(dataSource, Map.of("replica", replica));
+
+		openConnection(routing);
+		assertEquals(0, replicaConnections.get());
+		DataSourceRouting.callOnReplica(() -> openConnection(routing));
+		assertEquals(1, replicaConnections.get());
+
+		// 事务同步作用域（如 SUPPORTS）中仅只读时使用从库
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			DataSourceRouting.callOnReplica(() -> openConnection(routing));
+			assertEquals(1, replicaConnections.get());
+			TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+			DataSourceRouting.callOnReplica(() -> openConnection(routing));
+			assertEquals(2, replicaConnections.get());
+		} finally {
+			TransactionSynchronizationManager.clear();
+		}
+
+		routing.setLagProbe(connection -> Duration.ofMinutes(1));
+		routing.refreshReplicas();
+		DataSourceRouting.callOnReplica(() -> openConnection(routing));
+		assertEquals(1, routing.getPrimaryFallbackCount());
+		assertFalse(routing.getReplicaStatuses().get(0).eligible());
+
+		userRepo.setReadFromReplica(true);
+		try {
+			assertNotNull(userRepo.getById(1L));
+			assertEquals(2, userRepo.listByColumnValues(UserDO::getId, List.of(1L, 2L)).size());
+		} finally {
+			userRepo.setReadFromReplica(false);
+		}
+	}
+
+	@Test
+	void viewSnapshot_serves_reads_from_memory_and_reports_stats() {
+		userViewRepo.setSnapshotEnabled(true);
+		try {
+			assertEquals(Set.of("Bob", "Carol"), Set.copyOf(EntityUtils.getFieldValueList(
+				userViewRepo.listByColumnValue(UserDO::getAge, 25), UserDO::getName)));
+			assertEquals(userRepo.count(), userViewRepo.count());
+			assertEquals("Bob", userViewRepo.getByColumnValue(UserDO::getEmail, null).getName());
+			assertEquals(2, userViewRepo.listByColumnValues(UserDO::getId, List.of(1L, 2L, 2L, 999L)).size());
+			assertTrue(userViewRepo.existsByColumnValue(UserDO::getName, "Carol"));
+
+			var stats = userViewRepo.getSnapshotStats();
+			assertTrue(stats.loaded());
+			assertEquals(userRepo.count(), stats.rows());
+			assertEquals(1, stats.refreshCount());
+
+			userViewRepo.setSnapshotMaxRows(1);
+			assertFalse(userViewRepo.refreshSnapshot());
+			assertTrue(userViewRepo.getSnapshotStats().oversized());
+			assertEquals(userRepo.count(), userViewRepo.count());
+		} finally {
+			userViewRepo.setSnapshotMaxRows(BaseViewRepository.DEFAULT_SNAPSHOT_MAX_ROWS);
+			userViewRepo.setSnapshotEnabled(false);
+		}
+	}
+
+	@Test
+	void asyncQueries_combine_and_propagate_mdc() {
+		MDC.put("traceId", "t-1");
+		try {
+			CompletableFuture<UserDO> carol = userRepo.getByColumnValueAsync(UserDO::getName, "Carol");
+			CompletableFuture<List<UserDO>> users = userRepo.listByIdsAsync(List.of(1L, 2L));
+			CompletableFuture<String> traceId = userRepo.supplyAsync(() -> MDC.get("traceId"));
+
+			int total = carol.thenCombine(users, (one, list) -> list.size() + (one == null ? 0 : 1)).join();
+			assertEquals(3, total);
+			assertEquals("t-1", traceId.join());
+
+			CompletableFuture<Boolean> failed = userRepo.supplyAsync(() -> {
+				throw new IllegalStateException("boom");
+			});
+			CompletionException e = assertThrows(CompletionException.class, failed::join);
+			assertInstanceOf(IllegalStateException.class, e.getCause());
+		} finally {
+			MDC.remove("traceId");
+		}
+	}
+
+	@Test
+	void listByColumnTuples_row_constructor_and_portable_fallback() {
+		List<Pair<String, Integer>> pairs = List.of(Pair.of("Bob", 25), Pair.of("Carol", 25), Pair.of("Bob", 99),
+			Pair.of("Bob", 25), Pair.of("Carol", null));
+		try {
+			for (Boolean rowConstructor : Arrays.asList(null, true, false)) {
+				userRepo.setRowConstructorInSupported(rowConstructor);
+				List<UserDO> users = userRepo.listByColumnTuples(UserDO::getName, UserDO::getAge, pairs, 2);
+				assertEquals(Set.of("Bob", "Carol"), Set.copyOf(EntityUtils.getFieldValueList(users, UserDO::getName)));
+				assertEquals(2, users.size());
+			}
+
+			UserDO carol = userRepo.getByColumnValue(UserDO::getName, "Carol");
+			List<UserDO> byTriple = userRepo.listByColumnTuples(UserDO::getId, UserDO::getName, UserDO::getAge,
+				List.of(Triple.of(carol.getId(), "Carol", 25), Triple.of(carol.getId(), "Bob", 25)));
+			assertEquals(1, byTriple.size());
+		} finally {
+			userRepo.setRowConstructorInSupported(null);
+		}
+	}
+
+	@Test
+	void adaptiveBatchSizer_tunes_default_batches_only() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(1, 4, 2, Duration.ofMinutes(1), 1, 0.5);
+		userRepo.setAdaptiveBatchSizer(sizer);
+		userRepo.setInstrumentation(new MicrometerRepositoryInstrumentation(registry));
+		try {
+			assertEquals(3, userRepo.listByIds(List.of(1L, 2L, 3L)).size());
+			assertEquals(2, sizer.getSamples());
+			assertEquals(3, sizer.getBatchSize());
+			assertEquals(3, registry.get(MicrometerRepositoryInstrumentation.BATCH_SIZE_GAUGE)
+				.tag("entity", "UserDO")
+				.gauge()
+				.value());
+
+			assertEquals(3, userRepo.listByIds(List.of(1L, 2L, 3L), 1).size());
+			assertEquals(2, sizer.getSamples());
+
+			// 不足一批的单批查询同样采样：按时完成不增加批大小，超时则缩减
+			assertEquals(1, userRepo.listByIds(List.of(1L)).size());
+			assertEquals(3, sizer.getSamples());
+			assertEquals(3, sizer.getBatchSize());
+
+			AdaptiveBatchSizer slowSizer = new AdaptiveBatchSizer(1, 4, 4, Duration.ofNanos(1), 1, 0.5);
+			userRepo.setAdaptiveBatchSizer(slowSizer);
+			assertEquals(2, userRepo.listByColumnValues(UserDO::getId, List.of(1L, 2L)).size());
+			assertEquals(1, slowSizer.getSamples());
+			assertEquals(2, slowSizer.getBatchSize());
+		} finally {
+			userRepo.setAdaptiveBatchSizer(null);
+			userRepo.setInstrumentation(null);
+		}
+	}
+
+	@Test
+	@Transactional
+	void removeInChunks_and_purge_jobs_clear_tombstones_by_key_range() throws SQLException {
+		List<NoteDO> notes = new ArrayList<>();
+		for (long id = 1; id <= 7; id++) {
+			notes.add(new NoteDO(id, id % 2 == 0 ? "even" : "odd"));
+		}
+		noteRepo.bulkInsert(notes);
+
+		assertEquals(3, noteRepo.removeByColumnValueInChunks(NoteDO::getContent, "even", 2));
+		assertEquals(4, noteRepo.count());
+
+		PurgeJob retained = noteRepo.purgeDeletedJob(Duration.ofDays(1), 2);
+		assertEquals(0, retained.run());
+		assertEquals(PurgeJob.State.COMPLETED, retained.getState());
+
+		PurgeJob archive = noteRepo.archiveDeletedJob("notes_archive", null, 2);
+		assertEquals(3, archive.run());
+		assertEquals(2, archive.getProcessedChunks());
+		assertEquals(4, countRows("notes"));
+		assertEquals(3, countRows("notes_archive"));
+
+		noteRepo.removeByIds(List.of(1L, 3L));
+		PurgeJob cancelled = noteRepo.purgeDeletedJob(null, 1);
+		cancelled.cancel();
+		assertEquals(PurgeJob.State.CANCELLED, cancelled.getState());
+		assertThrows(IllegalStateException.class, cancelled::run);
+		assertEquals(4, countRows("notes"));
+
+		// 启动后立即取消不执行任何分块
+		AtomicInteger processed = new AtomicInteger();
+		List<Runnable> pending = new ArrayList<>();
+		PurgeJob started = new PurgeJob(() -> processed.incrementAndGet(), pending::add);
+		CompletableFuture<Long> startedFuture = started.start();
+		started.cancel();
+		pending.forEach(Runnable::run);
+		assertEquals(0L, startedFuture.join());
+		assertEquals(0, processed.get());
+		assertEquals(PurgeJob.State.CANCELLED, started.getState());
+
+		assertEquals(2, noteRepo.purgeDeletedJob(null, 1).setThrottle(Duration.ofMillis(1)).run());
+		assertEquals(2, countRows("notes"));
+		assertThrows(IllegalStateException.class, () -> userRepo.purgeDeletedJob(null, 1));
+		assertThrows(UnsupportedOperationException.class, () -> userViewRepo.purgeDeletedJob(null, 1));
+		assertThrows(UnsupportedOperationException.class, () -> userViewRepo.removeInChunks(null, 1));
+	}
+
+	private long countRows(String table) throws SQLException {
+		Connection connection = DataSourceUtils.getConnection(dataSource);
+		try (Statement statement = connection.createStatement();
+			 ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+			resultSet.next();
+			return resultSet.getLong(1);
+		} finally {
+			DataSourceUtils.releaseConnection(connection, dataSource);
+		}
+	}
+
+	private static Void openConnection(DataSource dataSource) {
+		try (Connection ignored = dataSource.getConnection()) {
+			return null;
+		} catch (SQLException e) {
+			throw new IllegalStateException(e);
+		}
+	}
 }
@@ -0,0 +1,81 @@
+package io.github.pangju666.framework.data.mybatisplus.type.codec;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressingJsonCodecTests {
+	private final JsonCodec delegate = new GsonJsonCodec(new Gson());
+
+	@Test
+	void round_trip_and_reads_legacy_text() throws Exception {
+		CompressingJsonCodec codec = new CompressingJsonCodec(delegate, 64, 1);
+		Map<String, Object> small = Map.of("author", "Bob");
+		Map<String, Object> large = Map.of("body", "x".repeat(4096));
+
+		byte[] smallData = codec.encode(small);
+		assertEquals(0, smallData[0]);
+		assertEquals(small, codec.decode(smallData, Map.class));
+
+		byte[] largeData = codec.encode(large);
+		assertEquals(1, largeData[0]);
+		assertTrue(largeData.length < 4096);
+		assertEquals(large, codec.decode(largeData, Map.class));
+
+		byte[] legacy = "{\"author\":\"Bob\"}".getBytes(StandardCharsets.UTF_8);
+		assertEquals(small, codec.decode(legacy, Map.class));
+	}
+
+	@Test
+	void below_threshold_stored_with_raw_header() throws Exception {
+		CompressingJsonCodec codec = new CompressingJsonCodec(delegate, 1024, 9);
+		Map<String, Object> value = Map.of("body", "x".repeat(100));
+
+		byte[] json = delegate.encode(value);
+		byte[] data = codec.encode(value);
+		assertEquals(json.length + 1, data.length);
+		assertEquals(0, data[0]);
+		assertArrayEquals(json, Arrays.copyOfRange(data, 1, data.length));
+		assertEquals(value, codec.decode(data, Map.class));
+	}
+
+	@Test
+	void truncated_deflate_payload_throws() throws Exception {
+		CompressingJsonCodec codec = new CompressingJsonCodec(delegate, 0, 1);
+		byte[] data = codec.encode(Map.of("body", "x".repeat(4096)));
+		assertEquals(1, data[0]);
+
+		byte[] truncated = Arrays.copyOf(data, data.length / 2);
+		IOException e = assertThrows(IOException.class, () -> codec.decode(truncated, Map.class));
+		assertEquals("压缩数据不完整", e.getMessage());
+
+		byte[] corrupted = new byte[]{1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF};
+		e = assertThrows(IOException.class, () -> codec.decode(corrupted, Map.class));
+		assertEquals("压缩数据格式错误", e.getMessage());
+	}
+
+	@Test
+	void text_mode_uses_base64() throws Exception {
+		CompressingJsonCodec codec = new CompressingJsonCodec(delegate, 0, 1);
+		Map<String, Object> value = Map.of("body", "x".repeat(4096));
+
+		String text = codec.encodeToString(value);
+		assertArrayEquals(codec.encode(value), Base64.getDecoder().decode(text));
+		assertEquals(value, codec.decodeString(text, Map.class));
+		assertThrows(IOException.class, () -> codec.decodeString("{\"body\":1}", Map.class));
+	}
+
+	@Test
+	void constructor_rejects_invalid_arguments() {
+		assertThrows(IllegalArgumentException.class, () -> new CompressingJsonCodec(null));
+		assertThrows(IllegalArgumentException.class, () -> new CompressingJsonCodec(delegate, -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> new CompressingJsonCodec(delegate, 0, 10));
+	}
+}
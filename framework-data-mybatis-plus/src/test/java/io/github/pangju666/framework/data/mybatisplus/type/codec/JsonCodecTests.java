@@ -0,0 +1,40 @@
+package io.github.pangju666.framework.data.mybatisplus.type.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonCodecTests {
+	@Test
+	void missing_methods_fail_fast_instead_of_recursing() {
+		JsonCodec text = new JsonCodec() {
+		};
+		assertThrows(UnsupportedOperationException.class, () -> text.encode(Map.of()));
+		assertThrows(UnsupportedOperationException.class, () -> text.decode(new byte[]{'{', '}'}, Map.class));
+		assertThrows(UnsupportedOperationException.class, () -> text.encodeToString(Map.of()));
+		assertThrows(UnsupportedOperationException.class, () -> text.decodeString("{}", Map.class));
+
+		JsonCodec binary = new JsonCodec() {
+			@Override
+			public boolean isBinary() {
+				return true;
+			}
+		};
+		assertThrows(UnsupportedOperationException.class, () -> binary.encode(Map.of()));
+		assertThrows(UnsupportedOperationException.class, () -> binary.decode(new byte[]{1}, Map.class));
+		assertThrows(UnsupportedOperationException.class, () -> binary.encodeToString(Map.of()));
+		assertThrows(UnsupportedOperationException.class, () -> binary.decodeString("AQ==", Map.class));
+	}
+
+	@Test
+	void text_codec_bytes_are_utf8() throws Exception {
+		JsonCodec codec = GsonJsonCodec.DEFAULT;
+		Map<String, Object> value = Map.of("author", "张三");
+		byte[] data = codec.encode(value);
+		assertEquals(codec.encodeToString(value), new String(data, StandardCharsets.UTF_8));
+		assertEquals(value, codec.decode(data, Map.class));
+	}
+}
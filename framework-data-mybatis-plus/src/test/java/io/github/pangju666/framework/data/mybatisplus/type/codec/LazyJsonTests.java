@@ -0,0 +1,136 @@
+package io.github.pangju666.framework.data.mybatisplus.type.codec;
+
+import com.google.gson.Gson;
+import io.github.pangju666.framework.data.mybatisplus.type.handler.LazyJsonTypeHandler;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("rawtypes")
+class LazyJsonTests {
+	@Test
+	void decodes_once_and_writes_back_raw() throws Exception {
+		String raw = "{\"author\":\"Bob\"}";
+		LazyJson<Map> lazy = LazyJson.ofText(raw, Map.class, GsonJsonCodec.DEFAULT);
+		assertFalse(lazy.isLoaded());
+		assertSame(raw, lazy.encodeToString(GsonJsonCodec.DEFAULT));
+		assertFalse(lazy.isLoaded());
+
+		Map value = lazy.get();
+		assertTrue(lazy.isLoaded());
+		assertEquals("Bob", value.get("author"));
+		assertSame(value, lazy.get());
+		assertEquals(LazyJson.of(Map.of("author", "Bob")), lazy);
+	}
+
+	@Test
+	void decode_runs_once_and_other_codec_re_encodes() throws Exception {
+		CountingCodec codec = new CountingCodec();
+		LazyJson<Map> lazy = LazyJson.ofText("{\"author\":\"Bob\"}", Map.class, codec);
+
+		JsonCodec other = new GsonJsonCodec(new Gson());
+		assertEquals("{\"author\":\"Bob\"}", lazy.encodeToString(other));
+		assertTrue(lazy.isLoaded());
+		lazy.get();
+		lazy.hashCode();
+		assertEquals(1, codec.decodes.get());
+	}
+
+	@Test
+	void binary_value_writes_back_same_bytes() throws Exception {
+		CompressingJsonCodec codec = new CompressingJsonCodec(new GsonJsonCodec(new Gson()));
+		byte[] data = codec.encode(Map.of("author", "Bob"));
+		LazyJson<Map> lazy = LazyJson.ofBytes(data, Map.class, codec);
+
+		assertSame(data, lazy.encode(codec));
+		assertFalse(lazy.isLoaded());
+		assertEquals("Bob", lazy.get().get("author"));
+		assertArrayEquals(data, lazy.encode(codec));
+	}
+
+	@Test
+	void decode_failure_is_unchecked() {
+		LazyJson<Map> lazy = LazyJson.ofText("{", Map.class, new GsonJsonCodec(new Gson()));
+		assertThrows(UncheckedIOException.class, lazy::get);
+		assertFalse(lazy.isLoaded());
+		assertThrows(IllegalArgumentException.class, () -> LazyJson.ofText(null, Map.class, GsonJsonCodec.DEFAULT));
+	}
+
+	// -------- LazyJsonTypeHandler --------
+
+	@Test
+	void typeHandler_reads_lazily_and_writes_back_raw() throws Exception {
+		CountingCodec codec = new CountingCodec();
+		MapLazyJsonTypeHandler handler = new MapLazyJsonTypeHandler(codec);
+		String raw = "{\"author\":\"Bob\"}";
+		ResultSet rs = mock(ResultSet.class);
+		when(rs.getString("meta")).thenReturn(raw);
+		when(rs.getString(2)).thenReturn(" ");
+
+		LazyJson<Map> lazy = handler.getNullableResult(rs, "meta");
+		assertNotNull(lazy);
+		assertFalse(lazy.isLoaded());
+		assertNull(handler.getNullableResult(rs, 2));
+
+		PreparedStatement ps = mock(PreparedStatement.class);
+		handler.setNonNullParameter(ps, 1, lazy, null);
+		verify(ps).setString(1, raw);
+		assertEquals(0, codec.decodes.get());
+	}
+
+	@Test
+	void typeHandler_uses_bytes_for_binary_codec() throws Exception {
+		CompressingJsonCodec codec = new CompressingJsonCodec(new GsonJsonCodec(new Gson()));
+		MapLazyJsonTypeHandler handler = new MapLazyJsonTypeHandler(codec);
+		byte[] data = codec.encode(Map.of("author", "Bob"));
+		ResultSet rs = mock(ResultSet.class);
+		when(rs.getBytes(1)).thenReturn(data);
+		when(rs.getBytes(2)).thenReturn(new byte[0]);
+
+		LazyJson<Map> lazy = handler.getNullableResult(rs, 1);
+		assertEquals("Bob", lazy.get().get("author"));
+		assertNull(handler.getNullableResult(rs, 2));
+
+		PreparedStatement ps = mock(PreparedStatement.class);
+		handler.setNonNullParameter(ps, 1, LazyJson.of(Map.of("author", "Bob")), null);
+		verify(ps).setBytes(eq(1), any(byte[].class));
+	}
+
+	@Test
+	void typeHandler_wraps_encode_failure() {
+		MapLazyJsonTypeHandler handler = new MapLazyJsonTypeHandler(new GsonJsonCodec(new Gson()));
+		LazyJson<Map> lazy = LazyJson.ofText("{", Map.class, GsonJsonCodec.DEFAULT);
+		assertThrows(SQLException.class, () -> handler.setNonNullParameter(mock(PreparedStatement.class), 1, lazy, null));
+	}
+
+	private static class MapLazyJsonTypeHandler extends LazyJsonTypeHandler<Map> {
+		MapLazyJsonTypeHandler(JsonCodec codec) {
+			super(Map.class, codec);
+		}
+	}
+
+	private static class CountingCodec implements JsonCodec {
+		private final JsonCodec delegate = new GsonJsonCodec(new Gson());
+		private final AtomicInteger decodes = new AtomicInteger();
+
+		@Override
+		public String encodeToString(Object value) throws IOException {
+			return delegate.encodeToString(value);
+		}
+
+		@Override
+		public Object decodeString(String text, Class<?> type) throws IOException {
+			decodes.incrementAndGet();
+			return delegate.decodeString(text, type);
+		}
+	}
+}
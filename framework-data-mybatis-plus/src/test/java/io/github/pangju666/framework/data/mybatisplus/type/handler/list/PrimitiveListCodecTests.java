@@ -0,0 +1,168 @@
+package io.github.pangju666.framework.data.mybatisplus.type.handler.list;
+
+import io.github.pangju666.framework.data.mybatisplus.type.collection.DoubleArrayList;
+import io.github.pangju666.framework.data.mybatisplus.type.collection.IntArrayList;
+import io.github.pangju666.framework.data.mybatisplus.type.collection.LongArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveListCodecTests {
+	// -------- 解析 --------
+
+	@Test
+	void parse_blank_segments_as_null() {
+		assertEquals(Arrays.asList(1L, null, 3L, null, 5L), PrimitiveListCodec.parseLongs("1,,3, ,5", ","));
+		assertEquals(Arrays.asList(null, 2, 3), PrimitiveListCodec.parseInts(" ,2,3", ","));
+		assertEquals(Arrays.asList(1.5, null, 2000.0), PrimitiveListCodec.parseDoubles("1.5,\t,2e3", ","));
+	}
+
+	@Test
+	void parse_drops_trailing_empty_segments() {
+		assertEquals(List.of(1L, 2L), PrimitiveListCodec.parseLongs("1,2,,", ","));
+		assertEquals(List.of(1, 2), PrimitiveListCodec.parseInts("1,2,", ","));
+		assertEquals(List.of(1.0), PrimitiveListCodec.parseDoubles("1.0,,,", ","));
+		// 空白段不是空段，不会被丢弃
+		assertEquals(Arrays.asList(1L, null), PrimitiveListCodec.parseLongs("1, ,", ","));
+	}
+
+	@Test
+	void parse_delimiters_only() {
+		assertTrue(PrimitiveListCodec.parseLongs(",,,", ",").isEmpty());
+		assertTrue(PrimitiveListCodec.parseInts(",", ",").isEmpty());
+		assertTrue(PrimitiveListCodec.parseDoubles("", ",").isEmpty());
+		assertEquals(Arrays.asList(null, null), PrimitiveListCodec.parseLongs(" , ,,", ","));
+	}
+
+	@Test
+	void parse_multi_char_delimiter() {
+		assertEquals(Arrays.asList(1L, 2L, null, 4L), PrimitiveListCodec.parseLongs("1::2:: ::4::::", "::"));
+		assertEquals(List.of(10, 20), PrimitiveListCodec.parseInts("10<>20", "<>"));
+		assertEquals(Arrays.asList(0.5, null, 1.5), PrimitiveListCodec.parseDoubles("0.5||||1.5", "||"));
+		// 单字符分隔符在多字符分隔符中出现时不拆分
+		assertThrows(NumberFormatException.class, () -> PrimitiveListCodec.parseLongs("1:2", "::"));
+	}
+
+	@Test
+	void parse_malformed_throws() {
+		assertThrows(NumberFormatException.class, () -> PrimitiveListCodec.parseLongs("1,x,3", ","));
+		assertThrows(NumberFormatException.class, () -> PrimitiveListCodec.parseLongs("1.5", ","));
+		assertThrows(NumberFormatException.class, () -> PrimitiveListCodec.parseLongs("9223372036854775808", ","));
+		assertThrows(NumberFormatException.class, () -> PrimitiveListCodec.parseInts("2147483648", ","));
+		assertThrows(NumberFormatException.class, () -> PrimitiveListCodec.parseInts("1,2a", ","));
+		assertThrows(NumberFormatException.class, () -> PrimitiveListCodec.parseDoubles("1.0,abc", ","));
+	}
+
+	// -------- 格式化 --------
+
+	@Test
+	void format_round_trip() {
+		LongArrayList longs = PrimitiveListCodec.parseLongs("-1,,9223372036854775807", ",");
+		StringBuilder builder = new StringBuilder();
+		PrimitiveListCodec.formatLongs(builder, longs, ",");
+		assertEquals("-1,,9223372036854775807", builder.toString());
+		assertEquals(longs, PrimitiveListCodec.parseLongs(builder.toString(), ","));
+
+		IntArrayList ints = PrimitiveListCodec.parseInts("1:: ::3", "::");
+		builder = new StringBuilder();
+		PrimitiveListCodec.formatInts(builder, ints, "::");
+		assertEquals("1::::3", builder.toString());
+		assertEquals(ints, PrimitiveListCodec.parseInts(builder.toString(), "::"));
+
+		DoubleArrayList doubles = PrimitiveListCodec.parseDoubles("1.5,,2e3", ",");
+		builder = new StringBuilder();
+		PrimitiveListCodec.formatDoubles(builder, doubles, ",");
+		assertEquals("1.5,,2000.0", builder.toString());
+		assertEquals(doubles, PrimitiveListCodec.parseDoubles(builder.toString(), ","));
+	}
+
+	@Test
+	void format_boxed_list_matches_primitive_list() {
+		List<Long> boxed = Arrays.asList(1L, null, 3L);
+		StringBuilder boxedBuilder = new StringBuilder();
+		PrimitiveListCodec.formatLongs(boxedBuilder, boxed, ",");
+		StringBuilder primitiveBuilder = new StringBuilder();
+		PrimitiveListCodec.formatLongs(primitiveBuilder, new LongArrayList(boxed), ",");
+		assertEquals("1,,3", boxedBuilder.toString());
+		assertEquals(boxedBuilder.toString(), primitiveBuilder.toString());
+
+		StringBuilder builder = new StringBuilder();
+		PrimitiveListCodec.formatInts(builder, Arrays.asList(null, 2), ";");
+		assertEquals(";2", builder.toString());
+	}
+
+	// -------- 基本类型列表的 null 位图 --------
+
+	@Test
+	void longArrayList_insert_and_remove_keep_nulls_in_step() {
+		LongArrayList list = new LongArrayList(1);
+		list.add(1L);
+		list.add(null);
+		list.add(3L);
+		list.add(0, null);
+		list.add(2, 5L);
+		assertEquals(Arrays.asList(null, 1L, 5L, null, 3L), list);
+		assertTrue(list.isNull(0));
+		assertTrue(list.isNull(3));
+		assertFalse(list.isNull(2));
+
+		assertNull(list.remove(0));
+		assertEquals(Arrays.asList(1L, 5L, null, 3L), list);
+		assertTrue(list.isNull(2));
+		assertFalse(list.isNull(3));
+
+		assertNull(list.remove(2));
+		assertEquals(List.of(1L, 5L, 3L), list);
+		assertFalse(list.hasNulls());
+
+		list.add(list.size(), null);
+		assertTrue(list.isNull(3));
+		assertEquals(Long.valueOf(1L), list.remove(0));
+		assertTrue(list.isNull(2));
+		assertArrayEquals(new long[]{5L, 3L, 0L}, list.toLongArray());
+	}
+
+	@Test
+	void intArrayList_insert_and_remove_keep_nulls_in_step() {
+		IntArrayList list = new IntArrayList(Arrays.asList(1, null, 3));
+		list.add(1, 2);
+		assertEquals(Arrays.asList(1, 2, null, 3), list);
+		assertTrue(list.isNull(2));
+		assertFalse(list.isNull(1));
+
+		assertEquals(Integer.valueOf(1), list.remove(0));
+		assertEquals(Arrays.asList(2, null, 3), list);
+		assertTrue(list.isNull(1));
+		assertFalse(list.isNull(2));
+
+		list.set(1, 7);
+		assertFalse(list.hasNulls());
+		assertThrows(IndexOutOfBoundsException.class, () -> list.add(4, 1));
+	}
+
+	@Test
+	void doubleArrayList_insert_and_remove_keep_nulls_in_step() {
+		DoubleArrayList list = new DoubleArrayList();
+		list.add(null);
+		list.add(null);
+		list.add(0, 0.5);
+		assertEquals(Arrays.asList(0.5, null, null), list);
+
+		assertNull(list.remove(1));
+		assertEquals(Arrays.asList(0.5, null), list);
+		assertTrue(list.isNull(1));
+
+		list.add(1, 1.5);
+		assertEquals(Arrays.asList(0.5, 1.5, null), list);
+		assertFalse(list.isNull(1));
+		assertTrue(list.isNull(2));
+
+		list.clear();
+		list.addDouble(2.5);
+		assertFalse(list.hasNulls());
+		assertEquals(2.5, list.getDouble(0));
+	}
+}
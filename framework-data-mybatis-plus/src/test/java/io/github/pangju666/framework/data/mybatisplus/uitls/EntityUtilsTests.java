@@ -0,0 +1,146 @@
+package io.github.pangju666.framework.data.mybatisplus.uitls;
+
+import io.github.pangju666.framework.data.mybatisplus.entity.UserDO;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityUtilsTests {
+	private static final int PARALLEL_SIZE = 20_000;
+	private static final int PARALLEL_THRESHOLD = 1_000;
+
+	@Test
+	void merge_policies_and_exact_aggregation() {
+		List<UserDO> users = List.of(
+			new UserDO(1L, "Alice", Integer.MAX_VALUE, "a@example.com"),
+			new UserDO(2L, "Alice", Integer.MAX_VALUE, null),
+			new UserDO(3L, "Bob", null, "b@example.com"));
+
+		assertThrows(IllegalStateException.class, () -> EntityUtils.mapByField(users, UserDO::getName));
+		assertEquals(1L, EntityUtils.mapByField(users, UserDO::getName, (first, second) -> first).get("Alice").getId());
+		LinkedHashMap<String, UserDO> last = EntityUtils.mapByField(users, UserDO::getName, (first, second) -> second,
+			LinkedHashMap::new);
+		assertEquals(List.of("Alice", "Bob"), List.copyOf(last.keySet()));
+		assertEquals(2L, last.get("Alice").getId());
+
+		assertEquals(2L * Integer.MAX_VALUE, EntityUtils.sumLongFieldValue(users, UserDO::getAge));
+		assertEquals(BigDecimal.valueOf(2L * Integer.MAX_VALUE), EntityUtils.sumBigDecimalFieldValue(users, UserDO::getAge));
+		assertEquals(new BigDecimal("1431655764.67"),
+			EntityUtils.averageBigDecimalFieldValue(users, UserDO::getAge, 2, RoundingMode.HALF_UP));
+
+		int threshold = EntityUtils.getParallelThreshold();
+		try {
+			EntityUtils.setParallelThreshold(1);
+			assertEquals(List.of(1L, 2L, 3L), EntityUtils.getFieldValueList(users, UserDO::getId));
+			assertEquals(List.of(1L, 2L), EntityUtils.groupByField(users, UserDO::getName).get("Alice")
+				.stream().map(UserDO::getId).toList());
+			assertEquals(2d * Integer.MAX_VALUE, EntityUtils.sumFieldValue(users, UserDO::getAge));
+		} finally {
+			EntityUtils.setParallelThreshold(threshold);
+		}
+	}
+
+	@Test
+	void parallel_map_keeps_merge_order() {
+		List<UserDO> users = users();
+
+		Map<String, UserDO> firstSequential = EntityUtils.mapByField(users, UserDO::getName, (first, second) -> first,
+			LinkedHashMap::new);
+		LinkedHashMap<String, UserDO> firstParallel = withThreshold(PARALLEL_THRESHOLD, () ->
+			EntityUtils.mapByField(users, UserDO::getName, (first, second) -> first, LinkedHashMap::new));
+		assertEquals(List.copyOf(firstSequential.keySet()), List.copyOf(firstParallel.keySet()));
+		firstSequential.forEach((name, user) -> assertSame(user, firstParallel.get(name)));
+		assertEquals(0L, firstParallel.get("user0").getId());
+
+		Map<String, UserDO> lastParallel = withThreshold(PARALLEL_THRESHOLD, () ->
+			EntityUtils.mapByField(users, UserDO::getName, (first, second) -> second));
+		assertEquals(PARALLEL_SIZE - 100L, lastParallel.get("user0").getId());
+		assertEquals(99L + PARALLEL_SIZE - 100L, lastParallel.get("user99").getId());
+
+		Map<Long, UserDO> byId = withThreshold(PARALLEL_THRESHOLD, () -> EntityUtils.mapByField(users, UserDO::getId));
+		assertEquals(PARALLEL_SIZE, byId.size());
+		assertThrows(IllegalStateException.class, () -> withThreshold(PARALLEL_THRESHOLD, () ->
+			EntityUtils.mapByField(users, UserDO::getName)));
+	}
+
+	@Test
+	void parallel_groups_keep_encounter_order() {
+		List<UserDO> users = users();
+
+		LinkedHashMap<String, List<UserDO>> sequential = EntityUtils.groupByField(users, UserDO::getName, LinkedHashMap::new);
+		LinkedHashMap<String, List<UserDO>> parallel = withThreshold(PARALLEL_THRESHOLD, () ->
+			EntityUtils.groupByField(users, UserDO::getName, LinkedHashMap::new));
+		assertEquals(sequential, parallel);
+		assertEquals(List.copyOf(sequential.keySet()), List.copyOf(parallel.keySet()));
+		assertEquals(PARALLEL_SIZE / 100, parallel.get("user7").size());
+		assertEquals(IntStream.range(0, PARALLEL_SIZE / 100).mapToObj(i -> 7L + i * 100L).toList(),
+			EntityUtils.getFieldValueList(parallel.get("user7"), UserDO::getId));
+
+		assertEquals(EntityUtils.getFieldValueList(users, UserDO::getId),
+			withThreshold(PARALLEL_THRESHOLD, () -> EntityUtils.getFieldValueList(users, UserDO::getId)));
+		assertEquals(EntityUtils.getFieldValueSet(users, UserDO::getEmail),
+			withThreshold(PARALLEL_THRESHOLD, () -> EntityUtils.getFieldValueSet(users, UserDO::getEmail)));
+	}
+
+	@Test
+	void parallel_aggregation_matches_sequential() {
+		List<UserDO> users = users();
+
+		assertEquals(EntityUtils.sumBigDecimalFieldValue(users, UserDO::getAge),
+			withThreshold(PARALLEL_THRESHOLD, () -> EntityUtils.sumBigDecimalFieldValue(users, UserDO::getAge)));
+		assertEquals(EntityUtils.sumLongFieldValue(users, UserDO::getAge),
+			withThreshold(PARALLEL_THRESHOLD, () -> EntityUtils.sumLongFieldValue(users, UserDO::getAge)));
+		assertEquals(EntityUtils.averageFieldValue(users, UserDO::getAge),
+			withThreshold(PARALLEL_THRESHOLD, () -> EntityUtils.averageFieldValue(users, UserDO::getAge)));
+
+		// long 溢出后转入 BigDecimal 精确累加
+		List<UserDO> large = IntStream.range(0, PARALLEL_SIZE)
+			.mapToObj(i -> new UserDO(Long.MAX_VALUE - i, null, null, null))
+			.toList();
+		BigDecimal expected = IntStream.range(0, PARALLEL_SIZE)
+			.mapToObj(i -> BigDecimal.valueOf(Long.MAX_VALUE - i))
+			.reduce(BigDecimal.ZERO, BigDecimal::add);
+		assertEquals(expected, withThreshold(PARALLEL_THRESHOLD, () ->
+			EntityUtils.sumBigDecimalFieldValue(large, UserDO::getId)));
+		assertEquals(expected, EntityUtils.sumBigDecimalFieldValue(large, UserDO::getId));
+		assertEquals(expected.doubleValue(), withThreshold(PARALLEL_THRESHOLD, () ->
+			EntityUtils.sumFieldValue(large, UserDO::getId)));
+		assertThrows(ArithmeticException.class, () -> withThreshold(PARALLEL_THRESHOLD, () ->
+			EntityUtils.sumLongFieldValue(large, UserDO::getId)));
+	}
+
+	@Test
+	void parallelThreshold_must_be_positive() {
+		int threshold = EntityUtils.getParallelThreshold();
+		assertThrows(IllegalArgumentException.class, () -> EntityUtils.setParallelThreshold(0));
+		assertEquals(threshold, EntityUtils.getParallelThreshold());
+	}
+
+	private static List<UserDO> users() {
+		List<UserDO> users = new ArrayList<>(PARALLEL_SIZE);
+		for (int i = 0; i < PARALLEL_SIZE; i++) {
+			users.add(new UserDO((long) i, "user" + (i % 100), i % 7 == 0 ? null : i,
+				i % 3 == 0 ? null : "u" + (i % 50) + "@example.com"));
+		}
+		return users;
+	}
+
+	private static <R> R withThreshold(int threshold, Supplier<R> supplier) {
+		int previous = EntityUtils.getParallelThreshold();
+		try {
+			EntityUtils.setParallelThreshold(threshold);
+			return supplier.get();
+		} finally {
+			EntityUtils.setParallelThreshold(previous);
+		}
+	}
+}
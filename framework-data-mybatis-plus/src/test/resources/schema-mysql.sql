@@ -14,4 +14,17 @@ CREATE TABLE docs
     `title` VARCHAR(64),
     `meta`  JSON,
     `tags`  JSON
-);
\ No newline at end of file
+);
+
+DROP TABLE IF EXISTS notes;
+CREATE TABLE notes
+(
+    `id`          BIGINT PRIMARY KEY,
+    `content`     VARCHAR(64),
+    `create_time` DATETIME,
+    `update_time` DATETIME,
+    `delete_time` DATETIME NULL
+);
+
+DROP TABLE IF EXISTS notes_archive;
+CREATE TABLE notes_archive LIKE notes;
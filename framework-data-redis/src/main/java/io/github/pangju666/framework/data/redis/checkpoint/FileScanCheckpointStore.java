@@ -0,0 +1,114 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.redis.checkpoint;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.regex.Pattern;
+
+/**
+ * 基于本地文件的检查点存储
+ * <p>
+ * 每个扫描任务对应目录下的一个 {@code scanId.checkpoint} 文件。保存时先写入临时文件再原子替换，
+ * 进程在写入过程中退出不会留下不完整的检查点。
+ * </p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+public class FileScanCheckpointStore implements ScanCheckpointStore {
+	/**
+	 * 检查点文件扩展名
+	 *
+	 * @since 2.2.0
+	 */
+	public static final String FILE_EXTENSION = ".checkpoint";
+	/**
+	 * 合法的扫描任务 ID（用作文件名）
+	 *
+	 * @since 2.2.0
+	 */
+	private static final Pattern SCAN_ID_PATTERN = Pattern.compile("^[\\p{L}\\p{N}_.:-]+$");
+
+	private final Path directory;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param directory 检查点目录，不存在时在首次保存时创建
+	 * @throws IllegalArgumentException 当 {@code directory} 为 {@code null} 时
+	 * @since 2.2.0
+	 */
+	public FileScanCheckpointStore(Path directory) {
+		Assert.notNull(directory, "directory 不可为null");
+		this.directory = directory;
+	}
+
+	@Override
+	public @Nullable ScanCheckpoint load(String scanId) {
+		Path file = resolve(scanId);
+		if (!Files.exists(file)) {
+			return null;
+		}
+		try {
+			return ScanCheckpoint.parse(Files.readString(file, StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			throw new UncheckedIOException("读取检查点文件失败：" + file, e);
+		}
+	}
+
+	@Override
+	public void save(String scanId, ScanCheckpoint checkpoint) {
+		Path file = resolve(scanId);
+		try {
+			Files.createDirectories(directory);
+			Path tempFile = Files.createTempFile(directory, scanId, ".tmp");
+			try {
+				Files.writeString(tempFile, checkpoint.toText(), StandardCharsets.UTF_8);
+				try {
+					Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				} catch (AtomicMoveNotSupportedException e) {
+					Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+				}
+			} finally {
+				Files.deleteIfExists(tempFile);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("写入检查点文件失败：" + file, e);
+		}
+	}
+
+	@Override
+	public void delete(String scanId) {
+		Path file = resolve(scanId);
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			throw new UncheckedIOException("删除检查点文件失败：" + file, e);
+		}
+	}
+
+	private Path resolve(String scanId) {
+		Assert.isTrue(SCAN_ID_PATTERN.matcher(scanId).matches(), "scanId 不是合法的文件名：" + scanId);
+		return directory.resolve(scanId + FILE_EXTENSION);
+	}
+}
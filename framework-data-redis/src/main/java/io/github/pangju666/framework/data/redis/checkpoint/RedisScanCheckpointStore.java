@@ -0,0 +1,97 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.redis.checkpoint;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 基于 Redis 字符串的检查点存储
+ * <p>
+ * 检查点以文本形式（见 {@link ScanCheckpoint#toText()}）保存在键 {@code keyPrefix + scanId} 中，每次保存为一条 {@code SET}。
+ * 可设置过期时间，避免长期未完成的任务遗留检查点。
+ * </p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+public class RedisScanCheckpointStore implements ScanCheckpointStore {
+	/**
+	 * 默认键前缀
+	 *
+	 * @since 2.2.0
+	 */
+	public static final String DEFAULT_KEY_PREFIX = "scan:checkpoint:";
+
+	private final RedisOperations<String, String> operations;
+	private final String keyPrefix;
+	private final @Nullable Duration ttl;
+
+	/**
+	 * 构造函数，使用默认键前缀且不过期
+	 *
+	 * @param operations 字符串键值的 Redis 操作（如 {@code StringRedisTemplate}）
+	 * @throws IllegalArgumentException 当 {@code operations} 为 {@code null} 时
+	 * @since 2.2.0
+	 */
+	public RedisScanCheckpointStore(RedisOperations<String, String> operations) {
+		this(operations, DEFAULT_KEY_PREFIX, null);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param operations 字符串键值的 Redis 操作（如 {@code StringRedisTemplate}）
+	 * @param keyPrefix  键前缀
+	 * @param ttl        检查点过期时间，为 {@code null} 时不过期
+	 * @throws IllegalArgumentException 当 {@code operations}、{@code keyPrefix} 为 {@code null} 或 {@code ttl} 不为正数时
+	 * @since 2.2.0
+	 */
+	public RedisScanCheckpointStore(RedisOperations<String, String> operations, String keyPrefix,
+									@Nullable Duration ttl) {
+		Assert.notNull(operations, "operations 不可为null");
+		Assert.notNull(keyPrefix, "keyPrefix 不可为null");
+		Assert.isTrue(Objects.isNull(ttl) || (!ttl.isNegative() && !ttl.isZero()), "ttl 必须为正数");
+		this.operations = operations;
+		this.keyPrefix = keyPrefix;
+		this.ttl = ttl;
+	}
+
+	@Override
+	public @Nullable ScanCheckpoint load(String scanId) {
+		String text = operations.opsForValue().get(keyPrefix + scanId);
+		return Objects.isNull(text) ? null : ScanCheckpoint.parse(text);
+	}
+
+	@Override
+	public void save(String scanId, ScanCheckpoint checkpoint) {
+		if (Objects.isNull(ttl)) {
+			operations.opsForValue().set(keyPrefix + scanId, checkpoint.toText());
+		} else {
+			operations.opsForValue().set(keyPrefix + scanId, checkpoint.toText(), ttl);
+		}
+	}
+
+	@Override
+	public void delete(String scanId) {
+		operations.delete(keyPrefix + scanId);
+	}
+}
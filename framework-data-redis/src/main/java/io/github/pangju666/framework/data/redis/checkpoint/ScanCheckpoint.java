@@ -0,0 +1,135 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.redis.checkpoint;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.*;
+
+/**
+ * 可恢复扫描的检查点
+ * <p>
+ * 按节点记录扫描进度：未完成节点记录下一次 {@code SCAN} 使用的游标，已完成节点记录在 {@code completedNodeIds} 中。
+ * 单机模式只有一个节点（{@value io.github.pangju666.framework.data.redis.core.ClusterKeyScan#STANDALONE_NODE_ID}）。
+ * </p>
+ * <p>
+ * 文本格式（见 {@link #toText()}）每行一个节点：{@code nodeId=cursor}，已完成节点为 {@code nodeId=done}。
+ * </p>
+ *
+ * @param cursors          未完成节点的游标（节点 ID → 游标）
+ * @param completedNodeIds 已完成节点的 ID
+ * @author pangju666
+ * @since 2.2.0
+ */
+public record ScanCheckpoint(Map<String, String> cursors, Set<String> completedNodeIds) {
+	/**
+	 * 文本格式中已完成节点的标记
+	 *
+	 * @since 2.2.0
+	 */
+	public static final String COMPLETED_MARKER = "done";
+	/**
+	 * 空检查点（从头扫描）
+	 *
+	 * @since 2.2.0
+	 */
+	public static final ScanCheckpoint EMPTY = new ScanCheckpoint(Collections.emptyMap(), Collections.emptySet());
+
+	/**
+	 * 构造函数
+	 *
+	 * @param cursors          未完成节点的游标
+	 * @param completedNodeIds 已完成节点的 ID
+	 * @throws IllegalArgumentException 当参数为 {@code null} 时
+	 * @since 2.2.0
+	 */
+	public ScanCheckpoint {
+		Assert.notNull(cursors, "cursors 不可为null");
+		Assert.notNull(completedNodeIds, "completedNodeIds 不可为null");
+		cursors = Collections.unmodifiableMap(new LinkedHashMap<>(cursors));
+		completedNodeIds = Collections.unmodifiableSet(new LinkedHashSet<>(completedNodeIds));
+	}
+
+	/**
+	 * 从文本解析检查点
+	 *
+	 * @param text 文本，格式见 {@link #toText()}；为空或空白时返回 {@link #EMPTY}
+	 * @return 检查点
+	 * @throws IllegalArgumentException 当文本格式不合法时
+	 * @since 2.2.0
+	 */
+	public static ScanCheckpoint parse(@Nullable String text) {
+		if (StringUtils.isBlank(text)) {
+			return EMPTY;
+		}
+
+		Map<String, String> cursors = new LinkedHashMap<>();
+		Set<String> completedNodeIds = new LinkedHashSet<>();
+		for (String line : text.split("\n")) {
+			if (StringUtils.isBlank(line)) {
+				continue;
+			}
+			int index = line.indexOf('=');
+			Assert.isTrue(index > 0 && index < line.length() - 1, "检查点格式不合法：" + line);
+			String nodeId = line.substring(0, index).strip();
+			String value = line.substring(index + 1).strip();
+			if (COMPLETED_MARKER.equals(value)) {
+				completedNodeIds.add(nodeId);
+			} else {
+				cursors.put(nodeId, value);
+			}
+		}
+		return new ScanCheckpoint(cursors, completedNodeIds);
+	}
+
+	/**
+	 * 获取节点的游标
+	 *
+	 * @param nodeId 节点 ID
+	 * @return 游标，未记录时返回 {@code "0"}（从头扫描）
+	 * @since 2.2.0
+	 */
+	public String getCursor(String nodeId) {
+		return cursors.getOrDefault(nodeId, "0");
+	}
+
+	/**
+	 * 判断节点是否已扫描完成
+	 *
+	 * @param nodeId 节点 ID
+	 * @return 已完成时返回 {@code true}
+	 * @since 2.2.0
+	 */
+	public boolean isCompleted(String nodeId) {
+		return completedNodeIds.contains(nodeId);
+	}
+
+	/**
+	 * 转换为文本
+	 *
+	 * @return 文本，每行一个节点
+	 * @since 2.2.0
+	 */
+	public String toText() {
+		StringJoiner joiner = new StringJoiner("\n");
+		cursors.forEach((nodeId, cursor) -> joiner.add(nodeId + "=" + cursor));
+		completedNodeIds.forEach(nodeId -> joiner.add(nodeId + "=" + COMPLETED_MARKER));
+		return joiner.toString();
+	}
+}
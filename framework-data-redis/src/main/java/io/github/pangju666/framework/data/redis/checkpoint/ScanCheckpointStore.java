@@ -0,0 +1,55 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.redis.checkpoint;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 可恢复扫描的检查点存储
+ *
+ * @author pangju666
+ * @see io.github.pangju666.framework.data.redis.core.ScanRedisTemplate#resumableScanKeys(String, org.springframework.data.redis.core.ScanOptions, ScanCheckpointStore, int, java.util.function.Predicate)
+ * @since 2.2.0
+ */
+public interface ScanCheckpointStore {
+	/**
+	 * 读取检查点
+	 *
+	 * @param scanId 扫描任务 ID
+	 * @return 检查点，不存在时返回 {@code null}
+	 * @since 2.2.0
+	 */
+	@Nullable
+	ScanCheckpoint load(String scanId);
+
+	/**
+	 * 保存检查点，覆盖已有的检查点
+	 *
+	 * @param scanId     扫描任务 ID
+	 * @param checkpoint 检查点
+	 * @since 2.2.0
+	 */
+	void save(String scanId, ScanCheckpoint checkpoint);
+
+	/**
+	 * 删除检查点，扫描全部完成后调用
+	 *
+	 * @param scanId 扫描任务 ID
+	 * @since 2.2.0
+	 */
+	void delete(String scanId);
+}
@@ -0,0 +1,327 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.redis.core;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.Assert;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 按节点并行的键扫描
+ *
+ * <p>集群模式下对每个主节点分别执行 {@code SCAN}，单机模式下只有一个节点。最多 {@code parallelism} 个节点同时扫描，
+ * 各节点扫描到的键汇入有界缓冲区后以流的形式输出：缓冲区满时扫描线程等待消费，内存中只驻留有限的键。</p>
+ *
+ * <p>进度按节点记录（见 {@link #getProgress()}），节点的键全部从流中读出后该节点才视为完成。中断后可将 {@link #getCompletedNodeIds()} 传给
+ * {@link ScanRedisTemplate#clusterScanKeys(org.springframework.data.redis.core.ScanOptions, Collection)} 跳过已完成的节点，
+ * 未完成的节点从头扫描，其中已交付过的键会再次交付（至少一次）。</p>
+ *
+ * <p>每个实例只能调用一次 {@link #stream()}；使用完毕后必须关闭（或关闭返回的流），关闭后扫描线程在当前页结束后停止并关闭游标与连接。</p>
+ *
+ * @author pangju666
+ * @see ScanRedisTemplate#clusterScanKeys(org.springframework.data.redis.core.ScanOptions)
+ * @since 2.2.0
+ */
+public final class ClusterKeyScan implements AutoCloseable {
+	/**
+	 * 单机模式的节点 ID
+	 *
+	 * @since 2.2.0
+	 */
+	public static final String STANDALONE_NODE_ID = "standalone";
+	/**
+	 * 扫描线程等待缓冲区空间时检查关闭状态的间隔（毫秒）
+	 *
+	 * @since 2.2.0
+	 */
+	private static final long OFFER_TIMEOUT_MILLIS = 100;
+	/**
+	 * 全部节点扫描结束的标记
+	 *
+	 * @since 2.2.0
+	 */
+	private static final Object END = new Object();
+
+	private final List<Node> nodes;
+	private final RedisSerializer<String> keySerializer;
+	private final Executor executor;
+	private final int parallelism;
+	private final BlockingQueue<Object> buffer;
+	private final AtomicBoolean started = new AtomicBoolean(false);
+	private final AtomicReference<Throwable> failure = new AtomicReference<>();
+	private volatile boolean closed = false;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param nodes         待扫描的节点
+	 * @param keySerializer 键序列化器
+	 * @param executor      扫描线程的执行器
+	 * @param parallelism   同时扫描的最大节点数
+	 * @param bufferSize    缓冲区容量（键数）
+	 * @since 2.2.0
+	 */
+	ClusterKeyScan(List<Node> nodes, RedisSerializer<String> keySerializer, Executor executor, int parallelism,
+				   int bufferSize) {
+		this.nodes = List.copyOf(nodes);
+		this.keySerializer = keySerializer;
+		this.executor = executor;
+		this.parallelism = parallelism;
+		this.buffer = new ArrayBlockingQueue<>(bufferSize);
+	}
+
+	/**
+	 * 开始扫描并以流的形式返回各节点扫描到的键（不同节点的键交错输出）。
+	 *
+	 * <p>某个节点扫描失败时停止其余节点的扫描，流在下一次读取时抛出该异常。</p>
+	 *
+	 * @return 键流，关闭时关闭本扫描
+	 * @throws IllegalStateException 当已调用过本方法或已关闭时
+	 * @since 2.2.0
+	 */
+	public Stream<String> stream() {
+		Assert.state(!closed && started.compareAndSet(false, true), "扫描已开始或已关闭");
+
+		Queue<Node> pending = new ConcurrentLinkedQueue<>();
+		for (Node node : nodes) {
+			if (!node.completed) {
+				pending.add(node);
+			}
+		}
+		int workers = Math.max(1, Math.min(parallelism, pending.size()));
+		AtomicInteger remainingWorkers = new AtomicInteger(workers);
+		for (int i = 0; i < workers; i++) {
+			try {
+				executor.execute(() -> scanNodes(pending, remainingWorkers));
+			} catch (RejectedExecutionException e) {
+				close();
+				throw e;
+			}
+		}
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new KeyIterator(),
+				Spliterator.NONNULL), false)
+			.onClose(this::close);
+	}
+
+	/**
+	 * 获取各节点的扫描进度
+	 *
+	 * @return 各节点的扫描进度，按节点顺序排列
+	 * @since 2.2.0
+	 */
+	public List<NodeScanProgress> getProgress() {
+		return nodes.stream()
+			.map(node -> new NodeScanProgress(node.id, node.address, node.scannedKeys.get(), node.completed))
+			.toList();
+	}
+
+	/**
+	 * 获取已扫描完成的节点 ID
+	 *
+	 * @return 已扫描完成的节点 ID
+	 * @since 2.2.0
+	 */
+	public Set<String> getCompletedNodeIds() {
+		Set<String> nodeIds = new LinkedHashSet<>();
+		for (Node node : nodes) {
+			if (node.completed) {
+				nodeIds.add(node.id);
+			}
+		}
+		return nodeIds;
+	}
+
+	/**
+	 * 判断是否所有节点都已扫描完成
+	 *
+	 * @return 所有节点都已扫描完成时返回 {@code true}
+	 * @since 2.2.0
+	 */
+	public boolean isCompleted() {
+		return nodes.stream().allMatch(node -> node.completed);
+	}
+
+	/**
+	 * 停止扫描，扫描线程在当前页结束后关闭游标与连接。
+	 *
+	 * @since 2.2.0
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		buffer.clear();
+	}
+
+	private void scanNodes(Queue<Node> pending, AtomicInteger remainingWorkers) {
+		try {
+			Node node;
+			while (!isStopped() && Objects.nonNull(node = pending.poll())) {
+				scanNode(node);
+			}
+		} catch (RuntimeException | Error e) {
+			failure.compareAndSet(null, e);
+		} finally {
+			if (remainingWorkers.decrementAndGet() == 0) {
+				offer(END);
+			}
+		}
+	}
+
+	private void scanNode(Node node) {
+		try (RedisConnection connection = node.connectionSupplier.get();
+			 Cursor<byte[]> cursor = node.scanner.apply(connection)) {
+			while (!isStopped() && cursor.hasNext()) {
+				String key = keySerializer.deserialize(cursor.next());
+				if (Objects.isNull(key)) {
+					continue;
+				}
+				if (!offer(key)) {
+					return;
+				}
+				node.scannedKeys.incrementAndGet();
+			}
+			// 节点的键全部交付给消费方（读到该标记）后才标记为完成，避免关闭时缓冲区中未交付的键随之丢失
+			if (!isStopped()) {
+				offer(new NodeEnd(node));
+			}
+		}
+	}
+
+	private boolean isStopped() {
+		return closed || Objects.nonNull(failure.get());
+	}
+
+	private boolean offer(Object item) {
+		try {
+			while (!closed && (item == END || Objects.isNull(failure.get()))) {
+				if (buffer.offer(item, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+					return true;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			failure.compareAndSet(null, new IllegalStateException("键扫描被中断", e));
+		}
+		return false;
+	}
+
+	/**
+	 * 待扫描的节点
+	 *
+	 * @since 2.2.0
+	 */
+	static final class Node {
+		private final String id;
+		private final @Nullable String address;
+		private final Supplier<RedisConnection> connectionSupplier;
+		private final Function<RedisConnection, Cursor<byte[]>> scanner;
+		private final AtomicLong scannedKeys = new AtomicLong();
+		private volatile boolean completed;
+
+		/**
+		 * 构造函数
+		 *
+		 * @param id                 节点 ID
+		 * @param address            节点地址，可为 {@code null}
+		 * @param connectionSupplier 获取连接（扫描结束后关闭）
+		 * @param scanner            在连接上打开该节点的键游标
+		 * @param completed          是否已扫描完成（跳过扫描）
+		 * @since 2.2.0
+		 */
+		Node(String id, @Nullable String address, Supplier<RedisConnection> connectionSupplier,
+			 Function<RedisConnection, Cursor<byte[]>> scanner, boolean completed) {
+			this.id = id;
+			this.address = address;
+			this.connectionSupplier = connectionSupplier;
+			this.scanner = scanner;
+			this.completed = completed;
+		}
+	}
+
+	/**
+	 * 单个节点扫描结束的标记，位于该节点的最后一个键之后
+	 *
+	 * @param node 节点
+	 * @since 2.2.0
+	 */
+	private record NodeEnd(Node node) {
+	}
+
+	/**
+	 * 从缓冲区读取键的迭代器，读到结束标记时结束，扫描失败时抛出异常。
+	 */
+	private final class KeyIterator implements Iterator<String> {
+		private String next = null;
+		private boolean finished = false;
+
+		@Override
+		public boolean hasNext() {
+			while (Objects.isNull(next) && !finished) {
+				Throwable error = failure.get();
+				if (Objects.nonNull(error)) {
+					finished = true;
+					close();
+					if (error instanceof Error e) {
+						throw e;
+					}
+					throw (RuntimeException) error;
+				}
+				Object item;
+				try {
+					item = buffer.poll(OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					close();
+					throw new IllegalStateException("键扫描被中断", e);
+				}
+				if (item == END) {
+					finished = Objects.isNull(failure.get());
+				} else if (item instanceof NodeEnd end) {
+					end.node().completed = true;
+				} else if (Objects.nonNull(item)) {
+					next = (String) item;
+				} else {
+					finished = closed;
+				}
+			}
+			return Objects.nonNull(next);
+		}
+
+		@Override
+		public String next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			String key = next;
+			next = null;
+			return key;
+		}
+	}
+}
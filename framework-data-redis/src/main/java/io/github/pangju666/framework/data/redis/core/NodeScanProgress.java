@@ -0,0 +1,32 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.redis.core;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 单个节点的扫描进度
+ *
+ * @param nodeId      节点 ID（集群模式为 Redis Cluster 节点 ID，单机模式为 {@value ClusterKeyScan#STANDALONE_NODE_ID}）
+ * @param address     节点地址（{@code host:port}），单机模式为 {@code null}
+ * @param scannedKeys 已扫描并放入缓冲区的键数（可能尚未被消费）
+ * @param completed   是否已完成（该节点的键已全部从流中读出）
+ * @author pangju666
+ * @since 2.2.0
+ */
+public record NodeScanProgress(String nodeId, @Nullable String address, long scannedKeys, boolean completed) {
+}
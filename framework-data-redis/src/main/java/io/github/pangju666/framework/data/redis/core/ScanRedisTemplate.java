@@ -16,22 +16,49 @@
 
 package io.github.pangju666.framework.data.redis.core;
 
+import io.github.pangju666.framework.data.redis.checkpoint.ScanCheckpoint;
+import io.github.pangju666.framework.data.redis.checkpoint.ScanCheckpointStore;
 import io.github.pangju666.framework.data.redis.lang.RedisConstants;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jspecify.annotations.Nullable;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
 import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
 import org.springframework.data.redis.core.*;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.util.Assert;
 
+import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 扫描增强版 RedisTemplate。
  *
- * <p>用途：围绕 Redis {@code SCAN} 命令提供简洁的扫描 API，聚合游标结果为集合或映射。</p>
+ * <p>用途：围绕 Redis {@code SCAN} 命令提供简洁的扫描 API，聚合游标结果为集合或映射；
+ * 大数据量时可使用流式（{@code stream*}）或按批回调（{@code forEach*Batch}）的方法逐页处理；
+ * 集群模式下可使用 {@link #clusterScanKeys(ScanOptions)} 按主节点并行扫描键；
+ * 长时间运行的扫描任务可使用 {@link #resumableScanKeys(String, ScanOptions, ScanCheckpointStore, int, Predicate)}
+ * 定期保存游标，中断后从检查点继续；批量读写值可使用 {@link #scanAndGet(ScanOptions)}、{@link #multiGetBySlot(Collection)}
+ * 与 {@link #multiSetWithTtl(Map, Duration)}，按哈希槽分批并通过流水线减少往返次数，集群模式下各节点的批次并发执行。</p>
  *
  * <p>行为特性：</p>
  * <ul>
@@ -52,6 +79,105 @@ import java.util.stream.Collectors;
  * @see RedisTemplate
  */
 public class ScanRedisTemplate<V> extends RedisTemplate<String, V> {
+	/**
+	 * 按节点扫描时默认同时扫描的最大节点数。
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int DEFAULT_SCAN_PARALLELISM = 4;
+	/**
+	 * 按节点扫描时默认的缓冲区容量（键数）。
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int DEFAULT_SCAN_BUFFER_SIZE = 10000;
+	/**
+	 * 可恢复扫描默认每隔多少页保存一次检查点。
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int DEFAULT_CHECKPOINT_PAGES = 10;
+	/**
+	 * 批量读写默认每批的键数。
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int DEFAULT_MULTI_BATCH_SIZE = 500;
+	/**
+	 * 批量读取时一次流水线最多包含的 {@code MGET} 数。
+	 *
+	 * @since 2.2.0
+	 */
+	protected static final int MULTI_PIPELINE_BATCHES = 16;
+
+	/**
+	 * 可恢复扫描使用的脚本：从指定游标执行一次 {@code SCAN}，参数依次为游标、匹配模式、建议数量与类型（空字符串表示不设置）。
+	 *
+	 * <p>通过脚本执行是为了在 Lettuce、Jedis 下都能指定起始游标；集群模式下以落在目标节点槽位上的键路由到该节点。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private static final RedisScript<List<Object>> SCAN_PAGE_SCRIPT = (RedisScript) RedisScript.of("""
+		local command = {'SCAN', ARGV[1]}
+		if ARGV[2] ~= '' then
+			table.insert(command, 'MATCH')
+			table.insert(command, ARGV[2])
+		end
+		if ARGV[3] ~= '' then
+			table.insert(command, 'COUNT')
+			table.insert(command, ARGV[3])
+		end
+		if ARGV[4] ~= '' then
+			table.insert(command, 'TYPE')
+			table.insert(command, ARGV[4])
+		end
+		return redis.call(unpack(command))
+		""", List.class);
+
+	/**
+	 * 集群模式下批量设置值使用的脚本：{@code ARGV[1]} 为过期毫秒数（{@code 0} 表示不过期），其余参数依次为各键的值。
+	 *
+	 * <p>同一批的键位于同一哈希槽，脚本在该槽所在节点上一次执行全部 {@code SET}。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	private static final RedisScript<Long> MULTI_SET_SCRIPT = RedisScript.of("""
+		for i = 1, #KEYS do
+			if ARGV[1] == '0' then
+				redis.call('SET', KEYS[i], ARGV[i + 1])
+			else
+				redis.call('SET', KEYS[i], ARGV[i + 1], 'PX', ARGV[1])
+			end
+		end
+		return #KEYS
+		""", Long.class);
+
+	/**
+	 * 按节点扫描的执行器，为 {@code null} 时使用默认执行器（优先虚拟线程）。
+	 *
+	 * @since 2.2.0
+	 */
+	private Executor scanExecutor = null;
+	/**
+	 * 按节点扫描时同时扫描的最大节点数。
+	 *
+	 * @since 2.2.0
+	 */
+	private int scanParallelism = DEFAULT_SCAN_PARALLELISM;
+	/**
+	 * 按节点扫描时的缓冲区容量（键数）。
+	 *
+	 * @since 2.2.0
+	 */
+	private int scanBufferSize = DEFAULT_SCAN_BUFFER_SIZE;
+	/**
+	 * 集群连接是否支持流水线（Jedis 集群连接不支持），首次执行失败后改为逐条发送。
+	 *
+	 * @since 2.2.0
+	 */
+	private volatile boolean clusterPipelineSupported = true;
+
 	/**
 	 * 无参构造。
 	 *
@@ -87,6 +213,40 @@ public class ScanRedisTemplate<V> extends RedisTemplate<String, V> {
 		// 保持哈希键序列化器为 String，避免被外部修改。
 	}
 
+	/**
+	 * 设置按节点扫描（见 {@link #clusterScanKeys(ScanOptions)}）及集群模式下按节点批量读写的执行器。
+	 *
+	 * @param executor 执行器，为 {@code null} 时使用默认执行器（JDK 21+ 使用虚拟线程，否则使用守护线程池）
+	 * @since 2.2.0
+	 */
+	public void setScanExecutor(@Nullable Executor executor) {
+		this.scanExecutor = executor;
+	}
+
+	/**
+	 * 设置按节点扫描（以及集群模式下按节点批量读写）时同时执行的最大节点数，每个扫描中的节点占用一个连接。
+	 *
+	 * @param parallelism 最大节点数，必须大于 0
+	 * @throws IllegalArgumentException 当 {@code parallelism} 小于等于 0
+	 * @since 2.2.0
+	 */
+	public void setScanParallelism(int parallelism) {
+		Assert.isTrue(parallelism > 0, "parallelism 必须大于0");
+		this.scanParallelism = parallelism;
+	}
+
+	/**
+	 * 设置按节点扫描时的缓冲区容量，缓冲区满时扫描线程等待消费。
+	 *
+	 * @param bufferSize 缓冲区容量（键数），必须大于 0
+	 * @throws IllegalArgumentException 当 {@code bufferSize} 小于等于 0
+	 * @since 2.2.0
+	 */
+	public void setScanBufferSize(int bufferSize) {
+		Assert.isTrue(bufferSize > 0, "bufferSize 必须大于0");
+		this.scanBufferSize = bufferSize;
+	}
+
 	/**
 	 * 按类型扫描所有键。
 	 *
@@ -128,6 +288,158 @@ public class ScanRedisTemplate<V> extends RedisTemplate<String, V> {
 		}
 	}
 
+	/**
+	 * 按节点并行扫描键（集群感知）。
+	 *
+	 * <p>该方法等价于调用：{@code clusterScanKeys(scanOptions, null)}。</p>
+	 *
+	 * @param scanOptions 扫描选项；不可为 {@code null}
+	 * @return 尚未开始的扫描，通过 {@link ClusterKeyScan#stream()} 开始并获取键流
+	 * @throws IllegalArgumentException 当 {@code scanOptions} 为 {@code null}
+	 * @see #clusterScanKeys(ScanOptions, Collection)
+	 * @since 2.2.0
+	 */
+	public ClusterKeyScan clusterScanKeys(ScanOptions scanOptions) {
+		return clusterScanKeys(scanOptions, null);
+	}
+
+	/**
+	 * 按节点并行扫描键（集群感知）。
+	 *
+	 * <p>连接工厂为集群模式时，对每个主节点分别执行 {@code SCAN}（{@link #scanKeys(ScanOptions)} 只能访问单个连接），
+	 * 最多 {@link #setScanParallelism(int) scanParallelism} 个节点并行扫描，结果合并为一个流；单机模式下只有一个节点。
+	 * 节点列表在调用本方法时确定，扫描期间发生故障转移或重新分片时可能遗漏或重复部分键。</p>
+	 *
+	 * @param scanOptions      扫描选项；不可为 {@code null}
+	 * @param completedNodeIds 已扫描完成的节点 ID（来自上次扫描的 {@link ClusterKeyScan#getCompletedNodeIds()}），
+	 *                         这些节点不再扫描；为 {@code null} 时扫描全部节点
+	 * @return 尚未开始的扫描，通过 {@link ClusterKeyScan#stream()} 开始并获取键流
+	 * @throws IllegalArgumentException 当 {@code scanOptions} 为 {@code null}
+	 * @since 2.2.0
+	 */
+	public ClusterKeyScan clusterScanKeys(ScanOptions scanOptions, @Nullable Collection<String> completedNodeIds) {
+		Assert.notNull(scanOptions, "scanOptions 不可为null");
+
+		Set<String> skipNodeIds = Objects.isNull(completedNodeIds) ? Collections.emptySet() : Set.copyOf(completedNodeIds);
+		RedisConnectionFactory connectionFactory = getRequiredConnectionFactory();
+		List<ClusterKeyScan.Node> nodes = new ArrayList<>();
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			if (connection instanceof RedisClusterConnection clusterConnection) {
+				for (RedisClusterNode node : clusterConnection.clusterGetNodes()) {
+					if (node.isMaster()) {
+						nodes.add(new ClusterKeyScan.Node(node.getId(), node.asString(),
+							connectionFactory::getClusterConnection,
+							nodeConnection -> ((RedisClusterConnection) nodeConnection).scan(node, scanOptions),
+							skipNodeIds.contains(node.getId())));
+					}
+				}
+			} else {
+				nodes.add(new ClusterKeyScan.Node(ClusterKeyScan.STANDALONE_NODE_ID, null,
+					connectionFactory::getConnection,
+					nodeConnection -> nodeConnection.keyCommands().scan(scanOptions),
+					skipNodeIds.contains(ClusterKeyScan.STANDALONE_NODE_ID)));
+			}
+		}
+		Executor executor = Objects.nonNull(scanExecutor) ? scanExecutor : DefaultScanExecutor.INSTANCE;
+		return new ClusterKeyScan(nodes, RedisSerializer.string(), executor, scanParallelism, scanBufferSize);
+	}
+
+	/**
+	 * 可恢复扫描键，每 {@value #DEFAULT_CHECKPOINT_PAGES} 页保存一次检查点。
+	 *
+	 * <p>该方法等价于调用：{@code resumableScanKeys(scanId, scanOptions, checkpointStore, DEFAULT_CHECKPOINT_PAGES, action)}。</p>
+	 *
+	 * @param scanId          扫描任务 ID，用于定位检查点；不可为空或空白
+	 * @param scanOptions     扫描选项；不可为 {@code null}
+	 * @param checkpointStore 检查点存储；不可为 {@code null}
+	 * @param action          页回调，参数为非空的键列表，返回是否继续扫描
+	 * @return 本次调用已回调的键总数
+	 * @throws IllegalArgumentException 当参数不合法时
+	 * @see #resumableScanKeys(String, ScanOptions, ScanCheckpointStore, int, Predicate)
+	 * @since 2.2.0
+	 */
+	public long resumableScanKeys(String scanId, ScanOptions scanOptions, ScanCheckpointStore checkpointStore,
+								  Predicate<List<String>> action) {
+		return resumableScanKeys(scanId, scanOptions, checkpointStore, DEFAULT_CHECKPOINT_PAGES, action);
+	}
+
+	/**
+	 * 可恢复扫描键（集群感知）。
+	 *
+	 * <p>从 {@code checkpointStore} 中 {@code scanId} 对应的检查点继续扫描（不存在时从头开始），每页 {@code SCAN} 结果回调一次
+	 * {@code action}，每 {@code checkpointPages} 页以及每个节点扫描完成时保存一次检查点；全部节点扫描完成后删除检查点。
+	 * 回调返回 {@code false} 时保存当前位置并停止，之后以相同的 {@code scanId} 调用即可继续。</p>
+	 *
+	 * <p>集群模式下按主节点依次扫描，检查点中分别记录每个节点的游标；单机模式下只有一个节点
+	 * （{@value ClusterKeyScan#STANDALONE_NODE_ID}）。恢复时应使用与中断前相同的 {@code scanOptions}。</p>
+	 *
+	 * <p>投递语义为至少一次（at-least-once）：</p>
+	 * <ul>
+	 *   <li>进程在两次检查点之间退出时，最近一次检查点之后已回调的页会在恢复后再次回调，{@code action} 应可重复执行。</li>
+	 *   <li>{@code SCAN} 本身只保证扫描期间一直存在的键至少返回一次，同一个键可能出现在多页中；扫描期间新增或删除的键可能返回也可能不返回。</li>
+	 *   <li>节点故障转移后主节点 ID 变化，该节点会从头扫描。</li>
+	 * </ul>
+	 *
+	 * @param scanId          扫描任务 ID，用于定位检查点；不可为空或空白
+	 * @param scanOptions     扫描选项；不可为 {@code null}
+	 * @param checkpointStore 检查点存储；不可为 {@code null}
+	 * @param checkpointPages 每隔多少页保存一次检查点，必须大于 0
+	 * @param action          页回调，参数为非空的键列表，返回是否继续扫描
+	 * @return 本次调用已回调的键总数
+	 * @throws IllegalArgumentException 当 {@code scanId} 为空或空白，{@code scanOptions}、{@code checkpointStore}、{@code action}
+	 *                                  为 {@code null} 或 {@code checkpointPages} 小于等于 0
+	 * @since 2.2.0
+	 */
+	public long resumableScanKeys(String scanId, ScanOptions scanOptions, ScanCheckpointStore checkpointStore,
+								  int checkpointPages, Predicate<List<String>> action) {
+		Assert.hasText(scanId, "scanId 不可为空");
+		Assert.notNull(scanOptions, "scanOptions 不可为null");
+		Assert.notNull(checkpointStore, "checkpointStore 不可为null");
+		Assert.isTrue(checkpointPages > 0, "checkpointPages 必须大于0");
+		Assert.notNull(action, "action 不可为null");
+
+		ScanCheckpoint checkpoint = ObjectUtils.getIfNull(checkpointStore.load(scanId), ScanCheckpoint.EMPTY);
+		Map<String, String> cursors = new LinkedHashMap<>(checkpoint.cursors());
+		Set<String> completedNodeIds = new LinkedHashSet<>(checkpoint.completedNodeIds());
+
+		long total = 0;
+		int pages = 0;
+		for (Map.Entry<String, List<String>> node : getScanNodeRoutingKeys().entrySet()) {
+			String nodeId = node.getKey();
+			if (completedNodeIds.contains(nodeId)) {
+				continue;
+			}
+
+			String cursor = cursors.getOrDefault(nodeId, "0");
+			do {
+				ScanPage page = scanPage(node.getValue(), cursor, scanOptions);
+				cursor = page.cursor();
+				boolean proceed = true;
+				if (!page.keys().isEmpty()) {
+					total += page.keys().size();
+					proceed = action.test(page.keys());
+				}
+
+				boolean completed = "0".equals(cursor);
+				if (completed) {
+					cursors.remove(nodeId);
+					completedNodeIds.add(nodeId);
+				} else {
+					cursors.put(nodeId, cursor);
+				}
+				if (!proceed || completed || ++pages >= checkpointPages) {
+					checkpointStore.save(scanId, new ScanCheckpoint(cursors, completedNodeIds));
+					pages = 0;
+				}
+				if (!proceed) {
+					return total;
+				}
+			} while (!"0".equals(cursor));
+		}
+		checkpointStore.delete(scanId);
+		return total;
+	}
+
 	/**
 	 * 按后缀扫描所有键。
 	 *
@@ -253,9 +565,7 @@ public class ScanRedisTemplate<V> extends RedisTemplate<String, V> {
 	public SortedSet<ZSetOperations.TypedTuple<V>> scanZSet(String key, ScanOptions scanOptions) {
 		Assert.hasText(key, "key 不可为空");
 		Assert.notNull(scanOptions, "scanOptions 不可为null");
-		if (StringUtils.isNotBlank(scanOptions.getPattern()) && !getValueSerializer().canSerialize(java.lang.String.class)) {
-			throw new UnsupportedOperationException();
-		}
+		checkValuePattern(scanOptions);
 
 		try (Cursor<ZSetOperations.TypedTuple<V>> cursor = super.opsForZSet().scan(key, scanOptions)) {
 			return cursor.stream()
@@ -279,9 +589,7 @@ public class ScanRedisTemplate<V> extends RedisTemplate<String, V> {
 	public Set<V> scanSet(String key, ScanOptions scanOptions) {
 		Assert.hasText(key, "key 不可为空");
 		Assert.notNull(scanOptions, "scanOptions 不可为null");
-		if (StringUtils.isNotBlank(scanOptions.getPattern()) && !getValueSerializer().canSerialize(String.class)) {
-			throw new UnsupportedOperationException();
-		}
+		checkValuePattern(scanOptions);
 
 		try (Cursor<V> cursor = super.opsForSet().scan(key, scanOptions)) {
 			return cursor.stream().collect(Collectors.toSet());
@@ -367,6 +675,381 @@ public class ScanRedisTemplate<V> extends RedisTemplate<String, V> {
 		return scanHash(key, scanOptions);
 	}
 
+	/**
+	 * 以流的形式扫描键。
+	 *
+	 * <p>与 {@link #scanKeys(ScanOptions)} 不同，键在游标迭代时逐页加载，内存中只驻留当前页；可使用 {@code limit}、
+	 * {@code takeWhile} 等操作提前结束扫描。流持有一个 Redis 连接直到关闭，使用完毕后必须关闭（推荐使用 try-with-resources）。</p>
+	 * <p>同一个键可能被返回多次（扫描期间发生 rehash 时），需要去重时由调用方处理。</p>
+	 *
+	 * @param scanOptions 扫描选项；不可为 {@code null}，可通过 {@code count} 设置每页的建议数量
+	 * @return 键流，关闭时关闭游标
+	 * @throws IllegalArgumentException 当 {@code scanOptions} 为 {@code null}
+	 * @since 2.2.0
+	 */
+	public Stream<String> streamKeys(ScanOptions scanOptions) {
+		Assert.notNull(scanOptions, "scanOptions 不可为null");
+
+		return super.scan(scanOptions).stream();
+	}
+
+	/**
+	 * 以流的形式扫描 Set 的元素，加载与关闭方式同 {@link #streamKeys(ScanOptions)}。
+	 *
+	 * @param key         Set 的键；不可为空或空白
+	 * @param scanOptions 扫描选项；不可为 {@code null}
+	 * @return 元素流，关闭时关闭游标
+	 * @throws IllegalArgumentException      当 {@code key} 为空或空白，或 {@code scanOptions} 为 {@code null}
+	 * @throws UnsupportedOperationException 当提供模式且 value 序列化器不支持 {@code String} 序列化
+	 * @since 2.2.0
+	 */
+	public Stream<V> streamSet(String key, ScanOptions scanOptions) {
+		Assert.hasText(key, "key 不可为空");
+		Assert.notNull(scanOptions, "scanOptions 不可为null");
+		checkValuePattern(scanOptions);
+
+		return super.opsForSet().scan(key, scanOptions).stream();
+	}
+
+	/**
+	 * 以流的形式扫描 ZSet 的元素，加载与关闭方式同 {@link #streamKeys(ScanOptions)}。
+	 *
+	 * <p>元素按服务器返回的顺序输出，不进行排序。</p>
+	 *
+	 * @param key         ZSet 的键；不可为空或空白
+	 * @param scanOptions 扫描选项；不可为 {@code null}
+	 * @return 元素流，关闭时关闭游标
+	 * @throws IllegalArgumentException      当 {@code key} 为空或空白，或 {@code scanOptions} 为 {@code null}
+	 * @throws UnsupportedOperationException 当提供模式且 value 序列化器不支持 {@code String} 序列化
+	 * @since 2.2.0
+	 */
+	public Stream<ZSetOperations.TypedTuple<V>> streamZSet(String key, ScanOptions scanOptions) {
+		Assert.hasText(key, "key 不可为空");
+		Assert.notNull(scanOptions, "scanOptions 不可为null");
+		checkValuePattern(scanOptions);
+
+		return super.opsForZSet().scan(key, scanOptions).stream();
+	}
+
+	/**
+	 * 以流的形式扫描 Hash 的键值对，加载与关闭方式同 {@link #streamKeys(ScanOptions)}。
+	 *
+	 * <p>匹配模式由服务器端过滤，且仅作用于哈希字段名（hash key/field）。</p>
+	 *
+	 * @param key         Hash 的键；不可为空或空白
+	 * @param scanOptions 扫描选项；不可为 {@code null}
+	 * @return 键值对流，关闭时关闭游标
+	 * @throws IllegalArgumentException 当 {@code key} 为空或空白，或 {@code scanOptions} 为 {@code null}
+	 * @since 2.2.0
+	 */
+	public Stream<Map.Entry<String, V>> streamHash(String key, ScanOptions scanOptions) {
+		Assert.hasText(key, "key 不可为空");
+		Assert.notNull(scanOptions, "scanOptions 不可为null");
+
+		HashOperations<String, String, V> hashOperations = super.opsForHash();
+		return hashOperations.scan(key, scanOptions).stream();
+	}
+
+	/**
+	 * 按批扫描键。
+	 *
+	 * <p>每累积 {@code batchSize} 个键回调一次 {@code action}（最后一批可能不足），回调返回 {@code false} 时立即停止扫描；
+	 * 方法返回前关闭游标。{@code scanOptions} 未设置 {@code count} 时使用 {@code batchSize} 作为每页的建议数量。</p>
+	 *
+	 * @param scanOptions 扫描选项；不可为 {@code null}
+	 * @param batchSize   每批的键数，必须大于 0
+	 * @param action      批次回调，参数为非空的键列表，返回是否继续扫描
+	 * @return 已回调的键总数
+	 * @throws IllegalArgumentException 当 {@code scanOptions}、{@code action} 为 {@code null} 或 {@code batchSize} 小于等于 0
+	 * @since 2.2.0
+	 */
+	public long forEachKeyBatch(ScanOptions scanOptions, int batchSize, Predicate<List<String>> action) {
+		Assert.notNull(scanOptions, "scanOptions 不可为null");
+		Assert.isTrue(batchSize > 0, "batchSize 必须大于0");
+		Assert.notNull(action, "action 不可为null");
+
+		return forEachBatch(super.scan(withCountHint(scanOptions, batchSize)), batchSize, action);
+	}
+
+	/**
+	 * 按批扫描 Set 的元素，回调与终止方式同 {@link #forEachKeyBatch(ScanOptions, int, Predicate)}。
+	 *
+	 * @param key         Set 的键；不可为空或空白
+	 * @param scanOptions 扫描选项；不可为 {@code null}
+	 * @param batchSize   每批的元素数，必须大于 0
+	 * @param action      批次回调，参数为非空的元素列表，返回是否继续扫描
+	 * @return 已回调的元素总数
+	 * @throws IllegalArgumentException      当 {@code key} 为空或空白，{@code scanOptions}、{@code action} 为 {@code null}
+	 *                                       或 {@code batchSize} 小于等于 0
+	 * @throws UnsupportedOperationException 当提供模式且 value 序列化器不支持 {@code String} 序列化
+	 * @since 2.2.0
+	 */
+	public long forEachSetBatch(String key, ScanOptions scanOptions, int batchSize, Predicate<List<V>> action) {
+		Assert.hasText(key, "key 不可为空");
+		Assert.notNull(scanOptions, "scanOptions 不可为null");
+		Assert.isTrue(batchSize > 0, "batchSize 必须大于0");
+		Assert.notNull(action, "action 不可为null");
+		checkValuePattern(scanOptions);
+
+		return forEachBatch(super.opsForSet().scan(key, withCountHint(scanOptions, batchSize)), batchSize, action);
+	}
+
+	/**
+	 * 按批扫描 ZSet 的元素，回调与终止方式同 {@link #forEachKeyBatch(ScanOptions, int, Predicate)}。
+	 *
+	 * <p>元素按服务器返回的顺序输出，不进行排序。</p>
+	 *
+	 * @param key         ZSet 的键；不可为空或空白
+	 * @param scanOptions 扫描选项；不可为 {@code null}
+	 * @param batchSize   每批的元素数，必须大于 0
+	 * @param action      批次回调，参数为非空的元素列表，返回是否继续扫描
+	 * @return 已回调的元素总数
+	 * @throws IllegalArgumentException      当 {@code key} 为空或空白，{@code scanOptions}、{@code action} 为 {@code null}
+	 *                                       或 {@code batchSize} 小于等于 0
+	 * @throws UnsupportedOperationException 当提供模式且 value 序列化器不支持 {@code String} 序列化
+	 * @since 2.2.0
+	 */
+	public long forEachZSetBatch(String key, ScanOptions scanOptions, int batchSize,
+								 Predicate<List<ZSetOperations.TypedTuple<V>>> action) {
+		Assert.hasText(key, "key 不可为空");
+		Assert.notNull(scanOptions, "scanOptions 不可为null");
+		Assert.isTrue(batchSize > 0, "batchSize 必须大于0");
+		Assert.notNull(action, "action 不可为null");
+		checkValuePattern(scanOptions);
+
+		return forEachBatch(super.opsForZSet().scan(key, withCountHint(scanOptions, batchSize)), batchSize, action);
+	}
+
+	/**
+	 * 按批扫描 Hash 的键值对，回调与终止方式同 {@link #forEachKeyBatch(ScanOptions, int, Predicate)}。
+	 *
+	 * <p>匹配模式由服务器端过滤，且仅作用于哈希字段名（hash key/field）。</p>
+	 *
+	 * @param key         Hash 的键；不可为空或空白
+	 * @param scanOptions 扫描选项；不可为 {@code null}
+	 * @param batchSize   每批的键值对数，必须大于 0
+	 * @param action      批次回调，参数为非空的键值对列表，返回是否继续扫描
+	 * @return 已回调的键值对总数
+	 * @throws IllegalArgumentException 当 {@code key} 为空或空白，{@code scanOptions}、{@code action} 为 {@code null}
+	 *                                  或 {@code batchSize} 小于等于 0
+	 * @since 2.2.0
+	 */
+	public long forEachHashBatch(String key, ScanOptions scanOptions, int batchSize,
+								 Predicate<List<Map.Entry<String, V>>> action) {
+		Assert.hasText(key, "key 不可为空");
+		Assert.notNull(scanOptions, "scanOptions 不可为null");
+		Assert.isTrue(batchSize > 0, "batchSize 必须大于0");
+		Assert.notNull(action, "action 不可为null");
+
+		HashOperations<String, String, V> hashOperations = super.opsForHash();
+		return forEachBatch(hashOperations.scan(key, withCountHint(scanOptions, batchSize)), batchSize, action);
+	}
+
+	/**
+	 * 扫描键并批量获取值（使用默认批大小）。
+	 *
+	 * <p>该方法等价于调用：{@code scanAndGet(scanOptions, DEFAULT_MULTI_BATCH_SIZE)}。</p>
+	 *
+	 * @param scanOptions 扫描选项；不可为 {@code null}
+	 * @return 键 → 值；不存在或不是 String 类型的键不包含在内
+	 * @throws IllegalArgumentException 当 {@code scanOptions} 为 {@code null}
+	 * @see #scanAndGet(ScanOptions, int)
+	 * @since 2.2.0
+	 */
+	public Map<String, V> scanAndGet(ScanOptions scanOptions) {
+		return scanAndGet(scanOptions, DEFAULT_MULTI_BATCH_SIZE);
+	}
+
+	/**
+	 * 扫描键并批量获取值。
+	 *
+	 * <p>边扫描边获取：每累积 {@code batchSize * }{@value #MULTI_PIPELINE_BATCHES} 个键调用一次
+	 * {@link #multiGetBySlot(Collection, int)}，集群模式下通过 {@link #clusterScanKeys(ScanOptions)} 扫描全部主节点。
+	 * 只获取 String 类型的值，建议在 {@code scanOptions} 中设置类型过滤 {@link DataType#STRING}。</p>
+	 *
+	 * @param scanOptions 扫描选项；不可为 {@code null}
+	 * @param batchSize   每条 {@code MGET} 的键数（同时作为 {@code SCAN} 的建议数量），必须大于 0
+	 * @return 键 → 值；不存在或不是 String 类型的键不包含在内
+	 * @throws IllegalArgumentException 当 {@code scanOptions} 为 {@code null} 或 {@code batchSize} 小于等于 0
+	 * @since 2.2.0
+	 */
+	public Map<String, V> scanAndGet(ScanOptions scanOptions, int batchSize) {
+		Assert.notNull(scanOptions, "scanOptions 不可为null");
+		Assert.isTrue(batchSize > 0, "batchSize 必须大于0");
+
+		ScanOptions options = withCountHint(scanOptions, batchSize);
+		int bufferSize = batchSize * MULTI_PIPELINE_BATCHES;
+		Map<String, V> result = new LinkedHashMap<>();
+		try (Stream<String> keys = isClusterMode() ? clusterScanKeys(options).stream() : streamKeys(options)) {
+			List<String> buffer = new ArrayList<>(bufferSize);
+			Iterator<String> iterator = keys.iterator();
+			while (iterator.hasNext()) {
+				buffer.add(iterator.next());
+				if (buffer.size() >= bufferSize) {
+					result.putAll(multiGetBySlot(buffer, batchSize));
+					buffer = new ArrayList<>(bufferSize);
+				}
+			}
+			if (!buffer.isEmpty()) {
+				result.putAll(multiGetBySlot(buffer, batchSize));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 按哈希槽分批获取值（使用默认批大小）。
+	 *
+	 * <p>该方法等价于调用：{@code multiGetBySlot(keys, DEFAULT_MULTI_BATCH_SIZE)}。</p>
+	 *
+	 * @param keys 键集合；不可为 {@code null}
+	 * @return 键 → 值，按 {@code keys} 的迭代顺序排列；不存在或不是 String 类型的键不包含在内
+	 * @throws IllegalArgumentException 当 {@code keys} 为 {@code null}
+	 * @see #multiGetBySlot(Collection, int)
+	 * @since 2.2.0
+	 */
+	public Map<String, V> multiGetBySlot(Collection<String> keys) {
+		return multiGetBySlot(keys, DEFAULT_MULTI_BATCH_SIZE);
+	}
+
+	/**
+	 * 按哈希槽分批获取值。
+	 *
+	 * <p>键按 {@code batchSize} 分批，每批一条 {@code MGET}：</p>
+	 * <ul>
+	 *   <li>单机/哨兵模式：每 {@value #MULTI_PIPELINE_BATCHES} 条 {@code MGET} 通过一次流水线发送。</li>
+	 *   <li>集群模式：先按哈希槽分组再分批，每条 {@code MGET} 只涉及一个槽位（不会因跨槽失败或被拆分为逐键请求）；
+	 *   批次按所属主节点分组，每个节点每 {@value #MULTI_PIPELINE_BATCHES} 条 {@code MGET} 通过一次流水线发送
+	 *   （连接不支持集群流水线时逐条发送），最多 {@link #setScanParallelism(int) scanParallelism} 个节点在
+	 *   {@link #setScanExecutor(Executor) scanExecutor} 上并发执行。</li>
+	 * </ul>
+	 * <p>值在调用线程上使用当前值序列化器反序列化，不占用客户端的 I/O 线程。</p>
+	 *
+	 * @param keys      键集合；不可为 {@code null}
+	 * @param batchSize 每条 {@code MGET} 的键数，必须大于 0
+	 * @return 键 → 值，按 {@code keys} 的迭代顺序排列；不存在或不是 String 类型的键不包含在内
+	 * @throws IllegalArgumentException 当 {@code keys} 为 {@code null} 或 {@code batchSize} 小于等于 0
+	 * @since 2.2.0
+	 */
+	@SuppressWarnings("unchecked")
+	public Map<String, V> multiGetBySlot(Collection<String> keys, int batchSize) {
+		Assert.notNull(keys, "keys 不可为null");
+		Assert.isTrue(batchSize > 0, "batchSize 必须大于0");
+
+		if (keys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		boolean cluster = isClusterMode();
+		List<List<String>> batches = partitionKeys(keys, batchSize, cluster);
+		Map<String, byte[]> rawValues;
+		if (cluster) {
+			rawValues = new HashMap<>(keys.size());
+			for (Map<String, byte[]> nodeValues : executeByNode(batches, this::clusterMultiGet)) {
+				rawValues.putAll(nodeValues);
+			}
+		} else {
+			rawValues = pipelinedMultiGet(batches);
+		}
+
+		RedisSerializer<V> valueSerializer = (RedisSerializer<V>) getValueSerializer();
+		Map<String, V> result = new LinkedHashMap<>(rawValues.size());
+		for (String key : keys) {
+			byte[] rawValue = rawValues.get(key);
+			if (Objects.nonNull(rawValue)) {
+				result.put(key, Objects.isNull(valueSerializer) ? (V) rawValue : valueSerializer.deserialize(rawValue));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 按哈希槽分批设置值（使用默认批大小）。
+	 *
+	 * <p>该方法等价于调用：{@code multiSetWithTtl(values, ttl, DEFAULT_MULTI_BATCH_SIZE)}。</p>
+	 *
+	 * @param values 键 → 值；不可为 {@code null}，值不可为 {@code null}
+	 * @param ttl    过期时间，为 {@code null} 时不过期
+	 * @throws IllegalArgumentException 当参数不合法时
+	 * @see #multiSetWithTtl(Map, Duration, int)
+	 * @since 2.2.0
+	 */
+	public void multiSetWithTtl(Map<String, ? extends V> values, @Nullable Duration ttl) {
+		multiSetWithTtl(values, ttl, DEFAULT_MULTI_BATCH_SIZE);
+	}
+
+	/**
+	 * 按哈希槽分批设置值，并统一设置过期时间（{@code MSET} 不支持过期时间）。
+	 *
+	 * <ul>
+	 *   <li>单机/哨兵模式：每 {@code batchSize} 条 {@code SET}（带 {@code PX}）通过一次流水线发送。</li>
+	 *   <li>集群模式：先按哈希槽分组再分批，每批通过一次脚本调用在对应节点上执行全部 {@code SET}；批次按所属主节点分组，
+	 *   最多 {@link #setScanParallelism(int) scanParallelism} 个节点在 {@link #setScanExecutor(Executor) scanExecutor} 上并发执行，
+	 *   同一节点的批次依次执行。</li>
+	 * </ul>
+	 * <p>值在调用线程上使用当前值序列化器序列化。批次之间不保证原子性，执行失败时已发送的批次不会回滚。</p>
+	 *
+	 * @param values    键 → 值；不可为 {@code null}，值不可为 {@code null}
+	 * @param ttl       过期时间，为 {@code null} 时不过期
+	 * @param batchSize 每批的键数，必须大于 0
+	 * @throws IllegalArgumentException 当 {@code values} 为 {@code null}、{@code ttl} 不为正数或 {@code batchSize} 小于等于 0
+	 * @since 2.2.0
+	 */
+	public void multiSetWithTtl(Map<String, ? extends V> values, @Nullable Duration ttl, int batchSize) {
+		Assert.notNull(values, "values 不可为null");
+		Assert.isTrue(Objects.isNull(ttl) || (!ttl.isNegative() && !ttl.isZero()), "ttl 必须为正数");
+		Assert.isTrue(batchSize > 0, "batchSize 必须大于0");
+
+		if (values.isEmpty()) {
+			return;
+		}
+
+		boolean cluster = isClusterMode();
+		List<List<String>> batches = partitionKeys(values.keySet(), batchSize, cluster);
+		if (cluster) {
+			byte[] rawTtl = RedisSerializer.string().serialize(Objects.isNull(ttl) ? "0" : String.valueOf(ttl.toMillis()));
+			// 值在调用线程上序列化，节点任务只负责发送
+			Map<List<String>, Object[]> argsByBatch = new IdentityHashMap<>(batches.size());
+			for (List<String> batch : batches) {
+				Object[] args = new Object[batch.size() + 1];
+				args[0] = rawTtl;
+				for (int i = 0; i < batch.size(); i++) {
+					args[i + 1] = rawValue(values.get(batch.get(i)));
+				}
+				argsByBatch.put(batch, args);
+			}
+			executeByNode(batches, nodeBatches -> {
+				for (List<String> batch : nodeBatches) {
+					// 参数已序列化为 byte[]，不再使用参数序列化器
+					execute(MULTI_SET_SCRIPT, (RedisSerializer<?>) null, (RedisSerializer<Long>) null, batch,
+						argsByBatch.get(batch));
+				}
+				return null;
+			});
+			return;
+		}
+
+		for (List<String> batch : batches) {
+			byte[][] rawKeys = rawKeys(batch);
+			byte[][] rawValues = new byte[batch.size()][];
+			for (int i = 0; i < batch.size(); i++) {
+				rawValues[i] = rawValue(values.get(batch.get(i)));
+			}
+
+			executePipelined((RedisCallback<Object>) connection -> {
+				for (int i = 0; i < rawKeys.length; i++) {
+					if (Objects.isNull(ttl)) {
+						connection.stringCommands().set(rawKeys[i], rawValues[i]);
+					} else {
+						connection.stringCommands().set(rawKeys[i], rawValues[i], Expiration.from(ttl),
+							RedisStringCommands.SetOption.upsert());
+					}
+				}
+				return null;
+			}, null);
+		}
+	}
+
 	/**
 	 * 构建扫描选项。
 	 *
@@ -390,4 +1073,385 @@ public class ScanRedisTemplate<V> extends RedisTemplate<String, V> {
 		}
 		return builder.build();
 	}
+
+	/**
+	 * 按批消费游标，结束或回调返回 {@code false} 时关闭游标。
+	 *
+	 * @param cursor    游标
+	 * @param batchSize 批大小
+	 * @param action    批次回调
+	 * @param <T>       元素类型
+	 * @return 已回调的元素总数
+	 * @since 2.2.0
+	 */
+	protected <T> long forEachBatch(Cursor<T> cursor, int batchSize, Predicate<List<T>> action) {
+		try (cursor) {
+			long total = 0;
+			List<T> batch = new ArrayList<>(batchSize);
+			while (cursor.hasNext()) {
+				batch.add(cursor.next());
+				if (batch.size() == batchSize) {
+					total += batch.size();
+					if (!action.test(batch)) {
+						return total;
+					}
+					batch = new ArrayList<>(batchSize);
+				}
+			}
+			if (!batch.isEmpty()) {
+				total += batch.size();
+				action.test(batch);
+			}
+			return total;
+		}
+	}
+
+	/**
+	 * 未设置 {@code count} 时以给定数量作为每页的建议数量，保留原有的匹配模式与类型过滤。
+	 *
+	 * @param scanOptions 扫描选项
+	 * @param count       建议数量
+	 * @return 扫描选项
+	 * @since 2.2.0
+	 */
+	protected ScanOptions withCountHint(ScanOptions scanOptions, long count) {
+		if (Objects.nonNull(scanOptions.getCount())) {
+			return scanOptions;
+		}
+		ScanOptions.ScanOptionsBuilder builder = ScanOptions.scanOptions().count(count);
+		if (Objects.nonNull(scanOptions.getBytePattern())) {
+			builder.match(scanOptions.getBytePattern());
+		}
+		if (scanOptions instanceof KeyScanOptions keyScanOptions && Objects.nonNull(keyScanOptions.getType())) {
+			builder.type(keyScanOptions.getType());
+		}
+		return builder.build();
+	}
+
+	/**
+	 * 校验 Set/ZSet 扫描的匹配模式：提供模式时值序列化器必须支持 {@link String} 序列化。
+	 *
+	 * @param scanOptions 扫描选项
+	 * @throws UnsupportedOperationException 当提供模式且 value 序列化器不支持 {@code String} 序列化
+	 * @since 2.2.0
+	 */
+	protected void checkValuePattern(ScanOptions scanOptions) {
+		if (StringUtils.isNotBlank(scanOptions.getPattern()) && !getValueSerializer().canSerialize(String.class)) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	/**
+	 * 判断当前连接工厂是否为集群模式。
+	 *
+	 * @return 集群模式时返回 {@code true}
+	 * @since 2.2.0
+	 */
+	private boolean isClusterMode() {
+		try (RedisConnection connection = getRequiredConnectionFactory().getConnection()) {
+			return connection instanceof RedisClusterConnection;
+		}
+	}
+
+	/**
+	 * 将键分批，集群模式下先按哈希槽分组，保证每批的键位于同一槽位。
+	 *
+	 * @param keys      键集合
+	 * @param batchSize 每批的键数
+	 * @param cluster   是否为集群模式
+	 * @return 批次列表
+	 * @since 2.2.0
+	 */
+	private List<List<String>> partitionKeys(Collection<String> keys, int batchSize, boolean cluster) {
+		Collection<? extends Collection<String>> groups;
+		if (cluster) {
+			Map<Integer, List<String>> slotGroups = new LinkedHashMap<>();
+			for (String key : keys) {
+				slotGroups.computeIfAbsent(ClusterSlotHashUtil.calculateSlot(key), slot -> new ArrayList<>()).add(key);
+			}
+			groups = slotGroups.values();
+		} else {
+			groups = List.of(keys);
+		}
+
+		List<List<String>> batches = new ArrayList<>();
+		for (Collection<String> group : groups) {
+			List<String> batch = new ArrayList<>(Math.min(batchSize, group.size()));
+			for (String key : group) {
+				batch.add(key);
+				if (batch.size() == batchSize) {
+					batches.add(batch);
+					batch = new ArrayList<>(batchSize);
+				}
+			}
+			if (!batch.isEmpty()) {
+				batches.add(batch);
+			}
+		}
+		return batches;
+	}
+
+	/**
+	 * 集群模式下将批次按所属主节点分组，各节点的批次交给 {@code action} 执行。
+	 *
+	 * <p>最多 {@link #setScanParallelism(int) scanParallelism} 个任务在扫描执行器上并发执行，节点多于并发数时多个节点依次由同一任务执行；
+	 * 只有一个节点时直接在调用线程上执行。任一节点执行失败时等待其余节点结束后抛出第一个异常。</p>
+	 *
+	 * @param batches 批次列表，每批的键位于同一槽位
+	 * @param action  节点批次 → 执行结果
+	 * @param <R>     执行结果类型
+	 * @return 各节点的执行结果
+	 * @since 2.2.0
+	 */
+	private <R> List<R> executeByNode(List<List<String>> batches, Function<List<List<String>>, R> action) {
+		Collection<List<List<String>>> nodeBatches = groupByNode(batches);
+		if (nodeBatches.size() == 1) {
+			return Collections.singletonList(action.apply(nodeBatches.iterator().next()));
+		}
+
+		int parallelism = Math.min(scanParallelism, nodeBatches.size());
+		List<List<List<List<String>>>> tasks = new ArrayList<>(parallelism);
+		for (int i = 0; i < parallelism; i++) {
+			tasks.add(new ArrayList<>());
+		}
+		int index = 0;
+		for (List<List<String>> batch : nodeBatches) {
+			tasks.get(index++ % parallelism).add(batch);
+		}
+
+		Executor executor = Objects.nonNull(scanExecutor) ? scanExecutor : DefaultScanExecutor.INSTANCE;
+		List<CompletableFuture<List<R>>> futures = new ArrayList<>(parallelism);
+		for (List<List<List<String>>> task : tasks) {
+			futures.add(CompletableFuture.supplyAsync(() -> task.stream().map(action).toList(), executor));
+		}
+		try {
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+		List<R> results = new ArrayList<>(nodeBatches.size());
+		for (CompletableFuture<List<R>> future : futures) {
+			results.addAll(future.join());
+		}
+		return results;
+	}
+
+	/**
+	 * 按所属主节点分组批次（以每批第一个键的槽位确定节点），找不到所属节点的批次单独成组，由驱动按重定向路由。
+	 *
+	 * @param batches 批次列表，每批的键位于同一槽位
+	 * @return 各节点的批次，保持批次原有顺序
+	 * @since 2.2.0
+	 */
+	private Collection<List<List<String>>> groupByNode(List<List<String>> batches) {
+		List<RedisClusterNode> masters = new ArrayList<>();
+		try (RedisConnection connection = getRequiredConnectionFactory().getConnection()) {
+			for (RedisClusterNode node : ((RedisClusterConnection) connection).clusterGetNodes()) {
+				if (node.isMaster()) {
+					masters.add(node);
+				}
+			}
+		}
+
+		Map<String, List<List<String>>> nodeBatches = new LinkedHashMap<>();
+		for (List<String> batch : batches) {
+			int slot = ClusterSlotHashUtil.calculateSlot(batch.get(0));
+			String nodeId = masters.stream()
+				.filter(node -> node.servesSlot(slot))
+				.map(RedisClusterNode::getId)
+				.findFirst()
+				.orElse(StringUtils.EMPTY);
+			nodeBatches.computeIfAbsent(nodeId, id -> new ArrayList<>()).add(batch);
+		}
+		return nodeBatches.values();
+	}
+
+	/**
+	 * 在集群中一个节点上执行 {@code MGET}：优先通过流水线发送，连接不支持集群流水线时逐条发送。
+	 *
+	 * @param batches 同一节点的批次
+	 * @return 键 → 原始值
+	 * @since 2.2.0
+	 */
+	private Map<String, byte[]> clusterMultiGet(List<List<String>> batches) {
+		if (clusterPipelineSupported) {
+			try {
+				return pipelinedMultiGet(batches);
+			} catch (InvalidDataAccessApiUsageException e) {
+				// Jedis 集群连接不支持流水线
+				clusterPipelineSupported = false;
+			}
+		}
+		Map<String, byte[]> rawValues = new HashMap<>();
+		for (List<String> batch : batches) {
+			List<byte[]> values = execute((RedisCallback<List<byte[]>>) connection ->
+				connection.stringCommands().mGet(rawKeys(batch)));
+			collectRawValues(batch, values, rawValues);
+		}
+		return rawValues;
+	}
+
+	/**
+	 * 每 {@value #MULTI_PIPELINE_BATCHES} 条 {@code MGET} 通过一次流水线发送。
+	 *
+	 * @param batches 批次列表
+	 * @return 键 → 原始值
+	 * @since 2.2.0
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<String, byte[]> pipelinedMultiGet(List<List<String>> batches) {
+		Map<String, byte[]> rawValues = new HashMap<>();
+		for (int start = 0; start < batches.size(); start += MULTI_PIPELINE_BATCHES) {
+			List<List<String>> group = batches.subList(start, Math.min(start + MULTI_PIPELINE_BATCHES, batches.size()));
+			// 不传入结果序列化器，原始结果在调用方统一反序列化
+			List<Object> results = executePipelined((RedisCallback<Object>) connection -> {
+				for (List<String> batch : group) {
+					connection.stringCommands().mGet(rawKeys(batch));
+				}
+				return null;
+			}, null);
+			for (int i = 0; i < group.size(); i++) {
+				collectRawValues(group.get(i), (List<byte[]>) results.get(i), rawValues);
+			}
+		}
+		return rawValues;
+	}
+
+	/**
+	 * 序列化键。
+	 *
+	 * @param keys 键列表
+	 * @return 序列化后的键
+	 * @since 2.2.0
+	 */
+	private byte[][] rawKeys(List<String> keys) {
+		RedisSerializer<String> keySerializer = RedisSerializer.string();
+		byte[][] rawKeys = new byte[keys.size()][];
+		for (int i = 0; i < keys.size(); i++) {
+			rawKeys[i] = keySerializer.serialize(keys.get(i));
+		}
+		return rawKeys;
+	}
+
+	/**
+	 * 使用当前值序列化器序列化值。
+	 *
+	 * @param value 值
+	 * @return 序列化后的值
+	 * @throws IllegalArgumentException 当 {@code value} 为 {@code null} 时
+	 * @since 2.2.0
+	 */
+	@SuppressWarnings("unchecked")
+	private byte[] rawValue(@Nullable Object value) {
+		Assert.notNull(value, "value 不可为null");
+		RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) getValueSerializer();
+		if (Objects.isNull(valueSerializer) && value instanceof byte[] bytes) {
+			return bytes;
+		}
+		Assert.state(Objects.nonNull(valueSerializer), "未设置值序列化器时值必须为 byte[]");
+		return valueSerializer.serialize(value);
+	}
+
+	/**
+	 * 收集一批 {@code MGET} 的原始结果，跳过不存在的键。
+	 *
+	 * @param keys      本批的键
+	 * @param values    {@code MGET} 结果，与 {@code keys} 一一对应
+	 * @param rawValues 收集结果
+	 * @since 2.2.0
+	 */
+	private void collectRawValues(List<String> keys, @Nullable List<byte[]> values, Map<String, byte[]> rawValues) {
+		if (Objects.isNull(values)) {
+			return;
+		}
+		for (int i = 0; i < keys.size() && i < values.size(); i++) {
+			if (Objects.nonNull(values.get(i))) {
+				rawValues.put(keys.get(i), values.get(i));
+			}
+		}
+	}
+
+	/**
+	 * 获取可恢复扫描的节点及其路由键：集群模式下为每个已分配槽位的主节点选取一个落在其槽位上的键，单机模式下无需路由键。
+	 *
+	 * @return 节点 ID → 路由键列表（作为脚本的 {@code KEYS}）
+	 * @since 2.2.0
+	 */
+	private Map<String, List<String>> getScanNodeRoutingKeys() {
+		try (RedisConnection connection = getRequiredConnectionFactory().getConnection()) {
+			if (!(connection instanceof RedisClusterConnection clusterConnection)) {
+				return Map.of(ClusterKeyScan.STANDALONE_NODE_ID, Collections.emptyList());
+			}
+
+			Map<String, List<String>> nodes = new LinkedHashMap<>();
+			for (RedisClusterNode node : clusterConnection.clusterGetNodes()) {
+				if (node.isMaster() && !node.getSlotRange().getSlots().isEmpty()) {
+					int candidate = 0;
+					while (!node.servesSlot(ClusterSlotHashUtil.calculateSlot(String.valueOf(candidate)))) {
+						++candidate;
+					}
+					nodes.put(node.getId(), List.of(String.valueOf(candidate)));
+				}
+			}
+			return nodes;
+		}
+	}
+
+	/**
+	 * 从指定游标执行一次 {@code SCAN}。
+	 *
+	 * @param routingKeys 路由键
+	 * @param cursor      起始游标
+	 * @param scanOptions 扫描选项
+	 * @return 下一个游标及本页的键
+	 * @since 2.2.0
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private ScanPage scanPage(List<String> routingKeys, String cursor, ScanOptions scanOptions) {
+		String type = scanOptions instanceof KeyScanOptions keyScanOptions ? keyScanOptions.getType() : null;
+		List<Object> reply = execute(SCAN_PAGE_SCRIPT, RedisSerializer.string(), (RedisSerializer) RedisSerializer.string(),
+			routingKeys, cursor, StringUtils.defaultString(scanOptions.getPattern()),
+			Objects.isNull(scanOptions.getCount()) ? StringUtils.EMPTY : scanOptions.getCount().toString(),
+			StringUtils.defaultString(type));
+		Assert.state(Objects.nonNull(reply) && reply.size() == 2, "SCAN 返回结果格式不合法");
+		return new ScanPage(String.valueOf(reply.get(0)), (List<String>) reply.get(1));
+	}
+
+	/**
+	 * 一页 {@code SCAN} 结果。
+	 *
+	 * @param cursor 下一个游标，为 {@code "0"} 时表示扫描完成
+	 * @param keys   本页的键
+	 * @since 2.2.0
+	 */
+	private record ScanPage(String cursor, List<String> keys) {
+	}
+
+	/**
+	 * 默认的按节点扫描执行器（懒加载，全局共享），优先使用虚拟线程（JDK 21+，通过反射获取
+	 * {@code Executors.newVirtualThreadPerTaskExecutor}），当前运行时不支持时退化为守护线程组成的缓存线程池。
+	 */
+	private static final class DefaultScanExecutor {
+		private static final ExecutorService INSTANCE = create();
+
+		private static ExecutorService create() {
+			try {
+				Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+				return (ExecutorService) method.invoke(null);
+			} catch (ReflectiveOperationException e) {
+				AtomicInteger counter = new AtomicInteger();
+				return Executors.newCachedThreadPool(runnable -> {
+					Thread thread = new Thread(runnable, "redis-scan-" + counter.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+			}
+		}
+	}
 }
\ No newline at end of file
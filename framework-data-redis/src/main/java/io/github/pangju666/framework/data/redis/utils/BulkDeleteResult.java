@@ -0,0 +1,60 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.data.redis.utils;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+/**
+ * 批量删除结果
+ *
+ * @param requestedKeys 请求删除的键数
+ * @param deletedKeys   实际删除的键数（不存在的键不计入）
+ * @param batches       执行的删除命令数（含重试）
+ * @param retries       重试轮数
+ * @param failedKeys    重试后仍执行失败的键
+ * @param lastError     最近一次删除失败的异常，没有失败或失败原因未知时为 {@code null}
+ * @param <K>           键类型
+ * @author pangju666
+ * @see RedisUtils#bulkDelete(org.springframework.data.redis.core.RedisOperations, java.util.Collection, int, int)
+ * @since 2.2.0
+ */
+public record BulkDeleteResult<K>(long requestedKeys, long deletedKeys, long batches, int retries, List<K> failedKeys,
+									  @Nullable Throwable lastError) {
+	/**
+	 * 构造函数
+	 *
+	 * @throws IllegalArgumentException 当 {@code failedKeys} 为 {@code null} 时
+	 * @since 2.2.0
+	 */
+	public BulkDeleteResult {
+		Assert.notNull(failedKeys, "failedKeys 不可为null");
+		failedKeys = List.copyOf(failedKeys);
+	}
+
+	/**
+	 * 判断是否全部执行成功
+	 *
+	 * @return 没有执行失败的键时返回 {@code true}
+	 * @since 2.2.0
+	 */
+	public boolean isSuccess() {
+		return failedKeys.isEmpty();
+	}
+}
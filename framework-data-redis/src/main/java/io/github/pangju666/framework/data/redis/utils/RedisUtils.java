@@ -17,13 +17,24 @@
 package io.github.pangju666.framework.data.redis.utils;
 
 import io.github.pangju666.framework.data.redis.lang.RedisConstants;
-import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.Nullable;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
-import java.util.Arrays;
-import java.util.Collection;
+import java.util.*;
+import java.util.function.Function;
 
 /**
  * Redis 工具类。
@@ -31,8 +42,9 @@ import java.util.Collection;
  * <p><b>提供能力：</b></p>
  * <ul>
  *   <li>键拼接：通过路径分隔符将多个片段组合为一个 Redis 键（{@link #computeKey(Object...)}）。</li>
- *   <li>批量删除：支持批量删除键，并在未完全删除时进行重试（{@link #deleteKeys(RedisOperations, Collection)}、
- *   {@link #deleteKeys(RedisOperations, Collection, int)}）。</li>
+ *   <li>批量删除：按批流水线执行 {@code UNLINK}（不支持时退化为 {@code DEL}），只重试执行失败的批次并返回删除结果
+ *   （{@link #bulkDelete(RedisOperations, Collection, int, int)}）；按模式边扫描边删除
+ *   （{@link #deleteByPattern(RedisOperations, String, int, int)}）。</li>
  * </ul>
  *
  * <p><b>线程安全：</b>类本身无状态，所有方法为静态方法，可在并发环境下安全调用。</p>
@@ -43,11 +55,23 @@ import java.util.Collection;
 public class RedisUtils {
 	/**
 	 * 批量删除默认重试次数。
-	 * <p>在首轮删除后，若仍存在未删除的键，则最多进行该次数的额外删除尝试。</p>
+	 * <p>首轮删除后，执行失败的批次最多再重试该次数。</p>
 	 *
 	 * @since 1.0.0
 	 */
 	protected static final int DEFAULT_DELETE_RETRY_TIMES = 3;
+	/**
+	 * 批量删除默认每条命令的键数。
+	 *
+	 * @since 2.2.0
+	 */
+	protected static final int DEFAULT_DELETE_BATCH_SIZE = 500;
+	/**
+	 * 批量删除时一次流水线最多包含的命令数。
+	 *
+	 * @since 2.2.0
+	 */
+	protected static final int DEFAULT_PIPELINE_BATCHES = 16;
 
 	protected RedisUtils() {
 	}
@@ -88,13 +112,15 @@ public class RedisUtils {
 	/**
 	 * 批量删除键（支持重试）。
 	 *
-	 * <p>先执行一次批量删除；若未全部删除成功，则在不超过 {@code retryTimes} 次的条件下进行额外删除尝试，
-	 * 直到全部删除或达到重试上限（最多额外重试 {@code retryTimes} 次）。</p>
+	 * <p>该方法等价于调用：{@code bulkDelete(operations, keys, DEFAULT_DELETE_BATCH_SIZE, retryTimes)}，
+	 * 重试后仍有键删除失败时抛出异常。只有执行失败的批次会重试，不存在的键不会触发重试。</p>
 	 *
 	 * @param operations RedisOperations 实例
 	 * @param keys          待删除的键集合；为空集合时直接返回
 	 * @param retryTimes    最大额外尝试次数
 	 * @throws IllegalArgumentException 当 redisTemplate 为 {@code null} 或 {@code retryTimes} 小于等于 0 时抛出
+	 * @throws IllegalStateException    当重试后仍有键删除失败时抛出，原因为最近一次删除失败的异常
+	 * @see #bulkDelete(RedisOperations, Collection, int, int)
 	 * @since 1.0.0
 	 */
 	public static <K> void deleteKeys(final RedisOperations<K, ?> operations, final Collection<K> keys, final int retryTimes) {
@@ -104,14 +130,350 @@ public class RedisUtils {
 		if (CollectionUtils.isEmpty(keys)) {
 			return;
 		}
-		long deleteCount = ObjectUtils.getIfNull(operations.delete(keys), 0L);
-		if (deleteCount < keys.size()) {
-			long count = keys.size() - deleteCount;
-			long times = 0;
-			while (times < retryTimes && count > 0) {
-				++times;
-				count -= ObjectUtils.getIfNull(operations.delete(keys), 0L);
+		BulkDeleteResult<K> result = bulkDelete(operations, keys, DEFAULT_DELETE_BATCH_SIZE, retryTimes);
+		if (!result.isSuccess()) {
+			throw new IllegalStateException("批量删除键失败，失败键数：" + result.failedKeys().size(),
+				result.lastError());
+		}
+	}
+
+	/**
+	 * 批量删除键（使用默认批大小与重试次数）。
+	 *
+	 * <p>该方法等价于调用：{@code bulkDelete(operations, keys, DEFAULT_DELETE_BATCH_SIZE, DEFAULT_DELETE_RETRY_TIMES)}。</p>
+	 *
+	 * @param operations RedisOperations 实例
+	 * @param keys       待删除的键集合
+	 * @param <K>        键类型
+	 * @return 删除结果
+	 * @throws IllegalArgumentException 当 {@code operations} 为 {@code null} 时
+	 * @since 2.2.0
+	 */
+	public static <K> BulkDeleteResult<K> bulkDelete(final RedisOperations<K, ?> operations, final Collection<K> keys) {
+		return bulkDelete(operations, keys, DEFAULT_DELETE_BATCH_SIZE, DEFAULT_DELETE_RETRY_TIMES);
+	}
+
+	/**
+	 * 批量删除键。
+	 *
+	 * <p>键按 {@code batchSize} 分批，每批一条 {@code UNLINK}（由后台线程回收内存，不阻塞事件循环），
+	 * 服务器不支持 {@code UNLINK}（Redis 4.0 以下）时退化为 {@code DEL}：</p>
+	 * <ul>
+	 *   <li>单机/哨兵模式：每 {@value #DEFAULT_PIPELINE_BATCHES} 条命令通过一次流水线发送。</li>
+	 *   <li>集群模式：先按哈希槽分组再分批，每条命令只涉及一个槽位（避免跨槽拆分）；批次按所属主节点分组，
+	 *   每个节点每 {@value #DEFAULT_PIPELINE_BATCHES} 条命令通过一次流水线发送，连接不支持集群流水线（例如 Jedis）时逐条发送。</li>
+	 * </ul>
+	 * <p>执行失败（抛出异常）的批次最多重试 {@code retryTimes} 次，仍失败的键记录在结果的
+	 * {@link BulkDeleteResult#failedKeys()} 中；不存在的键不视为失败。</p>
+	 *
+	 * @param operations RedisOperations 实例
+	 * @param keys       待删除的键集合；为空集合时返回空结果
+	 * @param batchSize  每条命令的键数，必须大于 0
+	 * @param retryTimes 失败批次的最大重试次数，必须大于等于 0
+	 * @param <K>        键类型
+	 * @return 删除结果
+	 * @throws IllegalArgumentException 当 {@code operations} 为 {@code null}、{@code batchSize} 小于等于 0 或
+	 *                                  {@code retryTimes} 小于 0 时
+	 * @since 2.2.0
+	 */
+	public static <K> BulkDeleteResult<K> bulkDelete(final RedisOperations<K, ?> operations, final Collection<K> keys,
+													 final int batchSize, final int retryTimes) {
+		Assert.notNull(operations, "operations 不可为null");
+		Assert.isTrue(batchSize > 0, "batchSize 必须大于0");
+		Assert.isTrue(retryTimes >= 0, "retryTimes 必须大于等于0");
+
+		if (CollectionUtils.isEmpty(keys)) {
+			return new BulkDeleteResult<>(0, 0, 0, 0, Collections.emptyList(), null);
+		}
+		BulkDeleter<K> deleter = new BulkDeleter<>(operations, batchSize, retryTimes);
+		deleter.delete(keys);
+		return deleter.getResult();
+	}
+
+	/**
+	 * 按模式删除键（使用默认批大小与重试次数）。
+	 *
+	 * <p>该方法等价于调用：{@code deleteByPattern(operations, pattern, DEFAULT_DELETE_BATCH_SIZE, DEFAULT_DELETE_RETRY_TIMES)}。</p>
+	 *
+	 * @param operations RedisOperations 实例
+	 * @param pattern    键匹配模式（例如 {@code user:*}）；不可为空或空白
+	 * @param <K>        键类型
+	 * @return 删除结果
+	 * @throws IllegalArgumentException 当 {@code operations} 为 {@code null} 或 {@code pattern} 为空或空白时
+	 * @since 2.2.0
+	 */
+	public static <K> BulkDeleteResult<K> deleteByPattern(final RedisOperations<K, ?> operations, final String pattern) {
+		return deleteByPattern(operations, pattern, DEFAULT_DELETE_BATCH_SIZE, DEFAULT_DELETE_RETRY_TIMES);
+	}
+
+	/**
+	 * 按模式删除键。
+	 *
+	 * <p>通过 {@code SCAN}（集群模式下逐个主节点扫描）边扫描边删除，每累积
+	 * {@code batchSize * }{@value #DEFAULT_PIPELINE_BATCHES} 个键执行一次批量删除（见
+	 * {@link #bulkDelete(RedisOperations, Collection, int, int)}），不会一次性加载全部匹配的键。
+	 * 扫描期间新写入的匹配键可能不会被删除。</p>
+	 *
+	 * @param operations RedisOperations 实例
+	 * @param pattern    键匹配模式（例如 {@code user:*}）；不可为空或空白
+	 * @param batchSize  每条命令的键数（同时作为 {@code SCAN} 的建议数量），必须大于 0
+	 * @param retryTimes 失败批次的最大重试次数，必须大于等于 0
+	 * @param <K>        键类型
+	 * @return 删除结果
+	 * @throws IllegalArgumentException 当 {@code operations} 为 {@code null}、{@code pattern} 为空或空白、
+	 *                                  {@code batchSize} 小于等于 0 或 {@code retryTimes} 小于 0 时
+	 * @since 2.2.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K> BulkDeleteResult<K> deleteByPattern(final RedisOperations<K, ?> operations, final String pattern,
+														  final int batchSize, final int retryTimes) {
+		Assert.notNull(operations, "operations 不可为null");
+		Assert.hasText(pattern, "pattern 不可为空");
+		Assert.isTrue(batchSize > 0, "batchSize 必须大于0");
+		Assert.isTrue(retryTimes >= 0, "retryTimes 必须大于等于0");
+
+		BulkDeleter<K> deleter = new BulkDeleter<>(operations, batchSize, retryTimes);
+		ScanOptions scanOptions = ScanOptions.scanOptions().match(pattern).count(batchSize).build();
+		int bufferSize = batchSize * DEFAULT_PIPELINE_BATCHES;
+		if (deleter.isCluster()) {
+			RedisSerializer<K> keySerializer = (RedisSerializer<K>) operations.getKeySerializer();
+			operations.execute((RedisCallback<Void>) connection -> {
+				RedisClusterConnection clusterConnection = (RedisClusterConnection) connection;
+				for (RedisClusterNode node : clusterConnection.clusterGetNodes()) {
+					if (node.isMaster()) {
+						try (Cursor<byte[]> cursor = clusterConnection.scan(node, scanOptions)) {
+							deleter.deleteAll(cursor, rawKey -> Objects.isNull(keySerializer) ? (K) rawKey :
+								keySerializer.deserialize(rawKey), bufferSize);
+						}
+					}
+				}
+				return null;
+			});
+		} else {
+			try (Cursor<K> cursor = operations.scan(scanOptions)) {
+				deleter.deleteAll(cursor, key -> key, bufferSize);
 			}
 		}
+		return deleter.getResult();
+	}
+
+	/**
+	 * 批量删除的执行过程，累计多次删除的结果。
+	 *
+	 * @param <K> 键类型
+	 * @since 2.2.0
+	 */
+	private static final class BulkDeleter<K> {
+		private final RedisOperations<K, ?> operations;
+		private final int batchSize;
+		private final int retryTimes;
+		private final boolean cluster;
+		private final List<RedisClusterNode> masters = new ArrayList<>();
+		private final List<K> failedKeys = new ArrayList<>();
+		private boolean unlink = true;
+		private boolean clusterPipeline = true;
+		private @Nullable Throwable lastError;
+		private long requestedKeys = 0;
+		private long deletedKeys = 0;
+		private long batches = 0;
+		private int retries = 0;
+
+		private BulkDeleter(RedisOperations<K, ?> operations, int batchSize, int retryTimes) {
+			this.operations = operations;
+			this.batchSize = batchSize;
+			this.retryTimes = retryTimes;
+			this.cluster = Boolean.TRUE.equals(operations.execute((RedisCallback<Boolean>) connection ->
+				connection instanceof RedisClusterConnection));
+			if (cluster) {
+				operations.execute((RedisCallback<Void>) connection -> {
+					for (RedisClusterNode node : ((RedisClusterConnection) connection).clusterGetNodes()) {
+						if (node.isMaster()) {
+							masters.add(node);
+						}
+					}
+					return null;
+				});
+			}
+		}
+
+		private boolean isCluster() {
+			return cluster;
+		}
+
+		private <T> void deleteAll(Iterator<T> iterator, Function<T, K> keyMapper, int bufferSize) {
+			List<K> buffer = new ArrayList<>(bufferSize);
+			while (iterator.hasNext()) {
+				buffer.add(keyMapper.apply(iterator.next()));
+				if (buffer.size() >= bufferSize) {
+					delete(buffer);
+					buffer = new ArrayList<>(bufferSize);
+				}
+			}
+			if (!buffer.isEmpty()) {
+				delete(buffer);
+			}
+		}
+
+		private void delete(Collection<K> keys) {
+			requestedKeys += keys.size();
+			List<List<K>> pending = partition(keys);
+			int attempts = 0;
+			while (!pending.isEmpty()) {
+				boolean unlinkBefore = unlink;
+				pending = cluster ? executeByNode(pending) : executePipelined(pending);
+				if (pending.isEmpty() || (unlinkBefore && !unlink)) {
+					// 服务器不支持 UNLINK 时改用 DEL 立即重新执行，不计入重试次数
+					continue;
+				}
+				if (attempts >= retryTimes) {
+					pending.forEach(failedKeys::addAll);
+					return;
+				}
+				++attempts;
+				++retries;
+			}
+		}
+
+		private List<List<K>> partition(Collection<K> keys) {
+			List<List<K>> result = new ArrayList<>();
+			Collection<? extends Collection<K>> groups;
+			if (cluster) {
+				Map<Integer, List<K>> slotGroups = new LinkedHashMap<>();
+				for (K key : keys) {
+					slotGroups.computeIfAbsent(ClusterSlotHashUtil.calculateSlot(rawKey(key)), slot -> new ArrayList<>())
+						.add(key);
+				}
+				groups = slotGroups.values();
+			} else {
+				groups = List.of(keys);
+			}
+			for (Collection<K> group : groups) {
+				List<K> batch = new ArrayList<>(Math.min(batchSize, group.size()));
+				for (K key : group) {
+					batch.add(key);
+					if (batch.size() == batchSize) {
+						result.add(batch);
+						batch = new ArrayList<>(batchSize);
+					}
+				}
+				if (!batch.isEmpty()) {
+					result.add(batch);
+				}
+			}
+			return result;
+		}
+
+		private List<List<K>> executePipelined(List<List<K>> pending) {
+			List<List<K>> failed = new ArrayList<>();
+			for (int start = 0; start < pending.size(); start += DEFAULT_PIPELINE_BATCHES) {
+				List<List<K>> group = pending.subList(start, Math.min(start + DEFAULT_PIPELINE_BATCHES, pending.size()));
+				List<Object> results;
+				try {
+					results = operations.executePipelined((RedisCallback<Object>) connection -> {
+						for (List<K> batch : group) {
+							byte[][] rawKeys = batch.stream().map(this::rawKey).toArray(byte[][]::new);
+							if (unlink) {
+								connection.keyCommands().unlink(rawKeys);
+							} else {
+								connection.keyCommands().del(rawKeys);
+							}
+						}
+						return null;
+					});
+				} catch (RedisPipelineException e) {
+					results = e.getPipelineResult();
+				} catch (InvalidDataAccessApiUsageException e) {
+					if (!cluster) {
+						throw e;
+					}
+					// 集群连接不支持流水线（例如 Jedis）时，剩余批次改为逐条发送
+					clusterPipeline = false;
+					failed.addAll(executeEach(pending.subList(start, pending.size())));
+					return failed;
+				} catch (DataAccessException e) {
+					batches += group.size();
+					checkUnlinkSupported(e);
+					lastError = e;
+					failed.addAll(group);
+					continue;
+				}
+				batches += group.size();
+				for (int i = 0; i < group.size(); i++) {
+					Object result = i < results.size() ? results.get(i) : null;
+					if (result instanceof Number count) {
+						deletedKeys += count.longValue();
+					} else {
+						if (result instanceof Throwable throwable) {
+							checkUnlinkSupported(throwable);
+							lastError = throwable;
+						}
+						failed.add(group.get(i));
+					}
+				}
+			}
+			return failed;
+		}
+
+		private List<List<K>> executeByNode(List<List<K>> pending) {
+			// 按所属主节点分组（以每批第一个键的槽位确定节点），找不到所属节点的批次单独成组，由驱动按重定向路由
+			Map<String, List<List<K>>> nodeBatches = new LinkedHashMap<>();
+			for (List<K> batch : pending) {
+				int slot = ClusterSlotHashUtil.calculateSlot(rawKey(batch.get(0)));
+				String nodeId = masters.stream()
+					.filter(node -> node.servesSlot(slot))
+					.map(RedisClusterNode::getId)
+					.findFirst()
+					.orElse(StringUtils.EMPTY);
+				nodeBatches.computeIfAbsent(nodeId, id -> new ArrayList<>()).add(batch);
+			}
+
+			List<List<K>> failed = new ArrayList<>();
+			for (List<List<K>> group : nodeBatches.values()) {
+				failed.addAll(clusterPipeline ? executePipelined(group) : executeEach(group));
+			}
+			return failed;
+		}
+
+		private List<List<K>> executeEach(List<List<K>> pending) {
+			List<List<K>> failed = new ArrayList<>();
+			for (List<K> batch : pending) {
+				++batches;
+				try {
+					Long count = operations.execute((RedisCallback<Long>) connection -> {
+						byte[][] rawKeys = batch.stream().map(this::rawKey).toArray(byte[][]::new);
+						return unlink ? connection.keyCommands().unlink(rawKeys) : connection.keyCommands().del(rawKeys);
+					});
+					deletedKeys += Objects.isNull(count) ? 0 : count;
+				} catch (DataAccessException e) {
+					checkUnlinkSupported(e);
+					lastError = e;
+					failed.add(batch);
+				}
+			}
+			return failed;
+		}
+
+		private void checkUnlinkSupported(Throwable throwable) {
+			for (Throwable cause = throwable; Objects.nonNull(cause); cause = cause.getCause()) {
+				if (StringUtils.containsIgnoreCase(cause.getMessage(), "unknown command")) {
+					unlink = false;
+					return;
+				}
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private byte[] rawKey(K key) {
+			if (key instanceof byte[] bytes) {
+				return bytes;
+			}
+			RedisSerializer<K> keySerializer = (RedisSerializer<K>) operations.getKeySerializer();
+			Assert.state(Objects.nonNull(keySerializer), "未设置键序列化器时键必须为 byte[]");
+			return keySerializer.serialize(key);
+		}
+
+		private BulkDeleteResult<K> getResult() {
+			return new BulkDeleteResult<>(requestedKeys, deletedKeys, batches, retries, failedKeys, lastError);
+		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,151 @@
+package io.github.pangju666.framework.data.redis
+
+import io.github.pangju666.framework.data.redis.utils.RedisUtils
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.data.redis.RedisSystemException
+import org.springframework.data.redis.connection.ClusterSlotHashUtil
+import org.springframework.data.redis.connection.RedisClusterConnection
+import org.springframework.data.redis.connection.RedisClusterNode
+import org.springframework.data.redis.connection.RedisKeyCommands
+import org.springframework.data.redis.connection.RedisNode
+import org.springframework.data.redis.core.RedisCallback
+import org.springframework.data.redis.core.RedisOperations
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.data.redis.serializer.RedisSerializer
+import spock.lang.Specification
+
+@SpringBootTest
+class RedisUtilsSpec extends Specification {
+	@Autowired
+	StringRedisTemplate redisTemplate
+
+	def setup() {
+		redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll()
+		(1..25).each { redisTemplate.opsForValue().set("bulk:" + it, String.valueOf(it)) }
+		redisTemplate.opsForValue().set("other:1", "1")
+	}
+
+	def "批量删除：按批删除并返回结果，不存在的键不视为失败"() {
+		when:
+		def result = RedisUtils.bulkDelete(redisTemplate, (1..30).collect { "bulk:" + it }, 10, 1)
+
+		then:
+		result.isSuccess()
+		result.requestedKeys() == 30
+		result.deletedKeys() == 25
+		result.batches() == 3
+		result.retries() == 0
+		redisTemplate.keys("bulk:*").isEmpty()
+		redisTemplate.hasKey("other:1")
+	}
+
+	def "批量删除键：重试后仍失败时记录失败的键，deleteKeys 抛出异常并保留原因"() {
+		given:
+		def error = new RedisSystemException("boom", new RuntimeException("boom"))
+		def operations = Mock(RedisOperations) {
+			execute(_ as RedisCallback) >> false
+			executePipelined(_ as RedisCallback) >> { throw error }
+		}
+
+		when:
+		def result = RedisUtils.bulkDelete(operations, ["bulk:1", "bulk:2"], 10, 1)
+
+		then:
+		!result.isSuccess()
+		result.failedKeys() == ["bulk:1", "bulk:2"]
+		result.retries() == 1
+		result.lastError().is(error)
+
+		when:
+		RedisUtils.deleteKeys(operations, ["bulk:1", "bulk:2"], 1)
+
+		then:
+		def e = thrown(IllegalStateException)
+		e.cause.is(error)
+	}
+
+	def "集群模式：按节点流水线删除，只重试执行失败的批次"() {
+		given:
+		def keys = (1..20).collect { "bulk:" + it }
+		def slots = keys.collect { ClusterSlotHashUtil.calculateSlot(it) }.sort()
+		int split = slots[10]
+		def nodeA = clusterNode("a", 0, split - 1)
+		def nodeB = clusterNode("b", split, 16383)
+		def keysB = keys.findAll { ClusterSlotHashUtil.calculateSlot(it) >= split }
+		def sent = []
+		def keyCommands = Mock(RedisKeyCommands) {
+			unlink(*_) >> { args ->
+				sent << args[0].collect { new String(it as byte[]) }
+				null
+			}
+		}
+		def connection = Mock(RedisClusterConnection) {
+			clusterGetNodes() >> ([nodeA, nodeB] as LinkedHashSet)
+			keyCommands() >> keyCommands
+		}
+		def pipelines = 0
+		def failNodeB = true
+		def operations = Mock(RedisOperations) {
+			getKeySerializer() >> RedisSerializer.string()
+			execute(_ as RedisCallback) >> { RedisCallback callback -> callback.doInRedis(connection) }
+			executePipelined(_ as RedisCallback) >> { RedisCallback callback ->
+				++pipelines
+				int before = sent.size()
+				callback.doInRedis(connection)
+				def commands = sent.subList(before, sent.size()).collect()
+				if (failNodeB && commands.flatten().every { it in keysB }) {
+					failNodeB = false
+					throw new RedisSystemException("boom", new RuntimeException("boom"))
+				}
+				commands.collect { it.size() as Long }
+			}
+		}
+
+		when:
+		def result = RedisUtils.bulkDelete(operations, keys, 3, 1)
+
+		then:
+		result.isSuccess()
+		result.deletedKeys() == 20
+		result.retries() == 1
+		// 首轮每个节点一次流水线，重试只重新发送节点 b 的批次
+		pipelines == 3
+		sent.flatten().size() == keys.size() + keysB.size()
+		sent.flatten().count { it in keysB } == keysB.size() * 2
+	}
+
+	def "按模式删除：边扫描边删除匹配的键"() {
+		when:
+		def result = RedisUtils.deleteByPattern(redisTemplate, "bulk:*", 4, 1)
+
+		then:
+		result.isSuccess()
+		result.deletedKeys() == 25
+		redisTemplate.keys("bulk:*").isEmpty()
+		redisTemplate.hasKey("other:1")
+	}
+
+	def "参数校验：批大小必须大于 0，模式不可为空"() {
+		when:
+		RedisUtils.bulkDelete(redisTemplate, ["bulk:1"], 0, 1)
+
+		then:
+		thrown(IllegalArgumentException)
+
+		when:
+		RedisUtils.deleteByPattern(redisTemplate, " ")
+
+		then:
+		thrown(IllegalArgumentException)
+	}
+
+	private static RedisClusterNode clusterNode(String id, int lowerBound, int upperBound) {
+		return RedisClusterNode.newRedisClusterNode()
+			.listeningAt("127.0.0.1", 7000)
+			.withId(id)
+			.promotedAs(RedisNode.NodeType.MASTER)
+			.serving(new RedisClusterNode.SlotRange(lowerBound, upperBound))
+			.build()
+	}
+}
@@ -1,5 +1,9 @@
 package io.github.pangju666.framework.data.redis
 
+import io.github.pangju666.framework.data.redis.checkpoint.FileScanCheckpointStore
+import io.github.pangju666.framework.data.redis.checkpoint.RedisScanCheckpointStore
+import io.github.pangju666.framework.data.redis.checkpoint.ScanCheckpoint
+import io.github.pangju666.framework.data.redis.core.ClusterKeyScan
 import io.github.pangju666.framework.data.redis.core.ScanRedisTemplate
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.context.SpringBootTest
@@ -12,6 +16,10 @@ import spock.lang.Specification
 import spock.lang.Stepwise
 import spock.lang.Unroll
 
+import java.nio.file.Files
+import java.time.Duration
+import java.util.stream.Collectors
+
 @SpringBootTest
 @Stepwise
 class ScanRedisTemplateSpec extends Specification {
@@ -262,6 +270,195 @@ class ScanRedisTemplateSpec extends Specification {
 		keys2 == ["user:1:profile"] as Set
 	}
 
+	def "流式扫描：stream* 逐页返回元素，关闭流时关闭游标"() {
+		when:
+		def keys = scanRedisTemplate.streamKeys(scanRedisTemplate.scanOptions("user:*", null, 1L)).withCloseable {
+			it.collect(Collectors.toSet())
+		}
+		def first = scanRedisTemplate.streamKeys(ScanOptions.NONE).withCloseable {
+			it.limit(2).collect(Collectors.toList())
+		}
+		def members = scanRedisTemplate.streamSet("tags:set", ScanOptions.NONE).withCloseable {
+			it.collect(Collectors.toSet())
+		}
+		def scores = scanRedisTemplate.streamZSet("scores:zset", ScanOptions.NONE).withCloseable {
+			it.collect(Collectors.toMap({ it.getValue() }, { it.getScore() }))
+		}
+		def fields = scanRedisTemplate.streamHash("user:1:profile", scanRedisTemplate.scanOptions("na*", null, null)).withCloseable {
+			it.collect(Collectors.toMap({ it.getKey() }, { it.getValue() }))
+		}
+
+		then:
+		keys == ["user:1:name", "user:2:email", "user:1:profile"] as Set
+		first.size() == 2
+		members == ["java", "redis", "spring", "groovy"] as Set
+		scores == ["alice": 10D, "bob": 5D, "charlie": 20D]
+		fields == ["name": "Alice"]
+	}
+
+	def "按批扫描：forEach*Batch 按批回调，回调返回 false 时提前结束"() {
+		given:
+		def batches = []
+
+		when: "全部扫描"
+		def total = scanRedisTemplate.forEachKeyBatch(ScanOptions.NONE, 4, { batch ->
+			batches << batch.size()
+			true
+		})
+
+		then:
+		total == 6
+		batches.every { it <= 4 }
+		batches.sum() == 6
+
+		when: "第一批后停止"
+		batches.clear()
+		total = scanRedisTemplate.forEachSetBatch("tags:set", ScanOptions.NONE, 1, { batch ->
+			batches << batch
+			false
+		})
+
+		then:
+		total == 1
+		batches.size() == 1
+
+		and:
+		scanRedisTemplate.forEachZSetBatch("scores:zset", ScanOptions.NONE, 2, { true }) == 3
+		scanRedisTemplate.forEachHashBatch("user:1:profile", scanRedisTemplate.scanOptions("*m*", null, null), 10, { true }) == 2
+	}
+
+	def "按节点扫描：单机模式只有一个节点，可跳过已完成的节点"() {
+		given:
+		scanRedisTemplate.setScanParallelism(2)
+		scanRedisTemplate.setScanBufferSize(2)
+		def scan = scanRedisTemplate.clusterScanKeys(scanRedisTemplate.scanOptions("user:*", null, 1L))
+
+		when:
+		def keys = scan.stream().withCloseable { it.collect(Collectors.toSet()) }
+
+		then:
+		keys == ["user:1:name", "user:2:email", "user:1:profile"] as Set
+		scan.isCompleted()
+		scan.getProgress()*.nodeId() == [ClusterKeyScan.STANDALONE_NODE_ID]
+		scan.getProgress()*.scannedKeys() == [3L]
+
+		when: "跳过上次已完成的节点"
+		def resumed = scanRedisTemplate.clusterScanKeys(ScanOptions.NONE, scan.getCompletedNodeIds())
+
+		then:
+		resumed.stream().withCloseable { it.count() } == 0
+
+		when: "同一扫描只能开始一次"
+		scan.stream()
+
+		then:
+		thrown(IllegalStateException)
+	}
+
+	def "按节点扫描：节点的键未全部读出时关闭，该节点不视为完成，恢复后重新交付"() {
+		given: "缓冲区足以容纳节点的全部键与结束标记"
+		scanRedisTemplate.setScanBufferSize(16)
+		def options = scanRedisTemplate.scanOptions("user:*", null, 1L)
+		def scan = scanRedisTemplate.clusterScanKeys(options)
+
+		when: "只读取一个键后关闭"
+		def stream = scan.stream()
+		def first = stream.iterator().next()
+		Thread.sleep(200)
+		stream.close()
+
+		then:
+		first.startsWith("user:")
+		scan.getCompletedNodeIds().isEmpty()
+
+		when: "以已完成的节点恢复扫描"
+		def resumed = scanRedisTemplate.clusterScanKeys(options, scan.getCompletedNodeIds())
+		def keys = resumed.stream().withCloseable { it.collect(Collectors.toSet()) }
+
+		then:
+		keys == ["user:1:name", "user:2:email", "user:1:profile"] as Set
+		resumed.getCompletedNodeIds() == [ClusterKeyScan.STANDALONE_NODE_ID] as Set
+	}
+
+	def "可恢复扫描：回调返回 false 时保存检查点，再次调用从检查点继续，完成后删除检查点"() {
+		given:
+		def store = new RedisScanCheckpointStore(redisTemplate)
+		def options = scanRedisTemplate.scanOptions("user:*", null, 1L)
+		def keys = []
+
+		when: "第一页后停止"
+		def first = scanRedisTemplate.resumableScanKeys("job", options, store, 1, { keys.addAll(it); false })
+
+		then:
+		first > 0
+		store.load("job") != null
+
+		when: "从检查点继续"
+		def rest = scanRedisTemplate.resumableScanKeys("job", options, store, { keys.addAll(it); true })
+
+		then: "至少一次投递，合并后覆盖全部键"
+		keys as Set == ["user:1:name", "user:2:email", "user:1:profile"] as Set
+		first + rest == keys.size()
+		store.load("job") == null
+
+		when: "使用本地文件保存检查点"
+		def fileStore = new FileScanCheckpointStore(Files.createTempDirectory("scan-checkpoint"))
+		def fileKeys = []
+		scanRedisTemplate.resumableScanKeys("job", options, fileStore, 1, { fileKeys.addAll(it); false })
+		def checkpoint = fileStore.load("job")
+		scanRedisTemplate.resumableScanKeys("job", options, fileStore, 1, { fileKeys.addAll(it); true })
+
+		then:
+		checkpoint.getCursor(ClusterKeyScan.STANDALONE_NODE_ID) != "0" || checkpoint.isCompleted(ClusterKeyScan.STANDALONE_NODE_ID)
+		fileKeys as Set == keys as Set
+		fileStore.load("job") == null
+	}
+
+	def "批量读写：multiSetWithTtl 分批设置并统一过期时间，multiGetBySlot 按输入顺序返回已存在的值"() {
+		when:
+		scanRedisTemplate.multiSetWithTtl(["batch:1": "a", "batch:2": "b", "batch:3": "c"], Duration.ofMinutes(1), 2)
+
+		then:
+		scanRedisTemplate.getExpire("batch:2") > 0
+		scanRedisTemplate.multiGetBySlot(["batch:3", "batch:missing", "batch:1", "batch:2"], 2) ==
+			["batch:3": "c", "batch:1": "a", "batch:2": "b"]
+		scanRedisTemplate.multiGetBySlot([]) == [:]
+
+		when: "不设置过期时间"
+		scanRedisTemplate.multiSetWithTtl(["batch:4": "d"], null)
+
+		then:
+		scanRedisTemplate.getExpire("batch:4") == -1
+	}
+
+	def "批量读写：scanAndGet 扫描键并批量获取 String 值"() {
+		expect:
+		scanRedisTemplate.scanAndGet(scanRedisTemplate.scanOptions("user:*", DataType.STRING, null), 1) ==
+			["user:1:name": "Alice", "user:2:email": "bob@example.com"]
+
+		and: "非 String 类型的键不包含在结果中"
+		scanRedisTemplate.scanAndGet(scanRedisTemplate.scanOptions("user:*", null, null)).keySet() ==
+			["user:1:name", "user:2:email"] as Set
+	}
+
+	def "检查点：文本格式可往返转换"() {
+		given:
+		def checkpoint = new ScanCheckpoint(["node-a": "1024"], ["node-b"] as Set)
+
+		expect:
+		ScanCheckpoint.parse(checkpoint.toText()) == checkpoint
+		ScanCheckpoint.parse(null) == ScanCheckpoint.EMPTY
+		checkpoint.getCursor("node-c") == "0"
+	}
+
+	def "参数校验：forEachKeyBatch 批大小必须大于 0"() {
+		when:
+		scanRedisTemplate.forEachKeyBatch(ScanOptions.NONE, 0, { true })
+
+		then:
+		thrown(IllegalArgumentException)
+	}
+
 	/**
 	 * 显式拒绝 String 的值序列化器，用于触发 UnsupportedOperationException 分支。
 	 */